@@ -32,6 +32,7 @@ dependencies {
     api("org.apache.tuweni:tuweni-bytes")
     api("org.apache.tuweni:tuweni-units")
     api("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.springframework.boot:spring-boot-starter-validation")
     testImplementation("org.hyperledger.besu:evm")
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:postgresql")
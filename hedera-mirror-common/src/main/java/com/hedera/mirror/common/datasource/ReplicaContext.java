@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.datasource;
+
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Declares how fresh the data read by the current thread must be. Queries outside of a scope can be served by any
+ * replica within the maximum lag, while queries inside a scope are only routed to replicas that satisfy it and fall
+ * back to the primary otherwise. Nested scopes keep the strictest requirement.
+ */
+@UtilityClass
+public class ReplicaContext {
+
+    static final long ANY = 0L;
+    static final long LATEST = Long.MAX_VALUE - 1L;
+    static final long PRIMARY = Long.MAX_VALUE;
+
+    private static final ThreadLocal<Long> REQUIRED_CONSENSUS_END = ThreadLocal.withInitial(() -> ANY);
+
+    /**
+     * Runs the supplier against a replica that has imported at least the given consensus timestamp.
+     */
+    public static <T> T atLeast(long consensusTimestamp, Supplier<T> supplier) {
+        return run(consensusTimestamp, supplier);
+    }
+
+    /**
+     * Runs the supplier against a replica that had caught up with the primary as of the last lag check.
+     */
+    public static <T> T latest(Supplier<T> supplier) {
+        return run(LATEST, supplier);
+    }
+
+    /**
+     * Runs the supplier against the primary.
+     */
+    public static <T> T primary(Supplier<T> supplier) {
+        return run(PRIMARY, supplier);
+    }
+
+    static long getRequiredConsensusEnd() {
+        return REQUIRED_CONSENSUS_END.get();
+    }
+
+    private static <T> T run(long requiredConsensusEnd, Supplier<T> supplier) {
+        long previous = REQUIRED_CONSENSUS_END.get();
+        REQUIRED_CONSENSUS_END.set(Math.max(previous, requiredConsensusEnd));
+
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == ANY) {
+                REQUIRED_CONSENSUS_END.remove();
+            } else {
+                REQUIRED_CONSENSUS_END.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps the auto-configured data source in a {@link ReplicaRoutingDataSource} when read replicas are enabled. Importing
+ * modules must provide a {@link ReplicaProperties} bean bound to their own properties prefix. Replica pools copy the
+ * primary's Hikari settings, overriding only the connection URL and, when set, the credentials.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReplicaDataSourceConfiguration {
+
+    @Bean
+    static BeanPostProcessor replicaDataSourcePostProcessor(ObjectProvider<ReplicaProperties> replicaProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource primary) {
+                    return createDataSource(primary, replicaProperties.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static DataSource createDataSource(HikariDataSource primary, ReplicaProperties properties) {
+        if (!properties.isEnabled() || properties.getReplicas().isEmpty()) {
+            return primary;
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        properties.getReplicas().forEach((name, replica) -> {
+            var config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setJdbcUrl(replica.getUrl());
+            config.setPassword(StringUtils.defaultIfBlank(replica.getPassword(), primary.getPassword()));
+            config.setPoolName("replica-" + name);
+            config.setUsername(StringUtils.defaultIfBlank(replica.getUsername(), primary.getUsername()));
+            replicas.put(name, new HikariDataSource(config));
+        });
+
+        var dataSource = new ReplicaRoutingDataSource(primary, replicas, properties);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.datasource;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Read replicas that read-only work is routed to, bound under each module's {@code db.replica} prefix.
+ */
+@Data
+@Validated
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    @DurationMin(millis = 1L)
+    @NotNull
+    private Duration lagCheckInterval = Duration.ofSeconds(1L);
+
+    @DurationMin(millis = 1L)
+    @NotNull
+    private Duration maxLag = Duration.ofSeconds(10L);
+
+    @NotNull
+    @Valid
+    private Map<String, Replica> replicas = new LinkedHashMap<>();
+
+    @Data
+    public static class Replica {
+
+        private String password;
+
+        @NotBlank
+        private String url;
+
+        private String username;
+    }
+}
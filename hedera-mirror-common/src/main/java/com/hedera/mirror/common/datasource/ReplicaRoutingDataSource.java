@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.datasource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes read-only work across a pool of read replicas, falling back to the primary when no replica is fresh enough.
+ * Replica lag is measured periodically by comparing each replica's latest record file consensus end with the
+ * primary's, and replicas that lag by more than the configured maximum or can't be queried are ejected until they
+ * catch up.
+ */
+@CustomLog
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    private static final String LATEST_SQL =
+            "select consensus_end from record_file order by consensus_end desc limit 1";
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final ScheduledExecutorService executor;
+    private final DataSource primary;
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final ReplicaProperties properties;
+    private final List<Replica> replicas = new ArrayList<>();
+    private volatile long primaryConsensusEnd;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary, Map<String, DataSource> replicaDataSources, ReplicaProperties properties) {
+        this.primary = primary;
+        this.primaryJdbcTemplate = new JdbcTemplate(primary);
+        this.properties = properties;
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        replicaDataSources.forEach((name, dataSource) -> {
+            targetDataSources.put(name, dataSource);
+            replicas.add(new Replica(name, dataSource));
+        });
+
+        setDefaultTargetDataSource(primary);
+        setTargetDataSources(targetDataSources);
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "replica-lag");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        refresh();
+        long interval = properties.getLagCheckInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdownNow();
+
+        for (var replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        long required = ReplicaContext.getRequiredConsensusEnd();
+
+        if (required == ReplicaContext.PRIMARY || replicas.isEmpty()) {
+            return PRIMARY;
+        } else if (required == ReplicaContext.LATEST) {
+            required = primaryConsensusEnd;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(counter.getAndIncrement(), size);
+
+        for (int i = 0; i < size; i++) {
+            var replica = replicas.get((start + i) % size);
+            if (replica.healthy && replica.consensusEnd >= required) {
+                return replica.name;
+            }
+        }
+
+        return PRIMARY;
+    }
+
+    /**
+     * Measures the lag of every replica against the primary, ejecting the ones that lag too far behind and restoring
+     * the ones that caught up.
+     */
+    void refresh() {
+        try {
+            primaryConsensusEnd = getConsensusEnd(primaryJdbcTemplate);
+        } catch (Exception e) {
+            log.warn("Unable to determine the latest consensus end of the primary: {}", e.getMessage());
+            return;
+        }
+
+        long maxLag = properties.getMaxLag().toNanos();
+
+        for (var replica : replicas) {
+            boolean healthy;
+
+            try {
+                replica.consensusEnd = getConsensusEnd(replica.jdbcTemplate);
+                healthy = primaryConsensusEnd - replica.consensusEnd <= maxLag;
+            } catch (Exception e) {
+                log.warn(
+                        "Unable to determine the latest consensus end of replica {}: {}",
+                        replica.name,
+                        e.getMessage());
+                healthy = false;
+            }
+
+            if (healthy != replica.healthy) {
+                long lag = primaryConsensusEnd - replica.consensusEnd;
+                if (healthy) {
+                    log.info("Restoring replica {} with a lag of {} ns", replica.name, lag);
+                } else {
+                    log.warn("Ejecting replica {} with a lag of {} ns", replica.name, lag);
+                }
+            }
+
+            replica.healthy = healthy;
+        }
+    }
+
+    private long getConsensusEnd(JdbcTemplate jdbcTemplate) {
+        var consensusEnd = jdbcTemplate.query(LATEST_SQL, rs -> rs.next() ? rs.getLong(1) : 0L);
+        return consensusEnd != null ? consensusEnd : 0L;
+    }
+
+    private static class Replica {
+
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final String name;
+        private volatile long consensusEnd;
+        private volatile boolean healthy;
+
+        private Replica(String name, DataSource dataSource) {
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The keys of the current state changed by a record file. The importer publishes them once the record file is
+ * committed so readers can evict exactly the cached state that changed instead of relying on expiry. Changes to
+ * allowances and airdrops are only flagged. If the keys don't fit in a single notification, they are split across
+ * several. Only if a single key can't fit is truncated set instead of the keys, and readers should then evict all
+ * cached current state.
+ */
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public record StateChanges(
+        boolean airdrops,
+        boolean allowances,
+        long consensusEnd,
+        Set<Long> contracts,
+        Set<Long> entities,
+        Set<NftKey> nfts,
+        Set<SlotKey> slots,
+        Set<TokenAccountKey> tokenAccounts,
+        Set<Long> tokens,
+        boolean truncated) {
+
+    public StateChanges {
+        contracts = Objects.requireNonNullElse(contracts, Set.of());
+        entities = Objects.requireNonNullElse(entities, Set.of());
+        nfts = Objects.requireNonNullElse(nfts, Set.of());
+        slots = Objects.requireNonNullElse(slots, Set.of());
+        tokenAccounts = Objects.requireNonNullElse(tokenAccounts, Set.of());
+        tokens = Objects.requireNonNullElse(tokens, Set.of());
+    }
+
+    public static StateChanges truncated(long consensusEnd) {
+        return new StateChanges(false, false, consensusEnd, null, null, null, null, null, null, true);
+    }
+
+    public int size() {
+        return contracts.size() + entities.size() + nfts.size() + slots.size() + tokenAccounts.size() + tokens.size();
+    }
+
+    /**
+     * Splits the keys into two halves of about the same size, so they can be published in notifications of limited
+     * size. The flags are only kept in the first half.
+     */
+    public List<StateChanges> split() {
+        var remaining = new AtomicInteger(size() / 2);
+        var contractsSplit = split(contracts, remaining);
+        var entitiesSplit = split(entities, remaining);
+        var nftsSplit = split(nfts, remaining);
+        var slotsSplit = split(slots, remaining);
+        var tokenAccountsSplit = split(tokenAccounts, remaining);
+        var tokensSplit = split(tokens, remaining);
+        return List.of(
+                new StateChanges(
+                        airdrops,
+                        allowances,
+                        consensusEnd,
+                        contractsSplit.getFirst(),
+                        entitiesSplit.getFirst(),
+                        nftsSplit.getFirst(),
+                        slotsSplit.getFirst(),
+                        tokenAccountsSplit.getFirst(),
+                        tokensSplit.getFirst(),
+                        false),
+                new StateChanges(
+                        false,
+                        false,
+                        consensusEnd,
+                        contractsSplit.getLast(),
+                        entitiesSplit.getLast(),
+                        nftsSplit.getLast(),
+                        slotsSplit.getLast(),
+                        tokenAccountsSplit.getLast(),
+                        tokensSplit.getLast(),
+                        false));
+    }
+
+    private static <T> List<Set<T>> split(Set<T> keys, AtomicInteger remaining) {
+        var first = new HashSet<T>();
+        var last = new HashSet<T>();
+        for (var key : keys) {
+            (remaining.getAndDecrement() > 0 ? first : last).add(key);
+        }
+        return List.of(first, last);
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"tokenId", "serialNumber"})
+    public record NftKey(long tokenId, long serialNumber) {}
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"contractId", "slot"})
+    public record SlotKey(long contractId, byte[] slot) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof SlotKey key && contractId == key.contractId && Arrays.equals(slot, key.slot);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(contractId) + Arrays.hashCode(slot);
+        }
+
+        @Override
+        public String toString() {
+            return "SlotKey(contractId=" + contractId + ", slot=" + Arrays.toString(slot) + ")";
+        }
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"accountId", "tokenId"})
+    public record TokenAccountKey(long accountId, long tokenId) {}
+}
@@ -44,4 +44,12 @@ public class Contract {
     @Column(updatable = false)
     @ToString.Exclude
     private byte[] runtimeBytecode;
+
+    /**
+     * The keccak256 hash of the runtime bytecode stored in contract_bytecode, set in place of the inline runtime
+     * bytecode
+     */
+    @Column(updatable = false)
+    @ToString.Exclude
+    private byte[] runtimeBytecodeHash;
 }
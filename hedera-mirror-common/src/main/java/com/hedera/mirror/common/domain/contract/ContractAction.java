@@ -21,6 +21,7 @@ import static com.hedera.services.stream.proto.ContractAction.ResultDataCase.REV
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.util.EvmWordCodec;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -56,6 +57,11 @@ public class ContractAction implements Persistable<ContractAction.Id> {
 
     private Integer callType;
 
+    /**
+     * Whether the input and the result data are stored in the {@link EvmWordCodec} compact encoding
+     */
+    private boolean compact;
+
     @jakarta.persistence.Id
     private long consensusTimestamp;
 
@@ -100,6 +106,17 @@ public class ContractAction implements Persistable<ContractAction.Id> {
         return true; // Since we never update and use a natural ID, avoid Hibernate querying before insert
     }
 
+    /**
+     * Restores the raw input and result data if they are stored in the compact encoding.
+     */
+    public void expand() {
+        if (compact) {
+            input = EvmWordCodec.expand(input);
+            resultData = EvmWordCodec.expand(resultData);
+            compact = false;
+        }
+    }
+
     @JsonIgnore
     public boolean hasRevertReason() {
         return resultDataType == REVERT_REASON.getNumber();
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.contract;
+
+import com.hedera.mirror.common.domain.Upsertable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A distinct contract runtime bytecode keyed by its keccak256 hash. Contracts reference it by hash so the identical
+ * bytecode of clones, proxies and token contracts is only stored once.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Data
+@Entity
+@NoArgsConstructor
+@Upsertable
+public class ContractBytecode {
+
+    @Column(updatable = false)
+    @ToString.Exclude
+    private byte[] bytecode;
+
+    @Id
+    private byte[] hash;
+}
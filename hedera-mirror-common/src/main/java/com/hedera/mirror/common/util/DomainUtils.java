@@ -33,6 +33,7 @@ import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import lombok.CustomLog;
 import lombok.experimental.UtilityClass;
@@ -187,6 +188,25 @@ public class DomainUtils {
         return leftPaddedBytes;
     }
 
+    /**
+     * Strip the leading zeros of a byte array. The inverse of {@link #leftPadBytes(byte[], int)} for numeric values.
+     *
+     * @param bytes
+     * @return the byte array without leading zeros, or the same byte array if it has none
+     */
+    public static byte[] trimLeadingZeros(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != 0) {
+            return bytes;
+        }
+
+        int start = 1;
+        while (start < bytes.length && bytes[start] == 0) {
+            start++;
+        }
+
+        return Arrays.copyOfRange(bytes, start, bytes.length);
+    }
+
     public static long now() {
         return convertToNanosMax(Instant.now());
     }
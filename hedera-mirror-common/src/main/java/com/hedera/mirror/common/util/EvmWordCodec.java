@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Compact, lossless encoding of EVM call data that strips the leading zeros of each 32-byte word. Call inputs and
+ * results consist of an optional unaligned prefix, such as a 4-byte function selector, followed by ABI encoded words
+ * that are mostly zero padding around small integers and 20-byte addresses.
+ *
+ * <p>The encoded form is a one byte prefix length, the prefix itself, then for each word a one byte count of its
+ * significant bytes followed by those bytes.
+ */
+@UtilityClass
+public class EvmWordCodec {
+
+    static final int WORD_SIZE = 32;
+
+    /**
+     * Encodes the data in the compact form. Callers should compare {@link #compactLength(byte[])} with the raw length
+     * first since the encoding is larger for short or dense data.
+     *
+     * @param data the raw data
+     * @return the compact data or null if the data is null
+     */
+    public static byte[] compact(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        int prefix = data.length % WORD_SIZE;
+        var compact = new byte[compactLength(data)];
+        compact[0] = (byte) prefix;
+        System.arraycopy(data, 0, compact, 1, prefix);
+
+        int position = 1 + prefix;
+        for (int offset = prefix; offset < data.length; offset += WORD_SIZE) {
+            int significant = WORD_SIZE - leadingZeros(data, offset);
+            compact[position++] = (byte) significant;
+            System.arraycopy(data, offset + WORD_SIZE - significant, compact, position, significant);
+            position += significant;
+        }
+
+        return compact;
+    }
+
+    /**
+     * Computes the length of the compact form of the data without encoding it.
+     *
+     * @param data the raw data
+     * @return the length of the compact data or zero if the data is null
+     */
+    public static int compactLength(byte[] data) {
+        if (data == null) {
+            return 0;
+        }
+
+        int prefix = data.length % WORD_SIZE;
+        int length = 1 + prefix;
+        for (int offset = prefix; offset < data.length; offset += WORD_SIZE) {
+            length += 1 + WORD_SIZE - leadingZeros(data, offset);
+        }
+
+        return length;
+    }
+
+    /**
+     * Restores the raw data from its compact form.
+     *
+     * @param compact the compact data
+     * @return the raw data or null if the compact data is null
+     * @throws IllegalArgumentException if the compact data is malformed
+     */
+    public static byte[] expand(byte[] compact) {
+        if (compact == null) {
+            return null;
+        }
+
+        if (compact.length == 0 || (compact[0] & 0xff) >= WORD_SIZE || compact[0] >= compact.length) {
+            throw new IllegalArgumentException("Invalid compact EVM word data");
+        }
+
+        int prefix = compact[0];
+        int words = 0;
+        for (int position = 1 + prefix; position < compact.length; position += 1 + compact[position]) {
+            int significant = compact[position];
+            if (significant < 0 || significant > WORD_SIZE || position + 1 + significant > compact.length) {
+                throw new IllegalArgumentException("Invalid compact EVM word data");
+            }
+            words++;
+        }
+
+        var data = new byte[prefix + words * WORD_SIZE];
+        System.arraycopy(compact, 1, data, 0, prefix);
+
+        int offset = prefix;
+        for (int position = 1 + prefix; position < compact.length; position += 1 + compact[position]) {
+            int significant = compact[position];
+            System.arraycopy(compact, position + 1, data, offset + WORD_SIZE - significant, significant);
+            offset += WORD_SIZE;
+        }
+
+        return data;
+    }
+
+    private static int leadingZeros(byte[] data, int offset) {
+        int count = 0;
+        while (count < WORD_SIZE && data[offset + count] == 0) {
+            count++;
+        }
+        return count;
+    }
+}
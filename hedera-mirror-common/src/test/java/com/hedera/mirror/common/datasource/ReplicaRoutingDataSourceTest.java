@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final long CONSENSUS_END = 1_700_000_000_000_000_000L;
+    private static final long MAX_LAG = Duration.ofSeconds(10L).toNanos();
+    private static final String REPLICA = "lagging";
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void teardown() throws Exception {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    @Test
+    void caughtUp() {
+        routingDataSource = routingDataSource(dataSource(CONSENSUS_END), dataSource(CONSENSUS_END));
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(REPLICA);
+        assertThat(ReplicaContext.latest(routingDataSource::determineCurrentLookupKey)).isEqualTo(REPLICA);
+        assertThat(ReplicaContext.atLeast(CONSENSUS_END, routingDataSource::determineCurrentLookupKey))
+                .isEqualTo(REPLICA);
+        assertThat(ReplicaContext.primary(routingDataSource::determineCurrentLookupKey))
+                .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void lagging() {
+        long latest = CONSENSUS_END + MAX_LAG / 2;
+        routingDataSource = routingDataSource(dataSource(latest), dataSource(CONSENSUS_END));
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(REPLICA);
+        assertThat(ReplicaContext.atLeast(CONSENSUS_END, routingDataSource::determineCurrentLookupKey))
+                .isEqualTo(REPLICA);
+        assertThat(ReplicaContext.atLeast(latest, routingDataSource::determineCurrentLookupKey))
+                .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(ReplicaContext.latest(routingDataSource::determineCurrentLookupKey))
+                .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void nested() {
+        long latest = CONSENSUS_END + MAX_LAG / 2;
+        routingDataSource = routingDataSource(dataSource(latest), dataSource(CONSENSUS_END));
+
+        // The strictest requirement of the nested scopes applies
+        assertThat(ReplicaContext.atLeast(
+                        latest,
+                        () -> ReplicaContext.atLeast(CONSENSUS_END, routingDataSource::determineCurrentLookupKey)))
+                .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void ejected() {
+        routingDataSource = routingDataSource(dataSource(CONSENSUS_END + MAX_LAG + 1), dataSource(CONSENSUS_END));
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void restored() {
+        var primary = dataSource(CONSENSUS_END + MAX_LAG + 1);
+        var replica = dataSource(CONSENSUS_END);
+        routingDataSource = routingDataSource(primary, replica);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        stub(replica, CONSENSUS_END + MAX_LAG + 1);
+        routingDataSource.refresh();
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @SneakyThrows
+    void unavailable() {
+        var replica = mock(DataSource.class);
+        when(replica.getConnection()).thenThrow(new SQLException("unavailable"));
+        routingDataSource = routingDataSource(dataSource(CONSENSUS_END), replica);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    private ReplicaRoutingDataSource routingDataSource(DataSource primary, DataSource replica) {
+        var properties = new ReplicaProperties();
+        properties.setEnabled(true);
+        properties.setLagCheckInterval(Duration.ofHours(1L));
+        properties.setMaxLag(Duration.ofNanos(MAX_LAG));
+        var dataSource = new ReplicaRoutingDataSource(primary, Map.of(REPLICA, replica), properties);
+        dataSource.refresh();
+        return dataSource;
+    }
+
+    private DataSource dataSource(long consensusEnd) {
+        var dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        stub(dataSource, consensusEnd);
+        return dataSource;
+    }
+
+    @SneakyThrows
+    private void stub(DataSource dataSource, long consensusEnd) {
+        var resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(consensusEnd);
+        when(dataSource.getConnection().createStatement().executeQuery(anyString())).thenReturn(resultSet);
+    }
+}
@@ -34,6 +34,7 @@ import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.balance.TokenBalance;
 import com.hedera.mirror.common.domain.contract.Contract;
 import com.hedera.mirror.common.domain.contract.ContractAction;
+import com.hedera.mirror.common.domain.contract.ContractBytecode;
 import com.hedera.mirror.common.domain.contract.ContractLog;
 import com.hedera.mirror.common.domain.contract.ContractResult;
 import com.hedera.mirror.common.domain.contract.ContractState;
@@ -277,6 +278,11 @@ public class DomainBuilder {
         return new DomainWrapperImpl<>(builder, builder::build);
     }
 
+    public DomainWrapper<ContractBytecode, ContractBytecode.ContractBytecodeBuilder> contractBytecode() {
+        var builder = ContractBytecode.builder().bytecode(bytes(256)).hash(bytes(32));
+        return new DomainWrapperImpl<>(builder, builder::build);
+    }
+
     public DomainWrapper<ContractLog, ContractLog.ContractLogBuilder> contractLog() {
         var builder = ContractLog.builder()
                 .bloom(bytes(256))
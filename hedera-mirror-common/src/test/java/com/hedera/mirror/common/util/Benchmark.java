@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.util;
+
+import java.lang.management.ManagementFactory;
+import lombok.CustomLog;
+
+/**
+ * Runs the workload of a performance test after a warmup on the current thread and logs its throughput, CPU time and
+ * allocated bytes per iteration. Performance tests are gated with {@code @EnabledIf} on a
+ * {@code hedera.mirror.<module>.test.performance.enabled} property that defaults to false, which can be set as a
+ * system property or an environment variable.
+ */
+@CustomLog
+public record Benchmark(String name, int warmupIterations, int iterations) {
+
+    public <T> Result<T> run(Workload<T> workload) throws Exception {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        T value = null;
+
+        for (int i = 0; i < warmupIterations; i++) {
+            value = workload.execute(i);
+        }
+
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long cpuBefore = threadMXBean.getCurrentThreadCpuTime();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            value = workload.execute(i);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        var result = new Result<>(
+                value,
+                iterations,
+                elapsed,
+                (threadMXBean.getCurrentThreadCpuTime() - cpuBefore) / iterations,
+                (threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore) / iterations);
+        log.info(
+                "{}: {} iterations at {}/s, {} CPU ns and {} allocated bytes per iteration",
+                name,
+                iterations,
+                (long) result.rate(),
+                result.cpuNanos(),
+                result.allocatedBytes());
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface Workload<T> {
+        T execute(int iteration) throws Exception;
+    }
+
+    /**
+     * The value of the last iteration, the total elapsed time, and the CPU time and allocated bytes per iteration.
+     */
+    public record Result<T>(T value, int iterations, long elapsedNanos, long cpuNanos, long allocatedBytes) {
+
+        public double rate() {
+            return iterations * 1_000_000_000.0 / Math.max(elapsedNanos, 1L);
+        }
+    }
+}
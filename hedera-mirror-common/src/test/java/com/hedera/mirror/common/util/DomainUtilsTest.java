@@ -247,6 +247,26 @@ class DomainUtilsTest {
         assertThat(DomainUtils.leftPadBytes(bytes, paddingLength)).isEqualTo(expected);
     }
 
+    @ParameterizedTest(name = "trimLeadingZeros: {0}")
+    @CsvSource(
+            textBlock =
+                    """
+            '', ''
+            00, ''
+            0000, ''
+            0001, 01
+            000100, 0100
+            0a00, 0a00
+            """)
+    void trimLeadingZeros(String bytes, String expected) throws Exception {
+        assertThat(DomainUtils.trimLeadingZeros(Hex.decodeHex(bytes))).isEqualTo(Hex.decodeHex(expected));
+    }
+
+    @Test
+    void trimLeadingZerosNull() {
+        assertThat(DomainUtils.trimLeadingZeros(null)).isNull();
+    }
+
     @Test
     void sanitize() {
         assertThat(DomainUtils.sanitize(null)).isNull();
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.util;
+
+import static com.hedera.mirror.common.util.CommonUtils.nextBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class EvmWordCodecTest {
+
+    // transfer(address,uint256) with a long zero address and an amount of 1,000
+    private static final String TRANSFER_INPUT = "a9059cbb"
+            + "00000000000000000000000000000000000000000000000000000000000004d2"
+            + "00000000000000000000000000000000000000000000000000000000000003e8";
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(
+            textBlock =
+                    """
+            '', 00
+            0a, 010a
+            a9059cbb, 04a9059cbb
+            0000000000000000000000000000000000000000000000000000000000000000, 0000
+            0000000000000000000000000000000000000000000000000000000000000001, 000101
+            """)
+    void compact(String data, String expected) throws Exception {
+        var bytes = Hex.decodeHex(data);
+        var compact = EvmWordCodec.compact(bytes);
+        assertThat(Hex.encodeHexString(compact)).isEqualTo(expected);
+        assertThat(EvmWordCodec.compactLength(bytes)).isEqualTo(compact.length);
+        assertThat(EvmWordCodec.expand(compact)).isEqualTo(bytes);
+    }
+
+    @Test
+    void compactAbiCall() throws Exception {
+        var input = Hex.decodeHex(TRANSFER_INPUT);
+        var compact = EvmWordCodec.compact(input);
+        assertThat(Hex.encodeHexString(compact)).isEqualTo("04a9059cbb0204d20203e8");
+        assertThat(EvmWordCodec.expand(compact)).isEqualTo(input);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 31, 32, 33, 68, 1024})
+    void compactRandom(int length) {
+        var data = nextBytes(length);
+        assertThat(EvmWordCodec.expand(EvmWordCodec.compact(data))).isEqualTo(data);
+    }
+
+    @Test
+    void compactNull() {
+        assertThat(EvmWordCodec.compact(null)).isNull();
+        assertThat(EvmWordCodec.compactLength(null)).isZero();
+        assertThat(EvmWordCodec.expand(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "01", "20", "ff", "0021", "0002ff", "000101ff"})
+    void expandInvalid(String compact) throws Exception {
+        var bytes = Hex.decodeHex(compact);
+        assertThatThrownBy(() -> EvmWordCodec.expand(bytes)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
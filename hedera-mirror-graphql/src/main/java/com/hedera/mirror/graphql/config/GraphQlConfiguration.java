@@ -18,8 +18,15 @@ package com.hedera.mirror.graphql.config;
 
 import com.hedera.mirror.graphql.scalar.GraphQlDuration;
 import com.hedera.mirror.graphql.scalar.GraphQlTimestamp;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
 import graphql.scalars.ExtendedScalars;
+import graphql.schema.GraphQLImplementingType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
 import graphql.schema.idl.SchemaDirectiveWiring;
 import graphql.validation.rules.OnValidationErrorStrategy;
 import graphql.validation.rules.ValidationRules;
@@ -31,11 +38,29 @@ import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 
 @Configuration
 class GraphQlConfiguration {
+
+    private static final String ACCOUNTABLE = "Accountable";
+
     @Bean
     GraphQlSourceBuilderCustomizer graphQlCustomizer(PreparsedDocumentProvider provider) {
         return b -> b.configureGraphQl(graphQL -> graphQL.preparsedDocumentProvider(provider));
     }
 
+    @Bean
+    Instrumentation maxQueryComplexityInstrumentation(QueryProperties properties) {
+        // Nested entity references each cost a batched lookup and fan out into their own sub-selection
+        return new MaxQueryComplexityInstrumentation(properties.getMaxComplexity(), (environment, childComplexity) -> {
+            var type = environment.getFieldDefinition().getType();
+            int complexity = isEntityReference(type) ? properties.getReferenceComplexity() : 1;
+            return complexity + childComplexity;
+        });
+    }
+
+    @Bean
+    Instrumentation maxQueryDepthInstrumentation(QueryProperties properties) {
+        return new MaxQueryDepthInstrumentation(properties.getMaxDepth());
+    }
+
     @Bean
     RuntimeWiringConfigurer runtimeWiringConfigurer() {
         return wiringBuilder -> wiringBuilder
@@ -53,4 +78,16 @@ class GraphQlConfiguration {
                 .build();
         return new ValidationSchemaWiring(validationRules);
     }
+
+    private static boolean isEntityReference(GraphQLType type) {
+        var unwrapped = GraphQLTypeUtil.unwrapAll(type);
+        if (ACCOUNTABLE.equals(unwrapped.getName())) {
+            return true;
+        }
+
+        return unwrapped instanceof GraphQLImplementingType implementingType
+                && implementingType.getInterfaces().stream()
+                        .map(GraphQLNamedType::getName)
+                        .anyMatch(ACCOUNTABLE::equals);
+    }
 }
@@ -20,16 +20,28 @@ import static com.hedera.mirror.graphql.util.GraphQlUtils.convertCurrency;
 import static com.hedera.mirror.graphql.util.GraphQlUtils.toEntityId;
 import static com.hedera.mirror.graphql.util.GraphQlUtils.validateOneOf;
 
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.graphql.mapper.AccountMapper;
 import com.hedera.mirror.graphql.service.EntityService;
 import com.hedera.mirror.graphql.viewmodel.Account;
 import com.hedera.mirror.graphql.viewmodel.AccountInput;
 import com.hedera.mirror.graphql.viewmodel.HbarUnit;
+import graphql.GraphQLContext;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
@@ -40,11 +52,14 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 class AccountController {
 
+    // Request scoped memoization of the entities looked up while resolving a query
+    private static final String ENTITIES_KEY = AccountController.class.getName() + ".entities";
+
     private final AccountMapper accountMapper;
     private final EntityService entityService;
 
     @QueryMapping
-    Mono<Account> account(@Argument @Valid AccountInput input) {
+    Mono<Account> account(@Argument @Valid AccountInput input, GraphQLContext context) {
         final var alias = input.getAlias();
         final var evmAddress = input.getEvmAddress();
         final var entityId = input.getEntityId();
@@ -55,18 +70,18 @@ class AccountController {
         if (entityId != null) {
             return Mono.justOrEmpty(entityService
                     .getByIdAndType(toEntityId(entityId), EntityType.ACCOUNT)
-                    .map(accountMapper::map));
+                    .map(e -> toAccount(e, context)));
         }
 
         if (alias != null) {
             return Mono.justOrEmpty(
-                    entityService.getByAliasAndType(alias, EntityType.ACCOUNT).map(accountMapper::map));
+                    entityService.getByAliasAndType(alias, EntityType.ACCOUNT).map(e -> toAccount(e, context)));
         }
 
         if (evmAddress != null) {
             return Mono.justOrEmpty(entityService
                     .getByEvmAddressAndType(evmAddress, EntityType.ACCOUNT)
-                    .map(accountMapper::map));
+                    .map(e -> toAccount(e, context)));
         }
 
         return Mono.error(new IllegalStateException("Not implemented"));
@@ -76,4 +91,79 @@ class AccountController {
     Mono<Long> balance(@Argument @Valid HbarUnit unit, Account account) {
         return Mono.justOrEmpty(convertCurrency(unit, account.getBalance()));
     }
+
+    @BatchMapping
+    Mono<Map<Account, Account>> autoRenewAccount(List<Account> accounts, GraphQLContext context) {
+        return getReferencedAccounts(accounts, context, Entity::getAutoRenewAccountId);
+    }
+
+    @BatchMapping
+    Mono<Map<Account, Account>> obtainer(List<Account> accounts, GraphQLContext context) {
+        return getReferencedAccounts(
+                accounts, context, e -> EntityId.isEmpty(e.getObtainerId()) ? null : e.getObtainerId().getId());
+    }
+
+    @BatchMapping
+    Mono<Map<Account, Account>> stakedAccount(List<Account> accounts, GraphQLContext context) {
+        return getReferencedAccounts(accounts, context, Entity::getStakedAccountId);
+    }
+
+    private Map<Long, Optional<Entity>> getEntities(GraphQLContext context) {
+        return context.computeIfAbsent(ENTITIES_KEY, k -> new ConcurrentHashMap<Long, Optional<Entity>>());
+    }
+
+    /**
+     * Resolves an account reference for every account at the same level of the query with at most one lookup for the
+     * parent entities not already memoized and one lookup for the referenced entities.
+     */
+    private Mono<Map<Account, Account>> getReferencedAccounts(
+            List<Account> accounts, GraphQLContext context, Function<Entity, Long> reference) {
+        return Mono.fromSupplier(() -> {
+            var entities = getEntities(context);
+            var parentIds = new ArrayList<Long>(accounts.size());
+            accounts.forEach(a -> parentIds.add(toEntityId(a.getEntityId()).getId()));
+            load(parentIds, entities);
+
+            var referenceIds = new ArrayList<Long>(accounts.size());
+            for (var parentId : parentIds) {
+                var referenceId = entities.get(parentId).map(reference).orElse(null);
+                referenceIds.add(referenceId != null && referenceId > 0 ? referenceId : null);
+            }
+            load(referenceIds, entities);
+
+            var referencedAccounts = new HashMap<Account, Account>();
+            for (int i = 0; i < accounts.size(); i++) {
+                var referenceId = referenceIds.get(i);
+                if (referenceId == null) {
+                    continue;
+                }
+
+                var account = accounts.get(i);
+                entities.get(referenceId)
+                        .filter(e -> e.getType() == EntityType.ACCOUNT)
+                        .map(accountMapper::map)
+                        .ifPresent(a -> referencedAccounts.put(account, a));
+            }
+
+            return referencedAccounts;
+        });
+    }
+
+    private void load(Collection<Long> ids, Map<Long, Optional<Entity>> entities) {
+        var missing = ids.stream()
+                .filter(id -> id != null && !entities.containsKey(id))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        var found = entityService.getByIds(missing);
+        missing.forEach(id -> entities.put(id, Optional.ofNullable(found.get(id))));
+    }
+
+    private Account toAccount(Entity entity, GraphQLContext context) {
+        getEntities(context).put(entity.getId(), Optional.of(entity));
+        return accountMapper.map(entity);
+    }
 }
@@ -25,6 +25,9 @@ import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.graphql.repository.EntityRepository;
 import jakarta.inject.Named;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 
@@ -53,4 +56,15 @@ public class EntityServiceImpl implements EntityService {
         }
         return entityRepository.findByEvmAddress(evmAddressBytes).filter(e -> e.getType() == type);
     }
+
+    @Override
+    public Map<Long, Entity> getByIds(Collection<Long> ids) {
+        var entities = new HashMap<Long, Entity>();
+        if (ids.isEmpty()) {
+            return entities;
+        }
+
+        entityRepository.findAllById(ids).forEach(e -> entities.put(e.getId(), e));
+        return entities;
+    }
 }
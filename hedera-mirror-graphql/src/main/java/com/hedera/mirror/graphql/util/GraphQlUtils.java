@@ -78,6 +78,10 @@ public class GraphQlUtils {
         return EntityId.of(entityId.getShard(), entityId.getRealm(), entityId.getNum());
     }
 
+    public static EntityId toEntityId(com.hedera.mirror.graphql.viewmodel.EntityId entityId) {
+        return EntityId.of(entityId.getShard(), entityId.getRealm(), entityId.getNum());
+    }
+
     public static void validateOneOf(Object... values) {
         int nonNull = 0;
 
@@ -224,4 +224,82 @@ class AccountControllerTest extends GraphqlIntegrationTest {
                 .entity(Long.class)
                 .isEqualTo(entity.getBalance() / 100_000_000L);
     }
+
+    @Test
+    void nestedAccounts() {
+        var stakedAccount = domainBuilder.entity().persist();
+        var autoRenewAccount = domainBuilder
+                .entity()
+                .customize(e -> e.stakedAccountId(stakedAccount.getId()))
+                .persist();
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(autoRenewAccount.getId())
+                        .obtainerId(stakedAccount.toEntityId())
+                        .stakedAccountId(autoRenewAccount.getId()))
+                .persist();
+        tester.document(
+                        """
+                        query Account($id: Long!) {
+                          account(input: { entityId: { num: $id } }) {
+                            autoRenewAccount {
+                              entityId { num }
+                              stakedAccount { entityId { num } }
+                            }
+                            obtainer { entityId { num } }
+                            stakedAccount { entityId { num } }
+                          }
+                        }
+                        """)
+                .variable("id", entity.getNum())
+                .execute()
+                .errors()
+                .verify()
+                .path("account.autoRenewAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(autoRenewAccount.getNum())
+                .path("account.autoRenewAccount.stakedAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(stakedAccount.getNum())
+                .path("account.obtainer.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(stakedAccount.getNum())
+                .path("account.stakedAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(autoRenewAccount.getNum());
+    }
+
+    @Test
+    void nestedAccountMissing() {
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(domainBuilder.id()))
+                .persist();
+        tester.document(
+                        """
+                        query Account($id: Long!) {
+                          account(input: { entityId: { num: $id } }) {
+                            autoRenewAccount { entityId { num } }
+                          }
+                        }
+                        """)
+                .variable("id", entity.getNum())
+                .execute()
+                .errors()
+                .verify()
+                .path("account.autoRenewAccount")
+                .valueIsNull();
+    }
+
+    @Test
+    void queryTooComplex() {
+        var query = "query { account(input: {entityId: {num: 1}}) { %s entityId { num } %s }}"
+                .formatted("autoRenewAccount { ".repeat(40), "}".repeat(40));
+        tester.document(query).execute().errors().satisfy(r -> assertThat(r)
+                .isNotEmpty()
+                .first()
+                .extracting(ResponseError::getMessage)
+                .asString()
+                .containsIgnoringCase("maximum query"));
+    }
 }
@@ -17,12 +17,15 @@
 package com.hedera.mirror.graphql.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.DomainBuilder;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.graphql.repository.EntityRepository;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Optional;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Base32;
@@ -167,4 +170,20 @@ class EntityServiceTest {
                 .get()
                 .isEqualTo(entity);
     }
+
+    @Test
+    void getByIds() {
+        var entity1 = domainBuilder.entity().get();
+        var entity2 = domainBuilder.entity().get();
+        var ids = List.of(entity1.getId(), entity2.getId(), domainBuilder.id());
+        when(entityRepository.findAllById(ids)).thenReturn(List.of(entity1, entity2));
+        assertThat(entityService.getByIds(ids))
+                .containsOnly(entry(entity1.getId(), entity1), entry(entity2.getId(), entity2));
+    }
+
+    @Test
+    void getByIdsEmpty() {
+        assertThat(entityService.getByIds(List.of())).isEmpty();
+        verifyNoInteractions(entityRepository);
+    }
 }
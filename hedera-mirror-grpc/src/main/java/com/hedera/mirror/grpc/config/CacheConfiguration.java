@@ -34,6 +34,7 @@ import org.springframework.context.annotation.Primary;
 public class CacheConfiguration {
 
     public static final String ADDRESS_BOOK_ENTRY_CACHE = "addressBookEntryCache";
+    public static final String ADDRESS_BOOK_SNAPSHOT_CACHE = "addressBookSnapshotCache";
     public static final String NODE_STAKE_CACHE = "nodeStakeCache";
     public static final String ENTITY_CACHE = "entityCache";
     public static final String CACHE_NAME = "default";
@@ -49,6 +50,12 @@ public class CacheConfiguration {
         return caffeineCacheManager;
     }
 
+    // The loading cache is registered by the NetworkServiceImpl since it depends upon the repositories
+    @Bean(ADDRESS_BOOK_SNAPSHOT_CACHE)
+    CaffeineCacheManager addressBookSnapshotCache() {
+        return new CaffeineCacheManager();
+    }
+
     @Bean(NODE_STAKE_CACHE)
     CacheManager nodeStakeCache(AddressBookProperties addressBookProperties) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
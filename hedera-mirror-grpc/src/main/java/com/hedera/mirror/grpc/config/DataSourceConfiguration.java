@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.config;
+
+import com.hedera.mirror.common.datasource.ReplicaDataSourceConfiguration;
+import com.hedera.mirror.common.datasource.ReplicaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration
+@Import(ReplicaDataSourceConfiguration.class)
+class DataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("hedera.mirror.grpc.db.replica")
+    ReplicaProperties replicaProperties() {
+        return new ReplicaProperties();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.controller;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties("hedera.mirror.grpc.coalescing")
+public class CoalescingProperties {
+
+    @DurationMin(seconds = 1L)
+    @NotNull
+    private Duration catchUpLag = Duration.ofSeconds(10L);
+
+    private boolean enabled = true;
+
+    @Min(1024)
+    private int maxBytes = 64 * 1024;
+
+    @DurationMin(millis = 1L)
+    @NotNull
+    private Duration maxLatency = Duration.ofMillis(5L);
+
+    @Min(1)
+    private int maxMessages = 256;
+}
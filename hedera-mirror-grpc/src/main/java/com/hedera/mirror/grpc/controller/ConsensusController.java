@@ -46,6 +46,7 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusServiceImplBase {
 
+    private final ResponseCoalescer responseCoalescer;
     private final TopicMessageService topicMessageService;
 
     @Override
@@ -53,6 +54,7 @@ public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusSe
         return request.map(this::toFilter)
                 .flatMapMany(topicMessageService::subscribeTopic)
                 .map(this::toResponse)
+                .transform(responseCoalescer::coalesce)
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
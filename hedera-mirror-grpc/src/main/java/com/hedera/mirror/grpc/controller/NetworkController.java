@@ -16,6 +16,8 @@
 
 package com.hedera.mirror.grpc.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.api.proto.AddressBookQuery;
 import com.hedera.mirror.api.proto.ReactorNetworkServiceGrpc;
@@ -40,13 +42,16 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceImplBase {
 
+    // The entries of an address book snapshot are shared by all callers, so each is only converted once. Weak keys
+    // compare by identity and release the converted nodes once the snapshot is replaced.
+    private final Cache<AddressBookEntry, NodeAddress> nodeAddresses = Caffeine.newBuilder().weakKeys().build();
     private final NetworkService networkService;
 
     @Override
     public Flux<NodeAddress> getNodes(Mono<AddressBookQuery> request) {
         return request.map(this::toFilter)
                 .flatMapMany(networkService::getNodes)
-                .map(this::toNodeAddress)
+                .map(entry -> nodeAddresses.get(entry, this::toNodeAddress))
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.controller;
+
+import com.hedera.mirror.api.proto.ConsensusTopicResponse;
+import com.hedera.mirror.common.util.DomainUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+/**
+ * Coalesces the responses of a subscriber that is catching up into bursts before they reach gRPC. The gRPC transport
+ * queues each response as a separate write and flushes once per drain of its write queue, so responses handed over
+ * back-to-back share a flush and a socket write instead of paying for one each.
+ * <p>
+ * Responses with a consensus timestamp older than the catch-up lag are held until the burst reaches the maximum bytes
+ * or messages, the maximum latency elapses since its first response, or the flux terminates. A recent response
+ * releases the burst immediately so live subscribers see no added latency. Responses keep their order and the
+ * subscriber only ever requests the downstream demand plus a fixed lookahead of the maximum messages, so gRPC flow
+ * control still bounds what is buffered while the transport is busy.
+ */
+@Named
+public class ResponseCoalescer {
+
+    private final DistributionSummary batchMetric;
+    private final CoalescingProperties properties;
+
+    public ResponseCoalescer(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        batchMetric = DistributionSummary.builder("hedera.mirror.grpc.coalescing.batch")
+                .description("The number of responses written to a subscriber in a single burst")
+                .register(meterRegistry);
+    }
+
+    public Flux<ConsensusTopicResponse> coalesce(Flux<ConsensusTopicResponse> responses) {
+        if (!properties.isEnabled()) {
+            return responses;
+        }
+
+        return Flux.create(sink -> responses.subscribe(new CoalescingSubscriber(sink, Schedulers.parallel())));
+    }
+
+    private class CoalescingSubscriber extends BaseSubscriber<ConsensusTopicResponse> {
+
+        private final long catchUpLag = properties.getCatchUpLag().toNanos();
+        private final long maxLatency = properties.getMaxLatency().toNanos();
+        private final Scheduler scheduler;
+        private final FluxSink<ConsensusTopicResponse> sink;
+
+        private List<ConsensusTopicResponse> batch = new ArrayList<>();
+        private int bytes;
+        private boolean emitting;
+        private Disposable timer;
+
+        private CoalescingSubscriber(FluxSink<ConsensusTopicResponse> sink, Scheduler scheduler) {
+            this.scheduler = scheduler;
+            this.sink = sink;
+        }
+
+        @Override
+        public Context currentContext() {
+            return Context.of(sink.contextView());
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            sink.onDispose(this);
+            sink.onRequest(this::request);
+            request(properties.getMaxMessages()); // Lookahead so there is something to coalesce
+        }
+
+        @Override
+        protected synchronized void hookOnNext(ConsensusTopicResponse response) {
+            batch.add(response);
+            bytes += response.getSerializedSize();
+
+            if (bytes >= properties.getMaxBytes()
+                    || batch.size() >= properties.getMaxMessages()
+                    || !isCatchingUp(response)) {
+                flush();
+            } else if (timer == null) {
+                timer = scheduler.schedule(this::onTimeout, maxLatency, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            synchronized (this) {
+                flush();
+            }
+            sink.complete();
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            synchronized (this) {
+                flush();
+            }
+            sink.error(throwable);
+        }
+
+        @Override
+        protected synchronized void hookFinally(SignalType type) {
+            cancelTimer();
+        }
+
+        private boolean isCatchingUp(ConsensusTopicResponse response) {
+            long consensusTimestamp = DomainUtils.timestampInNanosMax(response.getConsensusTimestamp());
+            return DomainUtils.now() - consensusTimestamp > catchUpLag;
+        }
+
+        private synchronized void onTimeout() {
+            timer = null;
+            flush();
+        }
+
+        // Emitting can synchronously request and receive more responses, so only the outermost call drains the batch
+        private void flush() {
+            if (emitting) {
+                return;
+            }
+
+            emitting = true;
+            try {
+                while (!batch.isEmpty()) {
+                    var responses = batch;
+                    batch = new ArrayList<>(responses.size());
+                    bytes = 0;
+                    cancelTimer();
+                    batchMetric.record(responses.size());
+                    responses.forEach(sink::next);
+                }
+            } finally {
+                emitting = false;
+            }
+        }
+
+        private void cancelTimer() {
+            if (timer != null) {
+                timer.dispose();
+                timer = null;
+            }
+        }
+    }
+}
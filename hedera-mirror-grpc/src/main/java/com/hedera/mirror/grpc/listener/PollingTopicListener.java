@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.grpc.listener;
 
+import com.hedera.mirror.common.datasource.ReplicaContext;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
@@ -73,7 +74,7 @@ public class PollingTopicListener implements TopicListener {
         long startTime = last != null ? last.getConsensusTimestamp() + 1 : filter.getStartTime();
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
 
-        return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
+        return Flux.fromStream(ReplicaContext.latest(() -> topicMessageRepository.findByFilter(newFilter)));
     }
 
     @Data
@@ -17,6 +17,7 @@
 package com.hedera.mirror.grpc.listener;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.datasource.ReplicaContext;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
@@ -74,8 +75,11 @@ public class SharedPollingTopicListener extends SharedTopicListener {
             return Flux.empty();
         }
 
-        return Flux.fromIterable(topicMessageRepository.findLatest(
-                        context.getLastConsensusTimestamp().get(), listenerProperties.getMaxPageSize()))
+        long lastConsensusTimestamp = context.getLastConsensusTimestamp().get();
+        var messages = ReplicaContext.latest(() ->
+                topicMessageRepository.findLatest(lastConsensusTimestamp, listenerProperties.getMaxPageSize()));
+
+        return Flux.fromIterable(messages)
                 .doOnNext(context::onNext)
                 .doOnCancel(context::onPollEnd)
                 .doOnComplete(context::onPollEnd)
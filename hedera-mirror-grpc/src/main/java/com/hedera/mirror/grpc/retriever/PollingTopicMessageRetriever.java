@@ -17,15 +17,19 @@
 package com.hedera.mirror.grpc.retriever;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.datasource.ReplicaContext;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import lombok.CustomLog;
 import lombok.Data;
 import reactor.core.observability.micrometer.Micrometer;
@@ -41,17 +45,25 @@ import reactor.util.retry.Retry;
 public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
     private final ObservationRegistry observationRegistry;
+    private final DistributionSummary pagesMetric;
+    private final RetrievalScheduler retrievalScheduler;
     private final RetrieverProperties retrieverProperties;
     private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler;
 
     public PollingTopicMessageRetriever(
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry,
+            RetrievalScheduler retrievalScheduler,
             RetrieverProperties retrieverProperties,
             TopicMessageRepository topicMessageRepository) {
         this.observationRegistry = observationRegistry;
+        this.retrievalScheduler = retrievalScheduler;
         this.retrieverProperties = retrieverProperties;
         this.topicMessageRepository = topicMessageRepository;
+        pagesMetric = DistributionSummary.builder("hedera.mirror.grpc.retriever.pages")
+                .description("The number of historical pages queried per subscriber")
+                .register(meterRegistry);
         int threadCount =
                 retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
         scheduler = Schedulers.newParallel("retriever", threadCount, true);
@@ -87,11 +99,22 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         int pageSize = Math.min(limit, context.getMaxPageSize());
         var startTime = last != null ? last.getConsensusTimestamp() + 1 : filter.getStartTime();
         context.getPageSize().set(0L);
+        context.getPages().incrementAndGet();
 
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
+        Supplier<Flux<TopicMessage>> query = () -> {
+            log.debug("Executing query: {}", newFilter);
+            return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
+        };
+
+        // Only historical retrieval competes for the shared budget so gap recovery for live subscribers never waits
+        if (context.isThrottled()) {
+            return retrievalScheduler.schedule(newFilter, pageSize, query, scheduler);
+        }
 
-        log.debug("Executing query: {}", newFilter);
-        return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
+        // Gap recovery needs a replica that has imported the message that revealed the gap
+        var endTime = newFilter.getEndTime();
+        return endTime != null ? ReplicaContext.atLeast(endTime, query) : ReplicaContext.latest(query);
     }
 
     @Data
@@ -104,6 +127,7 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         private final int maxPageSize;
         private final long numRepeats;
         private final AtomicLong pageSize = new AtomicLong(0L);
+        private final AtomicLong pages = new AtomicLong(0L);
         private final Stopwatch stopwatch = Stopwatch.createStarted();
         private final AtomicLong total = new AtomicLong(0L);
 
@@ -159,6 +183,10 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
                     total,
                     stopwatch,
                     rate);
+
+            if (throttled) {
+                pagesMetric.record(pages.get());
+            }
         }
     }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.retriever;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Admits historical topic message queries through a bounded database concurrency budget shared by all subscribers.
+ * Waiting queries are ordered using start-time fair queuing across topics, with each query costing its page size, so a
+ * topic with many subscribers replaying from genesis can't starve subscribers of other topics. Queries for the same
+ * topic are admitted in arrival order and each topic is capped at a number of concurrent queries.
+ */
+@CustomLog
+@Named
+public class RetrievalScheduler {
+
+    private final Map<EntityId, Flow> flows = new HashMap<>();
+    private final RetrieverProperties retrieverProperties;
+    private final Timer waitTimer;
+    private int queued;
+    private int running;
+    private long sequence;
+    private long virtualTime;
+
+    public RetrievalScheduler(MeterRegistry meterRegistry, RetrieverProperties retrieverProperties) {
+        this.retrieverProperties = retrieverProperties;
+        Gauge.builder("hedera.mirror.grpc.retriever.queue", this, RetrievalScheduler::getQueued)
+                .description("The number of historical queries waiting for a database permit")
+                .register(meterRegistry);
+        Gauge.builder("hedera.mirror.grpc.retriever.running", this, RetrievalScheduler::getRunning)
+                .description("The number of historical queries holding a database permit")
+                .register(meterRegistry);
+        waitTimer = Timer.builder("hedera.mirror.grpc.retriever.wait")
+                .description("The time historical queries wait for a database permit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the query once it is admitted, holding its database permit until the returned publisher terminates or is
+     * cancelled.
+     *
+     * @param filter    the filter of the page being queried
+     * @param cost      the page size of the query
+     * @param query     supplies the query to run after admission
+     * @param scheduler the scheduler to run the query on
+     * @return the results of the query
+     */
+    public <T> Flux<T> schedule(TopicMessageFilter filter, long cost, Supplier<Flux<T>> query, Scheduler scheduler) {
+        if (!retrieverProperties.getScheduler().isEnabled()) {
+            return Flux.defer(query);
+        }
+
+        return Flux.usingWhen(
+                admit(filter, cost).publishOn(scheduler).doOnDiscard(Ticket.class, this::release),
+                ticket -> query.get(),
+                ticket -> Mono.fromRunnable(() -> release(ticket)));
+    }
+
+    synchronized int getQueued() {
+        return queued;
+    }
+
+    synchronized int getRunning() {
+        return running;
+    }
+
+    private Mono<Ticket> admit(TopicMessageFilter filter, long cost) {
+        return Mono.create(sink -> {
+            var ticket = new Ticket(filter, Math.max(cost, 1L), sink);
+            sink.onCancel(() -> release(ticket));
+            enqueue(ticket);
+        });
+    }
+
+    private void enqueue(Ticket ticket) {
+        List<Ticket> granted;
+
+        synchronized (this) {
+            var flow = flows.computeIfAbsent(ticket.filter.getTopicId(), k -> new Flow());
+            ticket.flow = flow;
+            ticket.sequence = sequence++;
+            ticket.startTag = Math.max(virtualTime, flow.finishTag);
+            flow.finishTag = ticket.startTag + ticket.cost;
+            flow.waiting.addLast(ticket);
+            ++queued;
+            granted = dispatch();
+        }
+
+        granted.forEach(this::grant);
+    }
+
+    private void release(Ticket ticket) {
+        List<Ticket> granted;
+
+        synchronized (this) {
+            if (ticket.state == State.WAITING) {
+                ticket.flow.waiting.remove(ticket);
+                --queued;
+            } else if (ticket.state == State.GRANTED) {
+                --ticket.flow.running;
+                --running;
+            } else {
+                return;
+            }
+
+            ticket.state = State.RELEASED;
+            granted = dispatch();
+        }
+
+        granted.forEach(this::grant);
+    }
+
+    /**
+     * Grants permits to the waiting queries with the smallest start tag among the topics under their concurrency cap,
+     * removing idle topics that no longer carry any service debt. Must be called while holding the lock.
+     */
+    private List<Ticket> dispatch() {
+        var properties = retrieverProperties.getScheduler();
+        List<Ticket> granted = new ArrayList<>();
+
+        while (running < properties.getMaxConcurrency() && queued > 0) {
+            Flow next = null;
+
+            for (var iterator = flows.values().iterator(); iterator.hasNext(); ) {
+                var flow = iterator.next();
+                var head = flow.waiting.peekFirst();
+
+                if (head == null) {
+                    if (flow.running == 0 && flow.finishTag <= virtualTime) {
+                        iterator.remove();
+                    }
+                } else if (flow.running < properties.getMaxConcurrencyPerTopic()
+                        && (next == null || isBefore(head, next.waiting.getFirst()))) {
+                    next = flow;
+                }
+            }
+
+            if (next == null) {
+                break;
+            }
+
+            var ticket = next.waiting.removeFirst();
+            ticket.state = State.GRANTED;
+            virtualTime = Math.max(virtualTime, ticket.startTag);
+            ++next.running;
+            ++running;
+            --queued;
+            granted.add(ticket);
+        }
+
+        if (running == 0 && queued == 0) {
+            flows.clear();
+            virtualTime = 0L;
+        }
+
+        return granted;
+    }
+
+    private boolean isBefore(Ticket ticket, Ticket other) {
+        return ticket.startTag < other.startTag
+                || (ticket.startTag == other.startTag && ticket.sequence < other.sequence);
+    }
+
+    private void grant(Ticket ticket) {
+        long waited = System.nanoTime() - ticket.created;
+        waitTimer.record(waited, TimeUnit.NANOSECONDS);
+        log.debug("[{}] Admitted query after waiting {} ms", ticket.filter.getSubscriberId(), waited / 1_000_000L);
+        ticket.sink.success(ticket);
+    }
+
+    private enum State {
+        WAITING,
+        GRANTED,
+        RELEASED
+    }
+
+    private static class Flow {
+        private final Deque<Ticket> waiting = new ArrayDeque<>();
+        private long finishTag;
+        private int running;
+    }
+
+    private static class Ticket {
+        private final long cost;
+        private final long created = System.nanoTime();
+        private final TopicMessageFilter filter;
+        private final MonoSink<Ticket> sink;
+        private Flow flow;
+        private long sequence;
+        private long startTag;
+        private State state = State.WAITING;
+
+        private Ticket(TopicMessageFilter filter, long cost, MonoSink<Ticket> sink) {
+            this.cost = cost;
+            this.filter = filter;
+            this.sink = sink;
+        }
+    }
+}
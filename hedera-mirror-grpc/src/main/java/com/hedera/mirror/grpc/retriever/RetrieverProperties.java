@@ -37,6 +37,9 @@ public class RetrieverProperties {
     @NotNull
     private Duration pollingFrequency = Duration.ofSeconds(2L);
 
+    @NotNull
+    private SchedulerProperties scheduler = new SchedulerProperties();
+
     @Min(1)
     private int threadMultiplier = 4;
 
@@ -46,6 +49,19 @@ public class RetrieverProperties {
     @NotNull
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class SchedulerProperties {
+
+        private boolean enabled = true;
+
+        @Min(1)
+        private int maxConcurrency = 25;
+
+        @Min(1)
+        private int maxConcurrencyPerTopic = 5;
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
@@ -43,14 +43,10 @@ public class AddressBookProperties {
     @Min(0)
     private long nodeStakeCacheSize = 5L;
 
-    @DurationMin(millis = 100L)
-    @NotNull
-    private Duration maxPageDelay = Duration.ofMillis(250L);
+    @Min(1)
+    private int pageSize = 10;
 
     @DurationMin(millis = 100L)
     @NotNull
-    private Duration minPageDelay = Duration.ofMillis(100L);
-
-    @Min(1)
-    private int pageSize = 10;
+    private Duration refreshInterval = Duration.ofSeconds(10L);
 }
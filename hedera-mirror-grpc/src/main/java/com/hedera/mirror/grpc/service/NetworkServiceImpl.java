@@ -16,6 +16,14 @@
 
 package com.hedera.mirror.grpc.service;
 
+import static com.hedera.mirror.grpc.config.CacheConfiguration.ADDRESS_BOOK_SNAPSHOT_CACHE;
+import static com.hedera.mirror.grpc.config.CacheConfiguration.CACHE_NAME;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.grpc.domain.AddressBookFilter;
@@ -24,27 +32,26 @@ import com.hedera.mirror.grpc.repository.AddressBookEntryRepository;
 import com.hedera.mirror.grpc.repository.AddressBookRepository;
 import com.hedera.mirror.grpc.repository.NodeStakeRepository;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
-import reactor.retry.Jitter;
-import reactor.retry.Repeat;
 
+/**
+ * Serves the nodes of the address book from an in-memory snapshot per address book file. The snapshot is built once
+ * from the latest address book and node stakes and then shared by all callers, so clients reconnecting en masse don't
+ * query the database. The latest timestamps are checked in the background every refresh interval and the snapshot is
+ * only rebuilt when the address book or the node stakes change.
+ */
 @CustomLog
 @Named
-@RequiredArgsConstructor
 @Validated
 public class NetworkServiceImpl implements NetworkService {
 
@@ -57,10 +64,30 @@ public class NetworkServiceImpl implements NetworkService {
     private final AddressBookRepository addressBookRepository;
     private final AddressBookEntryRepository addressBookEntryRepository;
     private final NodeStakeRepository nodeStakeRepository;
-
-    @Qualifier("readOnly")
+    private final LoadingCache<EntityId, AddressBookSnapshot> snapshots;
     private final TransactionOperations transactionOperations;
 
+    @SuppressWarnings("unchecked")
+    public NetworkServiceImpl(
+            AddressBookProperties addressBookProperties,
+            AddressBookRepository addressBookRepository,
+            AddressBookEntryRepository addressBookEntryRepository,
+            NodeStakeRepository nodeStakeRepository,
+            @Qualifier(ADDRESS_BOOK_SNAPSHOT_CACHE) CaffeineCacheManager addressBookSnapshotCache,
+            @Qualifier("readOnly") TransactionOperations transactionOperations) {
+        this.addressBookProperties = addressBookProperties;
+        this.addressBookRepository = addressBookRepository;
+        this.addressBookEntryRepository = addressBookEntryRepository;
+        this.nodeStakeRepository = nodeStakeRepository;
+        this.transactionOperations = transactionOperations;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(VALID_FILE_IDS.size())
+                .refreshAfterWrite(addressBookProperties.getRefreshInterval())
+                .recordStats()
+                .build(new SnapshotLoader());
+        addressBookSnapshotCache.registerCustomCache(CACHE_NAME, (Cache<Object, Object>) (Cache<?, ?>) snapshots);
+    }
+
     @Override
     public Flux<AddressBookEntry> getNodes(AddressBookFilter filter) {
         var fileId = filter.getFileId();
@@ -68,80 +95,77 @@ public class NetworkServiceImpl implements NetworkService {
             throw new IllegalArgumentException(INVALID_FILE_ID);
         }
 
+        var entries = snapshots.get(fileId).getEntries();
+        var nodes = filter.getLimit() > 0 ? entries.subList(0, Math.min(filter.getLimit(), entries.size())) : entries;
+
+        return Flux.fromIterable(nodes)
+                .doOnSubscribe(s -> log.info("Querying for address book: {}", filter))
+                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", nodes.size()));
+    }
+
+    private AddressBookSnapshot load(EntityId fileId, AddressBookSnapshot previous) {
         long addressBookTimestamp = addressBookRepository
                 .findLatestTimestamp(fileId.getId())
                 .orElseThrow(() -> new EntityNotFoundException(fileId));
         long nodeStakeTimestamp = nodeStakeRepository.findLatestTimestamp().orElse(NODE_STAKE_EMPTY_TABLE_TIMESTAMP);
-        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
-        var context = new AddressBookContext(addressBookTimestamp, nodeStakeMap);
-
-        return Flux.defer(() -> page(context))
-                .repeatWhen(Repeat.onlyIf(c -> !context.isComplete())
-                        .randomBackoff(addressBookProperties.getMinPageDelay(), addressBookProperties.getMaxPageDelay())
-                        .jitter(Jitter.random())
-                        .withBackoffScheduler(Schedulers.parallel()))
-                .take(filter.getLimit() > 0 ? filter.getLimit() : Long.MAX_VALUE)
-                .doOnNext(context::onNext)
-                .doOnSubscribe(s -> log.info("Querying for address book: {}", filter))
-                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", context.getCount()));
-    }
 
-    private Flux<AddressBookEntry> page(AddressBookContext context) {
-        return transactionOperations.execute(t -> {
-            var addressBookTimestamp = context.getAddressBookTimestamp();
-            var nodeStakeMap = context.getNodeStakeMap();
-            var nextNodeId = context.getNextNodeId();
-            var pageSize = addressBookProperties.getPageSize();
-            var nodes = addressBookEntryRepository.findByConsensusTimestampAndNodeId(
-                    addressBookTimestamp, nextNodeId, pageSize);
-            var endpoints = new AtomicInteger(0);
-
-            nodes.forEach(node -> {
-                // Override node stake
-                node.setStake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L));
-                // This hack ensures that the nested serviceEndpoints is loaded eagerly and voids lazy init exceptions
-                endpoints.addAndGet(node.getServiceEndpoints().size());
-            });
-
-            if (nodes.size() < pageSize) {
-                context.completed();
-            }
-
-            log.info(
-                    "Retrieved {} address book entries and {} endpoints for timestamp {} and node ID {}",
-                    nodes.size(),
-                    endpoints,
-                    addressBookTimestamp,
-                    nextNodeId);
-            return Flux.fromIterable(nodes);
+        if (previous != null
+                && previous.getAddressBookTimestamp() == addressBookTimestamp
+                && previous.getNodeStakeTimestamp() == nodeStakeTimestamp) {
+            return previous;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
+        var pageSize = addressBookProperties.getPageSize();
+        var entries = new ArrayList<AddressBookEntry>();
+
+        transactionOperations.executeWithoutResult(t -> {
+            List<AddressBookEntry> nodes;
+            long nextNodeId = 0L;
+
+            do {
+                nodes = addressBookEntryRepository.findByConsensusTimestampAndNodeId(
+                        addressBookTimestamp, nextNodeId, pageSize);
+
+                for (var node : nodes) {
+                    // Override node stake
+                    node.setStake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L));
+                    // This hack ensures that the nested serviceEndpoints is loaded eagerly and voids lazy init errors
+                    node.getServiceEndpoints().size();
+                    entries.add(node);
+                    nextNodeId = node.getNodeId() + 1;
+                }
+            } while (nodes.size() >= pageSize);
         });
+
+        log.info(
+                "Built snapshot of address book {} with {} nodes for timestamp {} and stake timestamp {} in {}",
+                fileId,
+                entries.size(),
+                addressBookTimestamp,
+                nodeStakeTimestamp,
+                stopwatch);
+        return new AddressBookSnapshot(addressBookTimestamp, nodeStakeTimestamp, List.copyOf(entries));
     }
 
     @Value
-    private static class AddressBookContext {
-
-        private final AtomicBoolean complete = new AtomicBoolean(false);
-        private final AtomicLong count = new AtomicLong(0L);
-        private final AtomicReference<AddressBookEntry> last = new AtomicReference<>();
+    private static class AddressBookSnapshot {
         private final long addressBookTimestamp;
-        private final Map<Long, Long> nodeStakeMap;
-
-        void onNext(AddressBookEntry entry) {
-            count.incrementAndGet();
-            last.set(entry);
-        }
+        private final long nodeStakeTimestamp;
+        private final List<AddressBookEntry> entries;
+    }
 
-        long getNextNodeId() {
-            AddressBookEntry entry = last.get();
-            return entry != null ? entry.getNodeId() + 1 : 0L;
-        }
+    private class SnapshotLoader implements CacheLoader<EntityId, AddressBookSnapshot> {
 
-        boolean isComplete() {
-            return complete.get();
+        @Override
+        public AddressBookSnapshot load(EntityId fileId) {
+            return NetworkServiceImpl.this.load(fileId, null);
         }
 
-        void completed() {
-            complete.set(true);
+        @Override
+        public AddressBookSnapshot reload(EntityId fileId, AddressBookSnapshot previous) {
+            return NetworkServiceImpl.this.load(fileId, previous);
         }
     }
 }
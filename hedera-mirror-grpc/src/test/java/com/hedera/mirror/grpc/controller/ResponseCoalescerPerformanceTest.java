@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.api.proto.ConsensusServiceGrpc;
+import com.hedera.mirror.api.proto.ConsensusTopicQuery;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.util.Benchmark;
+import com.hedera.mirror.grpc.service.TopicMessageService;
+import com.hederahashgraph.api.proto.java.TopicID;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streams historical backlogs to a subscriber over an in-process gRPC channel with and without response coalescing and
+ * compares the message throughput. The in-process transport has no socket, so this measures the CPU cost of the stream
+ * only and not the number of flushes or socket writes.
+ */
+@CustomLog
+@EnabledIf(expression = "${hedera.mirror.grpc.test.performance.enabled:false}")
+@Tag("performance")
+class ResponseCoalescerPerformanceTest {
+
+    private static final int ITERATIONS = 20;
+    private static final int MESSAGES = 10_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+
+    @Test
+    void subscribeTopic() throws Exception {
+        var uncoalesced = benchmark("uncoalesced", false);
+        var coalesced = benchmark("coalesced", true);
+        log.info("Coalesced subscriber received messages {}x as fast", String.format("%.2f", coalesced / uncoalesced));
+    }
+
+    private double benchmark(String name, boolean enabled) throws Exception {
+        var meterRegistry = new SimpleMeterRegistry();
+        var properties = new CoalescingProperties();
+        properties.setEnabled(enabled);
+        TopicMessageService topicMessageService =
+                filter -> Flux.range(1, (int) filter.getLimit()).map(this::topicMessage);
+        var controller =
+                new ConsensusController(new ResponseCoalescer(properties, meterRegistry), topicMessageService);
+        var server = InProcessServerBuilder.forName(name)
+                .addService(controller)
+                .build()
+                .start();
+        var channel = InProcessChannelBuilder.forName(name).build();
+
+        try {
+            var stub = ConsensusServiceGrpc.newBlockingStub(channel);
+            var benchmark = new Benchmark(name, WARMUP_ITERATIONS, ITERATIONS);
+            double rate = benchmark.run(i -> subscribe(stub)).rate() * MESSAGES;
+            log.info("Streamed {} messages at {} messages/s", name, (long) rate);
+            return rate;
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private int subscribe(ConsensusServiceGrpc.ConsensusServiceBlockingStub stub) {
+        var query = ConsensusTopicQuery.newBuilder()
+                .setLimit(MESSAGES)
+                .setTopicID(TopicID.newBuilder().setTopicNum(TOPIC_ID.getNum()))
+                .build();
+        var responses = stub.subscribeTopic(query);
+        int count = 0;
+        while (responses.hasNext()) {
+            responses.next();
+            count++;
+        }
+        assertThat(count).isEqualTo(MESSAGES);
+        return count;
+    }
+
+    private TopicMessage topicMessage(int sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(sequenceNumber)
+                .message(new byte[256])
+                .runningHash(new byte[48])
+                .runningHashVersion(3)
+                .sequenceNumber(sequenceNumber)
+                .topicId(TOPIC_ID)
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import com.hedera.mirror.api.proto.ConsensusTopicResponse;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.grpc.util.ProtoUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class ResponseCoalescerTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5L);
+
+    private CoalescingProperties properties;
+    private MeterRegistry meterRegistry;
+    private ResponseCoalescer responseCoalescer;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new CoalescingProperties();
+        properties.setMaxMessages(3);
+        responseCoalescer = new ResponseCoalescer(properties, meterRegistry);
+    }
+
+    @Test
+    void disabled() {
+        properties.setEnabled(false);
+        var responses = Flux.just(response(1L));
+        assertThat(responseCoalescer.coalesce(responses)).isSameAs(responses);
+    }
+
+    @Test
+    void live() {
+        var sink = Sinks.many().unicast().<ConsensusTopicResponse>onBackpressureBuffer();
+        var live1 = response(DomainUtils.now());
+        var live2 = response(DomainUtils.now());
+
+        StepVerifier.create(responseCoalescer.coalesce(sink.asFlux()))
+                .expectSubscription()
+                .then(() -> sink.tryEmitNext(live1))
+                .expectNext(live1)
+                .then(() -> sink.tryEmitNext(live2))
+                .expectNext(live2)
+                .then(sink::tryEmitComplete)
+                .expectComplete()
+                .verify(WAIT);
+
+        assertBatches(2L, 2.0);
+    }
+
+    @Test
+    void maxMessages() {
+        var sink = Sinks.many().unicast().<ConsensusTopicResponse>onBackpressureBuffer();
+        var response1 = response(1L);
+        var response2 = response(2L);
+        var response3 = response(3L);
+
+        StepVerifier.create(responseCoalescer.coalesce(sink.asFlux()))
+                .expectSubscription()
+                .then(() -> sink.tryEmitNext(response1))
+                .then(() -> sink.tryEmitNext(response2))
+                .expectNoEvent(Duration.ofMillis(1L))
+                .then(() -> sink.tryEmitNext(response3))
+                .expectNext(response1, response2, response3)
+                .thenCancel()
+                .verify(WAIT);
+
+        assertBatches(1L, 3.0);
+    }
+
+    @Test
+    void maxBytes() {
+        properties.setMaxBytes(1024);
+        var sink = Sinks.many().unicast().<ConsensusTopicResponse>onBackpressureBuffer();
+        var response1 = response(1L, 600);
+        var response2 = response(2L, 600);
+
+        StepVerifier.create(responseCoalescer.coalesce(sink.asFlux()))
+                .expectSubscription()
+                .then(() -> sink.tryEmitNext(response1))
+                .expectNoEvent(Duration.ofMillis(1L))
+                .then(() -> sink.tryEmitNext(response2))
+                .expectNext(response1, response2)
+                .thenCancel()
+                .verify(WAIT);
+
+        assertBatches(1L, 2.0);
+    }
+
+    @Test
+    void maxLatency() {
+        var sink = Sinks.many().unicast().<ConsensusTopicResponse>onBackpressureBuffer();
+        var response = response(1L);
+
+        StepVerifier.withVirtualTime(() -> responseCoalescer.coalesce(sink.asFlux()))
+                .expectSubscription()
+                .then(() -> sink.tryEmitNext(response))
+                .expectNoEvent(properties.getMaxLatency().minusMillis(1L))
+                .thenAwait(Duration.ofMillis(1L))
+                .expectNext(response)
+                .thenCancel()
+                .verify(WAIT);
+
+        assertBatches(1L, 1.0);
+    }
+
+    @Test
+    void complete() {
+        properties.setMaxMessages(256);
+        var responses = Flux.range(1, 10).map(this::response).collectList().block();
+
+        StepVerifier.create(responseCoalescer.coalesce(Flux.fromIterable(responses)))
+                .expectNextSequence(responses)
+                .expectComplete()
+                .verify(WAIT);
+
+        assertBatches(1L, 10.0);
+    }
+
+    @Test
+    void error() {
+        var response = response(1L);
+        var responses = Flux.just(response).concatWith(Flux.error(new IllegalStateException("error")));
+
+        StepVerifier.create(responseCoalescer.coalesce(responses))
+                .expectNext(response)
+                .expectError(IllegalStateException.class)
+                .verify(WAIT);
+    }
+
+    @Test
+    void backpressure() {
+        var requested = new AtomicLong();
+        var responses = Flux.range(1, 100).map(this::response).doOnRequest(requested::addAndGet);
+
+        StepVerifier.create(responseCoalescer.coalesce(responses), 0L)
+                .thenRequest(2L)
+                .expectNextCount(2L)
+                .expectNoEvent(Duration.ofMillis(20L))
+                .thenCancel()
+                .verify(WAIT);
+
+        assertThat(requested).hasValue(2L + properties.getMaxMessages());
+    }
+
+    private void assertBatches(long count, double total) {
+        var batches = meterRegistry.get("hedera.mirror.grpc.coalescing.batch").summary();
+        assertThat(batches.count()).isEqualTo(count);
+        assertThat(batches.totalAmount()).isEqualTo(total);
+    }
+
+    private ConsensusTopicResponse response(long consensusTimestamp) {
+        return response(consensusTimestamp, 32);
+    }
+
+    // A timestamp near the epoch is always far enough in the past for the subscriber to be catching up
+    private ConsensusTopicResponse response(long consensusTimestamp, int messageSize) {
+        return ConsensusTopicResponse.newBuilder()
+                .setConsensusTimestamp(ProtoUtil.toTimestamp(consensusTimestamp))
+                .setMessage(ByteString.copyFrom(new byte[messageSize]))
+                .build();
+    }
+}
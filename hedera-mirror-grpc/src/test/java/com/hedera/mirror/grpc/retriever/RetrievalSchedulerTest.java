@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.retriever;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+class RetrievalSchedulerTest {
+
+    private static final EntityId TOPIC_ID1 = EntityId.of(100L);
+    private static final EntityId TOPIC_ID2 = EntityId.of(101L);
+
+    private final List<String> started = new ArrayList<>();
+    private final List<Sinks.Many<String>> queries = new ArrayList<>();
+
+    private MeterRegistry meterRegistry;
+    private RetrieverProperties retrieverProperties;
+    private RetrievalScheduler retrievalScheduler;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        retrieverProperties = new RetrieverProperties();
+        retrieverProperties.getScheduler().setMaxConcurrency(1);
+        retrievalScheduler = new RetrievalScheduler(meterRegistry, retrieverProperties);
+    }
+
+    @Test
+    void disabled() {
+        retrieverProperties.getScheduler().setEnabled(false);
+        schedule(TOPIC_ID1, "a1");
+        schedule(TOPIC_ID1, "a2");
+        assertThat(started).containsExactly("a1", "a2");
+        assertThat(retrievalScheduler.getRunning()).isZero();
+    }
+
+    @Test
+    void maxConcurrency() {
+        schedule(TOPIC_ID1, "a1");
+        schedule(TOPIC_ID2, "b1");
+        assertThat(started).containsExactly("a1");
+        assertThat(retrievalScheduler.getQueued()).isOne();
+        assertThat(retrievalScheduler.getRunning()).isOne();
+
+        complete(0);
+        assertThat(started).containsExactly("a1", "b1");
+        assertThat(retrievalScheduler.getQueued()).isZero();
+
+        complete(1);
+        assertThat(retrievalScheduler.getRunning()).isZero();
+        assertThat(meterRegistry.timer("hedera.mirror.grpc.retriever.wait").count()).isEqualTo(2L);
+        assertThat(meterRegistry.get("hedera.mirror.grpc.retriever.queue").gauge().value()).isZero();
+    }
+
+    @Test
+    void maxConcurrencyPerTopic() {
+        retrieverProperties.getScheduler().setMaxConcurrency(3);
+        retrieverProperties.getScheduler().setMaxConcurrencyPerTopic(2);
+        schedule(TOPIC_ID1, "a1");
+        schedule(TOPIC_ID1, "a2");
+        schedule(TOPIC_ID1, "a3");
+        schedule(TOPIC_ID2, "b1");
+        assertThat(started).containsExactly("a1", "a2", "b1");
+
+        complete(1);
+        assertThat(started).containsExactly("a1", "a2", "b1", "a3");
+    }
+
+    @Test
+    void fairAcrossTopics() {
+        schedule(TOPIC_ID1, "a1");
+        schedule(TOPIC_ID1, "a2");
+        schedule(TOPIC_ID1, "a3");
+        schedule(TOPIC_ID2, "b1");
+        schedule(TOPIC_ID2, "b2");
+
+        for (int i = 0; i < 5; i++) {
+            complete(i);
+        }
+
+        assertThat(started).containsExactly("a1", "b1", "a2", "b2", "a3");
+        assertThat(retrievalScheduler.getRunning()).isZero();
+    }
+
+    @Test
+    void cancelWaiting() {
+        schedule(TOPIC_ID1, "a1");
+        var waiting = schedule(TOPIC_ID2, "b1");
+        schedule(TOPIC_ID2, "b2");
+        assertThat(retrievalScheduler.getQueued()).isEqualTo(2);
+
+        waiting.dispose();
+        assertThat(retrievalScheduler.getQueued()).isOne();
+
+        complete(0);
+        assertThat(started).containsExactly("a1", "b2");
+    }
+
+    @Test
+    void cancelRunning() {
+        var running = schedule(TOPIC_ID1, "a1");
+        schedule(TOPIC_ID2, "b1");
+
+        running.dispose();
+        assertThat(started).containsExactly("a1", "b1");
+        assertThat(retrievalScheduler.getRunning()).isOne();
+        assertThat(retrievalScheduler.getQueued()).isZero();
+    }
+
+    private Disposable schedule(EntityId topicId, String name) {
+        var filter = TopicMessageFilter.builder().topicId(topicId).build();
+        return retrievalScheduler.schedule(filter, 100L, () -> query(name), Schedulers.immediate()).subscribe();
+    }
+
+    private Flux<String> query(String name) {
+        Sinks.Many<String> sink = Sinks.many().unicast().onBackpressureBuffer();
+        started.add(name);
+        queries.add(sink);
+        return sink.asFlux();
+    }
+
+    private void complete(int index) {
+        queries.get(index).tryEmitComplete();
+    }
+}
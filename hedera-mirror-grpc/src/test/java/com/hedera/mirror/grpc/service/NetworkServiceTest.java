@@ -16,10 +16,13 @@
 
 package com.hedera.mirror.grpc.service;
 
+import static com.hedera.mirror.grpc.config.CacheConfiguration.ADDRESS_BOOK_SNAPSHOT_CACHE;
+import static com.hedera.mirror.grpc.config.CacheConfiguration.CACHE_NAME;
 import static com.hedera.mirror.grpc.service.NetworkServiceImpl.INVALID_FILE_ID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.hedera.mirror.common.domain.DomainBuilder;
 import com.hedera.mirror.common.domain.addressbook.AddressBook;
 import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
@@ -37,6 +40,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import reactor.test.StepVerifier;
 
 class NetworkServiceTest extends GrpcIntegrationTest {
@@ -59,6 +65,10 @@ class NetworkServiceTest extends GrpcIntegrationTest {
     @Resource
     private NetworkService networkService;
 
+    @Autowired
+    @Qualifier(ADDRESS_BOOK_SNAPSHOT_CACHE)
+    private CacheManager addressBookSnapshotCache;
+
     private int pageSize;
 
     @BeforeEach
@@ -234,10 +244,65 @@ class NetworkServiceTest extends GrpcIntegrationTest {
         assertThat(getNodes(filter)).containsExactly(addressBookEntry);
     }
 
+    @Test
+    void refreshWhenAddressBookChanges() {
+        var addressBook = addressBook();
+        var addressBookEntry1 = addressBookEntry();
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry1);
+
+        var newTimestamp = CONSENSUS_TIMESTAMP + 1;
+        domainBuilder
+                .addressBook()
+                .customize(a -> a.fileId(addressBook.getFileId()).startConsensusTimestamp(newTimestamp))
+                .persist();
+        var addressBookEntry2 = domainBuilder
+                .addressBookEntry()
+                .customize(a -> a.consensusTimestamp(newTimestamp))
+                .persist();
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry1);
+
+        refresh(addressBook.getFileId());
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry2);
+    }
+
+    @Test
+    void refreshWhenNodeStakeChanges() {
+        var addressBook = addressBook();
+        var addressBookEntry = addressBookEntry(10L);
+        addressBookEntry.setStake(0L);
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry);
+
+        nodeStake(addressBookEntry.getNodeId(), 100L);
+        addressBookEntry.setStake(100L);
+        refresh(addressBook.getFileId());
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry);
+    }
+
+    @Test
+    void refreshWhenUnchanged() {
+        var addressBook = addressBook();
+        var addressBookEntry1 = addressBookEntry();
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+        var nodes = getNodes(filter);
+        assertThat(nodes).containsExactly(addressBookEntry1);
+
+        addressBookEntry();
+        refresh(addressBook.getFileId());
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry1).first().isSameAs(nodes.getFirst());
+    }
+
     private List<AddressBookEntry> getNodes(AddressBookFilter filter) {
         return networkService.getNodes(filter).collectList().block(Duration.ofMillis(1000L));
     }
 
+    @SuppressWarnings("unchecked")
+    private void refresh(EntityId fileId) {
+        var cache = (CaffeineCache) addressBookSnapshotCache.getCache(CACHE_NAME);
+        ((LoadingCache<Object, Object>) cache.getNativeCache()).refresh(fileId).join();
+    }
+
     private AddressBook addressBook() {
         return domainBuilder
                 .addressBook()
@@ -69,3 +69,21 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:postgresql")
 }
+
+// Rerun the parser tests with the current state cache enabled so they also verify its final state
+val currentStateCacheTest =
+    tasks.register<Test>("currentStateCacheTest") {
+        description = "Runs the parser tests with the current state cache enabled."
+        group = "verification"
+        classpath = sourceSets.test.get().runtimeClasspath
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        val packageName = "com.hedera.mirror.importer.parser.record.entity"
+        filter {
+            includeTestsMatching("$packageName.EntityRecordItemListener*Test")
+            includeTestsMatching("$packageName.sql.SqlEntityListenerTest")
+        }
+        systemProperty("hedera.mirror.importer.parser.current-state-cache.enabled", "true")
+        shouldRunAfter(tasks.test)
+    }
+
+tasks.check { dependsOn(currentStateCacheTest) }
@@ -18,9 +18,12 @@ package com.hedera.mirror.importer.config;
 
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.StreamSourceProperties;
+import com.hedera.mirror.importer.downloader.provider.CachingStreamFileProvider;
 import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProperties;
 import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProvider;
 import com.hedera.mirror.importer.downloader.provider.S3StreamFileProvider;
+import com.hedera.mirror.importer.downloader.provider.StreamFileCache;
+import com.hedera.mirror.importer.downloader.provider.StreamFileCacheProperties;
 import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
 import java.net.URI;
 import java.time.Duration;
@@ -52,20 +55,26 @@ class CloudStorageConfiguration {
 
     private final CommonDownloaderProperties commonDownloaderProperties;
     private final LocalStreamFileProperties localProperties;
+    private final StreamFileCacheProperties cacheProperties;
     private final MetricsExecutionInterceptor metricsExecutionInterceptor;
 
     @Bean
     List<StreamFileProvider> streamFileProviders() {
         log.info("Configured to download from bucket {}", commonDownloaderProperties.getBucketName());
+        var cache = streamFileCache();
         var providers = new ArrayList<StreamFileProvider>();
 
         for (var source : commonDownloaderProperties.getSources()) {
-            var provider =
+            StreamFileProvider provider =
                     switch (source.getType()) {
                         case LOCAL -> new LocalStreamFileProvider(commonDownloaderProperties, localProperties);
                         case GCP, S3 -> new S3StreamFileProvider(commonDownloaderProperties, s3Client(source));
                     };
 
+            if (cache != null) {
+                provider = new CachingStreamFileProvider(cache, commonDownloaderProperties, provider);
+            }
+
             providers.add(provider);
         }
 
@@ -89,6 +98,20 @@ class CloudStorageConfiguration {
         return DefaultCredentialsProvider.create();
     }
 
+    private StreamFileCache streamFileCache() {
+        if (!cacheProperties.isEnabled()) {
+            return null;
+        }
+
+        var path = cacheProperties.getPath();
+        if (path == null) {
+            path = commonDownloaderProperties.getImporterProperties().getDataPath().resolve("cache");
+        }
+
+        log.info("Caching stream files in {} up to {} bytes", path, cacheProperties.getMaxSize());
+        return new StreamFileCache(path, cacheProperties.getMaxSize(), cacheProperties.getMaxAge());
+    }
+
     private S3AsyncClient s3Client(StreamSourceProperties sourceProperties) {
         var httpClient = NettyNioAsyncHttpClient.builder()
                 .connectionTimeout(sourceProperties.getConnectionTimeout())
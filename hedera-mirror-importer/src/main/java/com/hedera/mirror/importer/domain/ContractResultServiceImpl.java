@@ -30,6 +30,7 @@ import com.hedera.mirror.common.domain.transaction.Transaction;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.common.exception.InvalidEntityException;
 import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.common.util.EvmWordCodec;
 import com.hedera.mirror.importer.migration.SidecarContractMigration;
 import com.hedera.mirror.importer.parser.record.entity.EntityListener;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
@@ -50,6 +51,7 @@ import java.util.Optional;
 import lombok.CustomLog;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.ArrayUtils;
 
 @CustomLog
 @Named
@@ -201,6 +203,10 @@ public class ContractResultServiceImpl implements ContractResultService {
         contractAction.setResultDataType(action.getResultDataCase().getNumber());
         contractAction.setValue(action.getValue());
 
+        if (entityProperties.getPersist().isCompactSidecars()) {
+            compact(contractAction);
+        }
+
         entityListener.onContractAction(contractAction);
 
         recordItem.addEntityId(contractAction.getCaller());
@@ -208,6 +214,23 @@ public class ContractResultServiceImpl implements ContractResultService {
         recordItem.addEntityId(contractAction.getRecipientContract());
     }
 
+    /**
+     * Switches the action to the compact encoding if it makes its input and result data smaller. Both are encoded
+     * together so that readers only need a single flag per row.
+     */
+    private void compact(com.hedera.mirror.common.domain.contract.ContractAction contractAction) {
+        var input = contractAction.getInput();
+        var resultData = contractAction.getResultData();
+        int rawLength = ArrayUtils.getLength(input) + ArrayUtils.getLength(resultData);
+        int compactLength = EvmWordCodec.compactLength(input) + EvmWordCodec.compactLength(resultData);
+
+        if (compactLength < rawLength) {
+            contractAction.setCompact(true);
+            contractAction.setInput(EvmWordCodec.compact(input));
+            contractAction.setResultData(EvmWordCodec.compact(resultData));
+        }
+    }
+
     private void processContractResult(
             final RecordItem recordItem,
             final EntityId contractEntityId,
@@ -328,13 +351,13 @@ public class ContractResultServiceImpl implements ContractResultService {
             contractStateChange.setMigration(migration);
             contractStateChange.setPayerAccountId(payerAccountId);
             contractStateChange.setSlot(DomainUtils.toBytes(storageChange.getSlot()));
-            contractStateChange.setValueRead(DomainUtils.toBytes(storageChange.getValueRead()));
+            contractStateChange.setValueRead(compactValue(DomainUtils.toBytes(storageChange.getValueRead())));
 
             // If a value of zero is written the valueWritten will be present but the inner value will be
             // absent. If a value was read and not written this value will not be present.
             if (storageChange.hasValueWritten()) {
                 contractStateChange.setValueWritten(
-                        DomainUtils.toBytes(storageChange.getValueWritten().getValue()));
+                        compactValue(DomainUtils.toBytes(storageChange.getValueWritten().getValue())));
             }
 
             entityListener.onContractStateChange(contractStateChange);
@@ -344,6 +367,14 @@ public class ContractResultServiceImpl implements ContractResultService {
         recordItem.addEntityId(contractId);
     }
 
+    /**
+     * Readers treat storage values as 256-bit numbers, so their leading zeros can be stripped without a flag. The slot
+     * is left as is since it is a lookup key of both contract_state and contract_state_change.
+     */
+    private byte[] compactValue(byte[] value) {
+        return entityProperties.getPersist().isCompactSidecars() ? DomainUtils.trimLeadingZeros(value) : value;
+    }
+
     @SuppressWarnings("deprecation")
     private List<Long> getCreatedContractIds(
             ContractFunctionResult functionResult, RecordItem recordItem, EntityId parentEntityContractId) {
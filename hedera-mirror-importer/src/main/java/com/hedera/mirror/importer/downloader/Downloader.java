@@ -339,13 +339,21 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
 
             try {
                 var dataFilename = signature.getDataFilename();
+                var fileHash = signature.getFileHashAsHex();
                 var node = signature.getNode();
                 var streamFileData = Objects.requireNonNull(
-                        streamFileProvider.get(node, dataFilename).block());
+                        streamFileProvider.get(node, dataFilename, fileHash).block());
                 T streamFile = streamFileReader.read(streamFileData);
                 streamFile.setNodeId(nodeId);
 
-                verify(streamFile, signature);
+                try {
+                    verify(streamFile, signature);
+                } catch (HashMismatchException e) {
+                    streamFileProvider.verified(node, dataFilename, fileHash, false);
+                    throw e;
+                }
+
+                streamFileProvider.verified(node, dataFilename, fileHash, true);
 
                 if (downloaderProperties.isWriteFiles()) {
                     Utility.archiveFile(
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import com.hedera.mirror.importer.addressbook.ConsensusNode;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorates a stream file provider with a local disk cache so reprocessing a range of stream files doesn't download
+ * them again. Files are served from the cache when present and fetched from the origin provider otherwise. Files
+ * requested with an expected hash are only served from the cache once the downloader verified them against that hash.
+ * A listing is only cached once it returned a full batch, since a partial batch may grow as new files are uploaded.
+ */
+@CustomLog
+@RequiredArgsConstructor
+public class CachingStreamFileProvider implements StreamFileProvider {
+
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String KEY_SEPARATOR = "/";
+
+    private final StreamFileCache cache;
+    private final CommonDownloaderProperties properties;
+    private final StreamFileProvider provider;
+
+    @Override
+    public Mono<StreamFileData> get(ConsensusNode node, StreamFilename streamFilename) {
+        return get(node, streamFilename, null);
+    }
+
+    @Override
+    public Mono<StreamFileData> get(ConsensusNode node, StreamFilename streamFilename, String hash) {
+        var key = getKey(node, streamFilename);
+        return Mono.defer(() -> cache.get(key, hash)
+                .map(c -> Mono.just(new StreamFileData(streamFilename, c::bytes, c.lastModified())))
+                .orElseGet(() -> provider.get(node, streamFilename, hash).doOnNext(d -> put(key, d))));
+    }
+
+    @Override
+    public Flux<StreamFileData> list(ConsensusNode node, StreamFilename lastFilename) {
+        var listingKey = getListingKey(node, lastFilename);
+        return Flux.defer(() -> {
+            int batchSize = properties.getBatchSize();
+            var cached = getCachedListing(node, listingKey, batchSize);
+            if (cached != null) {
+                log.debug("Listed {} cached files for node {} after {}", cached.size(), node, lastFilename);
+                return Flux.fromIterable(cached);
+            }
+
+            var listing = new ArrayList<String>();
+            return provider.list(node, lastFilename)
+                    .doOnNext(d -> {
+                        put(getKey(node, d.getStreamFilename()), d);
+                        listing.add(serialize(d.getStreamFilename()));
+                    })
+                    .doOnComplete(() -> {
+                        if (listing.size() >= batchSize) {
+                            cache.putListing(listingKey, listing);
+                        }
+                    });
+        });
+    }
+
+    @Override
+    public void verified(ConsensusNode node, StreamFilename streamFilename, String hash, boolean valid) {
+        cache.verified(getKey(node, streamFilename), hash, valid);
+        provider.verified(node, streamFilename, hash, valid);
+    }
+
+    private List<StreamFileData> getCachedListing(ConsensusNode node, String listingKey, int batchSize) {
+        var listing = cache.getListing(listingKey).orElse(List.of());
+        if (listing.size() < batchSize) {
+            return null;
+        }
+
+        var files = new ArrayList<StreamFileData>(batchSize);
+        for (var line : listing.subList(0, batchSize)) {
+            var streamFilename = deserialize(line);
+            var cachedFile = cache.get(getKey(node, streamFilename), null);
+            if (cachedFile.isEmpty()) {
+                return null;
+            }
+
+            var c = cachedFile.get();
+            files.add(new StreamFileData(streamFilename, c::bytes, c.lastModified()));
+        }
+
+        return files;
+    }
+
+    private String getKey(ConsensusNode node, StreamFilename streamFilename) {
+        var filePath = StringUtils.replace(streamFilename.getFilePath(), streamFilename.getPathSeparator(), "_");
+        return String.join(KEY_SEPARATOR, String.valueOf(node.getNodeId()), filePath);
+    }
+
+    private String getListingKey(ConsensusNode node, StreamFilename lastFilename) {
+        var streamType = lastFilename.getStreamType().name();
+        var filenameAfter = lastFilename.getFilenameAfter();
+        return String.join(KEY_SEPARATOR, String.valueOf(node.getNodeId()), streamType, filenameAfter);
+    }
+
+    private void put(String key, StreamFileData streamFileData) {
+        cache.put(key, streamFileData.getBytes(), streamFileData.getLastModified());
+    }
+
+    private StreamFilename deserialize(String line) {
+        var fields = StringUtils.splitPreserveAllTokens(line, FIELD_SEPARATOR);
+        return StreamFilename.from(StringUtils.defaultIfEmpty(fields[0], null), fields[1], fields[2]);
+    }
+
+    private String serialize(StreamFilename streamFilename) {
+        return String.join(
+                FIELD_SEPARATOR,
+                StringUtils.defaultString(streamFilename.getPath()),
+                streamFilename.getFilename(),
+                streamFilename.getPathSeparator());
+    }
+}
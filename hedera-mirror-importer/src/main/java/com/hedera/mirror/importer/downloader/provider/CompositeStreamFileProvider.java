@@ -63,6 +63,14 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
                 .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index))));
     }
 
+    @Override
+    public Mono<StreamFileData> get(ConsensusNode consensusNode, StreamFilename streamFilename, String hash) {
+        var index = new AtomicInteger(0);
+        return Mono.fromSupplier(() -> getProvider(index))
+                .flatMap(p -> p.get(consensusNode, streamFilename, hash))
+                .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index))));
+    }
+
     @Override
     public Flux<StreamFileData> list(ConsensusNode consensusNode, StreamFilename lastFilename) {
         var index = new AtomicInteger(0);
@@ -71,6 +79,11 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
                 .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index))));
     }
 
+    @Override
+    public void verified(ConsensusNode consensusNode, StreamFilename streamFilename, String hash, boolean valid) {
+        providers.forEach(p -> p.getProvider().verified(consensusNode, streamFilename, hash, valid));
+    }
+
     // Get the next healthy provider
     private StreamFileProvider getProvider(AtomicInteger index) {
         for (; index.get() < providers.size(); index.getAndIncrement()) {
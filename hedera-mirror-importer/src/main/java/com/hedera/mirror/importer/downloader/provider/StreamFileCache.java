@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.mirror.importer.exception.FileOperationException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.CustomLog;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * A size bounded, least recently used, on-disk store of stream files. File contents are stored once under the SHA-384
+ * hash of their bytes, so the data files shared by all nodes are only stored once. Each node's view of a file is a
+ * small reference file that maps its path to the content hash and, once the downloader verified the file, to the hash
+ * from its signature or parent file. Files requested with an expected hash are only served if they were verified
+ * against that hash, and files that fail verification are discarded. References and listings that haven't been used
+ * within the max age are removed, as are references whose contents were evicted.
+ */
+@CustomLog
+public class StreamFileCache {
+
+    private static final Duration CLEANUP_INTERVAL = Duration.ofHours(1L);
+    private static final String CONTENT_DIRECTORY = "content";
+    private static final String LISTING_DIRECTORY = "listing";
+    private static final String REFERENCE_DIRECTORY = "reference";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path contentPath;
+    private final Path listingPath;
+    private final Duration maxAge;
+    private final long maxSize;
+    private final AtomicLong nextCleanup = new AtomicLong();
+    private final Path referencePath;
+
+    // Content hash to size in access order
+    private final Map<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    public StreamFileCache(Path path, long maxSize, Duration maxAge) {
+        this.contentPath = path.resolve(CONTENT_DIRECTORY);
+        this.listingPath = path.resolve(LISTING_DIRECTORY);
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.referencePath = path.resolve(REFERENCE_DIRECTORY);
+        init();
+    }
+
+    /**
+     * Gets the cached file referenced by the key.
+     *
+     * @param key          the key of the reference, typically the node and the file path
+     * @param expectedHash the hash the file must have been verified against, or null to skip the check
+     * @return the cached file or empty if it's not cached or not verified against the expected hash
+     */
+    public Optional<CachedFile> get(String key, String expectedHash) {
+        var reference = referencePath.resolve(key);
+
+        try {
+            var lines = Files.readAllLines(reference, StandardCharsets.UTF_8);
+            if (expectedHash != null && (lines.size() < 3 || !expectedHash.equalsIgnoreCase(lines.get(2)))) {
+                return Optional.empty();
+            }
+
+            var hash = lines.getFirst();
+            var content = getContentPath(hash);
+            var bytes = Files.readAllBytes(content);
+
+            touch(hash, content);
+            Files.setLastModifiedTime(reference, FileTime.from(Instant.now()));
+            long lastModified = Long.parseLong(lines.get(1));
+            return Optional.of(new CachedFile(bytes, lastModified > 0 ? Instant.ofEpochMilli(lastModified) : null));
+        } catch (NoSuchFileException e) {
+            // The reference doesn't exist or its content has been evicted
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("Unable to read cached file {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<List<String>> getListing(String key) {
+        try {
+            var listing = listingPath.resolve(key);
+            var lines = Files.readAllLines(listing, StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(listing, FileTime.from(Instant.now()));
+            return Optional.of(lines);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Unable to read cached listing {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the bytes in the cache and references them by the key.
+     *
+     * @param key          the key of the reference
+     * @param bytes        the file contents
+     * @param lastModified the time the file was last modified in its origin
+     */
+    public void put(String key, byte[] bytes, Instant lastModified) {
+        if (bytes.length > maxSize) {
+            return;
+        }
+
+        try {
+            var hash = DigestUtils.sha384Hex(bytes);
+            var content = getContentPath(hash);
+
+            if (!Files.exists(content)) {
+                write(content, bytes);
+            }
+
+            var reference = hash + System.lineSeparator() + (lastModified != null ? lastModified.toEpochMilli() : 0L);
+            write(referencePath.resolve(key), reference.getBytes(StandardCharsets.UTF_8));
+            add(hash, bytes.length);
+        } catch (Exception e) {
+            log.warn("Unable to cache file {}: {}", key, e.getMessage());
+        }
+
+        cleanup();
+    }
+
+    /**
+     * Records the outcome of verifying the cached file referenced by the key against its expected hash. A verified
+     * file is served to subsequent requests for the same hash, while a file that failed verification is discarded.
+     *
+     * @param key   the key of the reference
+     * @param hash  the expected hash of the file from its signature or parent file
+     * @param valid whether the file matched the expected hash
+     */
+    public void verified(String key, String hash, boolean valid) {
+        var reference = referencePath.resolve(key);
+
+        try {
+            var lines = Files.readAllLines(reference, StandardCharsets.UTF_8);
+
+            if (valid) {
+                if (lines.size() > 2 && hash.equalsIgnoreCase(lines.get(2))) {
+                    return;
+                }
+
+                var verified = String.join(System.lineSeparator(), lines.getFirst(), lines.get(1), hash);
+                write(reference, verified.getBytes(StandardCharsets.UTF_8));
+            } else {
+                log.warn("Discarding cached file {} since it doesn't match hash {}", key, hash);
+                remove(lines.getFirst());
+                Files.deleteIfExists(reference);
+            }
+        } catch (NoSuchFileException e) {
+            // The file wasn't cached
+        } catch (Exception e) {
+            log.warn("Unable to update cached file {}: {}", key, e.getMessage());
+        }
+    }
+
+    public void putListing(String key, List<String> lines) {
+        try {
+            var listing = String.join(System.lineSeparator(), lines);
+            write(listingPath.resolve(key), listing.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.warn("Unable to cache listing {}: {}", key, e.getMessage());
+        }
+    }
+
+    @VisibleForTesting
+    synchronized long getSize() {
+        return size;
+    }
+
+    private synchronized void add(String hash, long length) {
+        if (entries.putIfAbsent(hash, length) == null) {
+            size += length;
+            evict();
+        }
+    }
+
+    private void evict() {
+        var iterator = entries.entrySet().iterator();
+
+        while (size > maxSize && iterator.hasNext()) {
+            var entry = iterator.next();
+            iterator.remove();
+            size -= entry.getValue();
+
+            try {
+                Files.deleteIfExists(getContentPath(entry.getKey()));
+            } catch (IOException e) {
+                log.warn("Unable to evict cached content {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes the references and listings that weren't used within the max age and the references whose contents were
+     * evicted. Runs at most once per cleanup interval.
+     */
+    private void cleanup() {
+        long now = System.currentTimeMillis();
+        long next = nextCleanup.get();
+        if (now < next || !nextCleanup.compareAndSet(next, now + CLEANUP_INTERVAL.toMillis())) {
+            return;
+        }
+
+        long minLastModified = now - maxAge.toMillis();
+        int removed = 0;
+
+        try (var references = Files.walk(referencePath);
+                var listings = Files.walk(listingPath)) {
+            for (var reference : references.filter(this::isCacheFile).toList()) {
+                if (isExpired(reference, minLastModified) || isEvicted(reference)) {
+                    removed += Files.deleteIfExists(reference) ? 1 : 0;
+                }
+            }
+
+            for (var listing : listings.filter(this::isCacheFile).toList()) {
+                if (isExpired(listing, minLastModified)) {
+                    removed += Files.deleteIfExists(listing) ? 1 : 0;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Unable to clean up stream file cache: {}", e.getMessage());
+        }
+
+        if (removed > 0) {
+            log.info("Removed {} expired or evicted references and listings from stream file cache", removed);
+        }
+    }
+
+    private Path getContentPath(String hash) {
+        return contentPath.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private void init() {
+        try {
+            Files.createDirectories(contentPath);
+            Files.createDirectories(listingPath);
+            Files.createDirectories(referencePath);
+
+            // Rebuild the access order from the last modified time of the contents
+            try (var files = Files.walk(contentPath)) {
+                files.filter(this::isCacheFile)
+                        .sorted(Comparator.comparingLong((Path f) -> f.toFile().lastModified()))
+                        .forEach(f -> add(f.getFileName().toString(), f.toFile().length()));
+            }
+
+            log.info(
+                    "Initialized stream file cache at {} with {} files totalling {} bytes",
+                    contentPath.getParent(),
+                    entries.size(),
+                    size);
+            cleanup();
+        } catch (IOException e) {
+            throw new FileOperationException("Unable to initialize stream file cache", e);
+        }
+    }
+
+    private boolean isCacheFile(Path path) {
+        return Files.isRegularFile(path) && !path.getFileName().toString().endsWith(TEMP_SUFFIX);
+    }
+
+    private boolean isEvicted(Path reference) throws IOException {
+        var lines = Files.readAllLines(reference, StandardCharsets.UTF_8);
+        return lines.isEmpty() || !Files.exists(getContentPath(lines.getFirst()));
+    }
+
+    private boolean isExpired(Path path, long minLastModified) throws IOException {
+        return Files.getLastModifiedTime(path).toMillis() < minLastModified;
+    }
+
+    private synchronized void remove(String hash) throws IOException {
+        var length = entries.remove(hash);
+        if (length != null) {
+            size -= length;
+        }
+
+        Files.deleteIfExists(getContentPath(hash));
+    }
+
+    private synchronized void touch(String hash, Path content) throws IOException {
+        // Moves the entry to the most recently used position
+        if (entries.get(hash) == null) {
+            long length = Files.size(content);
+            entries.put(hash, length);
+            size += length;
+            evict();
+        }
+
+        // Persist the access time so the eviction order survives restarts
+        Files.setLastModifiedTime(content, FileTime.from(Instant.now()));
+    }
+
+    private void write(Path path, byte[] bytes) throws IOException {
+        Files.createDirectories(path.getParent());
+        var temp = path.resolveSibling(path.getFileName() + "." + Thread.currentThread().threadId() + TEMP_SUFFIX);
+        Files.write(temp, bytes);
+
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public record CachedFile(byte[] bytes, Instant lastModified) {}
+}
@@ -36,6 +36,19 @@ public interface StreamFileProvider {
      */
     Mono<StreamFileData> get(ConsensusNode node, StreamFilename streamFilename);
 
+    /**
+     * Fetches a stream file from a particular node upon subscription, given the hash it's expected to have. Providers
+     * that keep a local copy of the file only serve it if it was previously verified against the same hash.
+     *
+     * @param node           the consensus node to download from
+     * @param streamFilename the stream filename to download
+     * @param hash           the expected hash of the stream file from its signature or parent file, in hex
+     * @return the downloaded stream file data, wrapped in a Mono
+     */
+    default Mono<StreamFileData> get(ConsensusNode node, StreamFilename streamFilename, String hash) {
+        return get(node, streamFilename);
+    }
+
     /**
      * Lists and downloads signature files for a particular node upon subscription. Uses the provided lastFilename to
      * search for files lexicographically and chronologically after the last confirmed stream file.
@@ -45,4 +58,14 @@ public interface StreamFileProvider {
      * @return The data associated with one or more stream files, wrapped in a Flux
      */
     Flux<StreamFileData> list(ConsensusNode node, StreamFilename lastFilename);
+
+    /**
+     * Notifies the provider of the outcome of verifying a stream file it provided against its expected hash.
+     *
+     * @param node           the consensus node the stream file was downloaded from
+     * @param streamFilename the stream filename
+     * @param hash           the expected hash of the stream file, in hex
+     * @param valid          whether the stream file matched the expected hash
+     */
+    default void verified(ConsensusNode node, StreamFilename streamFilename, String hash, boolean valid) {}
 }
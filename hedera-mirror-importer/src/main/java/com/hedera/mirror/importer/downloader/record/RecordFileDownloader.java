@@ -21,6 +21,7 @@ import com.google.common.collect.Multimaps;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
+import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.ImporterProperties;
 import com.hedera.mirror.importer.addressbook.ConsensusNode;
 import com.hedera.mirror.importer.addressbook.ConsensusNodeService;
@@ -139,10 +140,13 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
 
     private Mono<SidecarFile> getSidecar(ConsensusNode node, StreamFilename recordFilename, SidecarFile sidecar) {
         var sidecarFilename = StreamFilename.from(recordFilename, sidecar.getName());
-        return streamFileProvider.get(node, sidecarFilename).map(streamFileData -> {
+        var hash = DomainUtils.bytesToHex(sidecar.getHash());
+        return streamFileProvider.get(node, sidecarFilename, hash).map(streamFileData -> {
             sidecarFileReader.read(sidecar, streamFileData);
 
-            if (!Arrays.equals(sidecar.getHash(), sidecar.getActualHash())) {
+            boolean valid = Arrays.equals(sidecar.getHash(), sidecar.getActualHash());
+            streamFileProvider.verified(node, sidecarFilename, hash, valid);
+            if (!valid) {
                 throw new HashMismatchException(
                         sidecar.getName(), sidecar.getHash(), sidecar.getActualHash(), HASH_TYPE_SIDECAR);
             }
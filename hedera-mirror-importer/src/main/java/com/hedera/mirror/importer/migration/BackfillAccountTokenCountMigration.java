@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.importer.ImporterProperties;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import jakarta.inject.Named;
+import java.util.Map;
+import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * Backfills account_token_count from token_account and nft, since the importer only applies deltas to it. The checksum
+ * changes with the trackTokenCounts flag so the counts are rebuilt whenever tracking is enabled again, and truncated
+ * whenever it's disabled so readers fall back to aggregating instead of reading counts that are no longer maintained.
+ */
+@Named
+public class BackfillAccountTokenCountMigration extends RepeatableMigration {
+
+    private static final String TRUNCATE_SQL = "truncate account_token_count, account_token_count_history";
+
+    private static final String BACKFILL_SQL =
+            """
+            with last_record_file as (
+              select consensus_end
+              from record_file
+              order by consensus_end desc
+              limit 1
+            ), token_account_count as (
+              select account_id,
+                count(*) as associated_count,
+                count(*) filter (where balance > 0) as positive_balance_count
+              from token_account
+              where associated is true
+              group by account_id
+            ), nft_count as (
+              select n.account_id, count(*) as nft_count
+              from nft n
+              join entity e on e.id = n.token_id
+              where n.account_id is not null and n.deleted is false and e.deleted is not true
+              group by n.account_id
+            )
+            insert into account_token_count
+              (account_id, associated_count, nft_count, positive_balance_count, timestamp_range)
+            select account_id,
+              coalesce(ta.associated_count, 0),
+              coalesce(n.nft_count, 0),
+              coalesce(ta.positive_balance_count, 0),
+              int8range(r.consensus_end, null)
+            from token_account_count ta
+            full outer join nft_count n using (account_id)
+            cross join last_record_file r
+            """;
+
+    private final EntityProperties entityProperties;
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    @Lazy
+    public BackfillAccountTokenCountMigration(
+            EntityProperties entityProperties,
+            ImporterProperties importerProperties,
+            NamedParameterJdbcOperations jdbcOperations) {
+        super(importerProperties.getMigration());
+        this.entityProperties = entityProperties;
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public Integer getChecksum() {
+        int checksum = super.getChecksum();
+        return isEnabled() ? checksum : -checksum;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Backfill the token counts of each account";
+    }
+
+    @Override
+    protected MigrationVersion getMinimumVersion() {
+        return MigrationVersion.fromVersion("1.100.2"); // The version which creates account_token_count
+    }
+
+    @Override
+    protected void doMigrate() {
+        var stopwatch = Stopwatch.createStarted();
+        jdbcOperations.update(TRUNCATE_SQL, Map.of());
+
+        if (!isEnabled()) {
+            log.info("Truncated account token counts in {} since they aren't tracked", stopwatch);
+            return;
+        }
+
+        int count = jdbcOperations.update(BACKFILL_SQL, Map.of());
+        log.info("Backfilled {} account token counts in {}", count, stopwatch);
+    }
+
+    private boolean isEnabled() {
+        return entityProperties.getPersist().isTrackTokenCounts();
+    }
+}
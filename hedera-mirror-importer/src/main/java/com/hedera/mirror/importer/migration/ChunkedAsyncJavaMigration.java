@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hedera.mirror.common.util.DomainUtils;
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * An asynchronous migration that splits its key range into fixed size chunks and migrates them concurrently on a
+ * bounded worker pool. The completion of each chunk is persisted in the same transaction as the chunk's changes, so a
+ * restarted migration resumes from where it left off without redoing work. The chunk size, the concurrency, and the
+ * maximum ingestion lag before throttling can be configured through the migration params.
+ */
+abstract class ChunkedAsyncJavaMigration extends AsyncJavaMigration<Long> {
+
+    static final String CHUNK_SIZE_KEY = "chunkSize";
+    static final String CONCURRENCY_KEY = "concurrency";
+    static final String MAX_INGESTION_LAG_KEY = "maxIngestionLag";
+
+    private static final String DELETE_CHUNKS_SQL = "delete from async_migration_chunk where migration = :migration";
+    private static final String INSERT_CHUNK_SQL =
+            """
+            insert into async_migration_chunk (lower_bound, migration, upper_bound)
+            values (:lowerBound, :migration, :upperBound)
+            on conflict (migration, lower_bound) do update set upper_bound = excluded.upper_bound
+            """;
+    private static final String SELECT_CHUNKS_SQL =
+            "select lower_bound, upper_bound from async_migration_chunk where migration = :migration";
+    private static final String SELECT_LAST_CONSENSUS_END_SQL =
+            "select consensus_end from record_file order by consensus_end desc limit 1";
+    private static final Duration THROTTLE_INTERVAL = Duration.ofSeconds(1);
+
+    private final Map<Long, Long> completedChunks = new HashMap<>();
+    private Range<Long> keyRange;
+
+    protected ChunkedAsyncJavaMigration(
+            Map<String, MigrationProperties> migrationPropertiesMap,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            String schema) {
+        super(migrationPropertiesMap, namedParameterJdbcTemplate, schema);
+    }
+
+    /**
+     * Gets the closed-open key range to migrate, e.g., the consensus timestamp range of the data to backfill.
+     *
+     * @return The key range or empty if there is nothing to migrate
+     */
+    protected abstract Optional<Range<Long>> getKeyRange();
+
+    /**
+     * Migrates the data in the chunk [lowerBound, upperBound). Implementations must be safe to run concurrently for
+     * non-overlapping chunks. The method is called in a transaction.
+     *
+     * @param lowerBound The inclusive lower bound of the chunk
+     * @param upperBound The exclusive upper bound of the chunk
+     */
+    protected abstract void migrateChunk(long lowerBound, long upperBound);
+
+    protected long getDefaultChunkSize() {
+        return Duration.ofDays(1).toNanos();
+    }
+
+    protected int getDefaultConcurrency() {
+        return 1;
+    }
+
+    @Override
+    protected final Long getInitial() {
+        return keyRange.lowerEndpoint();
+    }
+
+    @Override
+    protected void migrateAsync() {
+        var range = getKeyRange();
+        if (range.isEmpty() || range.get().isEmpty()) {
+            log.info("Skipping asynchronous migration since the key range is empty");
+            deleteChunks();
+            return;
+        }
+
+        keyRange = range.get();
+        loadCompletedChunks();
+        migrateChunks(Math.max(1, getConcurrency()));
+        deleteChunks();
+    }
+
+    /**
+     * Migrates the chunk starting at the lower bound and records its completion in the same transaction.
+     *
+     * @param lowerBound The inclusive lower bound of the chunk
+     * @return The lower bound of the next chunk or empty if the key range is exhausted
+     */
+    @Nonnull
+    @Override
+    protected final Optional<Long> migratePartial(Long lowerBound) {
+        long upperBound = getUpperBound(lowerBound);
+        migrateChunk(lowerBound, upperBound);
+        var params = getMigrationParamSource()
+                .addValue("lowerBound", lowerBound)
+                .addValue("upperBound", upperBound);
+        namedParameterJdbcTemplate.update(INSERT_CHUNK_SQL, params);
+        return upperBound < keyRange.upperEndpoint() ? Optional.of(upperBound) : Optional.empty();
+    }
+
+    private void deleteChunks() {
+        namedParameterJdbcTemplate.update(DELETE_CHUNKS_SQL, getMigrationParamSource());
+    }
+
+    private long getChunkSize() {
+        var chunkSize = migrationProperties.getParams().get(CHUNK_SIZE_KEY);
+        return chunkSize != null ? Long.parseLong(chunkSize) : getDefaultChunkSize();
+    }
+
+    private int getConcurrency() {
+        var concurrency = migrationProperties.getParams().get(CONCURRENCY_KEY);
+        return concurrency != null ? Integer.parseInt(concurrency) : getDefaultConcurrency();
+    }
+
+    private Optional<Duration> getMaxIngestionLag() {
+        return Optional.ofNullable(migrationProperties.getParams().get(MAX_INGESTION_LAG_KEY))
+                .map(DurationStyle::detectAndParse);
+    }
+
+    private MapSqlParameterSource getMigrationParamSource() {
+        return new MapSqlParameterSource("migration", getClass().getName());
+    }
+
+    private long getUpperBound(long lowerBound) {
+        long chunkSize = getChunkSize();
+        long upperBound = lowerBound + chunkSize;
+        // Guard against overflow when the key range ends close to Long.MAX_VALUE
+        return upperBound < lowerBound ? keyRange.upperEndpoint() : Math.min(upperBound, keyRange.upperEndpoint());
+    }
+
+    private synchronized boolean isCompleted(long lowerBound, long upperBound) {
+        var completedUpperBound = completedChunks.get(lowerBound);
+        return completedUpperBound != null && completedUpperBound >= upperBound;
+    }
+
+    private synchronized void loadCompletedChunks() {
+        completedChunks.clear();
+        namedParameterJdbcTemplate.query(
+                SELECT_CHUNKS_SQL,
+                getMigrationParamSource(),
+                rs -> {
+                    completedChunks.put(rs.getLong("lower_bound"), rs.getLong("upper_bound"));
+                });
+        if (!completedChunks.isEmpty()) {
+            log.info("Resuming asynchronous migration with {} completed chunks", completedChunks.size());
+        }
+    }
+
+    private void migrateChunks(int concurrency) {
+        log.info("Starting asynchronous migration of {} with concurrency {}", keyRange, concurrency);
+
+        var completed = new AtomicLong();
+        var failed = new AtomicBoolean(false);
+        var stopwatch = Stopwatch.createStarted();
+        var tasks = new ArrayList<Callable<Void>>();
+
+        for (var lowerBound = Optional.of(getInitial()); lowerBound.isPresent(); ) {
+            long chunkLowerBound = lowerBound.get();
+            long chunkUpperBound = getUpperBound(chunkLowerBound);
+            tasks.add(() -> {
+                if (failed.get() || isCompleted(chunkLowerBound, chunkUpperBound)) {
+                    return null;
+                }
+
+                throttle();
+
+                try {
+                    getTransactionOperations().executeWithoutResult(s -> migratePartial(chunkLowerBound));
+                } catch (Exception e) {
+                    failed.set(true);
+                    throw e;
+                }
+
+                long count = completed.incrementAndGet();
+                log.debug("Completed chunk [{}, {}), {} chunks completed", chunkLowerBound, chunkUpperBound, count);
+                return null;
+            });
+            lowerBound = chunkUpperBound < keyRange.upperEndpoint() ? Optional.of(chunkUpperBound) : Optional.empty();
+        }
+
+        try (var executor = Executors.newFixedThreadPool(concurrency)) {
+            var futures = executor.invokeAll(tasks);
+            for (var future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            log.error("Error executing asynchronous migration after {} chunks in {}", completed.get(), stopwatch);
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while executing asynchronous migration", e);
+        }
+
+        log.info(
+                "Successfully completed asynchronous migration with {} of {} chunks in {}",
+                completed.get(),
+                tasks.size(),
+                stopwatch);
+    }
+
+    /**
+     * Pauses while the importer lags behind the network by more than the configured max ingestion lag, so the migration
+     * doesn't compete with ingestion for database resources.
+     */
+    private void throttle() {
+        var maxIngestionLag = getMaxIngestionLag();
+        if (maxIngestionLag.isEmpty()) {
+            return;
+        }
+
+        long maxLag = maxIngestionLag.get().toNanos();
+        while (true) {
+            var lastConsensusEnd = namedParameterJdbcTemplate
+                    .getJdbcTemplate()
+                    .query(SELECT_LAST_CONSENSUS_END_SQL, rs -> rs.next() ? rs.getLong(1) : null);
+            if (lastConsensusEnd == null || DomainUtils.now() - lastConsensusEnd <= maxLag) {
+                return;
+            }
+
+            log.debug("Throttling asynchronous migration since ingestion lag exceeds {}", maxIngestionLag.get());
+            Uninterruptibles.sleepUninterruptibly(THROTTLE_INTERVAL);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import com.google.common.collect.Range;
+import com.hedera.mirror.importer.ImporterProperties;
+import com.hedera.mirror.importer.config.Owner;
+import com.hedera.mirror.importer.db.DBProperties;
+import com.hedera.mirror.importer.util.Utility;
+import jakarta.inject.Named;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.CustomLog;
+import lombok.Getter;
+import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves the inline runtime bytecode of existing contracts to contract_bytecode, storing each distinct bytecode once
+ * keyed by its keccak256 hash, and references it from the contract by hash. Contracts are migrated in chunks of their
+ * id.
+ */
+@CustomLog
+@Named
+public class DeduplicateContractBytecodeMigration extends ChunkedAsyncJavaMigration {
+
+    private static final String INSERT_BYTECODE_SQL =
+            """
+            insert into contract_bytecode (bytecode, hash)
+            values (:bytecode, :hash)
+            on conflict (hash) do nothing
+            """;
+    private static final Map<Boolean, MigrationVersion> MINIMUM_VERSION = Map.of(
+            // false for v1, and true for v2
+            Boolean.FALSE, MigrationVersion.fromVersion("1.100.5"),
+            Boolean.TRUE, MigrationVersion.fromVersion("2.5.7"));
+    private static final String SELECT_BYTECODE_SQL =
+            """
+            select id, runtime_bytecode
+            from contract
+            where id >= :lowerBound and id < :upperBound and runtime_bytecode is not null
+            """;
+    private static final String SELECT_ID_RANGE_SQL =
+            "select min(id) as lower, max(id) + 1 as upper from contract where runtime_bytecode is not null";
+    private static final String UPDATE_CONTRACT_SQL =
+            """
+            update contract
+            set runtime_bytecode = null, runtime_bytecode_hash = :hash
+            where id = :id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean v2;
+
+    @Getter(lazy = true)
+    private final TransactionOperations transactionOperations = transactionOperations();
+
+    @Lazy
+    public DeduplicateContractBytecodeMigration(
+            DBProperties dbProperties,
+            Environment environment,
+            ImporterProperties importerProperties,
+            @Owner JdbcTemplate jdbcTemplate) {
+        super(
+                importerProperties.getMigration(),
+                new NamedParameterJdbcTemplate(jdbcTemplate),
+                dbProperties.getSchema());
+        this.jdbcTemplate = jdbcTemplate;
+        this.v2 = environment.acceptsProfiles(Profiles.of("v2"));
+    }
+
+    @Override
+    public String getDescription() {
+        return "Deduplicate contract runtime bytecode by its hash";
+    }
+
+    @Override
+    protected long getDefaultChunkSize() {
+        // The chunk is held in memory, so keep it small given the bytecode can be up to 24KiB
+        return 10_000L;
+    }
+
+    @Override
+    protected Optional<Range<Long>> getKeyRange() {
+        return Optional.ofNullable(jdbcTemplate.query(SELECT_ID_RANGE_SQL, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+
+            long lower = rs.getLong("lower");
+            return rs.wasNull() ? null : Range.closedOpen(lower, rs.getLong("upper"));
+        }));
+    }
+
+    @Override
+    protected MigrationVersion getMinimumVersion() {
+        return MINIMUM_VERSION.get(v2);
+    }
+
+    @Override
+    protected void migrateChunk(long lowerBound, long upperBound) {
+        var bytecodes = new ArrayList<SqlParameterSource>();
+        var contracts = new ArrayList<SqlParameterSource>();
+        var hashes = new HashSet<ByteBuffer>();
+        var params = new MapSqlParameterSource("lowerBound", lowerBound).addValue("upperBound", upperBound);
+
+        namedParameterJdbcTemplate.query(SELECT_BYTECODE_SQL, params, rs -> {
+            var bytecode = rs.getBytes("runtime_bytecode");
+            var hash = Utility.keccak256(bytecode);
+            if (hashes.add(ByteBuffer.wrap(hash))) {
+                bytecodes.add(new MapSqlParameterSource("bytecode", bytecode).addValue("hash", hash));
+            }
+
+            contracts.add(new MapSqlParameterSource("hash", hash).addValue("id", rs.getLong("id")));
+        });
+
+        if (contracts.isEmpty()) {
+            return;
+        }
+
+        namedParameterJdbcTemplate.batchUpdate(INSERT_BYTECODE_SQL, bytecodes.toArray(SqlParameterSource[]::new));
+        namedParameterJdbcTemplate.batchUpdate(UPDATE_CONTRACT_SQL, contracts.toArray(SqlParameterSource[]::new));
+        log.debug(
+                "Deduplicated {} contracts to {} bytecodes in [{}, {})",
+                contracts.size(),
+                bytecodes.size(),
+                lowerBound,
+                upperBound);
+    }
+
+    private TransactionOperations transactionOperations() {
+        var transactionManager = new DataSourceTransactionManager(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        return new TransactionTemplate(transactionManager);
+    }
+}
@@ -19,12 +19,15 @@ package com.hedera.mirror.importer.migration;
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.parser.batch.CurrentStateCache;
 import com.hedera.mirror.importer.repository.EntityHistoryRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.util.Utility;
 import com.hedera.services.stream.proto.ContractBytecode;
 import jakarta.inject.Named;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
@@ -37,13 +40,19 @@ public class SidecarContractMigration {
 
     private static final int BATCH_SIZE = 100;
     private static final int IN_CLAUSE_LIMIT = 32767;
+    private static final String INSERT_BYTECODE_SQL =
+            """
+            insert into contract_bytecode (bytecode, hash)
+            values (?, ?)
+            on conflict (hash) do nothing""";
     private static final String UPDATE_RUNTIME_BYTECODE_SQL =
             """
-            insert into contract (id, runtime_bytecode)
+            insert into contract (id, runtime_bytecode_hash)
             values (?, ?)
             on conflict (id)
-            do update set runtime_bytecode = excluded.runtime_bytecode""";
+            do update set runtime_bytecode = null, runtime_bytecode_hash = excluded.runtime_bytecode_hash""";
 
+    private final CurrentStateCache currentStateCache;
     private final EntityHistoryRepository entityHistoryRepository;
     private final EntityRepository entityRepository;
     private final JdbcOperations jdbcOperations;
@@ -56,10 +65,20 @@ public class SidecarContractMigration {
         var contractIds = new HashSet<Long>();
         var stopwatch = Stopwatch.createStarted();
 
+        var hashes = new IdentityHashMap<ContractBytecode, byte[]>();
+        for (var contractBytecode : contractBytecodes) {
+            var runtimeBytecode = DomainUtils.toBytes(contractBytecode.getRuntimeBytecode());
+            hashes.put(contractBytecode, Utility.keccak256(runtimeBytecode));
+        }
+
+        jdbcOperations.batchUpdate(INSERT_BYTECODE_SQL, contractBytecodes, BATCH_SIZE, (ps, contractBytecode) -> {
+            ps.setBytes(1, DomainUtils.toBytes(contractBytecode.getRuntimeBytecode()));
+            ps.setBytes(2, hashes.get(contractBytecode));
+        });
         jdbcOperations.batchUpdate(
                 UPDATE_RUNTIME_BYTECODE_SQL, contractBytecodes, BATCH_SIZE, (ps, contractBytecode) -> {
                     ps.setLong(1, EntityId.of(contractBytecode.getContractId()).getId());
-                    ps.setBytes(2, DomainUtils.toBytes(contractBytecode.getRuntimeBytecode()));
+                    ps.setBytes(2, hashes.get(contractBytecode));
                 });
 
         // We only need to update entity history's type since ContractUpdateTransactionHandler will upsert the entity
@@ -81,6 +100,7 @@ public class SidecarContractMigration {
         if (!contractIds.isEmpty()) {
             entityRepository.updateContractType(contractIds);
             entityHistoryRepository.updateContractType(contractIds);
+            contractIds.forEach(id -> currentStateCache.evict("entity", id));
             contractIds.clear();
         }
     }
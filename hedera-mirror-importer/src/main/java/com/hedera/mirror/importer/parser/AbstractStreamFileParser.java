@@ -101,6 +101,7 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
                 return;
             }
 
+            streamFileListener.onStart(streamFile);
             doParse(streamFile);
             doFlush(streamFile);
 
@@ -151,6 +152,7 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
                     continue;
                 }
 
+                streamFileListener.onStart(streamFile);
                 doParse(streamFile);
 
                 count += streamFile.getCount();
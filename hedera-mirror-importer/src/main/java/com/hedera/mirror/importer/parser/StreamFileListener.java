@@ -21,5 +21,12 @@ import com.hedera.mirror.importer.exception.ImporterException;
 
 public interface StreamFileListener<T extends StreamFile<?>> {
 
+    /**
+     * Invoked in the parser's transaction before the stream file's items are processed.
+     *
+     * @param streamFile the stream file about to be processed
+     */
+    default void onStart(T streamFile) throws ImporterException {}
+
     void onEnd(T streamFile) throws ImporterException;
 }
@@ -16,28 +16,40 @@
 
 package com.hedera.mirror.importer.parser.batch;
 
+import com.hedera.mirror.common.domain.History;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
+import com.hedera.mirror.importer.repository.upsert.UpsertRowMerger;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 import lombok.CustomLog;
 import org.springframework.util.CollectionUtils;
 
 /**
- * Stateless writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table
+ * Writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table. If a
+ * {@link CurrentStateCache} is used, non-history updates of cached rows are merged in Java and upserted without joining
+ * against the final table.
  */
 @CustomLog
 public class BatchUpserter extends BatchInserter {
 
+    private final CurrentStateCache currentStateCache;
     private final String finalTableName;
     private final String tempTableCleanupSql;
+    private final UpsertRowMerger upsertRowMerger;
     private final String upsertSql;
     private final Timer upsertMetric;
 
@@ -47,7 +59,20 @@ public class BatchUpserter extends BatchInserter {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGenerator upsertQueryGenerator) {
+        this(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator, null, null);
+    }
+
+    public BatchUpserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            UpsertQueryGenerator upsertQueryGenerator,
+            @Nullable CurrentStateCache currentStateCache,
+            @Nullable UpsertRowMerger upsertRowMerger) {
         super(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator.getTemporaryTableName());
+        this.currentStateCache = upsertRowMerger != null ? currentStateCache : null;
+        this.upsertRowMerger = upsertRowMerger;
         tempTableCleanupSql = String.format("truncate table %s restart identity cascade", tableName);
         finalTableName = upsertQueryGenerator.getFinalTableName();
         upsertSql = upsertQueryGenerator.getUpsertQuery();
@@ -66,14 +91,17 @@ public class BatchUpserter extends BatchInserter {
         }
 
         try {
-            // create temp table to copy into
-            cleanupTempTable(connection);
+            if (currentStateCache == null) {
+                upsert(items, connection, upsertSql);
+                return;
+            }
 
-            // copy items to temp table
-            super.persistItems(items, connection);
-
-            // Upsert items from the temporary table to the final table
-            upsert(connection);
+            var merged = new ArrayList<>();
+            var unmerged = new ArrayList<>();
+            merge(items, merged, unmerged);
+            upsert(unmerged, connection, upsertSql);
+            upsert(merged, connection, upsertRowMerger.getUpsertQuery());
+            updateCache(items, merged, unmerged);
         } catch (Exception e) {
             throw new ParserException(
                     String.format("Error copying %d items to table %s", items.size(), finalTableName), e);
@@ -88,14 +116,67 @@ public class BatchUpserter extends BatchInserter {
         log.trace("Cleaned temp table {}", tableName);
     }
 
-    private void upsert(Connection connection) throws SQLException {
+    private void upsert(Collection<?> items, Connection connection, String sql) throws SQLException, IOException {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        // create temp table to copy into
+        cleanupTempTable(connection);
+
+        // copy items to temp table
+        super.persistItems(items, connection);
+
+        // Upsert items from the temporary table to the final table
         var startTime = System.nanoTime();
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(upsertSql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             preparedStatement.execute();
             log.debug("Upserted data from table {} to table {}", tableName, finalTableName);
         } finally {
             upsertMetric.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
         }
     }
+
+    /**
+     * Merges the non-history updates of cached rows into complete rows. Rows with a history update or with more than
+     * one update in the batch are left to the upsert query since closing a history range or chaining updates in Java
+     * would duplicate more of its rules.
+     */
+    private void merge(Collection<?> items, List<Object> merged, List<Object> unmerged) {
+        var counts = new HashMap<Object, Integer>();
+        for (var item : items) {
+            var id = currentStateCache.getId(item);
+            int increment = item instanceof History history && history.hasHistory() ? 2 : 1;
+            counts.merge(id, increment, Integer::sum);
+        }
+
+        for (var item : items) {
+            var id = currentStateCache.getId(item);
+            var existing = counts.get(id) == 1 ? currentStateCache.get(finalTableName, id) : null;
+
+            if (existing != null && upsertRowMerger.merge(existing, item)) {
+                merged.add(item);
+            } else {
+                unmerged.add(item);
+            }
+        }
+    }
+
+    private void updateCache(Collection<?> items, List<Object> merged, List<Object> unmerged) {
+        for (var item : merged) {
+            currentStateCache.put(finalTableName, currentStateCache.getId(item), item);
+        }
+
+        if (!unmerged.isEmpty()) {
+            var ids = new LinkedHashSet<>();
+            for (var item : unmerged) {
+                var id = currentStateCache.getId(item);
+                currentStateCache.evict(finalTableName, id);
+                ids.add(id);
+            }
+
+            currentStateCache.load(finalTableName, items.iterator().next().getClass(), ids);
+        }
+    }
 }
@@ -37,17 +37,20 @@ import org.springframework.core.annotation.AnnotationUtils;
 public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
+    private final CurrentStateCache currentStateCache;
     private final DataSource dataSource;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
     private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     public CompositeBatchPersister(
+            CurrentStateCache currentStateCache,
             DataSource dataSource,
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGeneratorFactory upsertQueryGeneratorFactory,
             Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister) {
+        this.currentStateCache = currentStateCache;
         this.dataSource = dataSource;
         this.meterRegistry = meterRegistry;
         this.properties = properties;
@@ -84,7 +87,11 @@ public class CompositeBatchPersister implements BatchPersister {
 
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
-            return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator);
+            var rowMerger = currentStateCache.isEnabled(generator.getFinalTableName())
+                    ? upsertQueryGeneratorFactory.getRowMerger(domainClass).orElse(null)
+                    : null;
+            return new BatchUpserter(
+                    entityClass, dataSource, meterRegistry, properties, generator, currentStateCache, rowMerger);
         } else {
             return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
         }
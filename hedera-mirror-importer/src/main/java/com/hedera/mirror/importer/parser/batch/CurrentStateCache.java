@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.parser.balance.BalanceStreamFileListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A bounded, write-through cache of the current state of hot rows in upsertable tables. Changes made while a
+ * transaction is active are only visible to that transaction until it commits and are discarded if it rolls back, so
+ * the cache never holds state that isn't committed. It starts empty and is only filled with rows the importer wrote or
+ * read in its own transaction. It assumes this instance is the only writer of the cached tables, so any other write to
+ * them must {@link #evict(String, Object)} the affected rows. Since another instance writes them while it holds the
+ * leadership, the whole cache is invalidated when a record file doesn't follow the last one this instance committed.
+ * Since balance files can trigger migrations that rewrite balances in bulk, it's also invalidated when one is
+ * processed.
+ * <p>
+ * A row is loaded the second time it's written without being cached, so rows that are only touched once never cost an
+ * extra read.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class CurrentStateCache implements BalanceStreamFileListener {
+
+    private static final String METRIC = "hedera.mirror.importer.parser.state.cache";
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+    private final CurrentStateCacheProperties properties;
+    private final Map<String, TableCache> tableCaches = new ConcurrentHashMap<>();
+
+    // The hash of the last record file committed by this instance
+    private volatile String lastHash;
+
+    @VisibleForTesting
+    public void clear() {
+        invalidateAll();
+        lastHash = null;
+    }
+
+    public boolean isEnabled(String table) {
+        return properties.isEnabled() && properties.getTables().contains(table);
+    }
+
+    public Object getId(Object row) {
+        return entityManagerFactory.getPersistenceUnitUtil().getIdentifier(row);
+    }
+
+    /**
+     * Gets the current state of a row visible to the current transaction.
+     *
+     * @param table the table name
+     * @param id    the row's id
+     * @return the current state of the row or null if it isn't cached
+     */
+    public Object get(String table, Object id) {
+        var tableCache = getTableCache(table);
+        var pendingChanges = getPendingChanges(false);
+        var changes = pendingChanges != null ? pendingChanges.changes.get(table) : null;
+        var row = changes != null && changes.containsKey(id) ? changes.get(id) : tableCache.rows.getIfPresent(id);
+        (row != null ? tableCache.hits : tableCache.misses).increment();
+        return row;
+    }
+
+    public void put(String table, Object id, Object row) {
+        change(table, id, row);
+    }
+
+    public void evict(String table, Object id) {
+        if (isEnabled(table)) {
+            change(table, id, null);
+        }
+    }
+
+    /**
+     * Invalidates the cache if the record file doesn't follow the last record file committed by this instance, since
+     * the record files in between were written by another instance, e.g. after a leadership handover.
+     *
+     * @param recordFile the record file about to be processed
+     */
+    public void onStart(RecordFile recordFile) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        var pendingChanges = getPendingChanges(true);
+        if (pendingChanges == null) {
+            follow(recordFile);
+            lastHash = recordFile.getHash();
+            return;
+        }
+
+        // Record files after the first in the transaction are already verified to follow the previous one
+        if (pendingChanges.hash == null) {
+            follow(recordFile);
+        }
+
+        pendingChanges.hash = recordFile.getHash();
+    }
+
+    @Override
+    public void onEnd(AccountBalanceFile accountBalanceFile) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateAll();
+                }
+            });
+        }
+    }
+
+    /**
+     * Loads the rows that were already written once before without being cached. Must be called after the rows were
+     * written so the current transaction reads their new state.
+     *
+     * @param table       the table name
+     * @param domainClass the domain class of the rows
+     * @param ids         the ids of the rows written without being cached
+     */
+    public void load(String table, Class<?> domainClass, Collection<Object> ids) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+
+        var tableCache = getTableCache(table);
+        var candidates = new ArrayList<>();
+        for (var id : ids) {
+            if (tableCache.candidates.asMap().remove(id) != null) {
+                candidates.add(id);
+            } else {
+                tableCache.candidates.put(id, Boolean.TRUE);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // A stateless session reads the database through the transaction's connection instead of returning any stale
+        // instances managed by the persistence context
+        var connection = DataSourceUtils.getConnection(dataSource);
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        try (var session = sessionFactory
+                .withStatelessOptions()
+                .connection(connection)
+                .openStatelessSession()) {
+            int loaded = 0;
+            for (var id : candidates) {
+                var row = session.get(domainClass, id);
+                if (row != null) {
+                    change(table, id, row);
+                    loaded++;
+                }
+            }
+            log.debug("Loaded {} of {} {} rows into the current state cache", loaded, candidates.size(), table);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void change(String table, Object id, Object row) {
+        var pendingChanges = getPendingChanges(true);
+        if (pendingChanges != null) {
+            pendingChanges.changes.computeIfAbsent(table, t -> new HashMap<>()).put(id, row);
+        } else {
+            apply(table, id, row);
+        }
+    }
+
+    private void apply(String table, Object id, Object row) {
+        var rows = getTableCache(table).rows;
+        if (row != null) {
+            rows.put(id, row);
+        } else {
+            rows.invalidate(id);
+        }
+    }
+
+    private PendingChanges getPendingChanges(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        var pendingChanges = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pendingChanges == null && create) {
+            pendingChanges = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pendingChanges);
+            TransactionSynchronizationManager.registerSynchronization(pendingChanges);
+        }
+
+        return pendingChanges;
+    }
+
+    private void follow(RecordFile recordFile) {
+        if (!Objects.equals(lastHash, recordFile.getPreviousHash())) {
+            log.info(
+                    "Invalidating the current state cache since {} doesn't follow the last committed record file",
+                    recordFile.getName());
+            invalidateAll();
+        }
+    }
+
+    private void invalidateAll() {
+        tableCaches.values().forEach(tableCache -> {
+            tableCache.candidates.invalidateAll();
+            tableCache.rows.invalidateAll();
+        });
+        log.debug("Invalidated the current state cache");
+    }
+
+    private TableCache getTableCache(String table) {
+        return tableCaches.computeIfAbsent(table, this::createTableCache);
+    }
+
+    private TableCache createTableCache(String table) {
+        Cache<Object, Object> rows = Caffeine.newBuilder().maximumSize(properties.getMaxSize()).build();
+        Cache<Object, Object> candidates =
+                Caffeine.newBuilder().maximumSize(properties.getMaxSize()).build();
+        Gauge.builder(METRIC + ".size", rows, Cache::estimatedSize)
+                .description("The number of rows in the current state cache")
+                .tag("table", table)
+                .register(meterRegistry);
+        return new TableCache(candidates, counter(table, "hit"), counter(table, "miss"), rows);
+    }
+
+    private Counter counter(String table, String result) {
+        return Counter.builder(METRIC)
+                .description("The number of current state cache lookups of non-history upserts")
+                .tag("result", result)
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+
+    private record TableCache(
+            Cache<Object, Object> candidates, Counter hits, Counter misses, Cache<Object, Object> rows) {}
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        // Table name to row id to its new state, or null if it was evicted
+        private final Map<String, Map<Object, Object>> changes = new HashMap<>();
+
+        // The hash of the last record file processed in the transaction
+        private String hash;
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CurrentStateCache.this);
+            if (status == STATUS_COMMITTED) {
+                changes.forEach((table, rows) -> rows.forEach((id, row) -> apply(table, id, row)));
+                if (hash != null) {
+                    lastHash = hash;
+                }
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static com.hedera.mirror.importer.reader.record.ProtoRecordFileReader.VER
 
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.hedera.mirror.common.aggregator.LogsBloomAggregator;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -34,14 +35,21 @@ import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.StreamFileRepository;
 import com.hedera.mirror.importer.util.Utility;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.io.Closeable;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.springframework.context.ApplicationEventPublisher;
@@ -50,14 +58,17 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.annotation.Transactional;
 
 @Named
-public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
+public class RecordFileParser extends AbstractStreamFileParser<RecordFile> implements Closeable {
 
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RecordItemListener recordItemListener;
     private final DateRangeCalculator dateRangeCalculator;
     private final ParserContext parserContext;
+    private final ExecutorService prepareExecutor;
+    private final RecordParserProperties recordParserProperties;
 
     // Metrics
+    private final Counter prepareErrorMetric;
     private final Map<Integer, Timer> latencyMetrics;
     private final Map<Integer, DistributionSummary> sizeMetrics;
     private final Timer unknownLatencyMetric;
@@ -78,6 +89,12 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         this.recordItemListener = recordItemListener;
         this.dateRangeCalculator = dateRangeCalculator;
         this.parserContext = parserContext;
+        this.prepareExecutor = Executors.newFixedThreadPool(parserProperties.getPrepareConcurrency());
+        this.recordParserProperties = parserProperties;
+
+        prepareErrorMetric = Counter.builder("hedera.mirror.parse.prepare.errors")
+                .description("The number of record items that failed to be prepared ahead of processing")
+                .register(meterRegistry);
 
         // build transaction latency metrics
         ImmutableMap.Builder<Integer, Timer> latencyMetricsBuilder = ImmutableMap.builder();
@@ -150,6 +167,11 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         }
     }
 
+    @Override
+    public void close() {
+        prepareExecutor.close();
+    }
+
     @Override
     protected void doFlush(RecordFile streamFile) {
         super.doFlush(streamFile);
@@ -163,6 +185,8 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         var count = new AtomicLong(0L);
         boolean shouldLog = log.isDebugEnabled() || log.isTraceEnabled();
 
+        prepare(recordFile, dateRangeFilter);
+
         recordFile.getItems().forEach(recordItem -> {
             if (shouldLog) {
                 logItem(recordItem);
@@ -185,6 +209,53 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         parserContext.addAll(recordFile.getSidecars());
     }
 
+    /**
+     * Runs the side effect free part of processing the record items, e.g. decoding, in parallel on a bounded pool, so
+     * that the sequential processing of the record items in consensus order only has to apply the results. A record
+     * item that fails to be prepared is counted and left to the sequential processing to handle.
+     */
+    private void prepare(RecordFile recordFile, DateRangeFilter dateRangeFilter) {
+        if (!recordParserProperties.isParallelPrepare() || recordFile.getItems().size() < 2) {
+            return;
+        }
+
+        var items = recordFile.getItems().stream()
+                .filter(recordItem -> dateRangeFilter.filter(recordItem.getConsensusTimestamp()))
+                .toList();
+        if (items.isEmpty()) {
+            return;
+        }
+
+        int concurrency = recordParserProperties.getPrepareConcurrency();
+        var tasks = new ArrayList<Callable<Void>>(concurrency);
+        for (var partition : Lists.partition(items, (items.size() + concurrency - 1) / concurrency)) {
+            tasks.add(() -> {
+                partition.forEach(this::prepare);
+                return null;
+            });
+        }
+
+        try {
+            for (var future : prepareExecutor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while preparing record items", e);
+        }
+    }
+
+    private void prepare(RecordItem recordItem) {
+        try {
+            recordItemListener.prepare(recordItem);
+        } catch (RuntimeException e) {
+            prepareErrorMetric.increment();
+            log.debug("Unable to prepare record item at {}: {}", recordItem.getConsensusTimestamp(), e.getMessage());
+        }
+    }
+
     private void logItem(RecordItem recordItem) {
         if (log.isTraceEnabled()) {
             log.trace(
@@ -19,4 +19,14 @@ package com.hedera.mirror.importer.parser.record;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.importer.parser.StreamItemListener;
 
-public interface RecordItemListener extends StreamItemListener<RecordItem> {}
+public interface RecordItemListener extends StreamItemListener<RecordItem> {
+
+    /**
+     * Does the side effect free work for the record item, e.g. decoding, ahead of {@link #onItem}. It's invoked
+     * concurrently for the record items of a record file before they are passed to {@link #onItem} in order, so it must
+     * not read or modify the state shared across record items.
+     *
+     * @param recordItem the record item to prepare
+     */
+    default void prepare(RecordItem recordItem) {}
+}
@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.parser.record;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.parser.AbstractParserProperties;
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -29,6 +30,17 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.importer.parser.record")
 public class RecordParserProperties extends AbstractParserProperties {
 
+    /**
+     * Whether to prepare the record items of a record file in parallel before processing them in order
+     */
+    private boolean parallelPrepare = true;
+
+    /**
+     * The number of threads that prepare the record items of a record file
+     */
+    @Min(1)
+    private int prepareConcurrency = 4;
+
     @Override
     public StreamType getStreamType() {
         return StreamType.RECORD;
@@ -40,6 +40,12 @@ public class EntityProperties {
 
         private boolean claims = false;
 
+        /**
+         * If true, contract action input and result data are stored with the leading zeros of each 32-byte word
+         * stripped and contract state change values are stored without leading zeros
+         */
+        private boolean compactSidecars = false;
+
         private boolean contracts = true;
         private boolean contractResults = true;
         private boolean contractTransaction = true;
@@ -60,6 +66,12 @@ public class EntityProperties {
 
         private boolean files = true;
 
+        /**
+         * If true, the entity state at the start of a new staking period is derived from the previous one and the
+         * accounts and contracts whose balance or staking metadata changed in the ending staking period
+         */
+        private boolean incrementalEntityStake = true;
+
         private boolean itemizedTransfers = false;
 
         private boolean nodes = true;
@@ -88,6 +100,8 @@ public class EntityProperties {
 
         private boolean trackNonce = true;
 
+        private boolean trackTokenCounts = false;
+
         private boolean transactionHash = true;
 
         /**
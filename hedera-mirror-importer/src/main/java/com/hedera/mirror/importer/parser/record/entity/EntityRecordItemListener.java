@@ -89,6 +89,12 @@ public class EntityRecordItemListener implements RecordItemListener {
     private final SyntheticContractLogService syntheticContractLogService;
     private final SyntheticContractResultService syntheticContractResultService;
 
+    @Override
+    public void prepare(RecordItem recordItem) {
+        var transactionType = TransactionType.of(recordItem.getTransactionType());
+        transactionHandlerFactory.get(transactionType).prepare(recordItem);
+    }
+
     @Override
     public void onItem(RecordItem recordItem) throws ImporterException {
         recordItem.setEntityTransactionPredicate(entityProperties.getPersist()::shouldPersistEntityTransaction);
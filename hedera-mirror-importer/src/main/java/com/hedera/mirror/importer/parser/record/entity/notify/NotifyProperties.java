@@ -29,4 +29,10 @@ public class NotifyProperties implements BatchPublisherProperties {
     private boolean enabled = false;
 
     private int maxJsonPayloadSize = 8000;
+
+    /**
+     * Whether to notify the keys of the current state changed by each record file so readers can evict them from their
+     * caches
+     */
+    private boolean stateChanges = false;
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.notify;
+
+import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.StateChanges;
+import com.hedera.mirror.common.domain.StateChanges.NftKey;
+import com.hedera.mirror.common.domain.StateChanges.SlotKey;
+import com.hedera.mirror.common.domain.StateChanges.TokenAccountKey;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.CustomLog;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Collects the keys of the current state changed by a record file and publishes them with pg_notify along with the
+ * record file. Since the notification is sent in the same transaction, it's only delivered once the record file is
+ * committed, so listeners evicting the keys from their caches can't reload the state from before the change.
+ */
+@ConditionOnEntityRecordParser
+@CustomLog
+@Named
+public class StateChangeNotifier {
+
+    static final String CHANNEL = "state_change";
+
+    private static final String SQL = "select pg_notify('" + CHANNEL + "', ?)";
+
+    private final Set<Long> contracts = new HashSet<>();
+    private final Set<Long> entities = new HashSet<>();
+    private final JdbcOperations jdbcOperations;
+    private final Set<NftKey> nfts = new HashSet<>();
+    private final NotifyProperties notifyProperties;
+    private final Set<SlotKey> slots = new HashSet<>();
+    private final Timer timer;
+    private final Set<TokenAccountKey> tokenAccounts = new HashSet<>();
+    private final Set<Long> tokens = new HashSet<>();
+    private boolean airdrops;
+    private boolean allowances;
+
+    StateChangeNotifier(JdbcOperations jdbcOperations, MeterRegistry meterRegistry, NotifyProperties notifyProperties) {
+        this.jdbcOperations = jdbcOperations;
+        this.notifyProperties = notifyProperties;
+        this.timer = Timer.builder("hedera.mirror.importer.publish.duration")
+                .description("The amount of time it took to publish the domain entity")
+                .tag("entity", StateChanges.class.getSimpleName())
+                .tag("type", "notify")
+                .register(meterRegistry);
+    }
+
+    public void onAirdrop() {
+        airdrops = isEnabled();
+    }
+
+    public void onAllowance() {
+        allowances = isEnabled();
+    }
+
+    public void onContract(long contractId) {
+        if (isEnabled()) {
+            contracts.add(contractId);
+        }
+    }
+
+    public void onEntity(long entityId) {
+        if (isEnabled()) {
+            entities.add(entityId);
+        }
+    }
+
+    public void onNft(long tokenId, long serialNumber) {
+        if (isEnabled()) {
+            nfts.add(new NftKey(tokenId, serialNumber));
+        }
+    }
+
+    public void onSlot(long contractId, byte[] slot) {
+        if (isEnabled()) {
+            slots.add(new SlotKey(contractId, slot));
+        }
+    }
+
+    public void onToken(long tokenId) {
+        if (isEnabled()) {
+            tokens.add(tokenId);
+        }
+    }
+
+    public void onTokenAccount(long accountId, long tokenId) {
+        if (isEnabled()) {
+            tokenAccounts.add(new TokenAccountKey(accountId, tokenId));
+        }
+    }
+
+    /**
+     * Publishes the state changed by the record file. Every record file is published even if no state changed, so
+     * listeners also learn that the latest record file changed. If the changed keys don't fit in a notification, they
+     * are split across as many notifications as needed. Only if a single key can't fit is the fact that the state was
+     * truncated published instead.
+     */
+    public void publish(RecordFile recordFile) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            var stopwatch = Stopwatch.createStarted();
+            var stateChanges = new StateChanges(
+                    airdrops,
+                    allowances,
+                    recordFile.getConsensusEnd(),
+                    contracts,
+                    entities,
+                    nfts,
+                    slots,
+                    tokenAccounts,
+                    tokens,
+                    false);
+            var payloads = new ArrayList<String>();
+            if (!serialize(stateChanges, payloads)) {
+                log.warn("Notifying truncated state changes since a key exceeds the maximum payload size");
+                var truncated = StateChanges.truncated(stateChanges.consensusEnd());
+                payloads.clear();
+                payloads.add(OBJECT_MAPPER.writeValueAsString(truncated));
+            }
+
+            timer.record(() -> payloads.forEach(p -> jdbcOperations.queryForObject(SQL, Object.class, p)));
+            log.debug(
+                    "Notified {} state changes in {} notifications in {}",
+                    stateChanges.size(),
+                    payloads.size(),
+                    stopwatch);
+        } catch (JsonProcessingException e) {
+            throw new ParserException(e);
+        } finally {
+            airdrops = false;
+            allowances = false;
+            contracts.clear();
+            entities.clear();
+            nfts.clear();
+            slots.clear();
+            tokenAccounts.clear();
+            tokens.clear();
+        }
+    }
+
+    /**
+     * Serializes the state changes into payloads under the maximum size, splitting the keys in half until they fit.
+     *
+     * @return whether all the keys fit
+     */
+    private boolean serialize(StateChanges stateChanges, List<String> payloads) throws JsonProcessingException {
+        var json = OBJECT_MAPPER.writeValueAsString(stateChanges);
+        if (json.length() < notifyProperties.getMaxJsonPayloadSize()) {
+            payloads.add(json);
+            return true;
+        }
+
+        if (stateChanges.size() <= 1) {
+            return false;
+        }
+
+        for (var half : stateChanges.split()) {
+            if (!serialize(half, payloads)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isEnabled() {
+        return notifyProperties.isStateChanges();
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.token.Nft;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Maintains the number of token associations, positive balance token associations and nfts of each account in the
+ * account_token_count table, so readers don't have to aggregate token_account and nft at query time. The counts of the
+ * token_account and nft rows touched by a flush are read before and after it by primary key to derive a signed delta
+ * per account, e.g. +1/-1 on associate/dissociate and on nft mint/transfer/burn. The deltas of a record file are
+ * applied once it's flushed with {@code count = count + delta}, and the previous counts are moved to
+ * account_token_count_history to support queries pinned to a block. The table must have been backfilled by
+ * {@link com.hedera.mirror.importer.migration.BackfillAccountTokenCountMigration} before the deltas are applied.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+class AccountTokenCountUpdater {
+
+    private static final String SNAPSHOT_SQL =
+            """
+            with token_account_count as (
+              select ta.account_id,
+                count(*) filter (where ta.associated is true) as associated_count,
+                count(*) filter (where ta.associated is true and ta.balance > 0) as positive_balance_count
+              from (select distinct * from unnest(?::bigint[], ?::bigint[]) as k (account_id, token_id)) k
+              join token_account ta on ta.account_id = k.account_id and ta.token_id = k.token_id
+              group by ta.account_id
+            ), nft_scope as (
+              select n.token_id, n.serial_number, n.account_id, n.deleted
+              from unnest(?::bigint[], ?::bigint[]) as k (token_id, serial_number)
+              join nft n on n.token_id = k.token_id and n.serial_number = k.serial_number
+              union
+              select n.token_id, n.serial_number, n.account_id, n.deleted
+              from unnest(?::bigint[], ?::bigint[]) as k (account_id, token_id)
+              join nft n on n.account_id = k.account_id and n.token_id = k.token_id
+              union
+              select n.token_id, n.serial_number, n.account_id, n.deleted
+              from nft n
+              where n.token_id = any(?::bigint[])
+            ), nft_count as (
+              select n.account_id, count(*) as nft_count
+              from nft_scope n
+              join entity e on e.id = n.token_id
+              where n.account_id is not null and n.deleted is false and e.deleted is not true
+              group by n.account_id
+            )
+            select account_id,
+              coalesce(ta.associated_count, 0),
+              coalesce(n.nft_count, 0),
+              coalesce(ta.positive_balance_count, 0)
+            from token_account_count ta
+            full outer join nft_count n using (account_id)
+            """;
+
+    private static final String UPDATE_SQL =
+            """
+            with delta (account_id, associated_count, nft_count, positive_balance_count) as (
+              select * from unnest(?::bigint[], ?::int[], ?::bigint[], ?::int[])
+            ), history as (
+              insert into account_token_count_history
+                (account_id, associated_count, nft_count, positive_balance_count, timestamp_range)
+              select c.account_id, c.associated_count, c.nft_count, c.positive_balance_count,
+                int8range(lower(c.timestamp_range), ?)
+              from account_token_count c
+              join delta d using (account_id)
+              where lower(c.timestamp_range) < ?
+            )
+            insert into account_token_count
+              (account_id, associated_count, nft_count, positive_balance_count, timestamp_range)
+            select account_id, associated_count, nft_count, positive_balance_count, int8range(?, null)
+            from delta
+            on conflict (account_id) do update
+            set associated_count = account_token_count.associated_count + excluded.associated_count,
+                nft_count = account_token_count.nft_count + excluded.nft_count,
+                positive_balance_count = account_token_count.positive_balance_count + excluded.positive_balance_count,
+                timestamp_range = excluded.timestamp_range
+            """;
+
+    private final Map<Long, TokenCount> deltas = new HashMap<>();
+    private final Set<Long> deletedTokenIds = new HashSet<>();
+    private final EntityProperties entityProperties;
+    private final JdbcOperations jdbcOperations;
+    private boolean synchronizationRegistered;
+
+    /**
+     * Marks the nfts of the deleted token as no longer counted once the next full flush persists the deletion.
+     */
+    void onTokenDeleted(long tokenId) {
+        if (isEnabled()) {
+            deletedTokenIds.add(tokenId);
+        }
+    }
+
+    /**
+     * Runs a flush of all pending changes and accumulates the token count deltas of the touched rows and of the nfts of
+     * the tokens deleted since the last full flush.
+     */
+    void flush(Collection<TokenAccount> tokenAccounts, Collection<Nft> nfts, Runnable flush) {
+        var tokenIds = new ArrayList<>(deletedTokenIds);
+        deletedTokenIds.clear();
+        track(Scope.of(tokenAccounts, nfts, tokenIds), flush);
+    }
+
+    /**
+     * Runs a flush of the nft state that doesn't include entity changes and accumulates the token count deltas of the
+     * touched rows.
+     */
+    void flushNftState(Collection<TokenAccount> tokenAccounts, Collection<Nft> nfts, Runnable flush) {
+        track(Scope.of(tokenAccounts, nfts, List.of()), flush);
+    }
+
+    /**
+     * Runs the update that moves the nfts of the token from the previous to the new treasury and accumulates the token
+     * count deltas of both treasuries.
+     */
+    void updateTreasury(long tokenId, long newTreasury, long previousTreasury, Runnable update) {
+        var accountIds = new Long[] {newTreasury, previousTreasury};
+        var tokenIds = new Long[] {tokenId, tokenId};
+        var empty = new Long[0];
+        track(new Scope(accountIds, tokenIds, empty, empty, accountIds, tokenIds, empty), update);
+    }
+
+    /**
+     * Applies the token count deltas of the record file at the consensus timestamp.
+     */
+    void update(long consensusTimestamp) {
+        try {
+            deltas.values().removeIf(TokenCount::isEmpty);
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            var stopwatch = Stopwatch.createStarted();
+            int size = deltas.size();
+            var accountIds = new Long[size];
+            var associatedCounts = new Integer[size];
+            var nftCounts = new Long[size];
+            var positiveBalanceCounts = new Integer[size];
+            int i = 0;
+            for (var entry : deltas.entrySet()) {
+                var delta = entry.getValue();
+                accountIds[i] = entry.getKey();
+                associatedCounts[i] = delta.associatedCount;
+                nftCounts[i] = delta.nftCount;
+                positiveBalanceCounts[i++] = delta.positiveBalanceCount;
+            }
+
+            jdbcOperations.update(UPDATE_SQL, ps -> {
+                var connection = ps.getConnection();
+                ps.setArray(1, connection.createArrayOf("BIGINT", accountIds));
+                ps.setArray(2, connection.createArrayOf("INTEGER", associatedCounts));
+                ps.setArray(3, connection.createArrayOf("BIGINT", nftCounts));
+                ps.setArray(4, connection.createArrayOf("INTEGER", positiveBalanceCounts));
+                ps.setLong(5, consensusTimestamp);
+                ps.setLong(6, consensusTimestamp);
+                ps.setLong(7, consensusTimestamp);
+            });
+            log.debug("Updated {} account token counts in {}", size, stopwatch);
+        } finally {
+            clear();
+        }
+    }
+
+    private void track(Scope scope, Runnable flush) {
+        if (!isEnabled() || scope.isEmpty()) {
+            flush.run();
+            return;
+        }
+
+        registerSynchronization();
+        var before = snapshot(scope);
+        flush.run();
+        snapshot(scope).forEach((accountId, count) -> delta(accountId).add(count, 1));
+        before.forEach((accountId, count) -> delta(accountId).add(count, -1));
+    }
+
+    private Map<Long, TokenCount> snapshot(Scope scope) {
+        var counts = new HashMap<Long, TokenCount>();
+        jdbcOperations.query(
+                SNAPSHOT_SQL,
+                ps -> {
+                    var connection = ps.getConnection();
+                    ps.setArray(1, connection.createArrayOf("BIGINT", scope.tokenAccountIds));
+                    ps.setArray(2, connection.createArrayOf("BIGINT", scope.tokenAccountTokenIds));
+                    ps.setArray(3, connection.createArrayOf("BIGINT", scope.nftTokenIds));
+                    ps.setArray(4, connection.createArrayOf("BIGINT", scope.nftSerialNumbers));
+                    ps.setArray(5, connection.createArrayOf("BIGINT", scope.ownerIds));
+                    ps.setArray(6, connection.createArrayOf("BIGINT", scope.ownerTokenIds));
+                    ps.setArray(7, connection.createArrayOf("BIGINT", scope.tokenIds));
+                },
+                rs -> {
+                    counts.put(rs.getLong(1), new TokenCount(rs.getInt(2), rs.getLong(3), rs.getInt(4)));
+                });
+        return counts;
+    }
+
+    private TokenCount delta(long accountId) {
+        return deltas.computeIfAbsent(accountId, k -> new TokenCount(0, 0L, 0));
+    }
+
+    // Deltas of flushes rolled back with a failed record file must not be applied with the next one
+    private void registerSynchronization() {
+        if (!synchronizationRegistered && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+            synchronizationRegistered = true;
+        }
+    }
+
+    private void clear() {
+        deltas.clear();
+        deletedTokenIds.clear();
+        synchronizationRegistered = false;
+    }
+
+    private boolean isEnabled() {
+        return entityProperties.getPersist().isTrackTokenCounts();
+    }
+
+    private static class TokenCount {
+
+        private int associatedCount;
+        private long nftCount;
+        private int positiveBalanceCount;
+
+        private TokenCount(int associatedCount, long nftCount, int positiveBalanceCount) {
+            this.associatedCount = associatedCount;
+            this.nftCount = nftCount;
+            this.positiveBalanceCount = positiveBalanceCount;
+        }
+
+        private void add(TokenCount other, int sign) {
+            associatedCount += sign * other.associatedCount;
+            nftCount += sign * other.nftCount;
+            positiveBalanceCount += sign * other.positiveBalanceCount;
+        }
+
+        private boolean isEmpty() {
+            return associatedCount == 0 && nftCount == 0 && positiveBalanceCount == 0;
+        }
+    }
+
+    private record Scope(
+            Long[] tokenAccountIds,
+            Long[] tokenAccountTokenIds,
+            Long[] nftTokenIds,
+            Long[] nftSerialNumbers,
+            Long[] ownerIds,
+            Long[] ownerTokenIds,
+            Long[] tokenIds) {
+
+        private static Scope of(Collection<TokenAccount> tokenAccounts, Collection<Nft> nfts, List<Long> tokenIds) {
+            var tokenAccountIds = new Long[tokenAccounts.size()];
+            var tokenAccountTokenIds = new Long[tokenAccounts.size()];
+            int i = 0;
+            for (var tokenAccount : tokenAccounts) {
+                tokenAccountIds[i] = tokenAccount.getAccountId();
+                tokenAccountTokenIds[i++] = tokenAccount.getTokenId();
+            }
+
+            var nftTokenIds = new Long[nfts.size()];
+            var nftSerialNumbers = new Long[nfts.size()];
+            i = 0;
+            for (var nft : nfts) {
+                nftTokenIds[i] = nft.getTokenId();
+                nftSerialNumbers[i++] = nft.getSerialNumber();
+            }
+
+            var empty = new Long[0];
+            return new Scope(
+                    tokenAccountIds,
+                    tokenAccountTokenIds,
+                    nftTokenIds,
+                    nftSerialNumbers,
+                    empty,
+                    empty,
+                    tokenIds.toArray(Long[]::new));
+        }
+
+        private boolean isEmpty() {
+            return tokenAccountIds.length == 0
+                    && nftTokenIds.length == 0
+                    && ownerIds.length == 0
+                    && tokenIds.length == 0;
+        }
+    }
+}
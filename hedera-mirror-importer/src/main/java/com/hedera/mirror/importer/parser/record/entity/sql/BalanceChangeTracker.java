@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
+import com.hedera.mirror.importer.parser.record.historicalbalance.HistoricalBalanceProperties;
+import jakarta.inject.Named;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records the accounts and token accounts whose balances changed in a record file in the balance_change table, so the
+ * historical balance snapshot only has to copy the changed balances instead of scanning the entity and token_account
+ * tables. The changes are written in the same transaction as the record file, so they survive restarts. A token id of
+ * 0 denotes the hbar balance of the account.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+class BalanceChangeTracker {
+
+    private static final String INSERT_SQL =
+            """
+            insert into balance_change (account_id, consensus_timestamp, token_id)
+            select account_id, ?, token_id
+            from unnest(?::bigint[], ?::bigint[]) as change (account_id, token_id)
+            on conflict do nothing
+            """;
+    private static final long HBAR = 0L;
+
+    private final Set<AbstractTokenAccount.Id> changes = new HashSet<>();
+    private final HistoricalBalanceProperties historicalBalanceProperties;
+    private final JdbcOperations jdbcOperations;
+    private boolean synchronizationRegistered;
+
+    /**
+     * Marks the hbar balance of the account as changed by the current record file.
+     */
+    void onAccount(long accountId) {
+        if (isEnabled()) {
+            add(accountId, HBAR);
+        }
+    }
+
+    /**
+     * Marks the token balance of the account as changed by the current record file.
+     */
+    void onTokenAccount(long accountId, long tokenId) {
+        if (isEnabled() && historicalBalanceProperties.isTokenBalances()) {
+            add(accountId, tokenId);
+        }
+    }
+
+    /**
+     * Writes the balance changes of the record file with its consensus end as the change timestamp.
+     */
+    void update(long consensusTimestamp) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        try {
+            var stopwatch = Stopwatch.createStarted();
+            var accountIds = new Long[changes.size()];
+            var tokenIds = new Long[changes.size()];
+            int index = 0;
+
+            for (var change : changes) {
+                accountIds[index] = change.getAccountId();
+                tokenIds[index++] = change.getTokenId();
+            }
+
+            jdbcOperations.update(INSERT_SQL, ps -> {
+                var connection = ps.getConnection();
+                ps.setLong(1, consensusTimestamp);
+                ps.setArray(2, connection.createArrayOf("BIGINT", accountIds));
+                ps.setArray(3, connection.createArrayOf("BIGINT", tokenIds));
+            });
+            log.debug("Tracked {} balance changes in {}", changes.size(), stopwatch);
+        } finally {
+            changes.clear();
+        }
+    }
+
+    private void add(long accountId, long tokenId) {
+        if (accountId > 0) {
+            var id = new AbstractTokenAccount.Id();
+            id.setAccountId(accountId);
+            id.setTokenId(tokenId);
+            changes.add(id);
+            registerSynchronization();
+        }
+    }
+
+    // Changes of a record file rolled back before they were written must not be attributed to the retried one
+    private void registerSynchronization() {
+        if (!synchronizationRegistered && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    changes.clear();
+                    synchronizationRegistered = false;
+                }
+            });
+            synchronizationRegistered = true;
+        }
+    }
+
+    private boolean isEnabled() {
+        return historicalBalanceProperties.isEnabled() && historicalBalanceProperties.isChangeTracking();
+    }
+}
@@ -21,6 +21,7 @@ import com.hedera.mirror.common.domain.addressbook.NetworkStake;
 import com.hedera.mirror.common.domain.addressbook.NodeStake;
 import com.hedera.mirror.common.domain.contract.Contract;
 import com.hedera.mirror.common.domain.contract.ContractAction;
+import com.hedera.mirror.common.domain.contract.ContractBytecode;
 import com.hedera.mirror.common.domain.contract.ContractLog;
 import com.hedera.mirror.common.domain.contract.ContractResult;
 import com.hedera.mirror.common.domain.contract.ContractState;
@@ -30,12 +31,14 @@ import com.hedera.mirror.common.domain.entity.CryptoAllowance;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityTransaction;
+import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.common.domain.entity.FungibleAllowance;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.common.domain.entity.Node;
 import com.hedera.mirror.common.domain.entity.TokenAllowance;
 import com.hedera.mirror.common.domain.file.FileData;
 import com.hedera.mirror.common.domain.schedule.Schedule;
+import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
 import com.hedera.mirror.common.domain.token.CustomFee;
 import com.hedera.mirror.common.domain.token.Nft;
 import com.hedera.mirror.common.domain.token.NftTransfer;
@@ -59,14 +62,18 @@ import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.exception.ImporterException;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.batch.CurrentStateCache;
 import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
 import com.hedera.mirror.importer.parser.record.entity.EntityListener;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.parser.record.entity.notify.StateChangeNotifier;
+import com.hedera.mirror.importer.parser.record.entity.staking.EntityStakeChangeTracker;
 import com.hedera.mirror.importer.repository.NftRepository;
 import com.hedera.mirror.importer.util.Utility;
 import jakarta.inject.Named;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -85,21 +92,35 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     private static final List<Class<?>> NFT_FLUSH = List.of(Token.class, TokenAccount.class, Nft.class);
 
+    private final AccountTokenCountUpdater accountTokenCountUpdater;
+    private final BalanceChangeTracker balanceChangeTracker;
     private final BatchPersister batchPersister;
     private final ParserContext context;
+    private final CurrentStateCache currentStateCache;
     private final EntityIdService entityIdService;
     private final EntityProperties entityProperties;
+    private final EntityStakeChangeTracker entityStakeChangeTracker;
     private final NftRepository nftRepository;
     private final SqlProperties sqlProperties;
+    private final StateChangeNotifier stateChangeNotifier;
 
     @Override
     public boolean isEnabled() {
         return sqlProperties.isEnabled();
     }
 
+    @Override
+    public void onStart(RecordFile recordFile) {
+        currentStateCache.onStart(recordFile);
+    }
+
     @Override
     public void onEnd(RecordFile recordFile) {
         flush();
+        accountTokenCountUpdater.update(recordFile.getConsensusEnd());
+        balanceChangeTracker.update(recordFile.getConsensusEnd());
+        entityStakeChangeTracker.update(recordFile);
+        stateChangeNotifier.publish(recordFile);
     }
 
     @Override
@@ -109,7 +130,18 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     @Override
     public void onContract(Contract contract) {
+        var runtimeBytecode = contract.getRuntimeBytecode();
+        if (runtimeBytecode != null) {
+            // Store each distinct runtime bytecode once and reference it from the contract by its hash
+            var hash = Utility.keccak256(runtimeBytecode);
+            var contractBytecode = ContractBytecode.builder().bytecode(runtimeBytecode).hash(hash).build();
+            context.merge(ByteBuffer.wrap(hash), contractBytecode, (previous, current) -> previous);
+            contract.setRuntimeBytecode(null);
+            contract.setRuntimeBytecodeHash(hash);
+        }
+
         context.add(contract);
+        stateChangeNotifier.onContract(contract.getId());
     }
 
     @Override
@@ -145,6 +177,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             state.setSlot(contractStateChange.getSlot());
             state.setValue(value);
             context.merge(state.getId(), state, this::mergeContractState);
+            stateChangeNotifier.onSlot(state.getContractId(), state.getSlot());
         }
     }
 
@@ -170,6 +203,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             onEntity(entity);
         }
 
+        entityStakeChangeTracker.onChange(cryptoTransfer.getEntityId(), cryptoTransfer.getConsensusTimestamp());
         context.add(cryptoTransfer);
     }
 
@@ -193,6 +227,19 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
         context.merge(id, entity, this::mergeEntity);
         entityIdService.notify(entity);
+        stateChangeNotifier.onEntity(id);
+
+        if (entity.getType() == EntityType.TOKEN && Boolean.TRUE.equals(entity.getDeleted())) {
+            accountTokenCountUpdater.onTokenDeleted(id);
+        }
+
+        if (entity.getBalanceTimestamp() != null) {
+            balanceChangeTracker.onAccount(id);
+        }
+
+        if (entity.getTimestampLower() != null) {
+            entityStakeChangeTracker.onChange(id, entity.getTimestampLower());
+        }
     }
 
     @Override
@@ -233,11 +280,13 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onNft(Nft nft) throws ImporterException {
         context.merge(nft.getId(), nft, this::mergeNft);
+        stateChangeNotifier.onNft(nft.getTokenId(), nft.getSerialNumber());
     }
 
     @Override
     public void onNftAllowance(NftAllowance nftAllowance) {
         context.merge(nftAllowance.getId(), nftAllowance, this::mergeNftAllowance);
+        stateChangeNotifier.onAllowance();
     }
 
     @Override
@@ -289,23 +338,31 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onToken(Token token) throws ImporterException {
         context.merge(token.getTokenId(), token, this::mergeToken);
+        stateChangeNotifier.onToken(token.getTokenId());
     }
 
     @Override
     public void onTokenAccount(TokenAccount tokenAccount) throws ImporterException {
         context.merge(tokenAccount.getId(), tokenAccount, this::mergeTokenAccount);
+        stateChangeNotifier.onTokenAccount(tokenAccount.getAccountId(), tokenAccount.getTokenId());
+
+        if (tokenAccount.getBalanceTimestamp() != null) {
+            balanceChangeTracker.onTokenAccount(tokenAccount.getAccountId(), tokenAccount.getTokenId());
+        }
     }
 
     @Override
     public void onTokenAirdrop(TokenAirdrop tokenAirdrop) {
         if (entityProperties.getPersist().isTokenAirdrops()) {
             context.merge(tokenAirdrop.getId(), tokenAirdrop, this::mergeTokenAirdrop);
+            stateChangeNotifier.onAirdrop();
         }
     }
 
     @Override
     public void onTokenAllowance(TokenAllowance tokenAllowance) {
         context.merge(tokenAllowance.getId(), tokenAllowance, this::mergeFungibleAllowance);
+        stateChangeNotifier.onAllowance();
     }
 
     @Override
@@ -349,7 +406,10 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private void flush() {
         try {
             var stopwatch = Stopwatch.createStarted();
-            context.forEach(batchPersister::persist);
+            accountTokenCountUpdater.flush(
+                    context.get(TokenAccount.class),
+                    context.get(Nft.class),
+                    () -> context.forEach(batchPersister::persist));
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
@@ -361,11 +421,12 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private void flushNftState() {
         try {
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
-            NFT_FLUSH.forEach(c -> {
-                var data = context.get(c);
-                batchPersister.persist(data);
-                context.remove(c);
-            });
+            accountTokenCountUpdater.flushNftState(
+                    context.get(TokenAccount.class), context.get(Nft.class), () -> NFT_FLUSH.forEach(c -> {
+                        var data = context.get(c);
+                        batchPersister.persist(data);
+                        context.remove(c);
+                    }));
         } catch (ParserException e) {
             throw e;
         } catch (Exception e) {
@@ -373,6 +434,14 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    // token_account rows updated directly in the database are no longer accurate in the current state cache
+    private void evictTokenAccount(long accountId, long tokenId) {
+        var id = new AbstractTokenAccount.Id();
+        id.setAccountId(accountId);
+        id.setTokenId(tokenId);
+        currentStateCache.evict("token_account", id);
+    }
+
     private CustomFee mergeCustomFee(CustomFee previous, CustomFee current) {
         previous.setTimestampUpper(current.getTimestampLower());
         return current;
@@ -794,14 +863,23 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
         for (var nftTransfer : nftTransferList) {
             long tokenId = nftTransfer.getTokenId().getId();
+
             if (nftTransfer.getSerialNumber() == NftTransfer.WILDCARD_SERIAL_NUMBER) {
                 // nft treasury change, there should be only one such nft transfer in the list
                 flushNftState();
-                nftRepository.updateTreasury(
-                        transaction.getConsensusTimestamp(),
+                balanceChangeTracker.onTokenAccount(nftTransfer.getReceiverAccountId().getId(), tokenId);
+                balanceChangeTracker.onTokenAccount(nftTransfer.getSenderAccountId().getId(), tokenId);
+                accountTokenCountUpdater.updateTreasury(
+                        tokenId,
                         nftTransfer.getReceiverAccountId().getId(),
                         nftTransfer.getSenderAccountId().getId(),
-                        nftTransfer.getTokenId().getId());
+                        () -> nftRepository.updateTreasury(
+                                transaction.getConsensusTimestamp(),
+                                nftTransfer.getReceiverAccountId().getId(),
+                                nftTransfer.getSenderAccountId().getId(),
+                                tokenId));
+                evictTokenAccount(nftTransfer.getReceiverAccountId().getId(), tokenId);
+                evictTokenAccount(nftTransfer.getSenderAccountId().getId(), tokenId);
                 return;
             }
 
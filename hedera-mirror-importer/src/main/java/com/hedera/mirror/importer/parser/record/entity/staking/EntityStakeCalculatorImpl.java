@@ -31,10 +31,14 @@ import org.springframework.transaction.support.TransactionOperations;
 public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
 
     private final EntityProperties entityProperties;
+    private final EntityStakeChangeTracker entityStakeChangeTracker;
     private final EntityStakeRepository entityStakeRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final TransactionOperations transactionOperations;
 
+    // The end period timestamp of the entity_state_start snapshot committed by the last calculation
+    private volatile Long entityStateStartTimestamp;
+
     @Override
     public void calculate() {
         if (!entityProperties.getPersist().isPendingReward()) {
@@ -56,11 +60,14 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
                 var stopwatch = Stopwatch.createStarted();
                 var lastEndStakePeriod =
                         entityStakeRepository.getEndStakePeriod().orElse(0L);
-                transactionOperations.executeWithoutResult(s -> {
+                // Forget the snapshot timestamp until the transaction commits, since a rollback may leave it stale
+                var lastEntityStateStartTimestamp = entityStateStartTimestamp;
+                entityStateStartTimestamp = null;
+                entityStateStartTimestamp = transactionOperations.execute(s -> {
                     entityStakeRepository.lockFromConcurrentUpdates();
-                    entityStakeRepository.createEntityStateStart();
-                    log.info("Created entity_state_start in {}", stopwatch);
+                    var timestamp = createEntityStateStart(lastEntityStateStartTimestamp, stopwatch);
                     entityStakeRepository.updateEntityStake();
+                    return timestamp;
                 });
 
                 var endStakePeriod = entityStakeRepository.getEndStakePeriod();
@@ -87,4 +94,24 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
             running.set(false);
         }
     }
+
+    /**
+     * Creates the entity state snapshot at the end of the next staking period. The snapshot is updated incrementally
+     * from the last one if every change since then has been tracked, otherwise it's fully recomputed.
+     */
+    private Long createEntityStateStart(Long lastEntityStateStartTimestamp, Stopwatch stopwatch) {
+        if (lastEntityStateStartTimestamp != null
+                && entityProperties.getPersist().isIncrementalEntityStake()
+                && entityStakeChangeTracker.isTrackedSince(lastEntityStateStartTimestamp)) {
+            var timestamp = entityStakeRepository.updateEntityStateStart(lastEntityStateStartTimestamp);
+            if (timestamp.isPresent()) {
+                log.info("Updated entity_state_start incrementally in {}", stopwatch);
+                return timestamp.get();
+            }
+        }
+
+        var timestamp = entityStakeRepository.createEntityStateStart();
+        log.info("Created entity_state_start in {}", stopwatch);
+        return timestamp.orElse(null);
+    }
 }
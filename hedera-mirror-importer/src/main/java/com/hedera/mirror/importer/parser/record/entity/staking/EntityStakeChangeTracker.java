@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import jakarta.inject.Named;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Records the accounts and contracts whose balance or staking metadata changed in the entity_stake_change table, so the
+ * entity state at the start of a new staking period can be derived from the previous one by only recomputing the
+ * changed entities. Both the first and the last change timestamp of an entity in a record file are recorded, so a
+ * record file spanning the end of a staking period contributes to both periods.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class EntityStakeChangeTracker {
+
+    private static final String INSERT_SQL =
+            """
+            insert into entity_stake_change (consensus_timestamp, id)
+            select consensus_timestamp, id
+            from unnest(?::bigint[], ?::bigint[]) as change (consensus_timestamp, id)
+            on conflict do nothing
+            """;
+
+    private final Map<Long, Long> firstChanges = new HashMap<>();
+    private final Map<Long, Long> lastChanges = new HashMap<>();
+    private final EntityProperties entityProperties;
+    private final JdbcOperations jdbcOperations;
+
+    private volatile Long trackedSince;
+
+    /**
+     * Marks the entity as changed at the consensus timestamp.
+     */
+    public void onChange(long entityId, long consensusTimestamp) {
+        if (isEnabled() && entityId > 0) {
+            firstChanges.merge(entityId, consensusTimestamp, Math::min);
+            lastChanges.merge(entityId, consensusTimestamp, Math::max);
+        }
+    }
+
+    /**
+     * Writes the changes tracked since the last record file.
+     */
+    public void update(RecordFile recordFile) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        if (trackedSince == null) {
+            trackedSince = recordFile.getConsensusStart();
+        }
+
+        if (firstChanges.isEmpty()) {
+            return;
+        }
+
+        try {
+            var stopwatch = Stopwatch.createStarted();
+            int size = firstChanges.size() + lastChanges.size();
+            var timestamps = new Long[size];
+            var ids = new Long[size];
+            int index = copy(firstChanges, timestamps, ids, 0);
+            copy(lastChanges, timestamps, ids, index);
+
+            jdbcOperations.update(INSERT_SQL, ps -> {
+                var connection = ps.getConnection();
+                ps.setArray(1, connection.createArrayOf("BIGINT", timestamps));
+                ps.setArray(2, connection.createArrayOf("BIGINT", ids));
+            });
+            log.debug("Tracked {} entity stake changes in {}", firstChanges.size(), stopwatch);
+        } finally {
+            firstChanges.clear();
+            lastChanges.clear();
+        }
+    }
+
+    /**
+     * Whether all changes after the consensus timestamp have been tracked by this instance. Changes in record files
+     * parsed before the tracking started, e.g. by a previous process with tracking disabled, are unknown.
+     */
+    public boolean isTrackedSince(long consensusTimestamp) {
+        var since = trackedSince;
+        return since != null && since <= consensusTimestamp;
+    }
+
+    private int copy(Map<Long, Long> changes, Long[] timestamps, Long[] ids, int index) {
+        for (var entry : changes.entrySet()) {
+            timestamps[index] = entry.getValue();
+            ids[index++] = entry.getKey();
+        }
+
+        return index;
+    }
+
+    private boolean isEnabled() {
+        var persist = entityProperties.getPersist();
+        return persist.isPendingReward() && persist.isIncrementalEntityStake();
+    }
+}
@@ -38,6 +38,13 @@ public class HistoricalBalanceProperties {
 
     private final BalanceDownloaderProperties balanceDownloaderProperties;
 
+    /**
+     * Whether the parser records the accounts and token accounts with changed balances, so a deduplicated snapshot only
+     * copies their balances instead of scanning the entity and token_account tables. Balances changed while disabled
+     * are only captured by the next full snapshot.
+     */
+    private boolean changeTracking = true;
+
     private boolean enabled = true;
 
     @DurationMin(minutes = 2)
@@ -140,6 +140,12 @@ public class HistoricalBalanceService {
                     accountBalancesCount = accountBalanceRepository.balanceSnapshot(timestamp);
                     tokenBalancesCount =
                             properties.isTokenBalances() ? tokenBalanceRepository.balanceSnapshot(timestamp) : 0;
+                } else if (properties.isChangeTracking()) {
+                    // get a snapshot of only the balances changed since the last snapshot
+                    accountBalancesCount = accountBalanceRepository.balanceSnapshotChanged(timestamp);
+                    tokenBalancesCount = properties.isTokenBalances()
+                            ? tokenBalanceRepository.balanceSnapshotChanged(timestamp)
+                            : 0;
                 } else {
                     // get a snapshot that has no duplicates
                     accountBalancesCount =
@@ -149,6 +155,10 @@ public class HistoricalBalanceService {
                             : 0;
                 }
 
+                if (properties.isChangeTracking()) {
+                    accountBalanceRepository.deleteBalanceChanges(timestamp);
+                }
+
                 long loadEnd = System.currentTimeMillis();
                 String filename = StreamFilename.getFilename(
                         StreamType.BALANCE, FileType.DATA, Instant.ofEpochSecond(0, timestamp));
@@ -165,7 +175,7 @@ public class HistoricalBalanceService {
 
                 log.info(
                         "Generated {} historical account balance file {} with {} account balances and {} token balances in {}",
-                        full ? "full" : "deduped",
+                        getSnapshotType(full),
                         filename,
                         accountBalancesCount,
                         tokenBalancesCount,
@@ -185,6 +195,14 @@ public class HistoricalBalanceService {
         }
     }
 
+    private String getSnapshotType(boolean full) {
+        if (full) {
+            return "full";
+        }
+
+        return properties.isChangeTracking() ? "change tracked" : "deduped";
+    }
+
     private Optional<Long> getMaxConsensusTimestamp(long timestamp) {
         var partitions =
                 timePartitionService.getOverlappingTimePartitions(ACCOUNT_BALANCE_TABLE_NAME, timestamp, timestamp);
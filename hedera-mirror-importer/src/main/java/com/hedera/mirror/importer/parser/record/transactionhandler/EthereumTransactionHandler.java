@@ -64,6 +64,22 @@ class EthereumTransactionHandler extends AbstractTransactionHandler {
         return TransactionType.ETHEREUMTRANSACTION;
     }
 
+    /**
+     * Decodes the RLP encoded ethereum data ahead of the update and stores it in the record item, since it's the most
+     * CPU intensive part of processing an ethereum transaction and doesn't depend upon other transactions. If decoding
+     * fails, the error is thrown to the caller and the update decodes it again to handle it as a recoverable error.
+     */
+    @Override
+    public void prepare(RecordItem recordItem) {
+        if (!entityProperties.getPersist().isEthereumTransactions()) {
+            return;
+        }
+
+        var body = recordItem.getTransactionBody().getEthereumTransaction();
+        var ethereumTransaction = ethereumTransactionParser.decode(DomainUtils.toBytes(body.getEthereumData()));
+        recordItem.setEthereumTransaction(ethereumTransaction);
+    }
+
     @Override
     protected void doUpdateTransaction(Transaction transaction, RecordItem recordItem) {
         if (!entityProperties.getPersist().isEthereumTransactions()) {
@@ -73,7 +89,12 @@ class EthereumTransactionHandler extends AbstractTransactionHandler {
         var body = recordItem.getTransactionBody().getEthereumTransaction();
         var ethereumDataBytes = DomainUtils.toBytes(body.getEthereumData());
         try {
-            var ethereumTransaction = ethereumTransactionParser.decode(ethereumDataBytes);
+            // Only set back on the record item once it's fully populated so other handlers never see a partial one
+            var ethereumTransaction = recordItem.getEthereumTransaction();
+            recordItem.setEthereumTransaction(null);
+            if (ethereumTransaction == null) {
+                ethereumTransaction = ethereumTransactionParser.decode(ethereumDataBytes);
+            }
 
             // update ethereumTransaction with body values
             if (body.hasCallData()) {
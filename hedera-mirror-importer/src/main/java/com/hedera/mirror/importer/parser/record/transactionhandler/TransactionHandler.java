@@ -43,6 +43,15 @@ public interface TransactionHandler {
      */
     TransactionType getType();
 
+    /**
+     * Override to do the side effect free work of the transaction ahead of the update, e.g. decoding, and store its
+     * result on the record item. It may be called concurrently for different record items and before the previous
+     * record items are processed. The conversion of transfer lists and contract results to domain objects can't move
+     * here since it resolves aliases and entity ids that earlier transactions in the same record file may create, and
+     * the protobuf itself is already parsed by the stream file reader.
+     */
+    default void prepare(RecordItem recordItem) {}
+
     /**
      * Override to update fields of the ContractResult's (domain) fields.
      */
@@ -27,34 +27,57 @@ import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties
 import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.FAIL;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.job.ReconciliationJob;
 import com.hedera.mirror.common.domain.job.ReconciliationStatus;
-import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 import com.hedera.mirror.importer.repository.ReconciliationJobRepository;
-import com.hedera.mirror.importer.repository.RecordFileRepository;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.Builder;
 import lombok.CustomLog;
+import lombok.Data;
 import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 
+/**
+ * Reconciles consecutive balance files against the crypto and token transfers between them. The account ID space is
+ * partitioned into fixed width shards that are reconciled concurrently, each walking through the balance files
+ * independently while holding only its own balances in memory. The transfers between two balance files are only
+ * indexed by timestamp, so they're summed once for the running shards and bucketed by shard. Each shard persists the
+ * last balance file it reconciled without errors, so a restarted reconciliation resumes every shard from its own
+ * progress.
+ */
 @CustomLog
 @Named
 class BalanceReconciliationService {
@@ -64,7 +87,12 @@ class BalanceReconciliationService {
 
     // Due to the number of rows returned, it's considerably more performant to not use JPA
     private static final String BALANCE_QUERY =
-            "select account_id, balance from account_balance " + "where consensus_timestamp = ?";
+            """
+            select account_id, balance from account_balance
+            where consensus_timestamp = ? and account_id >= ? and account_id < ?""";
+
+    private static final String BALANCE_TOTAL_QUERY =
+            "select coalesce(sum(balance), 0) from account_balance where consensus_timestamp = ?";
 
     private static final String CRYPTO_TRANSFER_QUERY =
             """
@@ -72,20 +100,38 @@ class BalanceReconciliationService {
             where consensus_timestamp > ? and consensus_timestamp <= ? and (errata is null or errata <> 'DELETE')
             group by entity_id""";
 
+    private static final String DELETE_SHARDS_SQL = "delete from reconciliation_shard";
+
+    private static final String ENTITY_ID_RANGE_QUERY = "select coalesce(min(id), 0), coalesce(max(id), 0) from entity";
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10L);
+
+    private static final String SELECT_SHARDS_SQL =
+            "select consensus_timestamp, lower_bound, upper_bound from reconciliation_shard";
+
     private static final String TOKEN_BALANCE_QUERY =
-            "select account_id, token_id, balance from token_balance " + "where consensus_timestamp = ?";
+            """
+            select account_id, token_id, balance from token_balance
+            where consensus_timestamp = ? and account_id >= ? and account_id < ?""";
 
     private static final String TOKEN_TRANSFER_QUERY =
             """
             select account_id, token_id, sum(amount) as balance
-            from token_transfer where consensus_timestamp > ? and consensus_timestamp <= ?
+            from token_transfer
+            where consensus_timestamp > ? and consensus_timestamp <= ?
             group by token_id, account_id""";
 
+    private static final String UPSERT_SHARD_SQL =
+            """
+            insert into reconciliation_shard (consensus_timestamp, lower_bound, upper_bound)
+            values (?, ?, ?)
+            on conflict (lower_bound)
+            do update set consensus_timestamp = excluded.consensus_timestamp, upper_bound = excluded.upper_bound""";
+
     final AtomicReference<ReconciliationStatus> status;
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final JdbcOperations jdbcOperations;
-    private final RecordFileRepository recordFileRepository;
     private final ReconciliationProperties reconciliationProperties;
     private final ReconciliationJobRepository reconciliationJobRepository;
 
@@ -93,12 +139,10 @@ class BalanceReconciliationService {
             AccountBalanceFileRepository accountBalanceFileRepository,
             JdbcOperations jdbcOperations,
             MeterRegistry meterRegistry,
-            RecordFileRepository recordFileRepository,
             ReconciliationProperties reconciliationProperties,
             ReconciliationJobRepository reconciliationJobRepository) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.jdbcOperations = jdbcOperations;
-        this.recordFileRepository = recordFileRepository;
         this.reconciliationProperties = reconciliationProperties;
         this.reconciliationJobRepository = reconciliationJobRepository;
         this.status = meterRegistry.gauge(
@@ -106,7 +150,6 @@ class BalanceReconciliationService {
     }
 
     @Scheduled(cron = "${hedera.mirror.importer.reconciliation.cron:0 0 0 * * *}")
-    @SuppressWarnings("java:S3776")
     public synchronized void reconcile() {
         if (!reconciliationProperties.isEnabled()) {
             return;
@@ -114,6 +157,7 @@ class BalanceReconciliationService {
 
         var stopwatch = Stopwatch.createStarted();
         var reconciliationJob = getLatestJob();
+        var shards = Collections.<Shard>emptyList();
 
         try {
             log.info(
@@ -121,50 +165,31 @@ class BalanceReconciliationService {
                     Instant.ofEpochSecond(0, reconciliationJob.getConsensusTimestamp()),
                     reconciliationProperties.getEndDate(),
                     reconciliationProperties.getRemediationStrategy());
-            var previous = getNextBalanceSnapshot(reconciliationJob, Optional.empty());
 
-            if (previous.isEmpty()) {
+            long toTimestamp = DomainUtils.convertToNanosMax(reconciliationProperties.getEndDate());
+            if (accountBalanceFileRepository
+                    .findNextInRange(reconciliationJob.getConsensusTimestamp(), toTimestamp)
+                    .isEmpty()) {
                 log.info("No balance files to process");
                 reconciliationJob.setStatus(UNKNOWN);
                 return;
             }
 
-            var current = getNextBalanceSnapshot(reconciliationJob, previous);
-
-            while (current.isPresent()) {
-                reconcile(previous.get(), current.get());
-                reconciliationJob.increment();
-
-                if (!reconciliationJob.hasErrors()) {
-                    var consensusTimestamp =
-                            current.get().getAccountBalanceFile().getConsensusTimestamp();
-                    reconciliationJob.setConsensusTimestamp(consensusTimestamp);
-
-                    // Periodically update progress
-                    if (reconciliationJob.getCount() % 100 == 0) {
-                        reconciliationJobRepository.save(reconciliationJob);
-                    }
-                }
-
-                if (reconciliationProperties.getRemediationStrategy() == ACCUMULATE) {
-                    previous = Optional.of(current.get().toBuilder()
-                            .balances(previous.get().getBalances())
-                            .tokenBalances(previous.get().getTokenBalances())
-                            .build());
-                } else {
-                    previous = current;
-                }
-
-                current = getNextBalanceSnapshot(reconciliationJob, previous);
-            }
+            shards = getShards(reconciliationJob);
+            reconcile(reconciliationJob, shards);
 
             if (reconciliationJob.hasErrors()) {
                 log.info("Reconciled {} balance files with some errors in {}", reconciliationJob.getCount(), stopwatch);
             } else {
+                jdbcOperations.update(DELETE_SHARDS_SQL);
                 reconciliationJob.setStatus(SUCCESS);
                 log.info("Reconciled {} balance files successfully in {}", reconciliationJob.getCount(), stopwatch);
             }
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
             var errorStatus = e instanceof ReconciliationException re ? re.getStatus() : FAILURE_UNKNOWN;
             reconciliationJob.setError(e.getMessage());
             reconciliationJob.setStatus(errorStatus);
@@ -174,6 +199,7 @@ class BalanceReconciliationService {
                     stopwatch,
                     e.getMessage());
         } finally {
+            updateProgress(reconciliationJob, shards);
             reconciliationJob.setTimestampEnd(Instant.now());
             reconciliationJobRepository.save(reconciliationJob);
             status.set(reconciliationJob.getStatus());
@@ -182,12 +208,16 @@ class BalanceReconciliationService {
 
     private ReconciliationJob getLatestJob() {
         long startDate = DomainUtils.convertToNanosMax(reconciliationProperties.getStartDate());
-        long consensusTimestamp = reconciliationJobRepository
-                .findLatest()
-                .map(ReconciliationJob::getConsensusTimestamp)
-                .orElse(startDate);
+        var latest = reconciliationJobRepository.findLatest();
+        long consensusTimestamp =
+                latest.map(ReconciliationJob::getConsensusTimestamp).orElse(startDate);
         consensusTimestamp = Math.max(startDate, consensusTimestamp);
 
+        if (latest.isEmpty()) {
+            // Shard progress is only meaningful relative to a previous job
+            jdbcOperations.update(DELETE_SHARDS_SQL);
+        }
+
         var reconciliationJob = ReconciliationJob.builder()
                 .consensusTimestamp(consensusTimestamp)
                 .count(0)
@@ -200,15 +230,163 @@ class BalanceReconciliationService {
         return reconciliationJobRepository.save(reconciliationJob);
     }
 
-    private void reconcile(BalanceSnapshot previous, BalanceSnapshot current) {
-        reconcileCryptoTransfers(previous, current);
-        reconcileTokenTransfers(previous, current);
+    /**
+     * Partitions the account ID space into shards of the configured width. The first and last shards are unbounded so
+     * IDs outside the known entity range are still reconciled. A shard resumes from its persisted progress if that
+     * progress covered at least the shard's range and is after the job's starting point.
+     */
+    private List<Shard> getShards(ReconciliationJob reconciliationJob) {
+        long shardSize = reconciliationProperties.getShardSize();
+        var entityIdRange = jdbcOperations.queryForObject(
+                ENTITY_ID_RANGE_QUERY, (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)});
+        long lowerBound = Math.floorDiv(entityIdRange[0], shardSize) * shardSize;
+        long count = Math.floorDiv(entityIdRange[1] - lowerBound, shardSize) + 1;
+
+        var progress = new HashMap<Long, Shard>();
+        jdbcOperations.query(SELECT_SHARDS_SQL, rs -> {
+            var shard = new Shard(rs.getLong(2), rs.getLong(3));
+            shard.setConsensusTimestamp(rs.getLong(1));
+            progress.put(shard.getLowerBound(), shard);
+        });
+
+        var shards = new ArrayList<Shard>();
+        for (long i = 0; i < count; i++) {
+            long shardLowerBound = i == 0 ? Long.MIN_VALUE : lowerBound + i * shardSize;
+            long shardUpperBound = i == count - 1 ? Long.MAX_VALUE : lowerBound + (i + 1) * shardSize;
+            var shard = new Shard(shardLowerBound, shardUpperBound);
+            var previous = progress.get(shardLowerBound);
+            boolean resumable = previous != null && previous.getUpperBound() >= shardUpperBound;
+            shard.setConsensusTimestamp(
+                    resumable
+                            ? Math.max(previous.getConsensusTimestamp(), reconciliationJob.getConsensusTimestamp())
+                            : reconciliationJob.getConsensusTimestamp());
+            shards.add(shard);
+        }
+
+        log.info(
+                "Reconciling {} shards of {} account IDs with concurrency {}",
+                shards.size(),
+                shardSize,
+                getConcurrency());
+        return shards;
+    }
+
+    private int getConcurrency() {
+        return reconciliationProperties.getConcurrency();
+    }
+
+    private void reconcile(ReconciliationJob reconciliationJob, List<Shard> shards) throws InterruptedException {
+        var failed = new AtomicBoolean(false);
+        var totals = new ConcurrentHashMap<Long, Boolean>();
+        var transferWindows = new TransferWindows(shards, failed);
+        RuntimeException failure = null;
+
+        try (var executor = Executors.newFixedThreadPool(Math.min(getConcurrency(), shards.size()))) {
+            var futures = new ArrayList<Future<?>>();
+            for (var shard : shards) {
+                futures.add(
+                        executor.submit(() -> reconcile(reconciliationJob, shard, transferWindows, failed, totals)));
+            }
+
+            // Wait for all shards to stop, periodically saving progress, and report the first failure in shard order
+            for (var future : futures) {
+                try {
+                    await(future, reconciliationJob, shards);
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException re
+                                ? re
+                                : new IllegalStateException(e.getCause());
+                    }
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void await(Future<?> future, ReconciliationJob reconciliationJob, List<Shard> shards)
+            throws ExecutionException, InterruptedException {
+        while (true) {
+            try {
+                future.get(PROGRESS_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                synchronized (reconciliationJob) {
+                    updateProgress(reconciliationJob, shards);
+                    reconciliationJobRepository.save(reconciliationJob);
+                }
+            }
+        }
+    }
+
+    private void reconcile(
+            ReconciliationJob reconciliationJob,
+            Shard shard,
+            TransferWindows transferWindows,
+            AtomicBoolean failed,
+            Map<Long, Boolean> totals) {
+        transferWindows.start(shard);
+
+        try {
+            var previous = getNextBalanceSnapshot(shard, Optional.empty(), totals);
+            if (previous.isEmpty()) {
+                return;
+            }
+
+            var current = getNextBalanceSnapshot(shard, previous, totals);
+
+            while (current.isPresent() && !failed.get()) {
+                // Only the errors of this pass prevent its checkpoint, so a shard reset after errors resumes progress
+                shard.setErrors(false);
+                var transfers = transferWindows.take(shard, previous.get(), current.get());
+                reconcile(reconciliationJob, shard, transfers, previous.get(), current.get());
+                shard.increment();
+
+                if (!shard.isErrors()) {
+                    var consensusTimestamp =
+                            current.get().getAccountBalanceFile().getConsensusTimestamp();
+                    shard.setConsensusTimestamp(consensusTimestamp);
+                    jdbcOperations.update(
+                            UPSERT_SHARD_SQL, consensusTimestamp, shard.getLowerBound(), shard.getUpperBound());
+                }
+
+                if (reconciliationProperties.getRemediationStrategy() == ACCUMULATE) {
+                    previous = Optional.of(current.get().toBuilder()
+                            .balances(previous.get().getBalances())
+                            .tokenBalances(previous.get().getTokenBalances())
+                            .build());
+                } else {
+                    previous = current;
+                }
+
+                current = getNextBalanceSnapshot(shard, previous, totals);
+            }
+        } catch (RuntimeException e) {
+            failed.set(true);
+            throw e;
+        } finally {
+            transferWindows.stop(shard);
+        }
+    }
+
+    private void reconcile(
+            ReconciliationJob reconciliationJob,
+            Shard shard,
+            Transfers transfers,
+            BalanceSnapshot previous,
+            BalanceSnapshot current) {
+        reconcileCryptoTransfers(reconciliationJob, shard, transfers, previous, current);
+        reconcileTokenTransfers(reconciliationJob, shard, transfers, previous, current);
 
         long elapsed = System.currentTimeMillis() - current.getStartTime();
         String name = current.getAccountBalanceFile().getName();
-        log.info(
-                "Reconciled balance file {} with {} balances and {} token balances in {} ms",
+        log.debug(
+                "Reconciled balance file {} for shard {} with {} balances and {} token balances in {} ms",
                 name,
+                shard,
                 current.getBalances().size(),
                 current.getTokenBalances().size(),
                 elapsed);
@@ -218,47 +396,46 @@ class BalanceReconciliationService {
         }
     }
 
-    private void reconcileCryptoTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
+    private void reconcileCryptoTransfers(
+            ReconciliationJob reconciliationJob,
+            Shard shard,
+            Transfers transfers,
+            BalanceSnapshot previous,
+            BalanceSnapshot current) {
         var transfersBalance = previous.getBalances();
+        transfers.getBalances().forEach((id, balance) -> transfersBalance.merge(id, balance, Math::addExact));
 
-        jdbcOperations.query(
-                CRYPTO_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long balance = rs.getLong(2);
-                    transfersBalance.merge(accountId, balance, Math::addExact);
-                },
-                previous.getTimestamp(),
-                current.getTimestamp());
-
-        reconcileTransfers(FAILURE_CRYPTO_TRANSFERS, BalanceSnapshot::getBalances, previous, current);
+        reconcileTransfers(
+                FAILURE_CRYPTO_TRANSFERS, BalanceSnapshot::getBalances, reconciliationJob, shard, previous, current);
     }
 
-    private void reconcileTokenTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
+    private void reconcileTokenTransfers(
+            ReconciliationJob reconciliationJob,
+            Shard shard,
+            Transfers transfers,
+            BalanceSnapshot previous,
+            BalanceSnapshot current) {
         if (!reconciliationProperties.isToken()) {
             return;
         }
 
         var tokenBalances = previous.getTokenBalances();
-
-        jdbcOperations.query(
-                TOKEN_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long tokenId = rs.getLong(2);
-                    long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    tokenBalances.merge(tokenAccountId, balance, Math::addExact);
-                },
-                previous.getTimestamp(),
-                current.getTimestamp());
-
-        reconcileTransfers(FAILURE_TOKEN_TRANSFERS, BalanceSnapshot::getTokenBalances, previous, current);
+        transfers.getTokenBalances().forEach((id, balance) -> tokenBalances.merge(id, balance, Math::addExact));
+
+        reconcileTransfers(
+                FAILURE_TOKEN_TRANSFERS,
+                BalanceSnapshot::getTokenBalances,
+                reconciliationJob,
+                shard,
+                previous,
+                current);
     }
 
     private <K> void reconcileTransfers(
             ReconciliationStatus failureStatus,
             Function<BalanceSnapshot, Map<K, Long>> mapper,
+            ReconciliationJob reconciliationJob,
+            Shard shard,
             BalanceSnapshot previous,
             BalanceSnapshot current) {
         var transfersBalance = mapper.apply(previous);
@@ -268,17 +445,18 @@ class BalanceReconciliationService {
             long fromTimestamp = previous.getTimestamp();
             long toTimestamp = current.getTimestamp();
             var difference = Maps.difference(transfersBalance, currentBalances);
+            var error = String.format(failureStatus.getMessage(), fromTimestamp, toTimestamp, difference);
+            log.warn("Shard {} failed to reconcile: {}", shard, error);
 
             if (reconciliationProperties.getRemediationStrategy() == FAIL) {
                 throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
             }
 
-            var error = String.format(failureStatus.getMessage(), fromTimestamp, toTimestamp, difference);
-            log.warn(error);
-
-            var reconciliationJob = previous.getReconciliationJob();
-            reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), error));
-            reconciliationJob.setStatus(failureStatus);
+            shard.setErrors(true);
+            synchronized (reconciliationJob) {
+                reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), error));
+                reconciliationJob.setStatus(failureStatus);
+            }
         }
     }
 
@@ -299,30 +477,43 @@ class BalanceReconciliationService {
     }
 
     private Optional<BalanceSnapshot> getNextBalanceSnapshot(
-            ReconciliationJob reconciliationJob, Optional<BalanceSnapshot> previous) {
+            Shard shard, Optional<BalanceSnapshot> previous, Map<Long, Boolean> totals) {
 
         long startTime = System.currentTimeMillis();
         long toTimestamp = DomainUtils.convertToNanosMax(reconciliationProperties.getEndDate());
         long fromTimestamp = previous.map(BalanceSnapshot::getAccountBalanceFile)
                 .map(AccountBalanceFile::getConsensusTimestamp)
                 .map(t -> t + 1L)
-                .orElseGet(reconciliationJob::getConsensusTimestamp);
+                .orElseGet(shard::getConsensusTimestamp);
 
         return accountBalanceFileRepository
                 .findNextInRange(fromTimestamp, toTimestamp)
                 .map(accountBalanceFile -> {
-                    var timestamp = accountBalanceFile.getConsensusTimestamp();
-                    var balances = getAccountBalances(accountBalanceFile);
-                    var recordFile = recordFileRepository.findNextBetween(timestamp - 1L, Long.MAX_VALUE);
-                    var tokenBalances = getTokenBalances(accountBalanceFile);
-                    return new BalanceSnapshot(
-                            accountBalanceFile, balances, recordFile, reconciliationJob, startTime, tokenBalances);
+                    // Every shard checks the whole file adds up before using its part, but only the first one queries
+                    long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
+                    totals.computeIfAbsent(consensusTimestamp, t -> checkTotal(accountBalanceFile));
+                    var balances = getAccountBalances(accountBalanceFile, shard);
+                    var tokenBalances = getTokenBalances(accountBalanceFile, shard);
+                    return new BalanceSnapshot(accountBalanceFile, balances, startTime, tokenBalances);
                 });
     }
 
-    private Map<Long, Long> getAccountBalances(AccountBalanceFile accountBalanceFile) {
+    private Boolean checkTotal(AccountBalanceFile accountBalanceFile) {
+        var total = Objects.requireNonNullElse(
+                jdbcOperations.queryForObject(
+                        BALANCE_TOTAL_QUERY, BigDecimal.class, accountBalanceFile.getConsensusTimestamp()),
+                BigDecimal.ZERO);
+
+        if (total.compareTo(BigDecimal.valueOf(FIFTY_BILLION_HBARS)) != 0) {
+            String name = accountBalanceFile.getName();
+            throw new ReconciliationException(FAILURE_FIFTY_BILLION, name, total.toBigInteger());
+        }
+
+        return Boolean.TRUE;
+    }
+
+    private Map<Long, Long> getAccountBalances(AccountBalanceFile accountBalanceFile, Shard shard) {
         Map<Long, Long> balances = new HashMap<>();
-        AtomicLong total = new AtomicLong(0L);
         long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
 
         jdbcOperations.query(
@@ -331,19 +522,15 @@ class BalanceReconciliationService {
                     long accountId = rs.getLong(1);
                     long balance = rs.getLong(2);
                     balances.put(accountId, balance);
-                    total.addAndGet(balance);
                 },
-                consensusTimestamp);
-
-        if (total.get() != FIFTY_BILLION_HBARS) {
-            String name = accountBalanceFile.getName();
-            throw new ReconciliationException(FAILURE_FIFTY_BILLION, name, total.get());
-        }
+                consensusTimestamp,
+                shard.getLowerBound(),
+                shard.getUpperBound());
 
         return balances;
     }
 
-    private Map<TokenAccountId, Long> getTokenBalances(AccountBalanceFile accountBalanceFile) {
+    private Map<TokenAccountId, Long> getTokenBalances(AccountBalanceFile accountBalanceFile, Shard shard) {
         if (!reconciliationProperties.isToken()) {
             return Collections.emptyMap();
         }
@@ -360,25 +547,202 @@ class BalanceReconciliationService {
                     var tokenAccountId = new TokenAccountId(accountId, tokenId);
                     balances.put(tokenAccountId, balance);
                 },
-                consensusTimestamp);
+                consensusTimestamp,
+                shard.getLowerBound(),
+                shard.getUpperBound());
 
         return balances;
     }
 
+    // The job has reconciled up to where its slowest shard has and covered as many files as its busiest shard
+    private void updateProgress(ReconciliationJob reconciliationJob, List<Shard> shards) {
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        synchronized (reconciliationJob) {
+            reconciliationJob.setConsensusTimestamp(shards.stream()
+                    .mapToLong(Shard::getConsensusTimestamp)
+                    .min()
+                    .orElseThrow());
+            reconciliationJob.setCount(
+                    shards.stream().mapToLong(Shard::getCount).max().orElseThrow());
+        }
+    }
+
+    /**
+     * The sums of the crypto and token transfers of a shard's accounts between two balance files.
+     */
+    @Value
+    private static class Transfers {
+        private final Map<Long, Long> balances = new HashMap<>();
+        private final Map<TokenAccountId, Long> tokenBalances = new HashMap<>();
+    }
+
+    /**
+     * Every shard reconciles the same windows between consecutive balance files, so the transfers of a window are
+     * queried once by the first shard that reaches it and bucketed by shard. Buckets are only created for the running
+     * shards that haven't passed the window, and the window is dropped once all of them took their bucket. A shard that
+     * started after a window was queried queries it on its own. At most the configured number of windows are held, so
+     * the fastest shard waits for the others to catch up and memory is bounded by the concurrency, not the shards.
+     */
+    private class TransferWindows {
+
+        private final AtomicBoolean failed;
+        private final NavigableSet<Long> lowerBounds = new TreeSet<>();
+        // The consensus timestamp of the next window of each running shard by lower bound
+        private final Map<Long, Long> positions = new HashMap<>();
+        private final Map<Window, Supplier<Map<Long, Transfers>>> windows = new HashMap<>();
+        private long latest = Long.MIN_VALUE;
+
+        private TransferWindows(List<Shard> shards, AtomicBoolean failed) {
+            this.failed = failed;
+            shards.forEach(s -> lowerBounds.add(s.getLowerBound()));
+        }
+
+        private synchronized void start(Shard shard) {
+            positions.put(shard.getLowerBound(), shard.getConsensusTimestamp());
+        }
+
+        private synchronized void stop(Shard shard) {
+            positions.remove(shard.getLowerBound());
+            notifyAll();
+        }
+
+        private Transfers take(Shard shard, BalanceSnapshot previous, BalanceSnapshot current) {
+            long lowerBound = shard.getLowerBound();
+            var window = new Window(
+                    previous.getAccountBalanceFile().getConsensusTimestamp(),
+                    previous.getTimestamp(),
+                    current.getTimestamp());
+            var supplier = get(lowerBound, window, current.getAccountBalanceFile().getConsensusTimestamp());
+            Transfers transfers = null;
+
+            if (supplier != null) {
+                var buckets = supplier.get();
+                transfers = buckets.remove(lowerBound);
+
+                if (buckets.isEmpty()) {
+                    remove(window);
+                }
+            }
+
+            if (transfers == null) {
+                transfers = query(window, Set.of(lowerBound)).get(lowerBound);
+            }
+
+            return transfers;
+        }
+
+        /**
+         * Gets the window, creating it if no shard reached it yet once there's room for it. Only the window after the
+         * latest one waits for room, and all the outstanding buckets are in earlier windows of shards that don't wait,
+         * so the wait always ends.
+         */
+        private synchronized Supplier<Map<Long, Transfers>> get(long lowerBound, Window window, long next) {
+            try {
+                var supplier = windows.get(window);
+
+                while (supplier == null && window.consensusTimestamp() > latest) {
+                    if (windows.size() < reconciliationProperties.getMaxPendingWindows() || failed.get()) {
+                        var shards = new HashSet<Long>();
+                        positions.forEach((shardLowerBound, position) -> {
+                            if (position <= window.consensusTimestamp()) {
+                                shards.add(shardLowerBound);
+                            }
+                        });
+
+                        latest = window.consensusTimestamp();
+                        supplier = Suppliers.memoize(() -> query(window, shards));
+                        windows.put(window, supplier);
+                    } else {
+                        wait();
+                        supplier = windows.get(window);
+                    }
+                }
+
+                return supplier;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for shards to reconcile transfers", e);
+            } finally {
+                positions.put(lowerBound, next);
+            }
+        }
+
+        private synchronized void remove(Window window) {
+            windows.remove(window);
+            notifyAll();
+        }
+
+        private Map<Long, Transfers> query(Window window, Set<Long> shards) {
+            var buckets = new ConcurrentHashMap<Long, Transfers>();
+            shards.forEach(lowerBound -> buckets.put(lowerBound, new Transfers()));
+
+            jdbcOperations.query(
+                    CRYPTO_TRANSFER_QUERY,
+                    rs -> {
+                        long accountId = rs.getLong(1);
+                        var transfers = buckets.get(lowerBounds.floor(accountId));
+                        if (transfers != null) {
+                            transfers.getBalances().put(accountId, rs.getLong(2));
+                        }
+                    },
+                    window.fromTimestamp(),
+                    window.toTimestamp());
+
+            if (reconciliationProperties.isToken()) {
+                jdbcOperations.query(
+                        TOKEN_TRANSFER_QUERY,
+                        rs -> {
+                            long accountId = rs.getLong(1);
+                            var transfers = buckets.get(lowerBounds.floor(accountId));
+                            if (transfers != null) {
+                                var tokenAccountId = new TokenAccountId(accountId, rs.getLong(2));
+                                transfers.getTokenBalances().put(tokenAccountId, rs.getLong(3));
+                            }
+                        },
+                        window.fromTimestamp(),
+                        window.toTimestamp());
+            }
+
+            return buckets;
+        }
+    }
+
+    private record Window(long consensusTimestamp, long fromTimestamp, long toTimestamp) {}
+
     @Value
     static class TokenAccountId {
         private final long accountId;
         private final long tokenId;
     }
 
+    @Data
+    private static class Shard {
+
+        private final long lowerBound;
+        private final long upperBound;
+        private volatile long consensusTimestamp;
+        private volatile long count;
+        private volatile boolean errors;
+
+        private void increment() {
+            ++count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%d, %d)", lowerBound, upperBound);
+        }
+    }
+
     @Builder(toBuilder = true)
     @Value
     private static class BalanceSnapshot {
 
         private final AccountBalanceFile accountBalanceFile;
         private final Map<Long, Long> balances;
-        private final Optional<RecordFile> recordFile;
-        private final ReconciliationJob reconciliationJob;
         private final long startTime;
         private final Map<TokenAccountId, Long> tokenBalances;
 
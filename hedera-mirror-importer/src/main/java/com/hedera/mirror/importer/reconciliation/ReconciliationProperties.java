@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.reconciliation;
 
 import com.hedera.mirror.importer.util.Utility;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
@@ -31,6 +32,9 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.importer.reconciliation")
 class ReconciliationProperties {
 
+    @Min(1)
+    private int concurrency = 4;
+
     @NotBlank
     private String cron = "0 0 0 * * *"; // Every day at midnight
 
@@ -42,8 +46,16 @@ class ReconciliationProperties {
     @NotNull
     private Instant endDate = Utility.MAX_INSTANT_LONG;
 
+    // The windows between balance files whose transfers are held for shards that didn't reconcile them yet
+    @Min(1)
+    private int maxPendingWindows = 10;
+
     private RemediationStrategy remediationStrategy = RemediationStrategy.FAIL;
 
+    // The width of the account ID range reconciled by each shard, which bounds the balances held in memory per shard
+    @Min(1)
+    private long shardSize = 500_000L;
+
     @NotNull
     private Instant startDate = Instant.EPOCH;
 
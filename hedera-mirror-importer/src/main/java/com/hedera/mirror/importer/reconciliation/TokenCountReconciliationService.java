@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reconciliation;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.CustomLog;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Verifies the token counts maintained by the importer in account_token_count match the counts aggregated from the
+ * token_account and nft tables. Mismatches are logged and exposed as a metric.
+ */
+@CustomLog
+@Named
+class TokenCountReconciliationService {
+
+    static final String METRIC = "hedera.mirror.reconciliation.token.count.mismatch";
+
+    private static final int MAX_LOGGED_MISMATCHES = 100;
+    private static final String MISMATCH_QUERY =
+            """
+            select
+              c.account_id,
+              c.associated_count,
+              c.nft_count,
+              c.positive_balance_count,
+              coalesce(ta.associated_count, 0) as expected_associated_count,
+              coalesce(n.nft_count, 0) as expected_nft_count,
+              coalesce(ta.positive_balance_count, 0) as expected_positive_balance_count
+            from account_token_count c
+            left join lateral (
+              select count(*) as associated_count, count(*) filter (where balance > 0) as positive_balance_count
+              from token_account
+              where account_id = c.account_id and associated is true
+            ) ta on true
+            left join lateral (
+              select count(*) as nft_count
+              from nft
+              join entity e on e.id = nft.token_id
+              where nft.account_id = c.account_id and nft.deleted is false and e.deleted is not true
+            ) n on true
+            where (c.associated_count, c.nft_count, c.positive_balance_count) <>
+              (coalesce(ta.associated_count, 0), coalesce(n.nft_count, 0), coalesce(ta.positive_balance_count, 0))
+            """;
+
+    final AtomicLong mismatches;
+
+    private final EntityProperties entityProperties;
+    private final JdbcOperations jdbcOperations;
+    private final ReconciliationProperties reconciliationProperties;
+
+    TokenCountReconciliationService(
+            EntityProperties entityProperties,
+            JdbcOperations jdbcOperations,
+            MeterRegistry meterRegistry,
+            ReconciliationProperties reconciliationProperties) {
+        this.entityProperties = entityProperties;
+        this.jdbcOperations = jdbcOperations;
+        this.reconciliationProperties = reconciliationProperties;
+        this.mismatches = meterRegistry.gauge(METRIC, new AtomicLong(0L));
+    }
+
+    @Scheduled(cron = "${hedera.mirror.importer.reconciliation.cron:0 0 0 * * *}")
+    public synchronized void reconcile() {
+        if (!reconciliationProperties.isEnabled() || !entityProperties.getPersist().isTrackTokenCounts()) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        var count = new AtomicLong(0L);
+
+        try {
+            // The counts are updated in the same transaction as the token accounts and nfts, so the query sees them
+            // in a consistent snapshot
+            jdbcOperations.query(MISMATCH_QUERY, rs -> {
+                if (count.incrementAndGet() <= MAX_LOGGED_MISMATCHES) {
+                    log.warn(
+                            "Token counts of account {} are ({}, {}, {}) but expected ({}, {}, {})",
+                            rs.getLong("account_id"),
+                            rs.getInt("associated_count"),
+                            rs.getLong("nft_count"),
+                            rs.getInt("positive_balance_count"),
+                            rs.getInt("expected_associated_count"),
+                            rs.getLong("expected_nft_count"),
+                            rs.getInt("expected_positive_balance_count"));
+                }
+            });
+
+            mismatches.set(count.get());
+
+            if (count.get() == 0) {
+                log.info("Token counts of all accounts match in {}", stopwatch);
+            } else {
+                log.error("Token counts of {} accounts don't match in {}", count.get(), stopwatch);
+            }
+        } catch (Exception e) {
+            log.error("Error reconciling token counts after {}", stopwatch, e);
+        }
+    }
+}
@@ -66,6 +66,33 @@ public interface AccountBalanceRepository
     @Transactional
     int balanceSnapshotDeduplicate(long maxConsensusTimestamp, long consensusTimestamp);
 
+    @Override
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value =
+                    """
+        insert into account_balance (account_id, balance, consensus_timestamp)
+        select id, balance, :consensusTimestamp
+        from entity
+        where id in (
+            select 2
+            union
+            select account_id
+            from balance_change
+            where consensus_timestamp <= :consensusTimestamp and token_id = 0
+          ) and
+          (id = 2 or balance is not null)
+        order by id
+        """)
+    @Transactional
+    int balanceSnapshotChanged(long consensusTimestamp);
+
+    @Modifying
+    @Query(value = "delete from balance_change where consensus_timestamp <= ?1", nativeQuery = true)
+    @Transactional
+    int deleteBalanceChanges(long consensusTimestamp);
+
     @Query(
             nativeQuery = true,
             value =
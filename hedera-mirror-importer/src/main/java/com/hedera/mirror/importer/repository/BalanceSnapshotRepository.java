@@ -37,4 +37,14 @@ interface BalanceSnapshotRepository {
      * @return The number of balance rows inserted
      */
     int balanceSnapshotDeduplicate(long maxConsensusTimestamp, long consensusTimestamp);
+
+    /**
+     * Generates a balance snapshot from state in database.
+     * Only adds entries for items recorded in the balance_change table at or before the consensusTimestamp, i.e., the
+     * items with balances changed since the last snapshot.
+     *
+     * @param consensusTimestamp The consensus timestamp of the balance snapshot.
+     * @return The number of balance rows inserted
+     */
+    int balanceSnapshotChanged(long consensusTimestamp);
 }
@@ -16,7 +16,23 @@
 
 package com.hedera.mirror.importer.repository;
 
+import java.util.Optional;
+
 interface EntityStakeRepositoryCustom {
 
-    void createEntityStateStart();
+    /**
+     * Creates the entity state snapshot at the end of the next staking period from scratch.
+     *
+     * @return the end period timestamp of the snapshot, or empty if there's no staking period to end
+     */
+    Optional<Long> createEntityStateStart();
+
+    /**
+     * Updates the entity state snapshot at the end of the last staking period to the end of the next staking period by
+     * only recomputing the entities changed in between, as tracked in entity_stake_change.
+     *
+     * @param lastEndPeriodTimestamp the end period timestamp of the current snapshot
+     * @return the end period timestamp of the snapshot, or empty if the snapshot can't be updated incrementally
+     */
+    Optional<Long> updateEntityStateStart(long lastEndPeriodTimestamp);
 }
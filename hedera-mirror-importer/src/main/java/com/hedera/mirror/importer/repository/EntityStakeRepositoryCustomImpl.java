@@ -37,9 +37,29 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
             drop index if exists entity_state_start__staked_account_id;
             truncate entity_state_start;
             """;
-    private static final String CREATE_ENTITY_STATE_START_SQL =
+    private static final String CHANGED_CTE =
             """
-            with entity_state as (
+            changed as (
+              select id
+              from entity_stake_change
+              where consensus_timestamp > :lastEndPeriodTimestamp and consensus_timestamp <= :endPeriodTimestamp
+              union
+              select 800
+            )
+            """;
+    private static final String CHANGED_FILTER = "and %s in (select id from changed)";
+    private static final String DELETE_CHANGED_SQL =
+            """
+            with %s
+            delete from entity_state_start where id in (select id from changed)
+            """
+                    .formatted(CHANGED_CTE);
+    private static final String DELETE_ENTITY_STAKE_CHANGE_SQL =
+            "delete from entity_stake_change where consensus_timestamp <= ?";
+    // Formatted with the changed entities cte and the filters of entity id, account balance and crypto transfer
+    private static final String ENTITY_STATE_START_SQL =
+            """
+            with %1$sentity_state as (
               select
                 id,
                 staked_account_id,
@@ -51,7 +71,7 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
                 type in ('ACCOUNT', 'CONTRACT') and
                 timestamp_range @> :endPeriodTimestamp and
                 (staked_account_id <> 0 or (decline_reward is false and staked_node_id <> -1))
-              )
+              ) %2$s
               union all
               select *
               from (
@@ -67,13 +87,14 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
                   type in ('ACCOUNT', 'CONTRACT') and
                   timestamp_range @> :endPeriodTimestamp and
                   (staked_account_id <> 0 or (decline_reward is false and staked_node_id <> -1))
-                )
+                ) %2$s
                 order by id, timestamp_range desc
               ) as latest_history
             ), balance_snapshot as (
               select distinct on (account_id) account_id, balance
               from account_balance
               where consensus_timestamp > :lowerBalanceTimestamp and consensus_timestamp <= :balanceSnapshotTimestamp
+                %3$s
               order by account_id, consensus_timestamp desc
             )
             insert into entity_state_start (balance, id, staked_account_id, staked_node_id, stake_period_start)
@@ -89,9 +110,16 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
               select entity_id, sum(amount) as change
               from crypto_transfer
               where consensus_timestamp <= :endPeriodTimestamp and consensus_timestamp > :balanceSnapshotTimestamp
+                %4$s
               group by entity_id
             ) as balance_change on entity_id = id;
             """;
+    private static final String CREATE_ENTITY_STATE_START_SQL = ENTITY_STATE_START_SQL.formatted("", "", "", "");
+    private static final String UPDATE_ENTITY_STATE_START_SQL = ENTITY_STATE_START_SQL.formatted(
+            CHANGED_CTE.strip() + ", ",
+            CHANGED_FILTER.formatted("id"),
+            CHANGED_FILTER.formatted("account_id"),
+            CHANGED_FILTER.formatted("entity_id"));
     private static final String CREATE_TABLE_INDEX_DDL =
             """
             create index if not exists entity_state_start__id on entity_state_start (id);
@@ -121,6 +149,10 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
             order by epoch_day
             limit 1
             """;
+    private static final String HAS_ENTITY_STATE_START_SQL =
+            "select exists(select 1 from entity_state_start where id = 800)";
+    private static final String END_PERIOD_TIMESTAMP = "endPeriodTimestamp";
+    private static final String LAST_END_PERIOD_TIMESTAMP = "lastEndPeriodTimestamp";
     private static final long ONE_MONTH_IN_NS = Duration.ofDays(31).toNanos();
 
     private final AccountBalanceRepository accountBalanceRepository;
@@ -129,12 +161,48 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
     @Modifying
     @Override
     @Transactional
-    public void createEntityStateStart() {
+    public Optional<Long> createEntityStateStart() {
         jdbcTemplate.execute(CLEANUP_TABLE_SQL);
 
+        var params = getParams();
+        if (params.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        namedParameterJdbcTemplate.update(CREATE_ENTITY_STATE_START_SQL, params.get());
+        jdbcTemplate.execute(CREATE_TABLE_INDEX_DDL);
+        return deleteEntityStakeChanges(params.get());
+    }
+
+    @Modifying
+    @Override
+    @Transactional
+    public Optional<Long> updateEntityStateStart(long lastEndPeriodTimestamp) {
+        var params = getParams();
+        if (params.isEmpty()
+                || (long) params.get().getValue(END_PERIOD_TIMESTAMP) < lastEndPeriodTimestamp
+                || !Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_ENTITY_STATE_START_SQL, Boolean.class))) {
+            return Optional.empty();
+        }
+
+        params.get().addValue(LAST_END_PERIOD_TIMESTAMP, lastEndPeriodTimestamp);
+        var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        namedParameterJdbcTemplate.update(DELETE_CHANGED_SQL, params.get());
+        namedParameterJdbcTemplate.update(UPDATE_ENTITY_STATE_START_SQL, params.get());
+        return deleteEntityStakeChanges(params.get());
+    }
+
+    private Optional<Long> deleteEntityStakeChanges(MapSqlParameterSource params) {
+        long endPeriodTimestamp = (long) params.getValue(END_PERIOD_TIMESTAMP);
+        jdbcTemplate.update(DELETE_ENTITY_STAKE_CHANGE_SQL, endPeriodTimestamp);
+        return Optional.of(endPeriodTimestamp);
+    }
+
+    private Optional<MapSqlParameterSource> getParams() {
         var endPeriodTimestamp = getEndPeriodTimestamp();
         if (endPeriodTimestamp.isEmpty()) {
-            return;
+            return Optional.empty();
         }
 
         // Add 1 for upper because the upper in getMaxConsensusTimestampInRange is exclusive
@@ -143,17 +211,14 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
         var balanceSnapshotTimestamp =
                 accountBalanceRepository.getMaxConsensusTimestampInRange(lowerTimestamp, upperTimestamp);
         if (balanceSnapshotTimestamp.isEmpty()) {
-            return;
+            return Optional.empty();
         }
 
         long lowerBalanceTimestamp = balanceSnapshotTimestamp.get() - ONE_MONTH_IN_NS;
-        var params = new MapSqlParameterSource()
+        return Optional.of(new MapSqlParameterSource()
                 .addValue("balanceSnapshotTimestamp", balanceSnapshotTimestamp.get())
-                .addValue("endPeriodTimestamp", endPeriodTimestamp.get())
-                .addValue("lowerBalanceTimestamp", lowerBalanceTimestamp);
-        var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
-        namedParameterJdbcTemplate.update(CREATE_ENTITY_STATE_START_SQL, params);
-        jdbcTemplate.execute(CREATE_TABLE_INDEX_DDL);
+                .addValue(END_PERIOD_TIMESTAMP, endPeriodTimestamp.get())
+                .addValue("lowerBalanceTimestamp", lowerBalanceTimestamp));
     }
 
     private Optional<Long> getEndPeriodTimestamp() {
@@ -60,4 +60,23 @@ public interface TokenBalanceRepository
         """)
     @Transactional
     int balanceSnapshotDeduplicate(long maxConsensusTimestamp, long consensusTimestamp);
+
+    @Override
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value =
+                    """
+        insert into token_balance (account_id, balance, consensus_timestamp, token_id)
+        select account_id, balance, :consensusTimestamp, token_id
+        from token_account
+        where (account_id, token_id) in (
+            select account_id, token_id
+            from balance_change
+            where consensus_timestamp <= :consensusTimestamp and token_id <> 0
+          )
+        order by account_id, token_id
+        """)
+    @Transactional
+    int balanceSnapshotChanged(long consensusTimestamp);
 }
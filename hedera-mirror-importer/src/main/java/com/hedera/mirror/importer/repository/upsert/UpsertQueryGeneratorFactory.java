@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.repository.upsert;
 import jakarta.inject.Named;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
@@ -31,11 +32,26 @@ public class UpsertQueryGeneratorFactory {
     private final EntityMetadataRegistry entityMetadataRegistry;
     private final Collection<UpsertQueryGenerator> existingGenerators;
     private final Map<Class<?>, UpsertQueryGenerator> upsertQueryGenerators = new ConcurrentHashMap<>();
+    private final Map<Class<?>, UpsertRowMerger> upsertRowMergers = new ConcurrentHashMap<>();
 
     public UpsertQueryGenerator get(Class<?> domainClass) {
         return upsertQueryGenerators.computeIfAbsent(domainClass, this::findOrCreate);
     }
 
+    /**
+     * Gets the row merger for a domain class that uses the generic upsert query. A domain class with its own upsert
+     * query generator has rules that can't be merged generically, so it has no row merger.
+     */
+    public Optional<UpsertRowMerger> getRowMerger(Class<?> domainClass) {
+        if (!(get(domainClass) instanceof GenericUpsertQueryGenerator)) {
+            return Optional.empty();
+        }
+
+        var upsertRowMerger = upsertRowMergers.computeIfAbsent(
+                domainClass, c -> new UpsertRowMerger(entityMetadataRegistry.lookup(c)));
+        return Optional.of(upsertRowMerger).filter(UpsertRowMerger::isSupported);
+    }
+
     /**
      * This method relies on the convention that the domain class and its associated UpsertQueryGenerator have the same
      * prefix. Otherwise, it falls back to creating a generic upsert query generator.
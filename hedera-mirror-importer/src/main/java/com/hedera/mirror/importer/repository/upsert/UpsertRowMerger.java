@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.repository.upsert;
+
+import com.hedera.mirror.common.domain.entity.AbstractEntity;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.domain.token.AbstractToken;
+import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Merges a partial non-history update into the known current state of its row in Java, following the same rules the
+ * upsert query applies in SQL. The merged row is complete, so it can be written with {@link #getUpsertQuery()} which
+ * doesn't join against the final table.
+ * <p>
+ * Columns with a custom {@link com.hedera.mirror.common.domain.UpsertColumn} coalesce expression need a Java
+ * counterpart in {@link #CUSTOM_MERGES}. A table with a custom column that has no counterpart is not supported, so a
+ * new custom column can never be merged with different rules than its SQL.
+ */
+public class UpsertRowMerger {
+
+    private static final Object UNMERGEABLE = new Object();
+    private static final String CREATED_TIMESTAMP = "created_timestamp";
+
+    private static final Map<String, ColumnMerge> CUSTOM_MERGES = Map.of(
+            "entity.balance", UpsertRowMerger::mergeEntityBalance,
+            "entity.ethereum_nonce", UpsertRowMerger::mergeEntityEthereumNonce,
+            "token.total_supply", UpsertRowMerger::mergeTokenTotalSupply,
+            "token_account.balance", UpsertRowMerger::mergeTokenAccountBalance,
+            "token_account.freeze_status", UpsertRowMerger::mergeTokenAccountStatus,
+            "token_account.kyc_status", UpsertRowMerger::mergeTokenAccountStatus);
+
+    private final List<ColumnMetadata> columns;
+    private final ColumnMetadata createdTimestamp;
+    private final EntityMetadata metadata;
+
+    @Getter
+    private final boolean supported;
+
+    @Getter
+    private final String upsertQuery;
+
+    UpsertRowMerger(EntityMetadata metadata) {
+        this.metadata = metadata;
+        columns = metadata.getColumns().stream().filter(c -> !c.isId()).toList();
+        createdTimestamp = columns.stream()
+                .filter(c -> CREATED_TIMESTAMP.equals(c.getName()))
+                .findFirst()
+                .orElse(null);
+        supported = metadata.getUpsertable().history()
+                && columns.stream().filter(UpsertRowMerger::isCustom).allMatch(c -> getCustomMerge(c) != null);
+        var insertColumns = metadata.columns("{0}");
+        upsertQuery = String.format(
+                "insert into %s (%s) select %s from %s on conflict (%s) do update set %s",
+                metadata.getTableName(),
+                insertColumns,
+                insertColumns,
+                metadata.getTableName() + UpsertQueryGenerator.TEMP_SUFFIX,
+                metadata.columns(ColumnMetadata::isId, "{0}"),
+                metadata.columns(ColumnMetadata::isUpdatable, "{0} = excluded.{0}"));
+    }
+
+    public String getTableName() {
+        return metadata.getTableName();
+    }
+
+    /**
+     * Merges the non-history update into the existing row. The update is only modified if every column could be merged
+     * the same way as in SQL. Merging fails if a column would fall back to its database default, or if the row would be
+     * skipped as a partial update without a created timestamp.
+     *
+     * @param existing the current state of the row, which is not modified
+     * @param update   the partial non-history update to merge into a complete row
+     * @return whether the update now contains the complete merged row
+     */
+    public boolean merge(Object existing, Object update) {
+        if (!supported) {
+            return false;
+        }
+
+        if (metadata.getUpsertable().skipPartialUpdate()
+                && createdTimestamp != null
+                && createdTimestamp.getGetter().apply(existing) == null
+                && createdTimestamp.getGetter().apply(update) == null) {
+            return false;
+        }
+
+        var values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            var value = merge(columns.get(i), existing, update);
+            if (value == UNMERGEABLE) {
+                return false;
+            }
+            values[i] = value;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            columns.get(i).getSetter().accept(update, values[i]);
+        }
+
+        return true;
+    }
+
+    private Object merge(ColumnMetadata column, Object existing, Object update) {
+        var existingValue = column.getGetter().apply(existing);
+
+        // Conflicting rows keep the existing value of a column that isn't updatable
+        if (!column.isUpdatable()) {
+            return existingValue;
+        } else if (isCustom(column)) {
+            return getCustomMerge(column).merge(column, existing, update);
+        }
+
+        var value = column.getGetter().apply(update);
+        if (column.getUpsertColumn() != null && !column.getUpsertColumn().shouldCoalesce()) {
+            return value;
+        }
+
+        return coalesce(column, value, existingValue);
+    }
+
+    private ColumnMerge getCustomMerge(ColumnMetadata column) {
+        return CUSTOM_MERGES.get(metadata.getTableName() + "." + column.getName());
+    }
+
+    private static boolean isCustom(ColumnMetadata column) {
+        var upsertColumn = column.getUpsertColumn();
+        return upsertColumn != null && upsertColumn.shouldCoalesce() && StringUtils.isNotBlank(upsertColumn.coalesce());
+    }
+
+    // coalesce({0}, e_{0}, {1}) where falling back to the database default is left to SQL
+    private static Object coalesce(ColumnMetadata column, Object value, Object existingValue) {
+        if (value != null) {
+            return value;
+        } else if (existingValue != null) {
+            return existingValue;
+        }
+
+        return column.getDefaultValue() == null ? null : UNMERGEABLE;
+    }
+
+    private static long zeroIfNull(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static EntityType getEntityType(AbstractEntity existing, AbstractEntity update) {
+        return existing.getType() != null ? existing.getType() : update.getType();
+    }
+
+    private static Object mergeEntityBalance(ColumnMetadata column, Object existing, Object update) {
+        var e = (AbstractEntity) existing;
+        var t = (AbstractEntity) update;
+        var type = getEntityType(e, t);
+
+        if (type == EntityType.ACCOUNT || type == EntityType.CONTRACT) {
+            return zeroIfNull(e.getBalance()) + zeroIfNull(t.getBalance());
+        } else if (e.getBalance() != null) {
+            return e.getBalance() + zeroIfNull(t.getBalance());
+        }
+
+        return null;
+    }
+
+    private static Object mergeEntityEthereumNonce(ColumnMetadata column, Object existing, Object update) {
+        var e = (AbstractEntity) existing;
+        var t = (AbstractEntity) update;
+
+        if (getEntityType(e, t) == EntityType.ACCOUNT) {
+            return coalesce(column, t.getEthereumNonce(), e.getEthereumNonce());
+        }
+
+        return Objects.requireNonNullElse(t.getEthereumNonce(), e.getEthereumNonce());
+    }
+
+    private static Object mergeTokenTotalSupply(ColumnMetadata column, Object existing, Object update) {
+        var e = (AbstractToken) existing;
+        var t = (AbstractToken) update;
+
+        if (t.getTotalSupply() != null && t.getTotalSupply() >= 0) {
+            return t.getTotalSupply();
+        } else if (e.getTotalSupply() == null) {
+            return null;
+        } else if (t.getTotalSupply() != null) {
+            return e.getTotalSupply() + t.getTotalSupply();
+        }
+
+        return column.getDefaultValue() == null ? null : UNMERGEABLE;
+    }
+
+    private static Object mergeTokenAccountBalance(ColumnMetadata column, Object existing, Object update) {
+        var e = (AbstractTokenAccount) existing;
+        var t = (AbstractTokenAccount) update;
+        return t.getCreatedTimestamp() != null ? t.getBalance() : e.getBalance() + t.getBalance();
+    }
+
+    private static Object mergeTokenAccountStatus(ColumnMetadata column, Object existing, Object update) {
+        var value = column.getGetter().apply(update);
+        if (((AbstractTokenAccount) update).getCreatedTimestamp() != null) {
+            return value;
+        }
+
+        return value != null ? value : column.getGetter().apply(existing);
+    }
+
+    @FunctionalInterface
+    private interface ColumnMerge {
+        Object merge(ColumnMetadata column, Object existing, Object update);
+    }
+}
@@ -185,6 +185,16 @@ public class Utility {
                 .build();
     }
 
+    /**
+     * Computes the keccak256 hash of the data, the same hash the EVM uses for the code hash of a contract
+     *
+     * @param data the data to hash
+     * @return the 32 byte keccak256 hash
+     */
+    public static byte[] keccak256(byte[] data) {
+        return new Keccak.Digest256().digest(data);
+    }
+
     public static String toSnakeCase(String text) {
         if (StringUtils.isBlank(text)) {
             return text;
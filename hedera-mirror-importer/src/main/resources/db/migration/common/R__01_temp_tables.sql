@@ -20,6 +20,7 @@ begin
 end
 $$ language plpgsql;
 
+call create_temp_table_safe('contract_bytecode', 'hash');
 call create_temp_table_safe('contract_state', 'contract_id', 'slot');
 call create_temp_table_safe('crypto_allowance', 'owner', 'spender');
 call create_temp_table_safe('custom_fee', 'token_id');
@@ -0,0 +1,7 @@
+create table if not exists async_migration_chunk
+(
+    lower_bound bigint not null,
+    migration   text   not null,
+    upper_bound bigint not null,
+    primary key (migration, lower_bound)
+);
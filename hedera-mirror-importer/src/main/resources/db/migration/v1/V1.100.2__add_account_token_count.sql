@@ -0,0 +1,17 @@
+create table if not exists account_token_count
+(
+    account_id             bigint    not null,
+    associated_count       integer   not null,
+    nft_count              bigint    not null,
+    positive_balance_count integer   not null,
+    timestamp_range        int8range not null,
+    primary key (account_id)
+);
+
+create table if not exists account_token_count_history
+(
+    like account_token_count including defaults
+);
+
+create index if not exists account_token_count_history__account_id_lower_timestamp
+    on account_token_count_history (account_id, lower(timestamp_range));
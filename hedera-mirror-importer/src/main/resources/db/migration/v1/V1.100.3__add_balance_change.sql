@@ -0,0 +1,30 @@
+create table if not exists balance_change
+(
+    account_id          bigint not null,
+    consensus_timestamp bigint not null,
+    token_id            bigint not null,
+    primary key (consensus_timestamp, account_id, token_id)
+);
+
+-- Seed the balances changed since the latest balance snapshot in the current account_balance partition, synthetic or
+-- not, so the next snapshot doesn't miss them. Without a snapshot in the current partition the next snapshot is full.
+with current_partition as (
+  select from_timestamp, to_timestamp
+  from mirror_node_time_partitions
+  where parent = 'account_balance' and from_timestamp <= (select max(consensus_end) from record_file)
+  order by from_timestamp desc
+  limit 1
+), latest_snapshot as (
+  select max(consensus_timestamp) as consensus_timestamp
+  from account_balance, current_partition
+  where account_id = 2 and consensus_timestamp >= from_timestamp and consensus_timestamp < to_timestamp
+)
+insert into balance_change (account_id, consensus_timestamp, token_id)
+select id, balance_timestamp, 0
+from entity
+where balance_timestamp > (select consensus_timestamp from latest_snapshot)
+union all
+select account_id, balance_timestamp, token_id
+from token_account
+where balance_timestamp > (select consensus_timestamp from latest_snapshot)
+on conflict do nothing;
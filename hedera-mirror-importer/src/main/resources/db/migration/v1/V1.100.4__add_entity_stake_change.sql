@@ -0,0 +1,6 @@
+create table if not exists entity_stake_change
+(
+    consensus_timestamp bigint not null,
+    id                  bigint not null,
+    primary key (consensus_timestamp, id)
+);
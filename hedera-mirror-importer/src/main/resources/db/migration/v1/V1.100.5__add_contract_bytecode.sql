@@ -0,0 +1,7 @@
+create table if not exists contract_bytecode
+(
+    bytecode bytea not null,
+    hash     bytea primary key
+);
+
+alter table if exists contract add column if not exists runtime_bytecode_hash bytea null;
@@ -0,0 +1,7 @@
+create table if not exists reconciliation_shard
+(
+    consensus_timestamp bigint not null,
+    lower_bound         bigint not null,
+    upper_bound         bigint not null,
+    primary key (lower_bound)
+);
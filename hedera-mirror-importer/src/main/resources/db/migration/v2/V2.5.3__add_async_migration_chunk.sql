@@ -0,0 +1,8 @@
+create table if not exists async_migration_chunk
+(
+    lower_bound bigint not null,
+    migration   text   not null,
+    upper_bound bigint not null,
+    primary key (migration, lower_bound)
+);
+comment on table async_migration_chunk is 'Completed chunks of chunked asynchronous migrations';
@@ -0,0 +1,22 @@
+create table if not exists account_token_count
+(
+    account_id             bigint    not null,
+    associated_count       integer   not null,
+    nft_count              bigint    not null,
+    positive_balance_count integer   not null,
+    timestamp_range        int8range not null,
+    primary key (account_id)
+);
+comment on table account_token_count is 'Number of token associations, positive token balances and nfts of accounts';
+
+create table if not exists account_token_count_history
+(
+    like account_token_count including defaults
+);
+comment on table account_token_count_history is 'History of the token counts of accounts';
+
+select create_distributed_table('account_token_count', 'account_id', colocate_with => 'entity');
+select create_distributed_table('account_token_count_history', 'account_id', colocate_with => 'account_token_count');
+
+create index if not exists account_token_count_history__account_id_lower_timestamp
+    on account_token_count_history (account_id, lower(timestamp_range));
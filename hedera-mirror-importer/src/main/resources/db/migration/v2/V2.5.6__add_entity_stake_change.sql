@@ -0,0 +1,9 @@
+create table if not exists entity_stake_change
+(
+    consensus_timestamp bigint not null,
+    id                  bigint not null,
+    primary key (consensus_timestamp, id)
+);
+comment on table entity_stake_change is 'Entities with balance or staking changes since the last stake calculation';
+
+select create_distributed_table('entity_stake_change', 'id', colocate_with => 'entity');
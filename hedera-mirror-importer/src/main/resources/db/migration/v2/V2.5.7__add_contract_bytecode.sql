@@ -0,0 +1,11 @@
+create table if not exists contract_bytecode
+(
+    bytecode bytea not null,
+    hash     bytea not null,
+    primary key (hash)
+);
+comment on table contract_bytecode is 'Distinct contract runtime bytecode by its keccak256 hash';
+
+select create_reference_table('contract_bytecode');
+
+alter table if exists contract add column if not exists runtime_bytecode_hash bytea null;
@@ -0,0 +1,8 @@
+create table if not exists reconciliation_shard
+(
+    consensus_timestamp bigint not null,
+    lower_bound         bigint not null,
+    upper_bound         bigint not null,
+    primary key (lower_bound)
+);
+comment on table reconciliation_shard is 'Progress of each account ID shard of the balance reconciliation job';
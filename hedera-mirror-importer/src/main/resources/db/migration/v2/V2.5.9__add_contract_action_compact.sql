@@ -0,0 +1,2 @@
+-- Whether input and result_data are stored with the leading zeros of each 32-byte word stripped
+alter table if exists contract_action add column if not exists compact boolean not null default false;
@@ -16,6 +16,8 @@
 
 package com.hedera.mirror.importer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.Range;
 import com.hedera.mirror.common.config.CommonIntegrationTest;
@@ -24,7 +26,12 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.importer.ImporterIntegrationTest.Configuration;
 import com.hedera.mirror.importer.config.DateRangeCalculator;
 import com.hedera.mirror.importer.converter.JsonbToListConverter;
+import com.hedera.mirror.importer.parser.batch.CurrentStateCache;
+import com.hedera.mirror.importer.parser.batch.CurrentStateCacheProperties;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.repository.TokenAccountRepository;
+import com.hedera.mirror.importer.repository.TokenRepository;
 import com.redis.testcontainers.RedisContainer;
 import io.hypersistence.utils.hibernate.type.range.guava.PostgreSQLGuavaRangeType;
 import jakarta.annotation.Resource;
@@ -47,6 +54,7 @@ import org.apache.commons.lang3.reflect.FieldUtils;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.postgresql.jdbc.PgArray;
 import org.postgresql.util.PGobject;
@@ -82,12 +90,27 @@ public abstract class ImporterIntegrationTest extends CommonIntegrationTest {
     @InjectSoftAssertions
     protected SoftAssertions softly;
 
+    @Resource
+    private CurrentStateCache currentStateCache;
+
+    @Resource
+    private CurrentStateCacheProperties currentStateCacheProperties;
+
     @Resource
     private DateRangeCalculator dateRangeCalculator;
 
+    @Resource
+    private EntityRepository entityRepository;
+
     @Resource
     private ImporterProperties importerProperties;
 
+    @Resource
+    private TokenAccountRepository tokenAccountRepository;
+
+    @Resource
+    private TokenRepository tokenRepository;
+
     @Getter
     @Value("#{environment.matchesProfiles('!v2')}")
     private boolean v1;
@@ -140,6 +163,7 @@ public abstract class ImporterIntegrationTest extends CommonIntegrationTest {
 
     protected void reset() {
         super.reset();
+        currentStateCache.clear();
         dateRangeCalculator.clear();
         importerProperties.setNetwork(ImporterProperties.HederaNetwork.TESTNET);
         importerProperties.setStartDate(Instant.EPOCH);
@@ -147,11 +171,35 @@ public abstract class ImporterIntegrationTest extends CommonIntegrationTest {
         retryRecorder.reset();
     }
 
+    /**
+     * Verifies the rows in the current state cache match the final state in the database when it's enabled, e.g. by
+     * the currentStateCacheTest task that reruns the parser tests with it.
+     */
+    @AfterEach
+    void assertCurrentStateCache() {
+        if (!currentStateCacheProperties.isEnabled()) {
+            return;
+        }
+
+        assertCurrentStateCache("entity", entityRepository.findAll());
+        assertCurrentStateCache("token", tokenRepository.findAll());
+        assertCurrentStateCache("token_account", tokenAccountRepository.findAll());
+    }
+
     protected Boolean tableExists(String name) {
         return jdbcOperations.queryForObject(
                 "select exists(select 1 from information_schema.tables where table_name = ?)", Boolean.class, name);
     }
 
+    private void assertCurrentStateCache(String table, Iterable<?> rows) {
+        for (var row : rows) {
+            var cached = currentStateCache.get(table, currentStateCache.getId(row));
+            if (cached != null) {
+                assertThat(cached).as("Cached %s row", table).isEqualTo(row);
+            }
+        }
+    }
+
     private String getDefaultIdColumns(Class<?> entityClass) {
         Stream<Field> idFields;
         var idClassAnnotation = AnnotationUtils.findAnnotation(entityClass, IdClass.class);
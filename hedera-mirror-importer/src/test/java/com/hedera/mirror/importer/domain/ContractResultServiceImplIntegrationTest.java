@@ -50,6 +50,7 @@ import com.hedera.mirror.importer.repository.ContractResultRepository;
 import com.hedera.mirror.importer.repository.ContractStateChangeRepository;
 import com.hedera.mirror.importer.repository.ContractStateRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.util.Utility;
 import com.hedera.services.stream.proto.CallOperationType;
 import com.hedera.services.stream.proto.ContractActionType;
 import com.hedera.services.stream.proto.ContractActions;
@@ -106,6 +107,7 @@ class ContractResultServiceImplIntegrationTest extends ImporterIntegrationTest {
 
     @AfterEach
     void cleanup() {
+        entityProperties.getPersist().setCompactSidecars(false);
         entityProperties.getPersist().setTrackNonce(true);
     }
 
@@ -499,6 +501,57 @@ class ContractResultServiceImplIntegrationTest extends ImporterIntegrationTest {
         assertThat(entityRepository.count()).isZero();
     }
 
+    @Test
+    void processCompactSidecars() {
+        // given
+        entityProperties.getPersist().setCompactSidecars(true);
+        var input = DomainUtils.leftPadBytes(new byte[] {0x12, 0x34}, 68);
+        var output = DomainUtils.leftPadBytes(new byte[] {5}, 32);
+        var recordItem = recordItemBuilder
+                .contractCall()
+                .sidecarRecords(s -> {
+                    s.get(0)
+                            .getStateChangesBuilder()
+                            .getContractStateChangesBuilder(0)
+                            .getStorageChangesBuilder(0)
+                            .setValueRead(DomainUtils.fromBytes(DomainUtils.leftPadBytes(new byte[] {7}, 32)))
+                            .setValueWritten(
+                                    BytesValue.of(DomainUtils.fromBytes(DomainUtils.leftPadBytes(new byte[] {8}, 32))));
+                    s.get(1)
+                            .getActionsBuilder()
+                            .getContractActionsBuilder(0)
+                            .setInput(DomainUtils.fromBytes(input))
+                            .setOutput(DomainUtils.fromBytes(output));
+                })
+                .build();
+        var timestamp = recordItem.getConsensusTimestamp();
+        var rawAction = recordItem.getSidecarRecords().get(1).getActions().getContractActions(1);
+
+        // when
+        process(recordItem);
+
+        // then
+        assertThat(contractActionRepository.findById(new ContractAction.Id(timestamp, 0)))
+                .get()
+                .returns(true, ContractAction::isCompact)
+                .returns(new byte[] {4, 0, 0, 0, 0, 0, 2, 0x12, 0x34}, ContractAction::getInput)
+                .returns(new byte[] {0, 1, 5}, ContractAction::getResultData)
+                .satisfies(ContractAction::expand)
+                .returns(false, ContractAction::isCompact)
+                .returns(input, ContractAction::getInput)
+                .returns(output, ContractAction::getResultData);
+        assertThat(contractActionRepository.findById(new ContractAction.Id(timestamp, 1)))
+                .get()
+                .returns(false, ContractAction::isCompact)
+                .returns(DomainUtils.toBytes(rawAction.getInput()), ContractAction::getInput)
+                .returns(DomainUtils.toBytes(rawAction.getError()), ContractAction::getResultData);
+        assertThat(contractStateChangeRepository.findAll())
+                .hasSize(2)
+                .anySatisfy(c -> assertThat(c)
+                        .returns(new byte[] {7}, ContractStateChange::getValueRead)
+                        .returns(new byte[] {8}, ContractStateChange::getValueWritten));
+    }
+
     @Test
     void processPrecompile() {
         RecordItem recordItem = recordItemBuilder
@@ -815,11 +868,11 @@ class ContractResultServiceImplIntegrationTest extends ImporterIntegrationTest {
                 .map(TransactionSidecarRecord::getBytecode)
                 .map(b -> Contract.builder()
                         .id(EntityId.of(b.getContractId()).getId())
-                        .runtimeBytecode(DomainUtils.toBytes(b.getRuntimeBytecode()))
+                        .runtimeBytecodeHash(Utility.keccak256(DomainUtils.toBytes(b.getRuntimeBytecode())))
                         .build())
                 .toList();
         assertThat(contractRepository.findAll())
-                .usingRecursiveFieldByFieldElementComparatorOnFields("id", "runtimeBytecode")
+                .usingRecursiveFieldByFieldElementComparatorOnFields("id", "runtimeBytecode", "runtimeBytecodeHash")
                 .containsAll(expected);
     }
 
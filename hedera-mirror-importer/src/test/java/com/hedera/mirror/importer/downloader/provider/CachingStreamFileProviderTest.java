@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import static com.hedera.mirror.importer.ImporterProperties.STREAMS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.StreamType;
+import com.hedera.mirror.importer.FileCopier;
+import com.hedera.mirror.importer.ImporterProperties;
+import com.hedera.mirror.importer.TestUtils;
+import com.hedera.mirror.importer.addressbook.ConsensusNode;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingStreamFileProviderTest {
+
+    private static final String DATA_FILENAME = "2022-07-13T08_46_08.041986003Z.rcd.gz";
+    private static final String HASH = "a1b2c3";
+    private static final Duration MAX_AGE = Duration.ofDays(1L);
+    private static final String SIGNATURE_FILENAME1 = "2022-07-13T08_46_08.041986003Z.rcd_sig";
+    private static final String SIGNATURE_FILENAME2 = "2022-07-13T08_46_11.304284003Z.rcd_sig";
+
+    @TempDir
+    private Path cachePath;
+
+    @TempDir
+    private Path dataPath;
+
+    private FileCopier fileCopier;
+    private CommonDownloaderProperties properties;
+    private LocalStreamFileProperties localProperties;
+    private StreamFileCache streamFileCache;
+    private CachingStreamFileProvider streamFileProvider;
+
+    @BeforeEach
+    void setup() {
+        var importerProperties = new ImporterProperties();
+        importerProperties.setDataPath(dataPath);
+        properties = new CommonDownloaderProperties(importerProperties);
+        localProperties = new LocalStreamFileProperties();
+        localProperties.setDeleteAfterProcessing(false);
+        var fromPath = Path.of("data", "recordstreams", "v6");
+        fileCopier = FileCopier.create(TestUtils.getResource(fromPath.toString()).toPath(), dataPath)
+                .to(STREAMS, StreamType.RECORD.getPath());
+        fileCopier.copy();
+        streamFileCache = new StreamFileCache(cachePath, 1024L * 1024L, MAX_AGE);
+        streamFileProvider = new CachingStreamFileProvider(
+                streamFileCache, properties, new LocalStreamFileProvider(properties, localProperties));
+    }
+
+    @Test
+    void get() {
+        var node = node("0.0.3");
+        var streamFilename = streamFilename(node, DATA_FILENAME);
+        var expected = streamFileProvider.get(node, streamFilename).block();
+
+        deleteOrigin();
+
+        assertThat(streamFileProvider.get(node, streamFilename).block())
+                .isEqualTo(expected)
+                .extracting(StreamFileData::getBytes)
+                .isEqualTo(expected.getBytes());
+    }
+
+    @Test
+    void getDeduplicatesContent() {
+        var node1 = node("0.0.3");
+        var node2 = node("0.0.4");
+        var data1 = streamFileProvider.get(node1, streamFilename(node1, DATA_FILENAME)).block();
+        var data2 = streamFileProvider.get(node2, streamFilename(node2, DATA_FILENAME)).block();
+
+        assertThat(data1.getBytes()).isEqualTo(data2.getBytes());
+        assertThat(streamFileCache.getSize()).isEqualTo(data1.getBytes().length);
+    }
+
+    @Test
+    void getVerified() {
+        var node = node("0.0.3");
+        var streamFilename = streamFilename(node, DATA_FILENAME);
+        var expected = streamFileProvider.get(node, streamFilename, HASH).block();
+        streamFileProvider.verified(node, streamFilename, HASH, true);
+
+        deleteOrigin();
+
+        assertThat(streamFileProvider.get(node, streamFilename, HASH).block())
+                .extracting(StreamFileData::getBytes)
+                .isEqualTo(expected.getBytes());
+    }
+
+    @Test
+    void getUnverified() {
+        var node = node("0.0.3");
+        var streamFilename = streamFilename(node, DATA_FILENAME);
+        streamFileProvider.get(node, streamFilename, HASH).block();
+
+        deleteOrigin();
+
+        // Only files verified against the expected hash are served from the cache
+        assertThatThrownBy(() -> streamFileProvider.get(node, streamFilename, HASH).block())
+                .isInstanceOf(TransientProviderException.class);
+    }
+
+    @Test
+    void getVerifiedOtherHash() {
+        var node = node("0.0.3");
+        var streamFilename = streamFilename(node, DATA_FILENAME);
+        streamFileProvider.get(node, streamFilename, HASH).block();
+        streamFileProvider.verified(node, streamFilename, HASH, true);
+
+        deleteOrigin();
+
+        assertThatThrownBy(() -> streamFileProvider.get(node, streamFilename, "d4e5f6").block())
+                .isInstanceOf(TransientProviderException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void getCorrupted() {
+        var node = node("0.0.3");
+        var streamFilename = streamFilename(node, DATA_FILENAME);
+        var expected = streamFileProvider.get(node, streamFilename, HASH).block();
+        streamFileProvider.verified(node, streamFilename, HASH, true);
+
+        try (var files = Files.walk(cachePath.resolve("content"))) {
+            files.filter(Files::isRegularFile).forEach(f -> write(f, new byte[] {1, 2, 3}));
+        }
+
+        assertThat(streamFileProvider.get(node, streamFilename, HASH).block())
+                .extracting(StreamFileData::getBytes)
+                .isEqualTo(new byte[] {1, 2, 3});
+
+        // The downloader reports the hash mismatch, so the corrupt file is discarded and downloaded again
+        streamFileProvider.verified(node, streamFilename, HASH, false);
+
+        assertThat(streamFileProvider.get(node, streamFilename, HASH).block())
+                .extracting(StreamFileData::getBytes)
+                .isEqualTo(expected.getBytes());
+        assertThat(streamFileCache.getSize()).isEqualTo(expected.getBytes().length);
+    }
+
+    @Test
+    void evict() {
+        var node = node("0.0.3");
+        var data = streamFileProvider.get(node, streamFilename(node, DATA_FILENAME)).block();
+        long maxSize = data.getBytes().length;
+        streamFileCache = new StreamFileCache(cachePath.resolve("evict"), maxSize, MAX_AGE);
+        streamFileProvider = new CachingStreamFileProvider(
+                streamFileCache, properties, new LocalStreamFileProvider(properties, localProperties));
+
+        streamFileProvider.get(node, streamFilename(node, SIGNATURE_FILENAME1)).block();
+        streamFileProvider.get(node, streamFilename(node, DATA_FILENAME)).block();
+
+        assertThat(streamFileCache.getSize()).isLessThanOrEqualTo(maxSize);
+    }
+
+    @Test
+    void cleanup() {
+        var node = node("0.0.3");
+        properties.setBatchSize(1);
+        streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block();
+        streamFileProvider.get(node, streamFilename(node, DATA_FILENAME)).block();
+
+        var listings = files("listing");
+        var references = files("reference");
+        assertThat(listings).hasSize(1);
+        assertThat(references).hasSize(2);
+
+        // Expire the listing and the data file reference, but not the signature file reference
+        var expired = FileTime.from(Instant.now().minus(MAX_AGE.multipliedBy(2L)));
+        listings.forEach(f -> setLastModifiedTime(f, expired));
+        references.stream()
+                .filter(f -> f.getFileName().toString().endsWith(DATA_FILENAME))
+                .forEach(f -> setLastModifiedTime(f, expired));
+
+        // The cleanup runs on startup
+        streamFileCache = new StreamFileCache(cachePath, 1024L * 1024L, MAX_AGE);
+
+        assertThat(files("listing")).isEmpty();
+        assertThat(files("reference"))
+                .hasSize(1)
+                .allMatch(f -> f.getFileName().toString().endsWith(SIGNATURE_FILENAME1));
+    }
+
+    @Test
+    void listFullBatch() {
+        var node = node("0.0.3");
+        properties.setBatchSize(1);
+        var expected = streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block();
+
+        deleteOrigin();
+
+        assertThat(streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block())
+                .hasSize(1)
+                .containsExactlyElementsOf(expected)
+                .extracting(StreamFileData::getFilename)
+                .containsExactly(SIGNATURE_FILENAME1);
+    }
+
+    @Test
+    void listPartialBatch() {
+        var node = node("0.0.3");
+        assertThat(streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block())
+                .extracting(StreamFileData::getFilename)
+                .containsExactly(SIGNATURE_FILENAME1, SIGNATURE_FILENAME2);
+
+        deleteOrigin();
+
+        // A partial batch may grow, so its listing isn't cached but its files are
+        assertThat(streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block())
+                .isEmpty();
+        assertThat(streamFileProvider
+                        .get(node, streamFilename(node, SIGNATURE_FILENAME2))
+                        .block())
+                .isNotNull();
+    }
+
+    @SneakyThrows
+    private void deleteOrigin() {
+        FileUtils.deleteDirectory(dataPath.resolve(STREAMS).toFile());
+    }
+
+    @SneakyThrows
+    private List<Path> files(String directory) {
+        try (var files = Files.walk(cachePath.resolve(directory))) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private ConsensusNode node(String nodeAccountId) {
+        return TestUtils.nodeFromAccountId(nodeAccountId);
+    }
+
+    private StreamFilename streamFilename(ConsensusNode node, String filename) {
+        var path = Path.of(
+                        StreamType.RECORD.getPath(),
+                        StreamType.RECORD.getNodePrefix() + node.getNodeAccountId(),
+                        filename)
+                .toString();
+        return StreamFilename.from(path, File.separator);
+    }
+
+    @SneakyThrows
+    private void setLastModifiedTime(Path path, FileTime fileTime) {
+        Files.setLastModifiedTime(path, fileTime);
+    }
+
+    @SneakyThrows
+    private void write(Path path, byte[] bytes) {
+        Files.write(path, bytes);
+    }
+}
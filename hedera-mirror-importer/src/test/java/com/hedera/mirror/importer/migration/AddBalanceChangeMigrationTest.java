@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.balance.AccountBalance;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.EnabledIfV1;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.StreamUtils;
+
+@EnabledIfV1
+@RequiredArgsConstructor
+@Tag("migration")
+@TestPropertySource(properties = "spring.flyway.target=1.100.2")
+class AddBalanceChangeMigrationTest extends ImporterIntegrationTest {
+
+    private static final EntityId TREASURY = EntityId.of(2L);
+
+    @Value("classpath:db/migration/v1/V1.100.3__add_balance_change.sql")
+    private final Resource migrationSql;
+
+    @Test
+    void empty() {
+        runMigration();
+        assertThat(getBalanceChanges()).isEmpty();
+    }
+
+    @Test
+    void noSnapshot() {
+        // given
+        domainBuilder.entity().persist();
+        domainBuilder.tokenAccount().persist();
+        domainBuilder.recordFile().persist();
+
+        // when
+        runMigration();
+
+        // then the next snapshot is a full snapshot
+        assertThat(getBalanceChanges()).isEmpty();
+    }
+
+    @Test
+    void migrate() {
+        // given an older synthetic snapshot and a later snapshot from a downloaded balance file
+        long syntheticTimestamp = snapshot(true);
+        domainBuilder
+                .entity()
+                .customize(e -> e.balanceTimestamp(syntheticTimestamp + 1))
+                .persist();
+        domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.balanceTimestamp(syntheticTimestamp + 1))
+                .persist();
+        snapshot(false);
+        var account = domainBuilder.entity().persist();
+        var tokenAccount = domainBuilder.tokenAccount().persist();
+        domainBuilder.recordFile().persist();
+
+        // when
+        runMigration();
+
+        // then only the balances changed since the latest snapshot are seeded
+        assertThat(getBalanceChanges())
+                .containsExactlyInAnyOrder(
+                        List.of(account.getId(), account.getBalanceTimestamp(), 0L),
+                        List.of(
+                                tokenAccount.getAccountId(),
+                                tokenAccount.getBalanceTimestamp(),
+                                tokenAccount.getTokenId()));
+    }
+
+    private List<List<Long>> getBalanceChanges() {
+        return jdbcOperations.query(
+                "select account_id, consensus_timestamp, token_id from balance_change",
+                (rs, i) -> List.of(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    @SneakyThrows
+    private void runMigration() {
+        try (var is = migrationSql.getInputStream()) {
+            var script = StreamUtils.copyToString(is, StandardCharsets.UTF_8);
+            jdbcOperations.execute(script);
+        }
+    }
+
+    private long snapshot(boolean synthetic) {
+        var accountBalanceFile = domainBuilder
+                .accountBalanceFile()
+                .customize(f -> f.synthetic(synthetic))
+                .persist();
+        long timestamp = accountBalanceFile.getConsensusTimestamp();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.id(new AccountBalance.Id(timestamp, TREASURY)))
+                .persist();
+        return timestamp;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@RequiredArgsConstructor
+@Tag("migration")
+class BackfillAccountTokenCountMigrationTest extends ImporterIntegrationTest {
+
+    private final EntityProperties entityProperties;
+    private final BackfillAccountTokenCountMigration migration;
+
+    @BeforeEach
+    void setup() {
+        entityProperties.getPersist().setTrackTokenCounts(true);
+    }
+
+    @AfterEach
+    void teardown() {
+        entityProperties.getPersist().setTrackTokenCounts(false);
+    }
+
+    @Test
+    void checksum() {
+        assertThat(migration.getChecksum()).isEqualTo(1);
+        entityProperties.getPersist().setTrackTokenCounts(false);
+        assertThat(migration.getChecksum()).isEqualTo(-1);
+    }
+
+    @Test
+    void empty() {
+        runMigration();
+        assertThat(getAccountTokenCounts("account_token_count")).isEmpty();
+    }
+
+    @Test
+    void migrate() {
+        // given
+        var recordFile = domainBuilder.recordFile().persist();
+        var token = domainBuilder.entity().customize(e -> e.type(EntityType.TOKEN)).persist();
+        var deletedToken = domainBuilder
+                .entity()
+                .customize(e -> e.deleted(true).type(EntityType.TOKEN))
+                .persist();
+        var account1 = domainBuilder.entity().persist().toEntityId();
+        var account2 = domainBuilder.entity().persist().toEntityId();
+        domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.accountId(account1.getId()).balance(10L).tokenId(token.getId()))
+                .persist();
+        domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.accountId(account1.getId()).balance(0L).tokenId(deletedToken.getId()))
+                .persist();
+        domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.accountId(account2.getId()).associated(false).balance(0L))
+                .persist();
+        domainBuilder
+                .nft()
+                .customize(n -> n.accountId(account1).tokenId(token.getId()))
+                .persist();
+        domainBuilder
+                .nft()
+                .customize(n -> n.accountId(account2).tokenId(token.getId()))
+                .persist();
+        domainBuilder
+                .nft()
+                .customize(n -> n.accountId(account2).deleted(true).tokenId(token.getId()))
+                .persist();
+        domainBuilder
+                .nft()
+                .customize(n -> n.accountId(account2).tokenId(deletedToken.getId()))
+                .persist();
+        jdbcOperations.update(
+                "insert into account_token_count_history (account_id, associated_count, nft_count, "
+                        + "positive_balance_count, timestamp_range) values (?, 5, 5, 5, '[1,2)')",
+                account1.getId());
+
+        // when
+        runMigration();
+
+        // then
+        long timestamp = recordFile.getConsensusEnd();
+        assertThat(getAccountTokenCounts("account_token_count"))
+                .containsExactlyInAnyOrder(
+                        List.of(account1.getId(), 2, 1L, 1, timestamp), List.of(account2.getId(), 0, 1L, 0, timestamp));
+        assertThat(getAccountTokenCounts("account_token_count_history")).isEmpty();
+    }
+
+    @Test
+    void migrateDisabled() {
+        // given
+        domainBuilder.recordFile().persist();
+        domainBuilder.tokenAccount().persist();
+        jdbcOperations.update("insert into account_token_count (account_id, associated_count, nft_count, "
+                + "positive_balance_count, timestamp_range) values (1, 5, 5, 5, '[1,)')");
+        jdbcOperations.update("insert into account_token_count_history (account_id, associated_count, nft_count, "
+                + "positive_balance_count, timestamp_range) values (1, 5, 5, 5, '[0,1)')");
+        entityProperties.getPersist().setTrackTokenCounts(false);
+
+        // when
+        runMigration();
+
+        // then the counts that are no longer maintained are removed
+        assertThat(getAccountTokenCounts("account_token_count")).isEmpty();
+        assertThat(getAccountTokenCounts("account_token_count_history")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void skipMigration(boolean trackTokenCounts) {
+        // given
+        entityProperties.getPersist().setTrackTokenCounts(trackTokenCounts);
+        var configuration = new FluentConfiguration().target(migration.getMinimumVersion());
+
+        // when, then
+        assertThat(migration.skipMigration(configuration)).isFalse();
+    }
+
+    private List<List<Object>> getAccountTokenCounts(String table) {
+        var sql = "select account_id, associated_count, nft_count, positive_balance_count, lower(timestamp_range) from "
+                + table;
+        return jdbcOperations.query(
+                sql,
+                (rs, i) -> List.of(rs.getLong(1), rs.getInt(2), rs.getLong(3), rs.getInt(4), rs.getLong(5)));
+    }
+
+    @SneakyThrows
+    private void runMigration() {
+        migration.doMigrate();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import static com.hedera.mirror.importer.migration.ChunkedAsyncJavaMigration.CHUNK_SIZE_KEY;
+import static com.hedera.mirror.importer.migration.ChunkedAsyncJavaMigration.CONCURRENCY_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hedera.mirror.importer.EnabledIfV1;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.db.DBProperties;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+@EnabledIfV1
+@RequiredArgsConstructor
+@Tag("migration")
+class ChunkedAsyncJavaMigrationTest extends ImporterIntegrationTest {
+
+    private static final String INSERT_CHUNK_SQL =
+            """
+            insert into async_migration_chunk (lower_bound, migration, upper_bound)
+            values (:lowerBound, :migration, :upperBound)
+            """;
+    private static final String SCRIPT = TestChunkedAsyncJavaMigration.class.getName();
+
+    private final DBProperties dbProperties;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionOperations transactionOperations;
+
+    @AfterEach
+    @BeforeEach
+    void cleanup() {
+        namedParameterJdbcTemplate.update(
+                "delete from flyway_schema_history where script = :script", Map.of("script", SCRIPT));
+        namedParameterJdbcTemplate.update(
+                "delete from async_migration_chunk where migration = :script", Map.of("script", SCRIPT));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void migrate(int concurrency) throws Exception {
+        var migration = new TestChunkedAsyncJavaMigration(concurrency, -1);
+        migrateSync(migration);
+        assertThat(migration.migrated)
+                .containsExactlyInAnyOrder(
+                        Range.closedOpen(0L, 10L),
+                        Range.closedOpen(10L, 20L),
+                        Range.closedOpen(20L, 30L),
+                        Range.closedOpen(30L, 40L),
+                        Range.closedOpen(40L, 45L));
+        assertThat(getChunkCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void migrateResume(int concurrency) throws Exception {
+        addChunk(0L, 10L);
+        addChunk(20L, 30L);
+        var migration = new TestChunkedAsyncJavaMigration(concurrency, -1);
+        migrateSync(migration);
+        assertThat(migration.migrated)
+                .containsExactlyInAnyOrder(
+                        Range.closedOpen(10L, 20L), Range.closedOpen(30L, 40L), Range.closedOpen(40L, 45L));
+        assertThat(getChunkCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void migrateError(int concurrency) throws Exception {
+        var migration = new TestChunkedAsyncJavaMigration(concurrency, 30L);
+        migrateSync(migration);
+        assertThat(migration.migrated).doesNotContain(Range.closedOpen(30L, 40L));
+        // completed chunks are kept so the next run resumes from them
+        assertThat(getChunkCount()).isEqualTo(migration.migrated.size());
+    }
+
+    private void addChunk(long lowerBound, long upperBound) {
+        var params = new MapSqlParameterSource()
+                .addValue("lowerBound", lowerBound)
+                .addValue("migration", SCRIPT)
+                .addValue("upperBound", upperBound);
+        namedParameterJdbcTemplate.update(INSERT_CHUNK_SQL, params);
+    }
+
+    private int getChunkCount() {
+        return namedParameterJdbcTemplate.queryForObject(
+                "select count(*) from async_migration_chunk where migration = :script",
+                Map.of("script", SCRIPT),
+                Integer.class);
+    }
+
+    private void migrateSync(AsyncJavaMigration<?> migration) throws Exception {
+        migration.doMigrate();
+
+        while (!migration.isComplete()) {
+            Uninterruptibles.sleepUninterruptibly(100L, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private class TestChunkedAsyncJavaMigration extends ChunkedAsyncJavaMigration {
+
+        private final long errorLowerBound;
+        private final Set<Range<Long>> migrated = ConcurrentHashMap.newKeySet();
+
+        public TestChunkedAsyncJavaMigration(int concurrency, long errorLowerBound) {
+            super(
+                    Map.of("testChunkedAsyncJavaMigration", migrationProperties(concurrency)),
+                    ChunkedAsyncJavaMigrationTest.this.namedParameterJdbcTemplate,
+                    dbProperties.getSchema());
+            this.errorLowerBound = errorLowerBound;
+        }
+
+        private static MigrationProperties migrationProperties(int concurrency) {
+            var migrationProperties = new MigrationProperties();
+            migrationProperties.getParams().put(CHUNK_SIZE_KEY, "10");
+            migrationProperties.getParams().put(CONCURRENCY_KEY, String.valueOf(concurrency));
+            return migrationProperties;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Chunked async java migration for testing";
+        }
+
+        @Override
+        protected Optional<Range<Long>> getKeyRange() {
+            return Optional.of(Range.closedOpen(0L, 45L));
+        }
+
+        @Override
+        protected void migrateChunk(long lowerBound, long upperBound) {
+            if (lowerBound == errorLowerBound) {
+                throw new IllegalStateException();
+            }
+
+            migrated.add(Range.closedOpen(lowerBound, upperBound));
+        }
+
+        @Override
+        protected TransactionOperations getTransactionOperations() {
+            return transactionOperations;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.contract.ContractBytecode;
+import com.hedera.mirror.importer.EnabledIfV1;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.repository.ContractRepository;
+import com.hedera.mirror.importer.util.Utility;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@EnabledIfV1
+@RequiredArgsConstructor
+@Tag("migration")
+class DeduplicateContractBytecodeMigrationTest extends ImporterIntegrationTest {
+
+    private final ContractRepository contractRepository;
+    private final DeduplicateContractBytecodeMigration migration;
+
+    @Test
+    void empty() {
+        migration.migrateAsync();
+        assertThat(contractRepository.findAll()).isEmpty();
+        assertThat(findBytecodes()).isEmpty();
+    }
+
+    @Test
+    void migrate() {
+        // given
+        var bytecode = domainBuilder.bytes(512);
+        var hash = Utility.keccak256(bytecode);
+        var clone1 = domainBuilder.contract().customize(c -> c.runtimeBytecode(bytecode)).persist();
+        var clone2 = domainBuilder.contract().customize(c -> c.runtimeBytecode(bytecode)).persist();
+        var other = domainBuilder.contract().persist();
+        var otherHash = Utility.keccak256(other.getRuntimeBytecode());
+        var noBytecode = domainBuilder.contract().customize(c -> c.runtimeBytecode(null)).persist();
+
+        // when
+        migration.migrateAsync();
+
+        // then
+        clone1.setRuntimeBytecode(null);
+        clone1.setRuntimeBytecodeHash(hash);
+        clone2.setRuntimeBytecode(null);
+        clone2.setRuntimeBytecodeHash(hash);
+        var otherBytecode = other.getRuntimeBytecode();
+        other.setRuntimeBytecode(null);
+        other.setRuntimeBytecodeHash(otherHash);
+        assertThat(contractRepository.findAll()).containsExactlyInAnyOrder(clone1, clone2, other, noBytecode);
+        assertThat(findBytecodes())
+                .containsExactlyInAnyOrder(
+                        ContractBytecode.builder().bytecode(bytecode).hash(hash).build(),
+                        ContractBytecode.builder().bytecode(otherBytecode).hash(otherHash).build());
+    }
+
+    @Test
+    void migrateExistingBytecode() {
+        // given
+        var bytecode = domainBuilder.bytes(512);
+        var hash = Utility.keccak256(bytecode);
+        var contractBytecode = domainBuilder
+                .contractBytecode()
+                .customize(b -> b.bytecode(bytecode).hash(hash))
+                .persist();
+        var deduplicated = domainBuilder
+                .contract()
+                .customize(c -> c.runtimeBytecode(null).runtimeBytecodeHash(hash))
+                .persist();
+        var contract = domainBuilder.contract().customize(c -> c.runtimeBytecode(bytecode)).persist();
+
+        // when
+        migration.migrateAsync();
+
+        // then
+        contract.setRuntimeBytecode(null);
+        contract.setRuntimeBytecodeHash(hash);
+        assertThat(contractRepository.findAll()).containsExactlyInAnyOrder(deduplicated, contract);
+        assertThat(findBytecodes()).containsExactly(contractBytecode);
+    }
+
+    private Iterable<ContractBytecode> findBytecodes() {
+        return jdbcOperations.query("select * from contract_bytecode", rowMapper(ContractBytecode.class));
+    }
+}
@@ -29,6 +29,7 @@ import com.hedera.mirror.importer.ImporterIntegrationTest;
 import com.hedera.mirror.importer.repository.ContractRepository;
 import com.hedera.mirror.importer.repository.EntityHistoryRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.util.Utility;
 import com.hedera.services.stream.proto.ContractBytecode;
 import com.hederahashgraph.api.proto.java.ContractID;
 import io.hypersistence.utils.hibernate.type.range.guava.PostgreSQLGuavaRangeType;
@@ -86,8 +87,11 @@ class SidecarContractMigrationTest extends ImporterIntegrationTest {
         assertThat(contractRepository.findAll())
                 .hasSize(1)
                 .first()
-                .returns(runtimeBytecode, Contract::getRuntimeBytecode)
+                .returns(null, Contract::getRuntimeBytecode)
+                .returns(Utility.keccak256(runtimeBytecode), Contract::getRuntimeBytecodeHash)
                 .returns(contract.getId(), Contract::getId);
+        assertThat(jdbcTemplate.queryForList("select bytecode from contract_bytecode", byte[].class))
+                .containsExactly(runtimeBytecode);
     }
 
     @Test
@@ -135,8 +139,9 @@ class SidecarContractMigrationTest extends ImporterIntegrationTest {
         contractsIterator.forEachRemaining(savedContract -> {
             ids.add(savedContract.getId());
             var contractBytecode = contractBytecodesMap.get(savedContract.getId());
-            assertThat(DomainUtils.toBytes(contractBytecode.getRuntimeBytecode()))
-                    .isEqualTo(savedContract.getRuntimeBytecode());
+            var runtimeBytecode = DomainUtils.toBytes(contractBytecode.getRuntimeBytecode());
+            assertThat(savedContract.getRuntimeBytecode()).isNull();
+            assertThat(savedContract.getRuntimeBytecodeHash()).isEqualTo(Utility.keccak256(runtimeBytecode));
         });
         assertThat(contractsIterator).isExhausted();
         assertThat(ids).isEqualTo(expected);
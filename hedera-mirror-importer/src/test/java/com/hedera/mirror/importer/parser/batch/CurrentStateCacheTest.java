@@ -0,0 +1,282 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static com.hedera.mirror.common.domain.entity.EntityType.ACCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+@RequiredArgsConstructor
+class CurrentStateCacheTest extends ImporterIntegrationTest {
+
+    private static final String TABLE = "entity";
+
+    private final CommonParserProperties commonParserProperties;
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityRepository entityRepository;
+    private final TransactionOperations transactionOperations;
+    private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
+
+    private BatchPersister batchUpserter;
+    private CurrentStateCache currentStateCache;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        var properties = new CurrentStateCacheProperties();
+        properties.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        currentStateCache = new CurrentStateCache(dataSource, entityManagerFactory, meterRegistry, properties);
+        batchUpserter = new BatchUpserter(
+                Entity.class,
+                dataSource,
+                meterRegistry,
+                commonParserProperties,
+                upsertQueryGeneratorFactory.get(Entity.class),
+                currentStateCache,
+                upsertQueryGeneratorFactory.getRowMerger(Entity.class).orElseThrow());
+    }
+
+    @Test
+    void mergeCachedRow() {
+        // given
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .get();
+        persist(entity);
+        persist(balanceUpdate(entity, 10L, 1L));
+
+        // when
+        persist(balanceUpdate(entity, 20L, 2L));
+        persist(balanceUpdate(entity, -5L, 3L));
+
+        // then
+        entity.setBalance(125L);
+        entity.setBalanceTimestamp(3L);
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(currentStateCache.get(TABLE, entity.getId())).isEqualTo(entity);
+        assertThat(count("hit")).isEqualTo(3);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void historyUpdateEvicts() {
+        // given
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .get();
+        persist(entity);
+        persist(balanceUpdate(entity, 10L, 1L));
+        assertThat(currentStateCache.get(TABLE, entity.getId())).isNotNull();
+
+        // when
+        var update = entity.toBuilder()
+                .balance(null)
+                .memo("updated")
+                .timestampRange(Range.atLeast(entity.getTimestampLower() + 1))
+                .build();
+        persist(update);
+
+        // then
+        assertThat(currentStateCache.get(TABLE, entity.getId())).isNull();
+        persist(balanceUpdate(entity, 20L, 2L));
+        entity.setBalance(130L);
+        entity.setBalanceTimestamp(2L);
+        entity.setMemo(update.getMemo());
+        entity.setTimestampRange(update.getTimestampRange());
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(findHistory(Entity.class)).hasSize(1);
+    }
+
+    @Test
+    void duplicateUpdatesInBatch() {
+        // given
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .get();
+        persist(entity);
+        persist(balanceUpdate(entity, 10L, 1L));
+        double hits = count("hit");
+
+        // when
+        transactionOperations.executeWithoutResult(
+                t -> batchUpserter.persist(List.of(balanceUpdate(entity, 20L, 2L), balanceUpdate(entity, 30L, 3L))));
+
+        // then
+        assertThat(count("hit")).isEqualTo(hits);
+        assertThat(entityRepository.findById(entity.getId()))
+                .get()
+                .returns(160L, Entity::getBalance)
+                .returns(3L, Entity::getBalanceTimestamp);
+    }
+
+    @Test
+    void rollback() {
+        // given
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .get();
+        persist(entity);
+        persist(balanceUpdate(entity, 10L, 1L));
+
+        // when
+        transactionOperations.executeWithoutResult(t -> {
+            batchUpserter.persist(List.of(balanceUpdate(entity, 20L, 2L)));
+            assertThat(currentStateCache.get(TABLE, entity.getId()))
+                    .returns(130L, e -> ((Entity) e).getBalance());
+            t.setRollbackOnly();
+        });
+
+        // then
+        assertThat(currentStateCache.get(TABLE, entity.getId()))
+                .returns(110L, e -> ((Entity) e).getBalance());
+        persist(balanceUpdate(entity, 5L, 3L));
+        assertThat(entityRepository.findById(entity.getId()))
+                .get()
+                .returns(115L, Entity::getBalance)
+                .returns(3L, Entity::getBalanceTimestamp);
+    }
+
+    @Test
+    void balanceFileInvalidates() {
+        // given
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .get();
+        persist(entity);
+        persist(balanceUpdate(entity, 10L, 1L));
+
+        // when
+        currentStateCache.onEnd(domainBuilder.accountBalanceFile().get());
+
+        // then
+        assertThat(currentStateCache.get(TABLE, entity.getId())).isNull();
+    }
+
+    @Test
+    void leadershipHandover() {
+        // given
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .get();
+        var recordFile1 = domainBuilder.recordFile().get();
+        var recordFile2 = next(recordFile1);
+        persist(recordFile1, entity);
+        persist(recordFile2, balanceUpdate(entity, 10L, 1L));
+        var recordFile3 = next(recordFile2);
+        persist(recordFile3, balanceUpdate(entity, 20L, 2L));
+        assertThat(currentStateCache.get(TABLE, entity.getId()))
+                .returns(130L, e -> ((Entity) e).getBalance());
+
+        // when another instance processed the next record file
+        var recordFile4 = next(recordFile3);
+        jdbcOperations.update(
+                "update entity set balance = balance + 70, balance_timestamp = 4 where id = ?", entity.getId());
+        persist(next(recordFile4), balanceUpdate(entity, 5L, 5L));
+
+        // then
+        assertThat(entityRepository.findById(entity.getId()))
+                .get()
+                .returns(205L, Entity::getBalance)
+                .returns(5L, Entity::getBalanceTimestamp);
+        assertThat(currentStateCache.get(TABLE, entity.getId())).isNull();
+    }
+
+    @Test
+    void rollbackDoesNotAdvanceRecordFile() {
+        // given
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .get();
+        var recordFile1 = domainBuilder.recordFile().get();
+        persist(recordFile1, entity);
+        var recordFile2 = next(recordFile1);
+        persist(recordFile2, balanceUpdate(entity, 10L, 1L));
+        var recordFile3 = next(recordFile2);
+
+        // when
+        transactionOperations.executeWithoutResult(t -> {
+            currentStateCache.onStart(recordFile3);
+            batchUpserter.persist(List.of(balanceUpdate(entity, 20L, 2L)));
+            t.setRollbackOnly();
+        });
+        persist(recordFile3, balanceUpdate(entity, 20L, 2L));
+
+        // then
+        assertThat(currentStateCache.get(TABLE, entity.getId()))
+                .returns(130L, e -> ((Entity) e).getBalance());
+    }
+
+    private Entity balanceUpdate(Entity entity, long balance, long balanceTimestamp) {
+        var update = new Entity();
+        update.setId(entity.getId());
+        update.setBalance(balance);
+        update.setBalanceTimestamp(balanceTimestamp);
+        return update;
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get("hedera.mirror.importer.parser.state.cache")
+                .tag("result", result)
+                .tag("table", TABLE)
+                .counter()
+                .count();
+    }
+
+    private RecordFile next(RecordFile recordFile) {
+        return domainBuilder
+                .recordFile()
+                .customize(r -> r.index(recordFile.getIndex() + 1).previousHash(recordFile.getHash()))
+                .get();
+    }
+
+    private void persist(RecordFile recordFile, Entity entity) {
+        transactionOperations.executeWithoutResult(t -> {
+            currentStateCache.onStart(recordFile);
+            batchUpserter.persist(List.of(entity));
+        });
+    }
+
+    private void persist(Entity entity) {
+        transactionOperations.executeWithoutResult(t -> batchUpserter.persist(List.of(entity)));
+    }
+}
@@ -28,6 +28,7 @@ import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -99,6 +100,7 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         super.assertParsed(recordFile, parsed, dbError);
 
         if (parsed) {
+            verify(recordStreamFileListener).onStart(recordFile);
             verify(recordItemListener).onItem(recordItem);
             verify(recordStreamFileListener).onEnd(recordFile);
             // Can't verify the event object since ApplicationEvent has a timestamp field for when the event happened
@@ -392,7 +394,66 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         // then
         verify(recordItemListener).onItem(recordItem1);
         verifyNoMoreInteractions(recordItemListener);
-        verifyNoInteractions(recordStreamFileListener);
+        verify(recordStreamFileListener).onStart(streamFile1);
+        verifyNoMoreInteractions(recordStreamFileListener);
+    }
+
+    @Test
+    void prepare() {
+        // given
+        long id = ++count * 100;
+        var recordItem1 = cryptoTransferRecordItem(id);
+        var recordItem2 = cryptoTransferRecordItem(id + 1);
+        var recordFile = getStreamFile(List.of(recordItem1, recordItem2), id);
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        verify(recordItemListener).prepare(recordItem1);
+        verify(recordItemListener).prepare(recordItem2);
+        var inOrder = inOrder(recordItemListener);
+        inOrder.verify(recordItemListener).onItem(recordItem1);
+        inOrder.verify(recordItemListener).onItem(recordItem2);
+        verify(recordStreamFileListener).onEnd(recordFile);
+    }
+
+    @Test
+    void prepareError() {
+        // given
+        long id = ++count * 100;
+        var recordItem1 = cryptoTransferRecordItem(id);
+        var recordItem2 = cryptoTransferRecordItem(id + 1);
+        var recordFile = getStreamFile(List.of(recordItem1, recordItem2), id);
+        doThrow(new IllegalStateException("error")).when(recordItemListener).prepare(recordItem1);
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        verify(recordItemListener).prepare(recordItem2);
+        var inOrder = inOrder(recordItemListener);
+        inOrder.verify(recordItemListener).onItem(recordItem1);
+        inOrder.verify(recordItemListener).onItem(recordItem2);
+        verify(recordStreamFileListener).onEnd(recordFile);
+    }
+
+    @Test
+    void prepareDisabled() {
+        // given
+        ((RecordParserProperties) parserProperties).setParallelPrepare(false);
+        long id = ++count * 100;
+        var recordItem1 = cryptoTransferRecordItem(id);
+        var recordItem2 = cryptoTransferRecordItem(id + 1);
+        var recordFile = getStreamFile(List.of(recordItem1, recordItem2), id);
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        verify(recordItemListener, never()).prepare(any());
+        verify(recordItemListener).onItem(recordItem1);
+        verify(recordItemListener).onItem(recordItem2);
     }
 
     @Test
@@ -660,7 +660,8 @@ class EntityRecordItemListenerContractTest extends AbstractEntityRecordItemListe
                 .hasSize(1)
                 .first()
                 .returns(entityId.getId(), Contract::getId)
-                .returns(runtimeBytecode, Contract::getRuntimeBytecode);
+                .returns(null, Contract::getRuntimeBytecode)
+                .returns(Utility.keccak256(runtimeBytecode), Contract::getRuntimeBytecodeHash);
     }
 
     @Test
@@ -705,7 +706,8 @@ class EntityRecordItemListenerContractTest extends AbstractEntityRecordItemListe
                 .hasSize(1)
                 .first()
                 .returns(contract.getId(), Contract::getId)
-                .returns(runtimeBytecode, Contract::getRuntimeBytecode);
+                .returns(null, Contract::getRuntimeBytecode)
+                .returns(Utility.keccak256(runtimeBytecode), Contract::getRuntimeBytecodeHash);
     }
 
     @ParameterizedTest
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.notify;
+
+import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.StateChanges;
+import com.hedera.mirror.common.domain.StateChanges.NftKey;
+import com.hedera.mirror.common.domain.StateChanges.SlotKey;
+import com.hedera.mirror.common.domain.StateChanges.TokenAccountKey;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.jdbc.PgConnection;
+
+@RequiredArgsConstructor
+class StateChangeNotifierTest extends ImporterIntegrationTest {
+
+    private final DataSource dataSource;
+    private final NotifyProperties notifyProperties;
+    private final StateChangeNotifier stateChangeNotifier;
+
+    private Connection connection;
+    private PgConnection pgConnection;
+
+    @BeforeEach
+    @SneakyThrows
+    void setup() {
+        notifyProperties.setStateChanges(true);
+        connection = dataSource.getConnection();
+        pgConnection = connection.unwrap(PgConnection.class);
+        pgConnection.execSQLUpdate("listen " + StateChangeNotifier.CHANNEL);
+    }
+
+    @AfterEach
+    @SneakyThrows
+    void teardown() {
+        notifyProperties.setMaxJsonPayloadSize(8000);
+        notifyProperties.setStateChanges(false);
+        connection.close();
+    }
+
+    @Test
+    void publish() {
+        var recordFile = domainBuilder.recordFile().get();
+        var slot = domainBuilder.bytes(32);
+        stateChangeNotifier.onAirdrop();
+        stateChangeNotifier.onContract(1L);
+        stateChangeNotifier.onEntity(2L);
+        stateChangeNotifier.onEntity(2L);
+        stateChangeNotifier.onNft(3L, 4L);
+        stateChangeNotifier.onSlot(5L, slot);
+        stateChangeNotifier.onToken(6L);
+        stateChangeNotifier.onTokenAccount(7L, 6L);
+
+        stateChangeNotifier.publish(recordFile);
+
+        assertThat(getNotifications())
+                .containsExactly(new StateChanges(
+                        true,
+                        false,
+                        recordFile.getConsensusEnd(),
+                        Set.of(1L),
+                        Set.of(2L),
+                        Set.of(new NftKey(3L, 4L)),
+                        Set.of(new SlotKey(5L, slot)),
+                        Set.of(new TokenAccountKey(7L, 6L)),
+                        Set.of(6L),
+                        false));
+
+        // The keys are cleared after each record file
+        var next = domainBuilder.recordFile().get();
+        stateChangeNotifier.publish(next);
+        assertThat(getNotifications())
+                .containsExactly(new StateChanges(
+                        false, false, next.getConsensusEnd(), null, null, null, null, null, null, false));
+    }
+
+    @Test
+    void publishSplit() {
+        notifyProperties.setMaxJsonPayloadSize(100);
+        var recordFile = domainBuilder.recordFile().get();
+        var expected = new HashSet<Long>();
+        for (long id = 1; id <= 20; id++) {
+            stateChangeNotifier.onEntity(id);
+            expected.add(id);
+        }
+        stateChangeNotifier.onAllowance();
+
+        stateChangeNotifier.publish(recordFile);
+
+        var notifications = getNotifications();
+        assertThat(notifications)
+                .hasSizeGreaterThan(1)
+                .allSatisfy(n -> assertThat(n)
+                        .returns(recordFile.getConsensusEnd(), StateChanges::consensusEnd)
+                        .returns(false, StateChanges::truncated))
+                .flatExtracting(StateChanges::entities)
+                .containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(notifications).filteredOn(StateChanges::allowances).hasSize(1);
+    }
+
+    @Test
+    void publishTruncated() {
+        notifyProperties.setMaxJsonPayloadSize(10);
+        var recordFile = domainBuilder.recordFile().get();
+        for (long id = 1; id <= 20; id++) {
+            stateChangeNotifier.onEntity(id);
+        }
+
+        stateChangeNotifier.publish(recordFile);
+
+        assertThat(getNotifications()).containsExactly(StateChanges.truncated(recordFile.getConsensusEnd()));
+    }
+
+    @Test
+    void disabled() {
+        notifyProperties.setStateChanges(false);
+        stateChangeNotifier.onEntity(1L);
+        stateChangeNotifier.publish(domainBuilder.recordFile().get());
+        assertThat(getNotifications()).isEmpty();
+    }
+
+    @SneakyThrows
+    private List<StateChanges> getNotifications() {
+        var stateChanges = new ArrayList<StateChanges>();
+        var notifications = pgConnection.getNotifications(500);
+
+        if (notifications != null) {
+            for (var notification : notifications) {
+                stateChanges.add(OBJECT_MAPPER.readValue(notification.getParameter(), StateChanges.class));
+            }
+        }
+
+        return stateChanges;
+    }
+}
@@ -27,6 +27,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.mirror.common.domain.DomainBuilder;
 import com.hedera.mirror.common.domain.contract.Contract;
 import com.hedera.mirror.common.domain.contract.ContractAction;
+import com.hedera.mirror.common.domain.contract.ContractBytecode;
 import com.hedera.mirror.common.domain.contract.ContractLog;
 import com.hedera.mirror.common.domain.contract.ContractResult;
 import com.hedera.mirror.common.domain.contract.ContractState;
@@ -63,6 +64,7 @@ import com.hedera.mirror.importer.ImporterIntegrationTest;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.parser.record.historicalbalance.HistoricalBalanceProperties;
 import com.hedera.mirror.importer.repository.AssessedCustomFeeRepository;
 import com.hedera.mirror.importer.repository.ContractActionRepository;
 import com.hedera.mirror.importer.repository.ContractLogRepository;
@@ -139,6 +141,7 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
     private final EntityTransactionRepository entityTransactionRepository;
     private final EthereumTransactionRepository ethereumTransactionRepository;
     private final FileDataRepository fileDataRepository;
+    private final HistoricalBalanceProperties historicalBalanceProperties;
     private final LiveHashRepository liveHashRepository;
     private final NetworkFreezeRepository networkFreezeRepository;
     private final NetworkStakeRepository networkStakeRepository;
@@ -171,6 +174,8 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
 
         entityProperties.getPersist().setEntityHistory(true);
         entityProperties.getPersist().setTrackBalance(true);
+        entityProperties.getPersist().setTrackTokenCounts(true);
+        historicalBalanceProperties.setChangeTracking(true);
     }
 
     @AfterEach
@@ -179,6 +184,8 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         entityProperties.getPersist().setTransactionHashTypes(defaultTransactionHashTypes);
         entityProperties.getPersist().setTransactionHash(true);
         entityProperties.getPersist().setTrackBalance(true);
+        entityProperties.getPersist().setTrackTokenCounts(false);
+        entityProperties.getPersist().setIncrementalEntityStake(true);
     }
 
     @Test
@@ -223,16 +230,36 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
     void onContract() {
         // given
         Contract contract1 = domainBuilder.contract().get();
-        Contract contract2 = domainBuilder.contract().get();
+        Contract contract2 = domainBuilder
+                .contract()
+                .customize(c -> c.runtimeBytecode(contract1.getRuntimeBytecode()))
+                .get();
+        Contract contract3 = domainBuilder.contract().get();
+        Contract contract4 = domainBuilder.contract().customize(c -> c.runtimeBytecode(null)).get();
+        var bytecode1 = contract1.getRuntimeBytecode();
+        var bytecode3 = contract3.getRuntimeBytecode();
+        var hash1 = Utility.keccak256(bytecode1);
+        var hash3 = Utility.keccak256(bytecode3);
 
         // when
         sqlEntityListener.onContract(contract1);
         sqlEntityListener.onContract(contract2);
+        sqlEntityListener.onContract(contract3);
+        sqlEntityListener.onContract(contract4);
         completeFileAndCommit();
 
         // then
         assertThat(entityRepository.count()).isZero();
-        assertThat(contractRepository.findAll()).containsExactlyInAnyOrder(contract1, contract2);
+        assertThat(contractRepository.findAll())
+                .containsExactlyInAnyOrder(contract1, contract2, contract3, contract4)
+                .filteredOn(c -> c.getRuntimeBytecodeHash() != null)
+                .allMatch(c -> c.getRuntimeBytecode() == null)
+                .extracting(Contract::getRuntimeBytecodeHash)
+                .containsExactlyInAnyOrder(hash1, hash1, hash3);
+        assertThat(jdbcOperations.query("select * from contract_bytecode", rowMapper(ContractBytecode.class)))
+                .containsExactlyInAnyOrder(
+                        ContractBytecode.builder().bytecode(bytecode1).hash(hash1).build(),
+                        ContractBytecode.builder().bytecode(bytecode3).hash(hash3).build());
     }
 
     @Test
@@ -675,6 +702,112 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void onCryptoTransferBalanceChanges() {
+        // given
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var tokenTransfer = domainBuilder.tokenTransfer().get();
+        var tokenTransferId = tokenTransfer.getId();
+        var recordFile = domainBuilder.recordFile().get();
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onTokenTransfer(tokenTransfer);
+        transactionTemplate.executeWithoutResult(status -> sqlEntityListener.onEnd(recordFile));
+
+        // then
+        assertThat(getBalanceChanges())
+                .containsExactlyInAnyOrder(
+                        List.of(cryptoTransfer.getEntityId(), recordFile.getConsensusEnd(), 0L),
+                        List.of(
+                                tokenTransferId.getAccountId().getId(),
+                                recordFile.getConsensusEnd(),
+                                tokenTransferId.getTokenId().getId()));
+    }
+
+    @Test
+    void onCryptoTransferBalanceChangesRollback() {
+        // given
+        var rolledBack = domainBuilder.cryptoTransfer().get();
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var recordFile = domainBuilder.recordFile().get();
+
+        // when the first attempt of the record file rolls back and the retry has different balance changes
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onCryptoTransfer(rolledBack);
+            status.setRollbackOnly();
+        });
+        parserContext.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+            sqlEntityListener.onEnd(recordFile);
+        });
+
+        // then
+        assertThat(getBalanceChanges())
+                .containsExactly(List.of(cryptoTransfer.getEntityId(), recordFile.getConsensusEnd(), 0L));
+    }
+
+    @Test
+    void onCryptoTransferEntityStakeChanges() {
+        // given
+        var cryptoTransfer1 = domainBuilder.cryptoTransfer().get();
+        var cryptoTransfer2 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.entityId(cryptoTransfer1.getEntityId()))
+                .get();
+        var cryptoTransfer3 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.entityId(cryptoTransfer1.getEntityId()))
+                .get();
+        var entity = domainBuilder.entity().get();
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer1);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer2);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer3);
+        sqlEntityListener.onEntity(entity);
+        completeFileAndCommit();
+
+        // then
+        long accountId = cryptoTransfer1.getEntityId();
+        assertThat(getEntityStakeChanges())
+                .containsExactlyInAnyOrder(
+                        List.of(cryptoTransfer1.getConsensusTimestamp(), accountId),
+                        List.of(cryptoTransfer3.getConsensusTimestamp(), accountId),
+                        List.of(entity.getTimestampLower(), entity.getId()));
+    }
+
+    @Test
+    void onCryptoTransferEntityStakeChangesDisabled() {
+        // given
+        entityProperties.getPersist().setIncrementalEntityStake(false);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        completeFileAndCommit();
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(getEntityStakeChanges()).isEmpty();
+    }
+
+    @Test
+    void onCryptoTransferBalanceChangesDisabled() {
+        // given
+        historicalBalanceProperties.setChangeTracking(false);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        completeFileAndCommit();
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(getBalanceChanges()).isEmpty();
+    }
+
     @Test
     void onCryptoTransferBeforeContractCreate() {
         // given
@@ -2399,6 +2532,88 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(TokenAccount.class)).isEmpty();
     }
 
+    @Test
+    void onTokenAccountTokenCounts() {
+        var tokenId = EntityId.of("0.0.3");
+        var accountId = EntityId.of("0.0.7");
+        sqlEntityListener.onEntity(domainBuilder
+                .entity()
+                .customize(e -> e.id(tokenId.getId()).num(tokenId.getNum()).type(EntityType.TOKEN))
+                .get());
+        sqlEntityListener.onToken(getToken(tokenId, EntityId.of("0.0.500"), 1L, 1L));
+        completeFileAndCommit();
+
+        var associate = getTokenAccount(
+                tokenId,
+                accountId,
+                5L,
+                true,
+                false,
+                10L,
+                5L,
+                TokenFreezeStatusEnum.NOT_APPLICABLE,
+                TokenKycStatusEnum.NOT_APPLICABLE,
+                Range.atLeast(5L));
+        sqlEntityListener.onTokenAccount(associate);
+        sqlEntityListener.onNft(getNft(tokenId, 1L, accountId, 5L, false, "nft", 5L));
+        completeFileAndCommit();
+
+        assertThat(getAccountTokenCount(accountId, "account_token_count")).containsExactly(List.of(1, 1L, 1));
+        assertThat(getAccountTokenCount(accountId, "account_token_count_history")).isEmpty();
+
+        // when
+        var dissociate =
+                getTokenAccount(tokenId, accountId, null, false, null, 0, null, null, null, Range.atLeast(10L));
+        sqlEntityListener.onTokenAccount(dissociate);
+        completeFileAndCommit();
+
+        // then
+        assertThat(getAccountTokenCount(accountId, "account_token_count")).containsExactly(List.of(0, 1L, 0));
+        assertThat(getAccountTokenCount(accountId, "account_token_count_history"))
+                .containsExactly(List.of(1, 1L, 1));
+
+        // when
+        sqlEntityListener.onEntity(domainBuilder
+                .entity()
+                .customize(e -> e.id(tokenId.getId())
+                        .num(tokenId.getNum())
+                        .deleted(true)
+                        .timestampRange(Range.atLeast(15L))
+                        .type(EntityType.TOKEN))
+                .get());
+        completeFileAndCommit();
+
+        // then
+        assertThat(getAccountTokenCount(accountId, "account_token_count")).containsExactly(List.of(0, 0L, 0));
+        assertThat(getAccountTokenCount(accountId, "account_token_count_history"))
+                .containsExactlyInAnyOrder(List.of(1, 1L, 1), List.of(0, 1L, 0));
+    }
+
+    @Test
+    void onTokenAccountTokenCountsDisabled() {
+        entityProperties.getPersist().setTrackTokenCounts(false);
+        var accountId = EntityId.of("0.0.7");
+        var tokenAccount = getTokenAccount(
+                EntityId.of("0.0.3"),
+                accountId,
+                5L,
+                true,
+                false,
+                10L,
+                5L,
+                TokenFreezeStatusEnum.NOT_APPLICABLE,
+                TokenKycStatusEnum.NOT_APPLICABLE,
+                Range.atLeast(5L));
+
+        // when
+        sqlEntityListener.onTokenAccount(tokenAccount);
+        completeFileAndCommit();
+
+        // then
+        assertThat(tokenAccountRepository.findAll()).containsExactly(tokenAccount);
+        assertThat(getAccountTokenCount(accountId, "account_token_count")).isEmpty();
+    }
+
     @Test
     void onTokenAccountDissociate() {
         EntityId tokenId1 = EntityId.of("0.0.3");
@@ -3268,6 +3483,24 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         parserContext.clear();
     }
 
+    private List<List<Long>> getBalanceChanges() {
+        return jdbcOperations.query(
+                "select account_id, consensus_timestamp, token_id from balance_change",
+                (rs, i) -> List.of(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    private List<List<Long>> getEntityStakeChanges() {
+        return jdbcOperations.query(
+                "select consensus_timestamp, id from entity_stake_change",
+                (rs, i) -> List.of(rs.getLong(1), rs.getLong(2)));
+    }
+
+    private List<List<Object>> getAccountTokenCount(EntityId accountId, String table) {
+        var sql = "select associated_count, nft_count, positive_balance_count from " + table + " where account_id = ?";
+        return jdbcOperations.query(
+                sql, (rs, i) -> List.of(rs.getInt(1), rs.getLong(2), rs.getInt(3)), accountId.getId());
+    }
+
     private ContractState getContractState(ContractStateChange contractStateChange, long createdTimestamp) {
         var value = contractStateChange.getValueWritten() == null
                 ? contractStateChange.getValueRead()
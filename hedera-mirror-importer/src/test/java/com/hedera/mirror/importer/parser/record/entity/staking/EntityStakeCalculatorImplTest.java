@@ -18,7 +18,9 @@ package com.hedera.mirror.importer.parser.record.entity.staking;
 
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
@@ -47,6 +49,9 @@ class EntityStakeCalculatorImplTest {
 
     private EntityProperties entityProperties;
 
+    @Mock(strictness = LENIENT)
+    private EntityStakeChangeTracker entityStakeChangeTracker;
+
     @Mock(strictness = LENIENT)
     private EntityStakeRepository entityStakeRepository;
 
@@ -56,7 +61,10 @@ class EntityStakeCalculatorImplTest {
     void setup() {
         entityProperties = new EntityProperties();
         entityStakeCalculator = new EntityStakeCalculatorImpl(
-                entityProperties, entityStakeRepository, TransactionOperations.withoutTransaction());
+                entityProperties,
+                entityStakeChangeTracker,
+                entityStakeRepository,
+                TransactionOperations.withoutTransaction());
         when(entityStakeRepository.updated()).thenReturn(false, true);
         when(entityStakeRepository.getEndStakePeriod())
                 .thenReturn(Optional.of(100L))
@@ -103,6 +111,84 @@ class EntityStakeCalculatorImplTest {
         inorder.verifyNoMoreInteractions();
     }
 
+    @Test
+    void calculateIncremental() {
+        // given
+        when(entityStakeRepository.createEntityStateStart()).thenReturn(Optional.of(1000L));
+        when(entityStakeRepository.updateEntityStateStart(1000L)).thenReturn(Optional.of(2000L));
+        when(entityStakeChangeTracker.isTrackedSince(1000L)).thenReturn(true);
+        entityStakeCalculator.calculate();
+
+        // when
+        reset(entityStakeRepository);
+        when(entityStakeRepository.updated()).thenReturn(false, true);
+        when(entityStakeRepository.getEndStakePeriod())
+                .thenReturn(Optional.of(101L))
+                .thenReturn(Optional.of(102L));
+        when(entityStakeRepository.updateEntityStateStart(1000L)).thenReturn(Optional.of(2000L));
+        entityStakeCalculator.calculate();
+
+        // then
+        var inorder = inOrder(entityStakeRepository);
+        inorder.verify(entityStakeRepository).updated();
+        inorder.verify(entityStakeRepository).getEndStakePeriod();
+        inorder.verify(entityStakeRepository).lockFromConcurrentUpdates();
+        inorder.verify(entityStakeRepository).updateEntityStateStart(1000L);
+        inorder.verify(entityStakeRepository).updateEntityStake();
+        inorder.verify(entityStakeRepository).getEndStakePeriod();
+        inorder.verify(entityStakeRepository).updated();
+        inorder.verifyNoMoreInteractions();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            true, false, true
+            true, true, false
+            false, true, true
+            """)
+    void calculateIncrementalFallback(boolean incremental, boolean tracked, boolean updated) {
+        // given
+        entityProperties.getPersist().setIncrementalEntityStake(incremental);
+        when(entityStakeRepository.createEntityStateStart()).thenReturn(Optional.of(1000L));
+        when(entityStakeChangeTracker.isTrackedSince(1000L)).thenReturn(tracked);
+        entityStakeCalculator.calculate();
+
+        // when
+        reset(entityStakeRepository);
+        when(entityStakeRepository.updated()).thenReturn(false, true);
+        when(entityStakeRepository.getEndStakePeriod())
+                .thenReturn(Optional.of(101L))
+                .thenReturn(Optional.of(102L));
+        when(entityStakeRepository.updateEntityStateStart(1000L))
+                .thenReturn(updated ? Optional.of(2000L) : Optional.empty());
+        entityStakeCalculator.calculate();
+
+        // then
+        verify(entityStakeRepository).createEntityStateStart();
+        verify(entityStakeRepository).updateEntityStake();
+    }
+
+    @Test
+    void calculateIncrementalAfterFailure() {
+        // given
+        when(entityStakeRepository.createEntityStateStart()).thenReturn(Optional.of(1000L));
+        when(entityStakeChangeTracker.isTrackedSince(1000L)).thenReturn(true);
+        doThrow(new RuntimeException()).when(entityStakeRepository).updateEntityStake();
+        assertThrows(RuntimeException.class, () -> entityStakeCalculator.calculate());
+
+        // when
+        reset(entityStakeRepository);
+        when(entityStakeRepository.updated()).thenReturn(false, true);
+        when(entityStakeRepository.getEndStakePeriod())
+                .thenReturn(Optional.of(100L))
+                .thenReturn(Optional.of(101L));
+        entityStakeCalculator.calculate();
+
+        // then
+        verify(entityStakeRepository, never()).updateEntityStateStart(anyLong());
+        verify(entityStakeRepository).createEntityStateStart();
+    }
+
     @Test
     void calculateWhenPendingRewardDisabled() {
         entityProperties.getPersist().setPendingReward(false);
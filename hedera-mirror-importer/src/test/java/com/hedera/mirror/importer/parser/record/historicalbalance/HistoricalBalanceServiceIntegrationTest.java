@@ -57,7 +57,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
@@ -160,14 +160,16 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
 
     @AfterEach
     void resetProperties() {
+        properties.setChangeTracking(true);
         properties.setTokenBalances(true);
     }
 
     @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void generate(boolean tokenBalances) {
+    @CsvSource({"true, true", "true, false", "false, true", "false, false"})
+    void generate(boolean tokenBalances, boolean changeTracking) {
         // given
         setup();
+        properties.setChangeTracking(changeTracking);
         properties.setTokenBalances(tokenBalances);
         var existinigAccountBalanceFile = domainBuilder
                 .accountBalanceFile()
@@ -215,6 +217,12 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
                 .persist();
         updatedEntities = List.of(treasuryAccount, account, newAccount);
         var updatedTokenAccounts = List.of(tokenAccount, newTokenAccount);
+        // the balance changes tracked by the parser
+        trackBalanceChange(account.getBalanceTimestamp(), account.getId(), 0L);
+        trackBalanceChange(account.getBalanceTimestamp(), newAccount.getId(), 0L);
+        trackBalanceChange(account.getBalanceTimestamp(), tokenAccount.getAccountId(), tokenAccount.getTokenId());
+        trackBalanceChange(
+                account.getBalanceTimestamp(), newTokenAccount.getAccountId(), newTokenAccount.getTokenId());
 
         // process a record file which doesn't reach the next balances snapshot interval
         var existingAccountBalanceFiles = Lists.newArrayList(accountBalanceFileRepository.findAll());
@@ -228,6 +236,9 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
         // process a record file which should trigger the next balance snapshot
         balanceTimestamp += properties.getMinFrequency().plusSeconds(1).toNanos();
         verifyGeneratedBalances(balanceTimestamp, updatedEntities, updatedTokenAccounts);
+        var expectedChanges = changeTracking ? 0 : 4;
+        assertThat(jdbcTemplate.queryForObject("select count(*) from balance_change", Integer.class))
+                .isEqualTo(expectedChanges);
     }
 
     @Test
@@ -405,6 +416,14 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
         });
     }
 
+    private void trackBalanceChange(long consensusTimestamp, long accountId, long tokenId) {
+        jdbcTemplate.update(
+                "insert into balance_change (account_id, consensus_timestamp, token_id) values (?, ?, ?)",
+                accountId,
+                consensusTimestamp,
+                tokenId);
+    }
+
     private void verifyNoNewAccountBalanceFile(List<AccountBalanceFile> existingAccountBalanceFiles) {
         // best effort to check that no new account balance file for 500ms
         await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
@@ -29,6 +29,7 @@ import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.protobuf.ByteString;
@@ -441,6 +442,58 @@ class EthereumTransactionHandlerTest extends AbstractTransactionHandlerTest {
         assertThat(recordItem.getEntityTransactions()).containsExactlyInAnyOrderEntriesOf(expectedEntityTransactions);
     }
 
+    @Test
+    void prepare() {
+        var ethereumTransaction = domainBuilder.ethereumTransaction(true).get();
+        doReturn(ethereumTransaction).when(ethereumTransactionParser).decode(any());
+        var recordItem = recordItemBuilder.ethereumTransaction(true).build();
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(recordItem.getConsensusTimestamp()))
+                .get();
+
+        transactionHandler.prepare(recordItem);
+        assertThat(recordItem.getEthereumTransaction()).isSameAs(ethereumTransaction);
+        transactionHandler.updateTransaction(transaction, recordItem);
+
+        verify(ethereumTransactionParser, times(1)).decode(any());
+        verify(entityListener).onEthereumTransaction(ethereumTransaction);
+        assertThat(recordItem.getEthereumTransaction()).isSameAs(ethereumTransaction);
+    }
+
+    @Test
+    void prepareInvalid() {
+        var ethereumTransaction = domainBuilder.ethereumTransaction(true).get();
+        doThrow(InvalidDatasetException.class)
+                .doReturn(ethereumTransaction)
+                .when(ethereumTransactionParser)
+                .decode(any());
+        var recordItem = recordItemBuilder.ethereumTransaction(true).build();
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(recordItem.getConsensusTimestamp()))
+                .get();
+
+        assertThatThrownBy(() -> transactionHandler.prepare(recordItem)).isInstanceOf(InvalidDatasetException.class);
+        assertThat(recordItem.getEthereumTransaction()).isNull();
+        transactionHandler.updateTransaction(transaction, recordItem);
+
+        // the error is left to the sequential processing to handle
+        verify(ethereumTransactionParser, times(2)).decode(any());
+        verify(entityListener).onEthereumTransaction(ethereumTransaction);
+    }
+
+    @Test
+    void prepareDisabled() {
+        entityProperties.getPersist().setEthereumTransactions(false);
+        var recordItem = recordItemBuilder.ethereumTransaction(true).build();
+
+        transactionHandler.prepare(recordItem);
+
+        verify(ethereumTransactionParser, never()).decode(any());
+        assertThat(recordItem.getEthereumTransaction()).isNull();
+    }
+
     @Test
     void updateTransactionDisabled() {
         entityProperties.getPersist().setEthereumTransactions(false);
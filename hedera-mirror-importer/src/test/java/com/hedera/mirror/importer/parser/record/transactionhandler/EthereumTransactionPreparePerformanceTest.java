@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.transactionhandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.Lists;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.util.Benchmark;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hedera.mirror.importer.parser.record.entity.EntityListener;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import com.hedera.mirror.importer.parser.record.ethereum.CompositeEthereumTransactionParser;
+import com.hedera.mirror.importer.parser.record.ethereum.Eip1559EthereumTransactionParser;
+import com.hedera.mirror.importer.parser.record.ethereum.Eip2930EthereumTransactionParser;
+import com.hedera.mirror.importer.parser.record.ethereum.LegacyEthereumTransactionParser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import lombok.CustomLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+
+/**
+ * Compares decoding the ethereum transactions of a record file one by one in consensus order with preparing them up
+ * front on a bounded pool the way the record file parser does.
+ */
+@CustomLog
+@EnabledIf(expression = "${hedera.mirror.importer.test.performance.enabled:false}")
+@Tag("performance")
+class EthereumTransactionPreparePerformanceTest {
+
+    private static final int CONCURRENCY = 4;
+    private static final int ITEMS = 5_000;
+    private static final int ITERATIONS = 20;
+    private static final int WARMUP_ITERATIONS = 5;
+
+    private final RecordItemBuilder recordItemBuilder = new RecordItemBuilder();
+
+    @Test
+    void prepare() throws Exception {
+        var parser = new CompositeEthereumTransactionParser(
+                new LegacyEthereumTransactionParser(null),
+                new Eip2930EthereumTransactionParser(null),
+                new Eip1559EthereumTransactionParser(null));
+        var handler = new EthereumTransactionHandler(mock(EntityListener.class), new EntityProperties(), parser);
+        var recordItems = IntStream.range(0, ITEMS)
+                .mapToObj(i -> recordItemBuilder.ethereumTransaction().build())
+                .toList();
+
+        var sequential = new Benchmark("sequential", WARMUP_ITERATIONS, ITERATIONS).run(i -> {
+            recordItems.forEach(handler::prepare);
+            return recordItems.getLast().getEthereumTransaction();
+        });
+
+        try (var executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            var parallel = new Benchmark("parallel", WARMUP_ITERATIONS, ITERATIONS)
+                    .run(i -> prepare(executor, handler, recordItems));
+            assertThat(parallel.value()).isNotNull();
+            log.info(
+                    "Prepared {} ethereum transactions {}x as fast with {} threads",
+                    ITEMS,
+                    String.format("%.2f", parallel.rate() / sequential.rate()),
+                    CONCURRENCY);
+        }
+    }
+
+    private Object prepare(ExecutorService executor, TransactionHandler handler, List<RecordItem> recordItems)
+            throws Exception {
+        var tasks = new ArrayList<Callable<Void>>(CONCURRENCY);
+        for (var partition : Lists.partition(recordItems, (recordItems.size() + CONCURRENCY - 1) / CONCURRENCY)) {
+            tasks.add(() -> {
+                partition.forEach(handler::prepare);
+                return null;
+            });
+        }
+
+        for (var future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+
+        return recordItems.getLast().getEthereumTransaction();
+    }
+}
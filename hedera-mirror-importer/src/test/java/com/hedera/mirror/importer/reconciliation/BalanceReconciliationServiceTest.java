@@ -68,10 +68,13 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
 
     @BeforeEach
     void setup() {
+        reconciliationProperties.setConcurrency(4);
         reconciliationProperties.setDelay(Duration.ZERO);
         reconciliationProperties.setEnabled(true);
         reconciliationProperties.setEndDate(Utility.MAX_INSTANT_LONG);
+        reconciliationProperties.setMaxPendingWindows(10);
         reconciliationProperties.setRemediationStrategy(FAIL);
+        reconciliationProperties.setShardSize(500_000L);
         reconciliationProperties.setStartDate(Instant.EPOCH);
         reconciliationProperties.setToken(true);
         reconciliationService.status.set(UNKNOWN);
@@ -163,6 +166,122 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
         assertReconciliationJob(SUCCESS, balance2).returns(1L, ReconciliationJob::getCount);
     }
 
+    @Test
+    void shards() {
+        // given
+        reconciliationProperties.setShardSize(10L);
+        entities(2L, 25L);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        transfer(2, 15, 1000);
+        transfer(15, 25, 100);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, 15L, 900L, 25L, 100L));
+        transfer(25, 3, 50);
+        tokenTransfer(15, 100, 10);
+        tokenTransfer(26, 100, 20);
+        var last = balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, 3L, 50L, 15L, 900L, 25L, 50L));
+        tokenBalance(last, Map.of(new TokenAccountId(15, 100), 10L, new TokenAccountId(26, 100), 20L));
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(SUCCESS, last).returns(2L, ReconciliationJob::getCount);
+        assertThat(countShards()).isZero();
+    }
+
+    @Test
+    void shardsBoundedWindows() {
+        // given more shards than threads and a single window held at a time
+        reconciliationProperties.setConcurrency(2);
+        reconciliationProperties.setMaxPendingWindows(1);
+        reconciliationProperties.setShardSize(10L);
+        entities(2L, 45L);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        transfer(2, 15, 1000);
+        transfer(15, 45, 100);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, 15L, 900L, 45L, 100L));
+        transfer(45, 3, 50);
+        transfer(2, 33, 10);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1010L, 3L, 50L, 15L, 900L, 33L, 10L, 45L, 50L));
+        transfer(33, 25, 5);
+        tokenTransfer(15, 100, 10);
+        tokenTransfer(46, 100, 20);
+        var last = balance(Map.of(2L, FIFTY_BILLION_HBARS - 1010L, 3L, 50L, 15L, 900L, 25L, 5L, 33L, 5L, 45L, 50L));
+        tokenBalance(last, Map.of(new TokenAccountId(15, 100), 10L, new TokenAccountId(46, 100), 20L));
+
+        // when
+        reconcile();
+
+        // then the shards that started after the others queried the windows they missed
+        assertReconciliationJob(SUCCESS, last).returns(3L, ReconciliationJob::getCount);
+        assertThat(countShards()).isZero();
+    }
+
+    @Test
+    void shardsResume() {
+        // given
+        reconciliationProperties.setRemediationStrategy(RESET);
+        reconciliationProperties.setShardSize(10L);
+        entities(2L, 25L);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 100L, 15L, 80L, 27L, 20L));
+        transfer(15, 25, 10);
+        var balance2 = balance(Map.of(2L, FIFTY_BILLION_HBARS - 100L, 15L, 70L, 25L, 10L, 27L, 20L));
+        transfer(2, 15, 1);
+        var missingCredit = domainBuilder.cryptoTransfer().customize(c -> c.amount(5).entityId(25));
+        var missingDebit = domainBuilder.cryptoTransfer().customize(c -> c.amount(-5).entityId(27));
+        var last = balance(Map.of(2L, FIFTY_BILLION_HBARS - 101L, 15L, 71L, 25L, 15L, 27L, 15L));
+
+        // when
+        reconcile();
+
+        // then only the last shard failed while the others progressed to the last balance file
+        assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, null)
+                .returns(2L, ReconciliationJob::getCount)
+                .extracting(ReconciliationJob::getError)
+                .asInstanceOf(InstanceOfAssertFactories.STRING)
+                .contains("not equal: value differences={25=(10, 15), 27=(20, 15)}");
+        assertThat(jdbcOperations.queryForList("select consensus_timestamp from reconciliation_shard", Long.class))
+                .containsExactlyInAnyOrder(
+                        balance2.getConsensusTimestamp(), last.getConsensusTimestamp(), last.getConsensusTimestamp());
+
+        // given
+        missingCredit.persist();
+        missingDebit.persist();
+
+        // when
+        reconcile();
+
+        // then only the last shard reconciled the last balance file again
+        assertReconciliationJob(SUCCESS, last).returns(1L, ReconciliationJob::getCount);
+        assertThat(countShards()).isZero();
+    }
+
+    @Test
+    void shardsResetAfterErrors() {
+        // given
+        reconciliationProperties.setRemediationStrategy(RESET);
+        reconciliationProperties.setShardSize(10L);
+        entities(2L, 25L);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 100L, 15L, 80L, 27L, 20L));
+        transfer(15, 25, 10); // Missing a 5 tinybar transfer from 27 to 25
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 100L, 15L, 70L, 25L, 15L, 27L, 15L));
+        transfer(2, 15, 1);
+        var last = balance(Map.of(2L, FIFTY_BILLION_HBARS - 101L, 15L, 71L, 25L, 15L, 27L, 15L));
+
+        // when
+        reconcile();
+
+        // then the last shard progressed to the last balance file once it reconciled without errors again
+        assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, null)
+                .returns(2L, ReconciliationJob::getCount)
+                .extracting(ReconciliationJob::getError)
+                .asInstanceOf(InstanceOfAssertFactories.STRING)
+                .contains("not equal: value differences={25=(10, 15), 27=(20, 15)}");
+        assertThat(jdbcOperations.queryForList("select consensus_timestamp from reconciliation_shard", Long.class))
+                .hasSize(3)
+                .containsOnly(last.getConsensusTimestamp());
+    }
+
     @Test
     void delay() {
         // given
@@ -458,8 +577,23 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
         return accountBalanceFile;
     }
 
+    private Integer countShards() {
+        return jdbcOperations.queryForObject("select count(*) from reconciliation_shard", Integer.class);
+    }
+
+    private void entities(long... ids) {
+        for (long id : ids) {
+            domainBuilder.entity(id, domainBuilder.timestamp()).persist();
+        }
+    }
+
     private AccountBalanceFile tokenBalance(Map<TokenAccountId, Long> balances) {
         var accountBalanceFile = balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        tokenBalance(accountBalanceFile, balances);
+        return accountBalanceFile;
+    }
+
+    private void tokenBalance(AccountBalanceFile accountBalanceFile, Map<TokenAccountId, Long> balances) {
         long timestamp = accountBalanceFile.getConsensusTimestamp();
 
         balances.forEach((id, balance) -> {
@@ -470,8 +604,6 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
                     .customize(a -> a.balance(balance).id(new TokenBalance.Id(timestamp, accountId, tokenId)))
                     .persist();
         });
-
-        return accountBalanceFile;
     }
 
     private void transfer(long from, long to, long amount) {
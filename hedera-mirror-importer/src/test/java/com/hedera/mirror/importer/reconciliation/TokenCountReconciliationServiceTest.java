@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reconciliation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class TokenCountReconciliationServiceTest extends ImporterIntegrationTest {
+
+    private static final String INSERT_SQL =
+            """
+            insert into account_token_count
+              (account_id, associated_count, nft_count, positive_balance_count, timestamp_range)
+            values (?, ?, ?, ?, '[1,)')
+            """;
+
+    private final DomainBuilder domainBuilder;
+    private final EntityProperties entityProperties;
+    private final ReconciliationProperties reconciliationProperties;
+    private final TokenCountReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setup() {
+        entityProperties.getPersist().setTrackTokenCounts(true);
+        reconciliationProperties.setEnabled(true);
+        reconciliationService.mismatches.set(0L);
+    }
+
+    @AfterEach
+    void teardown() {
+        reconciliationProperties.setEnabled(false);
+    }
+
+    @Test
+    void success() {
+        // given
+        var tokenAccount = domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.associated(true).balance(10L))
+                .persist();
+        jdbcOperations.update(INSERT_SQL, tokenAccount.getAccountId(), 1, 0L, 1);
+
+        // when
+        reconciliationService.reconcile();
+
+        // then
+        assertMismatches(0L);
+    }
+
+    @Test
+    void mismatch() {
+        // given
+        var tokenAccount = domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.associated(true).balance(0L))
+                .persist();
+        var otherAccountId = domainBuilder.id();
+        jdbcOperations.update(INSERT_SQL, tokenAccount.getAccountId(), 1, 0L, 1);
+        jdbcOperations.update(INSERT_SQL, otherAccountId, 0, 0L, 0);
+
+        // when
+        reconciliationService.reconcile();
+
+        // then
+        assertMismatches(1L);
+    }
+
+    @Test
+    void disabled() {
+        // given
+        reconciliationProperties.setEnabled(false);
+        jdbcOperations.update(INSERT_SQL, domainBuilder.id(), 1, 1L, 1);
+
+        // when
+        reconciliationService.reconcile();
+
+        // then
+        assertMismatches(0L);
+    }
+
+    private void assertMismatches(long expected) {
+        assertThat(reconciliationService.mismatches).hasValue(expected);
+    }
+}
@@ -36,6 +36,7 @@ import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.util.Utility;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -460,6 +461,169 @@ class EntityStakeRepositoryTest extends AbstractRepositoryTest {
         });
     }
 
+    @Test
+    void updateEntityStateStart() {
+        // given
+        long epochDay = 1000L;
+        long firstNodeStakeTimestamp = DomainUtils.convertToNanosMax(TestUtils.asStartOfEpochDay(epochDay)) + 1000L;
+        long nodeStakeTimestamp = DomainUtils.convertToNanosMax(TestUtils.asStartOfEpochDay(epochDay + 1)) + 1000L;
+        long balanceTimestamp = firstNodeStakeTimestamp - 100L;
+
+        for (long nodeId = 1; nodeId <= 2; nodeId++) {
+            long node = nodeId;
+            domainBuilder
+                    .nodeStake()
+                    .customize(ns -> ns.consensusTimestamp(firstNodeStakeTimestamp)
+                            .epochDay(epochDay - 1)
+                            .nodeId(node))
+                    .persist();
+            domainBuilder
+                    .nodeStake()
+                    .customize(ns ->
+                            ns.consensusTimestamp(nodeStakeTimestamp).epochDay(epochDay).nodeId(node))
+                    .persist();
+        }
+
+        domainBuilder.entity(STAKING_REWARD_ACCOUNT, balanceTimestamp - 10).persist();
+        domainBuilder
+                .entityStake()
+                .customize(es -> es.endStakePeriod(epochDay - 2)
+                        .id(STAKING_REWARD_ACCOUNT)
+                        .timestampRange(Range.atLeast(firstNodeStakeTimestamp - 10)))
+                .persist();
+        var treasury = domainBuilder
+                .entity(TREASURY, balanceTimestamp - 20)
+                .customize(e -> e.stakedNodeId(1L))
+                .persist();
+        // account1 doesn't change in the staking period
+        var account1 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedNodeId(1L).timestampRange(Range.atLeast(balanceTimestamp - 30)))
+                .persist();
+        // account2 receives hbar in the staking period
+        var account2 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedNodeId(2L).timestampRange(Range.atLeast(balanceTimestamp - 40)))
+                .persist();
+        // account3 stakes to account1 instead of node 1 in the staking period
+        var account3History = domainBuilder
+                .entityHistory()
+                .customize(e -> e.stakedNodeId(1L)
+                        .timestampRange(Range.closedOpen(balanceTimestamp - 50, firstNodeStakeTimestamp + 10)))
+                .persist();
+        var account3 = domainBuilder
+                .entity()
+                .customize(e -> e.id(account3History.getId())
+                        .num(account3History.getNum())
+                        .stakedAccountId(account1.getId())
+                        .stakedNodeId(-1L)
+                        .timestampRange(Range.atLeast(firstNodeStakeTimestamp + 10)))
+                .persist();
+        // account4 is created in the staking period
+        var account4 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedNodeId(2L).timestampRange(Range.atLeast(firstNodeStakeTimestamp + 30)))
+                .persist();
+        // account5 declines reward after the staking period
+        var account5History = domainBuilder
+                .entityHistory()
+                .customize(e -> e.stakedNodeId(2L)
+                        .timestampRange(Range.closedOpen(balanceTimestamp - 60, nodeStakeTimestamp + 5)))
+                .persist();
+        var account5 = domainBuilder
+                .entity()
+                .customize(e -> e.id(account5History.getId())
+                        .num(account5History.getNum())
+                        .declineReward(true)
+                        .stakedNodeId(2L)
+                        .timestampRange(Range.atLeast(nodeStakeTimestamp + 5)))
+                .persist();
+
+        for (var entity : List.of(treasury, account1, account2, account3, account5)) {
+            domainBuilder
+                    .accountBalance()
+                    .customize(ab -> ab.balance(1000L * entity.getNum())
+                            .id(new AccountBalance.Id(balanceTimestamp, entity.toEntityId())))
+                    .persist();
+        }
+
+        persistCryptoTransfer(50L, firstNodeStakeTimestamp + 20, account2.getId());
+        persistCryptoTransfer(300L, firstNodeStakeTimestamp + 30, account4.getId());
+        persistCryptoTransfer(-350L, firstNodeStakeTimestamp + 30, treasury.getId());
+        persistCryptoTransfer(5L, nodeStakeTimestamp + 1, account1.getId());
+        persistEntityStakeChange(firstNodeStakeTimestamp - 50, account1.getId());
+        persistEntityStakeChange(firstNodeStakeTimestamp + 10, account3.getId());
+        persistEntityStakeChange(firstNodeStakeTimestamp + 20, account2.getId());
+        persistEntityStakeChange(firstNodeStakeTimestamp + 30, account4.getId());
+        persistEntityStakeChange(firstNodeStakeTimestamp + 30, treasury.getId());
+        persistEntityStakeChange(nodeStakeTimestamp + 1, account1.getId());
+        persistEntityStakeChange(nodeStakeTimestamp + 5, account5.getId());
+
+        // the first staking period is calculated from scratch
+        transactionOperations.executeWithoutResult(s -> {
+            assertThat(entityStakeRepository.createEntityStateStart()).contains(firstNodeStakeTimestamp);
+            entityStakeRepository.updateEntityStake();
+        });
+        assertThat(getEntityStakeChanges()).hasSize(6);
+
+        // when the second staking period is calculated from scratch then rolled back
+        var expectedEntityStateStart = new ArrayList<Entity>();
+        var expectedEntityStake = new ArrayList<EntityStake>();
+        transactionOperations.executeWithoutResult(s -> {
+            assertThat(entityStakeRepository.createEntityStateStart()).contains(nodeStakeTimestamp);
+            entityStakeRepository.updateEntityStake();
+            expectedEntityStateStart.addAll(jdbcOperations.query("select * from entity_state_start", ROW_MAPPER));
+            entityStakeRepository.findAll().forEach(expectedEntityStake::add);
+            s.setRollbackOnly();
+        });
+
+        // then the incremental calculation produces the same entity_state_start and entity_stake
+        transactionOperations.executeWithoutResult(s -> {
+            assertThat(entityStakeRepository.updateEntityStateStart(firstNodeStakeTimestamp))
+                    .contains(nodeStakeTimestamp);
+            entityStakeRepository.updateEntityStake();
+            assertEntityStartStart(expectedEntityStateStart);
+        });
+        assertThat(expectedEntityStateStart)
+                .extracting(Entity::getId)
+                .contains(account2.getId(), account3.getId(), account4.getId(), account5.getId());
+        assertThat(entityStakeRepository.findAll()).containsExactlyInAnyOrderElementsOf(expectedEntityStake);
+        assertThat(getEntityStakeChanges())
+                .containsExactlyInAnyOrder(
+                        List.of(nodeStakeTimestamp + 1, account1.getId()),
+                        List.of(nodeStakeTimestamp + 5, account5.getId()));
+    }
+
+    @Test
+    void updateEntityStateStartWhenEmpty() {
+        // given
+        long epochDay = 1000L;
+        long nodeStakeTimestamp = DomainUtils.convertToNanosMax(TestUtils.asStartOfEpochDay(epochDay + 1)) + 1000L;
+        domainBuilder
+                .nodeStake()
+                .customize(ns -> ns.consensusTimestamp(nodeStakeTimestamp).epochDay(epochDay))
+                .persist();
+        var stakingRewardAccount = domainBuilder
+                .entity(STAKING_REWARD_ACCOUNT, nodeStakeTimestamp - 200)
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab ->
+                        ab.id(new AccountBalance.Id(nodeStakeTimestamp - 100, stakingRewardAccount.toEntityId())))
+                .persist();
+
+        transactionOperations.executeWithoutResult(s -> {
+            // when
+            jdbcOperations.execute("truncate entity_state_start");
+
+            // then
+            assertThat(entityStakeRepository.updateEntityStateStart(nodeStakeTimestamp - 1000))
+                    .isEmpty();
+            assertThat(entityStakeRepository.updateEntityStateStart(nodeStakeTimestamp + 1))
+                    .isEmpty();
+        });
+    }
+
     @Test
     void getEndStakePeriod() {
         assertThat(entityStakeRepository.getEndStakePeriod()).isEmpty();
@@ -970,6 +1134,17 @@ class EntityStakeRepositoryTest extends AbstractRepositoryTest {
                 .build();
     }
 
+    private List<List<Long>> getEntityStakeChanges() {
+        return jdbcOperations.query(
+                "select consensus_timestamp, id from entity_stake_change",
+                (rs, i) -> List.of(rs.getLong(1), rs.getLong(2)));
+    }
+
+    private void persistEntityStakeChange(long consensusTimestamp, long id) {
+        jdbcOperations.update(
+                "insert into entity_stake_change (consensus_timestamp, id) values (?, ?)", consensusTimestamp, id);
+    }
+
     private void persistCryptoTransfer(long amount, long consensusTimestamp, long entityId) {
         domainBuilder
                 .cryptoTransfer()
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.github.vertical_blank.sqlformatter.SqlFormatter;
 import com.github.vertical_blank.sqlformatter.languages.Dialect;
+import com.hedera.mirror.common.domain.contract.ContractBytecode;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.schedule.Schedule;
 import com.hedera.mirror.common.domain.token.CustomFee;
@@ -698,6 +699,15 @@ class GenericUpsertQueryGeneratorTest extends ImporterIntegrationTest {
         assertThat(format(generator.getUpsertQuery())).isEqualTo(format(sql));
     }
 
+    @Test
+    void getUpsertQueryNotUpdatable() {
+        var generator = factory.get(ContractBytecode.class);
+        assertThat(generator).isInstanceOf(GenericUpsertQueryGenerator.class);
+        assertThat(format(generator.getUpsertQuery()))
+                .containsIgnoringWhitespaces("on conflict (hash) do nothing")
+                .doesNotContain("do update");
+    }
+
     @Test
     void skipPartialUpdate() {
         var generator = factory.get(Token.class);
@@ -20,7 +20,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.schedule.Schedule;
 import com.hedera.mirror.common.domain.token.DissociateTokenTransfer;
+import com.hedera.mirror.common.domain.token.Nft;
+import com.hedera.mirror.common.domain.token.TokenAccount;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
@@ -41,6 +44,22 @@ class UpsertQueryGeneratorFactoryTest extends ImporterIntegrationTest {
         assertThat(factory.get(Entity.class)).isInstanceOf(GenericUpsertQueryGenerator.class);
     }
 
+    @Test
+    void getRowMerger() {
+        assertThat(factory.getRowMerger(Entity.class))
+                .get()
+                .returns("entity", UpsertRowMerger::getTableName)
+                .isSameAs(factory.getRowMerger(Entity.class).orElseThrow());
+        assertThat(factory.getRowMerger(TokenAccount.class)).isPresent();
+    }
+
+    @Test
+    void getRowMergerUnsupported() {
+        assertThat(factory.getRowMerger(DissociateTokenTransfer.class)).isEmpty();
+        assertThat(factory.getRowMerger(Nft.class)).isEmpty();
+        assertThat(factory.getRowMerger(Schedule.class)).isEmpty();
+    }
+
     @Test
     void unsupportedClass() {
         assertThatThrownBy(() -> factory.get(Object.class))
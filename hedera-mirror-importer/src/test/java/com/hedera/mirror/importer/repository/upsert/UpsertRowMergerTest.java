@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.repository.upsert;
+
+import static com.hedera.mirror.common.domain.entity.EntityType.ACCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.Token;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.common.domain.token.TokenFreezeStatusEnum;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.repository.TokenAccountRepository;
+import com.hedera.mirror.importer.repository.TokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class UpsertRowMergerTest extends ImporterIntegrationTest {
+
+    private final EntityRepository entityRepository;
+    private final UpsertQueryGeneratorFactory factory;
+    private final TokenAccountRepository tokenAccountRepository;
+    private final TokenRepository tokenRepository;
+
+    @Test
+    void getUpsertQuery() {
+        assertThat(merger(Entity.class).getUpsertQuery())
+                .startsWith("insert into entity (")
+                .contains(" from entity_temp on conflict (id) do update set ")
+                .doesNotContain("join")
+                .doesNotContain("entity_history");
+    }
+
+    @Test
+    void mergeEntity() {
+        // given
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .persist();
+        var existing = entityRepository.findById(entity.getId()).orElseThrow();
+        var update = new Entity();
+        update.setId(existing.getId());
+        update.setBalance(-10L);
+        update.setBalanceTimestamp(existing.getBalanceTimestamp() + 1);
+        update.setMemo("updated");
+
+        // when
+        var merged = merger(Entity.class).merge(existing, update);
+
+        // then
+        var expected = existing.toBuilder()
+                .balance(90L)
+                .balanceTimestamp(update.getBalanceTimestamp())
+                .memo("updated")
+                .build();
+        assertThat(merged).isTrue();
+        assertThat(update).isEqualTo(expected);
+        assertThat(existing.getBalance()).isEqualTo(100L);
+    }
+
+    @Test
+    void mergeEntityDefault() {
+        // given
+        var existing = domainBuilder
+                .entity()
+                .customize(e -> e.declineReward(null))
+                .get();
+        var update = new Entity();
+        update.setId(existing.getId());
+        update.setBalance(10L);
+
+        // when
+        var merged = merger(Entity.class).merge(existing, update);
+
+        // then
+        assertThat(merged).isFalse();
+        assertThat(update.getBalance()).isEqualTo(10L);
+        assertThat(update.getMemo()).isNull();
+    }
+
+    @Test
+    void mergeTokenTotalSupply() {
+        // given
+        var token = domainBuilder.token().customize(t -> t.totalSupply(1000L)).persist();
+        var existing = tokenRepository.findById(token.getTokenId()).orElseThrow();
+        var burn = Token.builder()
+                .tokenId(existing.getTokenId())
+                .totalSupply(-10L)
+                .build();
+        var update = Token.builder()
+                .tokenId(existing.getTokenId())
+                .totalSupply(500L)
+                .build();
+        var merger = merger(Token.class);
+
+        // when
+        var burnMerged = merger.merge(existing, burn);
+        var updateMerged = merger.merge(existing, update);
+
+        // then
+        assertThat(burnMerged).isTrue();
+        assertThat(burn.getTotalSupply()).isEqualTo(990L);
+        assertThat(burn.getName()).isEqualTo(existing.getName());
+        assertThat(updateMerged).isTrue();
+        assertThat(update.getTotalSupply()).isEqualTo(500L);
+    }
+
+    @Test
+    void mergeTokenAccount() {
+        // given
+        var tokenAccount = domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.balance(100L).freezeStatus(TokenFreezeStatusEnum.FROZEN))
+                .persist();
+        var existing = tokenAccountRepository.findById(tokenAccount.getId()).orElseThrow();
+        var transfer = TokenAccount.builder()
+                .accountId(existing.getAccountId())
+                .balance(25L)
+                .tokenId(existing.getTokenId())
+                .build();
+        var recreate = TokenAccount.builder()
+                .accountId(existing.getAccountId())
+                .balance(5L)
+                .createdTimestamp(existing.getCreatedTimestamp() + 1)
+                .tokenId(existing.getTokenId())
+                .build();
+        var merger = merger(TokenAccount.class);
+
+        // when
+        var transferMerged = merger.merge(existing, transfer);
+        var recreateMerged = merger.merge(existing, recreate);
+
+        // then
+        assertThat(transferMerged).isTrue();
+        assertThat(transfer)
+                .returns(125L, TokenAccount::getBalance)
+                .returns(TokenFreezeStatusEnum.FROZEN, TokenAccount::getFreezeStatus);
+        assertThat(recreateMerged).isTrue();
+        assertThat(recreate)
+                .returns(5L, TokenAccount::getBalance)
+                .returns(null, TokenAccount::getFreezeStatus);
+    }
+
+    private UpsertRowMerger merger(Class<?> domainClass) {
+        return factory.getRowMerger(domainClass).orElseThrow();
+    }
+}
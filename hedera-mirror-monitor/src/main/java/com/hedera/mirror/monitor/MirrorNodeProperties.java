@@ -16,10 +16,12 @@
 
 package com.hedera.mirror.monitor;
 
+import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.util.Objects;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
@@ -35,6 +37,20 @@ public class MirrorNodeProperties {
     @NotNull
     private RestProperties rest = new RestProperties();
 
+    @Nullable
+    private RestProperties restJava;
+
+    @Nullable
+    private RestProperties web3;
+
+    public RestProperties getRestJava() {
+        return Objects.requireNonNullElse(restJava, rest);
+    }
+
+    public RestProperties getWeb3() {
+        return Objects.requireNonNullElse(web3, rest);
+    }
+
     @Data
     @Validated
     public static class GrpcProperties {
@@ -22,6 +22,8 @@ import com.hedera.mirror.monitor.publish.PublishProperties;
 import com.hedera.mirror.monitor.publish.PublishRequest;
 import com.hedera.mirror.monitor.publish.TransactionPublisher;
 import com.hedera.mirror.monitor.publish.generator.TransactionGenerator;
+import com.hedera.mirror.monitor.query.QueryMetrics;
+import com.hedera.mirror.monitor.query.QueryRunner;
 import com.hedera.mirror.monitor.subscribe.MirrorSubscriber;
 import com.hedera.mirror.monitor.subscribe.SubscribeMetrics;
 import java.util.List;
@@ -54,6 +56,8 @@ class MonitorConfiguration {
     private final MirrorSubscriber mirrorSubscriber;
     private final PublishMetrics publishMetrics;
     private final PublishProperties publishProperties;
+    private final QueryMetrics queryMetrics;
+    private final QueryRunner queryRunner;
     private final SubscribeMetrics subscribeMetrics;
     private final TransactionGenerator transactionGenerator;
     private final TransactionPublisher transactionPublisher;
@@ -111,4 +115,22 @@ class MonitorConfiguration {
                 .subscribeOn(Schedulers.parallel())
                 .subscribe(subscribeMetrics::onNext);
     }
+
+    /**
+     * Generates read load against the mirror node APIs, sending the responses to the metrics collector.
+     *
+     * @return the query flow's Disposable
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(value = "hedera.mirror.monitor.query.enabled", havingValue = "true", matchIfMissing = true)
+    Disposable query() {
+        return queryRunner
+                .run()
+                .name("query")
+                .onErrorContinue((t, r) -> log.error("Unexpected error during query: ", t))
+                .doFinally(s -> log.warn("Stopped query after {} signal", s))
+                .doOnSubscribe(s -> log.info("Starting query flow"))
+                .subscribeOn(Schedulers.parallel())
+                .subscribe(queryMetrics::onNext);
+    }
 }
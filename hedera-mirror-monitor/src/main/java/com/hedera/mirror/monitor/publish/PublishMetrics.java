@@ -19,10 +19,12 @@ package com.hedera.mirror.monitor.publish;
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.mirror.monitor.NodeProperties;
 import com.hedera.mirror.monitor.converter.DurationToStringSerializer;
+import com.hedera.mirror.monitor.util.LatencyHistogram;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -40,12 +42,14 @@ public class PublishMetrics {
 
     static final String METRIC_DURATION = "hedera.mirror.monitor.publish.duration";
     static final String METRIC_HANDLE = "hedera.mirror.monitor.publish.handle";
+    static final String METRIC_LATENCY = "hedera.mirror.monitor.publish.latency";
     static final String METRIC_SUBMIT = "hedera.mirror.monitor.publish.submit";
     static final String SUCCESS = "SUCCESS";
     static final String UNKNOWN = "unknown";
 
     private final Map<Tags, TimeGauge> durationGauges = new ConcurrentHashMap<>();
     private final Map<Tags, Timer> handleTimers = new ConcurrentHashMap<>();
+    private final Map<PublishScenario, LatencyHistogram> latencyHistograms = new ConcurrentHashMap<>();
     private final Map<Tags, Timer> submitTimers = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
     private final NodeSupplier nodeSupplier;
@@ -81,6 +85,9 @@ public class PublishMetrics {
 
             Timer submitTimer = submitTimers.computeIfAbsent(tags, this::newSubmitMetric);
             submitTimer.record(endTime - startTime, TimeUnit.MILLISECONDS);
+            latencyHistograms
+                    .computeIfAbsent(request.getScenario(), this::newLatencyHistogram)
+                    .record(Duration.ofMillis(endTime - startTime));
 
             durationGauges.computeIfAbsent(tags, this::newDurationMetric);
 
@@ -107,6 +114,19 @@ public class PublishMetrics {
                 .register(meterRegistry);
     }
 
+    private LatencyHistogram newLatencyHistogram(PublishScenario scenario) {
+        var histogram = new LatencyHistogram();
+        var type = scenario.getProperties().getType().toString();
+        var tags = io.micrometer.core.instrument.Tags.of(
+                Tags.TAG_SCENARIO, scenario.getName(), Tags.TAG_TYPE, type);
+        histogram.register(
+                meterRegistry,
+                METRIC_LATENCY,
+                "The distribution of the time it takes to submit a transaction, including any time spent queued",
+                tags);
+        return histogram;
+    }
+
     private Timer newHandleMetric(Tags tags) {
         return Timer.builder(METRIC_HANDLE)
                 .description("The time it takes from submit to being handled by the main nodes")
@@ -150,13 +170,15 @@ public class PublishMetrics {
 
     private void status(PublishScenario scenario) {
         String elapsed = DurationToStringSerializer.convert(scenario.getElapsed());
+        var latency = latencyHistograms.get(scenario);
         log.info(
-                "Scenario {} published {} transactions in {} at {}/s. Errors: {}",
+                "Scenario {} published {} transactions in {} at {}/s. Errors: {}. Latency: {}",
                 scenario,
                 scenario.getCount(),
                 elapsed,
                 scenario.getRate(),
-                scenario.getErrors());
+                scenario.getErrors(),
+                latency != null ? latency.summary() : "n/a");
     }
 
     @Value
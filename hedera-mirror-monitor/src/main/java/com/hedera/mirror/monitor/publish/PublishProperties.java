@@ -46,6 +46,13 @@ public class PublishProperties {
     @NotNull
     private Duration nodeMaxBackoff = Duration.ofMinutes(1L);
 
+    /**
+     * Whether to schedule each request at its intended send time based upon the target TPS and measure latency from
+     * that time, instead of waiting for the previous requests and measuring latency from the actual send time. This
+     * avoids coordinated omission, so stalls show up in the latency percentiles instead of lowering the rate.
+     */
+    private boolean openLoop = false;
+
     @NotNull
     private Map<String, PublishScenarioProperties> scenarios = new LinkedHashMap<>();
 
@@ -17,6 +17,7 @@
 package com.hedera.mirror.monitor.publish.generator;
 
 import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.monitor.expression.ExpressionConverter;
 import com.hedera.mirror.monitor.properties.ScenarioPropertiesAggregator;
 import com.hedera.mirror.monitor.publish.PublishProperties;
@@ -25,9 +26,11 @@ import com.hedera.mirror.monitor.publish.PublishScenario;
 import com.hedera.mirror.monitor.publish.PublishScenarioProperties;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -54,6 +57,12 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
     final List<ConfigurableTransactionGenerator> transactionGenerators;
     final AtomicInteger batchSize = new AtomicInteger(1);
 
+    // The open loop schedule, as the intended send time of the next request and the interval between requests
+    private final Instant startInstant = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private volatile double intervalNanos;
+    private Long nextSendNanos;
+
     public CompositeTransactionGenerator(
             ExpressionConverter expressionConverter,
             ScenarioPropertiesAggregator scenarioPropertiesAggregator,
@@ -70,14 +79,28 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
     @Override
     public List<PublishRequest> next(int count) {
         int permits = count > 0 ? count : batchSize.get();
-        rateLimiter.get().acquire(permits);
+        Long sendNanos = null;
+
+        if (properties.isOpenLoop() && !rateLimiter.get().equals(INACTIVE_RATE_LIMITER)) {
+            sendNanos = schedule(permits);
+        } else {
+            rateLimiter.get().acquire(permits);
+        }
 
         List<PublishRequest> publishRequests = new ArrayList<>();
         int i = 0;
         while (i < permits) {
             try {
                 TransactionGenerator transactionGenerator = distribution.get().sample();
-                publishRequests.addAll(transactionGenerator.next());
+                var requests = transactionGenerator.next();
+
+                if (sendNanos != null) {
+                    var intendedTimestamp = toInstant(sendNanos + (long) (i * intervalNanos));
+                    requests.forEach(r -> publishRequests.add(r.toBuilder().timestamp(intendedTimestamp).build()));
+                } else {
+                    publishRequests.addAll(requests);
+                }
+
                 i++;
             } catch (ScenarioException e) {
                 log.warn(e.getMessage());
@@ -101,6 +124,39 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
         return Flux.fromIterable(transactionGenerators).flatMap(TransactionGenerator::scenarios);
     }
 
+    /**
+     * Reserves the intended send times of the next permits and waits until the first one. The schedule is based solely
+     * upon the target TPS, so a stall doesn't push back the send times of the requests that should've been sent during
+     * it. Instead, those requests are generated immediately afterwards and their latency includes the time they were
+     * delayed.
+     *
+     * @param permits the number of requests to schedule
+     * @return the intended send time of the first request, relative to System.nanoTime()
+     */
+    private long schedule(int permits) {
+        long now = System.nanoTime();
+        long sendNanos;
+
+        synchronized (this) {
+            if (nextSendNanos == null) {
+                nextSendNanos = now;
+            }
+
+            sendNanos = nextSendNanos;
+            nextSendNanos += (long) (permits * intervalNanos);
+        }
+
+        if (sendNanos > now) {
+            Uninterruptibles.sleepUninterruptibly(sendNanos - now, TimeUnit.NANOSECONDS);
+        }
+
+        return sendNanos;
+    }
+
+    private Instant toInstant(long nanos) {
+        return startInstant.plusNanos(nanos - startNanos);
+    }
+
     private synchronized void rebuild() {
         double total = 0.0;
         List<Pair<TransactionGenerator, Double>> pairs = new ArrayList<>();
@@ -119,6 +175,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
             batchSize.set(1);
             distribution.set(null);
             rateLimiter.set(INACTIVE_RATE_LIMITER);
+            nextSendNanos = null;
             log.info("Publishing is disabled");
             return;
         }
@@ -129,6 +186,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
 
         batchSize.set(Math.max(1, (int) Math.ceil(total / properties.getBatchDivisor())));
         distribution.set(new EnumeratedDistribution<>(pairs));
+        intervalNanos = TimeUnit.SECONDS.toNanos(1L) / total;
 
         RateLimiter current = rateLimiter.get();
         if (current != null) {
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.hashgraph.sdk.AddressBookQuery;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.mirror.monitor.MonitorProperties;
+import jakarta.inject.Named;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Executes a single read query of the given type against the mirror node APIs. Contract calls are sent to the web3
+ * API, the other REST queries to the rest-java API and the network queries to the gRPC API.
+ */
+@CustomLog
+@Named
+public class QueryClient implements AutoCloseable {
+
+    static final String DEFAULT_ADDRESS_BOOK = "0.0.102";
+    private static final Set<String> CONTRACT_CALL_FIELDS = Set.of("block", "data", "from", "to");
+    private static final Set<String> CONTRACT_CALL_NUMERIC_FIELDS = Set.of("gas", "gasPrice", "value");
+
+    private final MonitorProperties monitorProperties;
+    private final WebClient restJavaClient;
+    private final WebClient web3Client;
+    private Client grpcClient;
+
+    public QueryClient(MonitorProperties monitorProperties, WebClient.Builder webClientBuilder) {
+        var mirrorNode = monitorProperties.getMirrorNode();
+        this.monitorProperties = monitorProperties;
+        this.restJavaClient = webClient(webClientBuilder, mirrorNode.getRestJava().getBaseUrl());
+        this.web3Client = webClient(webClientBuilder, mirrorNode.getWeb3().getBaseUrl());
+    }
+
+    public Mono<?> query(QueryType type, Map<String, String> parameters) {
+        return switch (type) {
+            case CONTRACT_CALL, CONTRACT_ESTIMATE_GAS -> contractCall(type, parameters);
+            case NETWORK_NODES -> getNodes(parameters);
+            case NFT_ALLOWANCES, OUTSTANDING_AIRDROPS, PENDING_AIRDROPS -> get(type, parameters);
+        };
+    }
+
+    @Override
+    public synchronized void close() {
+        if (grpcClient != null) {
+            try {
+                grpcClient.close();
+            } catch (Exception e) {
+                // Ignore
+            }
+        }
+    }
+
+    private Mono<?> contractCall(QueryType type, Map<String, String> parameters) {
+        return web3Client
+                .post()
+                .uri(type.getPath())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(contractCallBody(type, parameters))
+                .retrieve()
+                .toBodilessEntity()
+                .name("web3");
+    }
+
+    static Map<String, Object> contractCallBody(QueryType type, Map<String, String> parameters) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("block", "latest");
+        body.put("estimate", type == QueryType.CONTRACT_ESTIMATE_GAS);
+
+        parameters.forEach((key, value) -> {
+            if (CONTRACT_CALL_FIELDS.contains(key)) {
+                body.put(key, value);
+            } else if (CONTRACT_CALL_NUMERIC_FIELDS.contains(key)) {
+                body.put(key, Long.parseLong(value));
+            }
+        });
+
+        return body;
+    }
+
+    private Mono<?> get(QueryType type, Map<String, String> parameters) {
+        var path = type.getPath();
+        return restJavaClient
+                .get()
+                .uri(builder -> {
+                    builder.path(path);
+                    parameters.forEach((key, value) -> {
+                        if (!path.contains("{" + key + "}")) {
+                            builder.queryParam(key, value);
+                        }
+                    });
+                    return builder.build(parameters);
+                })
+                .retrieve()
+                .toBodilessEntity()
+                .name("restJava");
+    }
+
+    private Mono<?> getNodes(Map<String, String> parameters) {
+        var query = new AddressBookQuery()
+                .setFileId(FileId.fromString(parameters.getOrDefault("fileId", DEFAULT_ADDRESS_BOOK)));
+        var limit = parameters.get("limit");
+
+        if (StringUtils.isNotBlank(limit)) {
+            query.setLimit(Integer.parseInt(limit));
+        }
+
+        return Mono.fromFuture(() -> query.executeAsync(getGrpcClient())).name("grpc");
+    }
+
+    private synchronized Client getGrpcClient() {
+        if (grpcClient != null) {
+            return grpcClient;
+        }
+
+        String endpoint = monitorProperties.getMirrorNode().getGrpc().getEndpoint();
+
+        try {
+            Client client = Client.forNetwork(Map.of());
+            client.setMirrorNetwork(List.of(endpoint));
+            grpcClient = client;
+            return client;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Unable to initialize SDK client to " + endpoint);
+        }
+    }
+
+    private WebClient webClient(WebClient.Builder webClientBuilder, String url) {
+        log.info("Querying mirror node {}", url);
+        return webClientBuilder
+                .clone()
+                .baseUrl(url)
+                .defaultHeaders(h -> h.setAccept(List.of(MediaType.APPLICATION_JSON)))
+                .build();
+    }
+}
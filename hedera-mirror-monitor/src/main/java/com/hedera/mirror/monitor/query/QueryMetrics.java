@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.mirror.monitor.converter.DurationToStringSerializer;
+import com.hedera.mirror.monitor.util.LatencyHistogram;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class QueryMetrics {
+
+    static final String METRIC_LATENCY = "hedera.mirror.monitor.query.latency";
+    static final String METRIC_REQUEST = "hedera.mirror.monitor.query.request";
+    static final String TAG_PROTOCOL = "protocol";
+    static final String TAG_SCENARIO = "scenario";
+    static final String TAG_STATUS = "status";
+    static final String TAG_TYPE = "type";
+
+    private final Map<QueryScenario, LatencyHistogram> latencyHistograms = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final QueryProperties queryProperties;
+    private final Map<TimerKey, Timer> requestTimers = new ConcurrentHashMap<>();
+
+    public void onNext(QueryResponse response) {
+        try {
+            var scenario = response.getScenario();
+            var latency = response.getLatency();
+            requestTimers
+                    .computeIfAbsent(new TimerKey(scenario, response.getStatus()), this::newRequestMetric)
+                    .record(latency);
+            latencyHistograms
+                    .computeIfAbsent(scenario, this::newLatencyHistogram)
+                    .record(latency);
+        } catch (Exception ex) {
+            log.error("Unexpected error when recording metric", ex);
+        }
+    }
+
+    private LatencyHistogram newLatencyHistogram(QueryScenario scenario) {
+        var histogram = new LatencyHistogram();
+        histogram.register(
+                meterRegistry,
+                METRIC_LATENCY,
+                "The distribution of the time it takes to receive a query response from its scheduled send time",
+                tags(scenario));
+        return histogram;
+    }
+
+    private Timer newRequestMetric(TimerKey key) {
+        return Timer.builder(METRIC_REQUEST)
+                .description("The time it takes to receive a query response")
+                .tags(tags(key.getScenario()))
+                .tag(TAG_STATUS, key.getStatus())
+                .register(meterRegistry);
+    }
+
+    private Tags tags(QueryScenario scenario) {
+        return Tags.of(
+                TAG_PROTOCOL,
+                scenario.getProtocol().toString(),
+                TAG_SCENARIO,
+                scenario.getName(),
+                TAG_TYPE,
+                scenario.getProperties().getType().toString());
+    }
+
+    @Scheduled(fixedDelayString = "${hedera.mirror.monitor.query.statusFrequency:10000}")
+    public void status() {
+        if (queryProperties.isEnabled()) {
+            latencyHistograms.forEach((scenario, latency) -> {
+                if (scenario.isRunning()) {
+                    String elapsed = DurationToStringSerializer.convert(scenario.getElapsed());
+                    log.info(
+                            "Scenario {} received {} responses in {} at {}/s. Errors: {}. Latency: {}",
+                            scenario,
+                            scenario.getCount(),
+                            elapsed,
+                            scenario.getRate(),
+                            scenario.getErrors(),
+                            latency.summary());
+                }
+            });
+        }
+    }
+
+    @Value
+    private static class TimerKey {
+        private final QueryScenario scenario;
+        private final String status;
+    }
+}
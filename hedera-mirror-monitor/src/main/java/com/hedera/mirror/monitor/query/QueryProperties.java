@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties("hedera.mirror.monitor.query")
+public class QueryProperties {
+
+    private boolean enabled = true;
+
+    @NotNull
+    private Map<String, QueryScenarioProperties> scenarios = new LinkedHashMap<>();
+
+    @DurationMin(seconds = 1L)
+    @NotNull
+    private Duration statusFrequency = Duration.ofSeconds(10L);
+
+    @PostConstruct
+    void validate() {
+        if (scenarios.keySet().stream().anyMatch(StringUtils::isBlank)) {
+            throw new IllegalArgumentException("Query scenario name cannot be empty");
+        }
+
+        scenarios.forEach((name, property) -> property.setName(name));
+    }
+}
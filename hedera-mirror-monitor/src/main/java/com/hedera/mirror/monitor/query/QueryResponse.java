@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Value;
+
+@Builder
+@Value
+public class QueryResponse {
+
+    private final QueryScenario scenario;
+    private final Instant startTime; // The time the request was scheduled to be sent
+    private final String status;
+    private final Instant timestamp;
+
+    public Duration getLatency() {
+        return Duration.between(startTime, timestamp);
+    }
+}
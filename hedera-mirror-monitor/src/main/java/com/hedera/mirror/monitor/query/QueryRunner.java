@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.mirror.monitor.ScenarioProperties;
+import com.hedera.mirror.monitor.exception.QueryDroppedException;
+import com.hedera.mirror.monitor.expression.ExpressionConverter;
+import jakarta.inject.Named;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Generates read load for the configured query scenarios. Each scenario sends requests on a fixed schedule derived from
+ * its TPS regardless of how long previous requests take, and measures latency from the time each request was scheduled
+ * so a slow API shows up in the latency percentiles instead of lowering the rate. A mix of queries is expressed as
+ * multiple scenarios with proportional TPS.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class QueryRunner {
+
+    private static final String DROPPED = "Too many queries in flight";
+    private static final Pattern ADDRESS_PATTERN = Pattern.compile("^(\\d+)\\.(\\d+)\\.(\\d+)$");
+    private static final String ADDRESS_SUFFIX = ".address";
+
+    private final ExpressionConverter expressionConverter;
+    private final QueryClient queryClient;
+    private final QueryProperties queryProperties;
+
+    public Flux<QueryResponse> run() {
+        return Flux.fromIterable(queryProperties.getScenarios().values())
+                .filter(ScenarioProperties::isEnabled)
+                .filter(p -> p.getTps() > 0)
+                .map(QueryScenario::new)
+                .flatMap(this::run);
+    }
+
+    Flux<QueryResponse> run(QueryScenario scenario) {
+        var properties = scenario.getProperties();
+        long intervalNanos = (long) (1_000_000_000L / properties.getTps());
+        var interval = Duration.ofNanos(Math.max(intervalNanos, 1L));
+
+        // Expressions may create entities, so resolve them once per scenario off the event loop
+        return Mono.fromCallable(() -> template(expressionConverter.convert(properties.getProperties())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(p -> log.info("Starting '{}' scenario with properties {}", scenario, p))
+                .flatMapMany(parameters -> {
+                    var start = Instant.now();
+                    return Flux.interval(interval)
+                            .onBackpressureDrop(i -> scenario.onError(new QueryDroppedException(DROPPED)))
+                            .flatMap(
+                                    i -> query(scenario, parameters, start.plus(interval.multipliedBy(i + 1))),
+                                    properties.getMaxConcurrency());
+                })
+                .take(properties.getLimit())
+                .take(properties.getDuration())
+                .doOnError(scenario::onError)
+                .doFinally(s -> scenario.onComplete());
+    }
+
+    private Mono<QueryResponse> query(QueryScenario scenario, Map<String, String> parameters, Instant startTime) {
+        var properties = scenario.getProperties();
+        return queryClient
+                .query(properties.getType(), parameters)
+                .timeout(properties.getTimeout())
+                .then(Mono.fromSupplier(() -> response(scenario, startTime, QueryScenario.SUCCESS)))
+                .doOnNext(scenario::onNext)
+                .onErrorResume(t -> {
+                    log.debug("Query for scenario {} failed: {}", scenario, t.getMessage());
+                    scenario.onError(t);
+                    return Mono.just(response(scenario, startTime, QueryScenario.getStatus(t)));
+                });
+    }
+
+    private QueryResponse response(QueryScenario scenario, Instant startTime, String status) {
+        return QueryResponse.builder()
+                .scenario(scenario)
+                .startTime(startTime)
+                .status(status)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    /**
+     * Replaces {name} placeholders in the property values with the value of the named property, so calldata and other
+     * values can reference entities created by expressions. A {name.address} placeholder is replaced with the 20 byte
+     * EVM address of the named entity ID instead.
+     */
+    static Map<String, String> template(Map<String, String> properties) {
+        Map<String, String> templated = new LinkedHashMap<>();
+
+        properties.forEach((key, value) -> {
+            var result = value;
+
+            for (var entry : properties.entrySet()) {
+                var name = entry.getKey();
+
+                if (result.contains("{" + name + ADDRESS_SUFFIX + "}")) {
+                    result = result.replace("{" + name + ADDRESS_SUFFIX + "}", toAddress(entry.getValue()));
+                }
+
+                result = result.replace("{" + name + "}", entry.getValue());
+            }
+
+            templated.put(key, result);
+        });
+
+        return templated;
+    }
+
+    private static String toAddress(String entityId) {
+        var matcher = ADDRESS_PATTERN.matcher(entityId);
+
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid entity ID for address: " + entityId);
+        }
+
+        long shard = Long.parseLong(matcher.group(1));
+        long realm = Long.parseLong(matcher.group(2));
+        long num = Long.parseLong(matcher.group(3));
+        return String.format("%08x%016x%016x", shard, realm, num);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.google.common.base.Throwables;
+import com.hedera.mirror.monitor.AbstractScenario;
+import com.hedera.mirror.monitor.ScenarioProtocol;
+import java.util.concurrent.TimeoutException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@SuppressWarnings("java:S2160")
+public class QueryScenario extends AbstractScenario<QueryScenarioProperties, QueryResponse> {
+
+    static final String SUCCESS = "SUCCESS";
+
+    public QueryScenario(QueryScenarioProperties properties) {
+        super(1, properties);
+    }
+
+    @Override
+    public ScenarioProtocol getProtocol() {
+        return properties.getType().getProtocol();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        errors.add(getStatus(throwable));
+    }
+
+    /**
+     * Maps a query failure to the status used in metrics: the HTTP status code for REST errors or the name of the root
+     * cause otherwise.
+     */
+    static String getStatus(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException e) {
+            return String.valueOf(e.getStatusCode().value());
+        } else if (throwable instanceof TimeoutException) {
+            return TimeoutException.class.getSimpleName();
+        }
+
+        return Throwables.getRootCause(throwable).getClass().getSimpleName();
+    }
+}
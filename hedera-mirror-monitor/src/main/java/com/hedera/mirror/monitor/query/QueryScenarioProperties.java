@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.mirror.monitor.ScenarioProperties;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+public class QueryScenarioProperties extends ScenarioProperties {
+
+    // Requests beyond this many in flight are dropped and counted as errors instead of delaying the schedule
+    @Min(1)
+    private int maxConcurrency = 256;
+
+    @NotNull
+    private Map<String, String> properties = new LinkedHashMap<>();
+
+    @NotNull
+    @DurationMin(millis = 100)
+    private Duration timeout = Duration.ofSeconds(5);
+
+    @Min(0)
+    private double tps = 1.0;
+
+    @NotNull
+    private QueryType type;
+
+    @Override
+    public long getLimit() {
+        return limit > 0 ? limit : Long.MAX_VALUE;
+    }
+}
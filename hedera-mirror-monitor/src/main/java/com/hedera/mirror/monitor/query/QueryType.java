@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.mirror.monitor.ScenarioProtocol;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The read queries the monitor can generate load for. REST paths are relative to the API's base URL and may contain
+ * {name} variables that are filled in from the scenario properties.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum QueryType {
+    CONTRACT_CALL(ScenarioProtocol.REST, "/contracts/call"),
+    CONTRACT_ESTIMATE_GAS(ScenarioProtocol.REST, "/contracts/call"),
+    NETWORK_NODES(ScenarioProtocol.GRPC, ""),
+    NFT_ALLOWANCES(ScenarioProtocol.REST, "/accounts/{account}/allowances/nfts"),
+    OUTSTANDING_AIRDROPS(ScenarioProtocol.REST, "/accounts/{account}/airdrops/outstanding"),
+    PENDING_AIRDROPS(ScenarioProtocol.REST, "/accounts/{account}/airdrops/pending");
+
+    private final ScenarioProtocol protocol;
+    private final String path;
+}
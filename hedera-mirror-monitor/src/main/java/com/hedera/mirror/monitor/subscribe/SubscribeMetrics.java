@@ -17,7 +17,9 @@
 package com.hedera.mirror.monitor.subscribe;
 
 import com.hedera.mirror.monitor.converter.DurationToStringSerializer;
+import com.hedera.mirror.monitor.util.LatencyHistogram;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
@@ -38,11 +40,13 @@ public class SubscribeMetrics {
 
     static final String METRIC_DURATION = "hedera.mirror.monitor.subscribe.duration";
     static final String METRIC_E2E = "hedera.mirror.monitor.subscribe.e2e";
+    static final String METRIC_LATENCY = "hedera.mirror.monitor.subscribe.latency";
     static final String TAG_PROTOCOL = "protocol";
     static final String TAG_SCENARIO = "scenario";
     static final String TAG_SUBSCRIBER = "subscriber";
 
     private final Map<Scenario<?, ?>, TimeGauge> durationMetrics = new ConcurrentHashMap<>();
+    private final Map<Scenario<?, ?>, LatencyHistogram> latencyHistograms = new ConcurrentHashMap<>();
     private final Map<Scenario<?, ?>, Timer> latencyMetrics = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
     private final SubscribeProperties subscribeProperties;
@@ -56,6 +60,7 @@ public class SubscribeMetrics {
         if (publishedTimestamp != null) {
             Duration latency = Duration.between(publishedTimestamp, response.getReceivedTimestamp());
             latencyMetrics.computeIfAbsent(scenario, this::newLatencyTimer).record(latency);
+            latencyHistograms.computeIfAbsent(scenario, this::newLatencyHistogram).record(latency);
         }
     }
 
@@ -69,6 +74,20 @@ public class SubscribeMetrics {
                 .register(meterRegistry);
     }
 
+    private LatencyHistogram newLatencyHistogram(Scenario<?, ?> scenario) {
+        var histogram = new LatencyHistogram();
+        var tags = Tags.of(
+                TAG_PROTOCOL, scenario.getProtocol().toString(),
+                TAG_SCENARIO, scenario.getName(),
+                TAG_SUBSCRIBER, String.valueOf(scenario.getId()));
+        histogram.register(
+                meterRegistry,
+                METRIC_LATENCY,
+                "The distribution of the end to end transaction latency starting from publish and ending at receive",
+                tags);
+        return histogram;
+    }
+
     private final Timer newLatencyTimer(Scenario<?, ?> scenario) {
         return Timer.builder(METRIC_E2E)
                 .description("The end to end transaction latency starting from publish and ending at receive")
@@ -96,13 +115,15 @@ public class SubscribeMetrics {
 
     private void status(Scenario<?, ?> s) {
         String elapsed = DurationToStringSerializer.convert(s.getElapsed());
+        var latency = latencyHistograms.get(s);
         log.info(
-                "{} scenario {} received {} responses in {} at {}/s. Errors: {}",
+                "{} scenario {} received {} responses in {} at {}/s. Errors: {}. Latency: {}",
                 s.getProtocol(),
                 s,
                 s.getCount(),
                 elapsed,
                 s.getRate(),
-                s.getErrors());
+                s.getErrors(),
+                latency != null ? latency.summary() : "n/a");
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.util.List;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * A latency distribution backed by an HdrHistogram that records every value instead of sampling them, so the tail
+ * percentiles stay accurate under overload. Values are recorded lock free and folded into a cumulative histogram when
+ * read. Latencies above an hour are clamped to an hour.
+ */
+public class LatencyHistogram {
+
+    static final Duration MAX_LATENCY = Duration.ofHours(1L);
+    static final List<Double> PERCENTILES = List.of(50.0, 90.0, 99.0, 99.9, 100.0);
+
+    private static final long MIN_LATENCY = 1_000L; // 1 microsecond resolution keeps the histograms small
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final String TAG_PERCENTILE = "percentile";
+
+    private final Histogram cumulative = new Histogram(MIN_LATENCY, MAX_LATENCY.toNanos(), SIGNIFICANT_DIGITS);
+    private final Recorder recorder = new Recorder(MIN_LATENCY, MAX_LATENCY.toNanos(), SIGNIFICANT_DIGITS);
+    private Histogram interval;
+
+    public void record(Duration latency) {
+        long nanos = Math.clamp(latency.toNanos(), 0L, MAX_LATENCY.toNanos());
+        recorder.recordValue(nanos);
+    }
+
+    public synchronized long getCount() {
+        return snapshot().getTotalCount();
+    }
+
+    public synchronized Duration getValueAtPercentile(double percentile) {
+        return Duration.ofNanos(snapshot().getValueAtPercentile(percentile));
+    }
+
+    /**
+     * Registers a gauge per percentile with the given name and tags so the distribution can be scraped.
+     */
+    public void register(MeterRegistry meterRegistry, String name, String description, Tags tags) {
+        for (double percentile : PERCENTILES) {
+            Gauge.builder(name, this, h -> h.getValueAtPercentile(percentile).toNanos() / 1_000_000_000.0)
+                    .baseUnit("seconds")
+                    .description(description)
+                    .tags(tags)
+                    .tag(TAG_PERCENTILE, String.valueOf(percentile))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Summarizes the distribution recorded so far, e.g. "p50=10.0ms, p90=25.1ms, p99=1200.0ms, ...".
+     */
+    public synchronized String summary() {
+        var histogram = snapshot();
+        var summary = new StringBuilder();
+
+        for (double percentile : PERCENTILES) {
+            if (!summary.isEmpty()) {
+                summary.append(", ");
+            }
+
+            var label = percentile == 100.0 ? "max" : "p" + String.valueOf(percentile).replace(".0", "");
+            var millis = histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+            summary.append(label).append('=').append(String.format("%.1fms", millis));
+        }
+
+        return summary.toString();
+    }
+
+    private Histogram snapshot() {
+        interval = recorder.getIntervalHistogram(interval);
+        cumulative.add(interval);
+        return cumulative;
+    }
+}
@@ -106,6 +106,17 @@ class PublishMetricsTest {
                 .isGreaterThanOrEqualTo(3.0);
     }
 
+    @Test
+    void onSuccessLatency() {
+        publishMetrics.onSuccess(response());
+
+        assertThat(meterRegistry.find(PublishMetrics.METRIC_LATENCY).gauges())
+                .hasSize(5)
+                .allSatisfy(g -> assertThat(g.getId().getTag(PublishMetrics.Tags.TAG_SCENARIO))
+                        .isEqualTo(SCENARIO_NAME))
+                .allSatisfy(g -> assertThat(g.value()).isGreaterThan(2.9));
+    }
+
     @Test
     void onSuccessWithNullResponseTimestamp(CapturedOutput output) {
         // verifies that when unexpected exception happens, onSuccess catches it and no metric is recorded
@@ -207,7 +218,8 @@ class PublishMetricsTest {
                 .hasLineCount(1)
                 .contains("INFO")
                 .contains("Scenario " + SCENARIO_NAME + " published 1 transactions in")
-                .contains("Errors: {}");
+                .contains("Errors: {}")
+                .contains("Latency: p50=");
     }
 
     @Test
@@ -31,6 +31,7 @@ import com.hedera.mirror.monitor.publish.PublishScenario;
 import com.hedera.mirror.monitor.publish.PublishScenarioProperties;
 import com.hedera.mirror.monitor.publish.transaction.TransactionType;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -161,6 +162,43 @@ class CompositeTransactionGeneratorTest {
         assertThat(stopwatch.elapsed().toMillis() * 1.0 / 1000).isCloseTo(seconds, withinPercentage(5));
     }
 
+    @Test
+    void openLoop() {
+        properties.setOpenLoop(true);
+        CompositeTransactionGenerator generator = supplier.get();
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        double seconds = 2.0;
+        int total = (int) (totalTps * seconds);
+        List<PublishRequest> publishRequests = new ArrayList<>();
+        while (publishRequests.size() < total) {
+            publishRequests.addAll(generator.next(1));
+        }
+
+        assertThat(stopwatch.elapsed().toMillis() * 1.0 / 1000).isCloseTo(seconds, withinPercentage(5));
+        assertThat(publishRequests).extracting(PublishRequest::getTimestamp).isSorted();
+        var first = publishRequests.getFirst().getTimestamp();
+        var last = publishRequests.getLast().getTimestamp();
+        var expected = Duration.ofNanos((long) ((total - 1) * 1_000_000_000L / totalTps));
+        assertThat(Duration.between(first, last).toNanos() * 1.0).isCloseTo(expected.toNanos(), withinPercentage(1));
+    }
+
+    @Test
+    void openLoopStall() throws InterruptedException {
+        properties.setOpenLoop(true);
+        CompositeTransactionGenerator generator = supplier.get();
+        generator.next(1);
+
+        // Requests that should've been sent during the stall keep their intended send time
+        Thread.sleep(200L);
+        var stalled = generator.next(1).getFirst();
+        assertThat(Duration.between(stalled.getTimestamp(), Instant.now())).isGreaterThan(Duration.ofMillis(150L));
+
+        // The generator catches up without waiting for the missed requests
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        generator.next((int) (totalTps / 10));
+        assertThat(stopwatch.elapsed()).isLessThan(Duration.ofMillis(50L));
+    }
+
     @Test
     void publishDisabled() {
         properties.setEnabled(false);
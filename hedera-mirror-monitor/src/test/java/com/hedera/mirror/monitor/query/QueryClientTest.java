@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.monitor.MirrorNodeProperties;
+import com.hedera.mirror.monitor.MonitorProperties;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class QueryClientTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10L);
+
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    private MonitorProperties monitorProperties;
+    private QueryClient queryClient;
+
+    @BeforeEach
+    void setup() {
+        monitorProperties = new MonitorProperties();
+        monitorProperties.setMirrorNode(new MirrorNodeProperties());
+        monitorProperties.getMirrorNode().getRest().setHost("127.0.0.1");
+        var web3 = new MirrorNodeProperties.RestProperties();
+        web3.setHost("web3");
+        web3.setPort(8545);
+        monitorProperties.getMirrorNode().setWeb3(web3);
+
+        queryClient = new QueryClient(monitorProperties, WebClient.builder().exchangeFunction(exchangeFunction));
+    }
+
+    @AfterEach
+    void teardown() {
+        queryClient.close();
+    }
+
+    @Test
+    void contractCall() {
+        when(exchangeFunction.exchange(isA(ClientRequest.class))).thenReturn(response(HttpStatus.OK));
+
+        StepVerifier.create(queryClient.query(QueryType.CONTRACT_CALL, Map.of("data", "0x1234")))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(WAIT);
+
+        var request = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction).exchange(request.capture());
+        assertThat(request.getValue().method()).isEqualTo(HttpMethod.POST);
+        assertThat(request.getValue().url()).hasToString("http://web3:8545/api/v1/contracts/call");
+    }
+
+    @Test
+    void contractCallBody() {
+        var parameters = Map.of(
+                "block", "0x10", "data", "0x1234", "gas", "50000", "limit", "10", "to", "0x0000", "value", "5");
+
+        assertThat(QueryClient.contractCallBody(QueryType.CONTRACT_CALL, parameters))
+                .containsEntry("block", "0x10")
+                .containsEntry("data", "0x1234")
+                .containsEntry("estimate", false)
+                .containsEntry("gas", 50000L)
+                .containsEntry("to", "0x0000")
+                .containsEntry("value", 5L)
+                .doesNotContainKey("limit");
+        assertThat(QueryClient.contractCallBody(QueryType.CONTRACT_ESTIMATE_GAS, Map.of()))
+                .containsEntry("block", "latest")
+                .containsEntry("estimate", true)
+                .hasSize(2);
+    }
+
+    @Test
+    void restJavaFallsBackToRest() {
+        when(exchangeFunction.exchange(isA(ClientRequest.class))).thenReturn(response(HttpStatus.OK));
+
+        var parameters = Map.of("account", "0.0.1000", "limit", "5");
+        StepVerifier.create(queryClient.query(QueryType.NFT_ALLOWANCES, parameters))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(WAIT);
+
+        var request = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction).exchange(request.capture());
+        assertThat(request.getValue().method()).isEqualTo(HttpMethod.GET);
+        assertThat(request.getValue().url())
+                .hasToString("https://127.0.0.1:443/api/v1/accounts/0.0.1000/allowances/nfts?limit=5");
+    }
+
+    @Test
+    void airdrops() {
+        when(exchangeFunction.exchange(isA(ClientRequest.class))).thenReturn(response(HttpStatus.OK));
+
+        StepVerifier.create(queryClient.query(QueryType.PENDING_AIRDROPS, Map.of("account", "0.0.1000")))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(WAIT);
+
+        var request = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction).exchange(request.capture());
+        assertThat(request.getValue().url())
+                .hasToString("https://127.0.0.1:443/api/v1/accounts/0.0.1000/airdrops/pending");
+    }
+
+    @Test
+    void error() {
+        when(exchangeFunction.exchange(isA(ClientRequest.class))).thenReturn(response(HttpStatus.NOT_FOUND));
+
+        StepVerifier.create(queryClient.query(QueryType.OUTSTANDING_AIRDROPS, Map.of("account", "0.0.1000")))
+                .expectErrorSatisfies(t -> assertThat(QueryScenario.getStatus(t)).isEqualTo("404"))
+                .verify(WAIT);
+
+        assertThat(QueryScenario.getStatus(new WebClientResponseException(503, "", null, null, null)))
+                .isEqualTo("503");
+    }
+
+    private Mono<ClientResponse> response(HttpStatus status) {
+        return Mono.just(ClientResponse.create(status)
+                .header("Content-Type", "application/json")
+                .body("{}")
+                .build());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import static com.hedera.mirror.monitor.query.QueryMetrics.METRIC_LATENCY;
+import static com.hedera.mirror.monitor.query.QueryMetrics.METRIC_REQUEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+@ExtendWith(OutputCaptureExtension.class)
+class QueryMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private QueryMetrics queryMetrics;
+    private QueryProperties queryProperties;
+    private QueryScenario scenario;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryProperties = new QueryProperties();
+        queryMetrics = new QueryMetrics(meterRegistry, queryProperties);
+
+        var properties = new QueryScenarioProperties();
+        properties.setName("test");
+        properties.setType(QueryType.NFT_ALLOWANCES);
+        scenario = new QueryScenario(properties);
+    }
+
+    @Test
+    void onNext() {
+        queryMetrics.onNext(response(QueryScenario.SUCCESS, 5L));
+        queryMetrics.onNext(response(QueryScenario.SUCCESS, 15L));
+        queryMetrics.onNext(response("404", 10L));
+
+        var success = meterRegistry
+                .find(METRIC_REQUEST)
+                .tag(QueryMetrics.TAG_PROTOCOL, "REST")
+                .tag(QueryMetrics.TAG_SCENARIO, "test")
+                .tag(QueryMetrics.TAG_STATUS, QueryScenario.SUCCESS)
+                .tag(QueryMetrics.TAG_TYPE, "NFT_ALLOWANCES")
+                .timer();
+        assertThat(success).isNotNull();
+        assertThat(success.count()).isEqualTo(2L);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20.0);
+
+        var notFound =
+                meterRegistry.find(METRIC_REQUEST).tag(QueryMetrics.TAG_STATUS, "404").timer();
+        assertThat(notFound).isNotNull();
+        assertThat(notFound.count()).isOne();
+
+        var max = meterRegistry
+                .find(METRIC_LATENCY)
+                .tag("percentile", "100.0")
+                .gauge();
+        assertThat(max).isNotNull();
+        assertThat(max.value()).isBetween(0.0149, 0.0151);
+    }
+
+    @Test
+    void status(CapturedOutput output) {
+        queryMetrics.onNext(response(QueryScenario.SUCCESS, 5L));
+        queryMetrics.status();
+        assertThat(output).contains("Scenario test received 0 responses").contains("Latency: p50=5.0ms");
+    }
+
+    @Test
+    void statusDisabled(CapturedOutput output) {
+        queryProperties.setEnabled(false);
+        queryMetrics.onNext(response(QueryScenario.SUCCESS, 5L));
+        queryMetrics.status();
+        assertThat(output).doesNotContain("Scenario test");
+    }
+
+    @Test
+    void statusCompleted(CapturedOutput output) {
+        queryMetrics.onNext(response(QueryScenario.SUCCESS, 5L));
+        scenario.onComplete();
+        queryMetrics.status();
+        assertThat(output).doesNotContain("Scenario test received");
+    }
+
+    private QueryResponse response(String status, long latencyMillis) {
+        var now = Instant.now();
+        return QueryResponse.builder()
+                .scenario(scenario)
+                .startTime(now.minusMillis(latencyMillis))
+                .status(status)
+                .timestamp(now)
+                .build();
+    }
+}
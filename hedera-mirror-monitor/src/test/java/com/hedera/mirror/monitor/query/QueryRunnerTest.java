@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.mirror.monitor.expression.ExpressionConverter;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class QueryRunnerTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10L);
+
+    private final ExpressionConverter expressionConverter = p -> p;
+
+    @Mock
+    private QueryClient queryClient;
+
+    private QueryProperties queryProperties;
+    private QueryRunner queryRunner;
+    private QueryScenarioProperties scenarioProperties;
+
+    @BeforeEach
+    void setup() {
+        scenarioProperties = new QueryScenarioProperties();
+        scenarioProperties.setLimit(3L);
+        scenarioProperties.setName("test");
+        scenarioProperties.setTps(100.0);
+        scenarioProperties.setType(QueryType.CONTRACT_CALL);
+        scenarioProperties.getProperties().put("contract", "0.0.1000");
+        scenarioProperties.getProperties().put("to", "0x{contract.address}");
+        queryProperties = new QueryProperties();
+        queryProperties.getScenarios().put("test", scenarioProperties);
+        queryRunner = new QueryRunner(expressionConverter, queryClient, queryProperties);
+    }
+
+    @Test
+    void run() {
+        var parameters = Map.of("contract", "0.0.1000", "to", "0x00000000000000000000000000000000000003e8");
+        doReturn(Mono.just("{}")).when(queryClient).query(QueryType.CONTRACT_CALL, parameters);
+
+        StepVerifier.create(queryRunner.run())
+                .thenConsumeWhile(r -> {
+                    assertThat(r.getStatus()).isEqualTo(QueryScenario.SUCCESS);
+                    assertThat(r.getLatency()).isNotNegative();
+                    return true;
+                })
+                .expectComplete()
+                .verify(WAIT);
+
+        verify(queryClient, times(3)).query(QueryType.CONTRACT_CALL, parameters);
+    }
+
+    @Test
+    void runError() {
+        var exception = new WebClientResponseException(400, "", null, null, null);
+        doReturn(Mono.error(exception)).when(queryClient).query(eq(QueryType.CONTRACT_CALL), any());
+        var scenario = new QueryScenario(scenarioProperties);
+
+        StepVerifier.create(queryRunner.run(scenario))
+                .expectNextMatches(r -> r.getStatus().equals("400"))
+                .expectNextMatches(r -> r.getStatus().equals("400"))
+                .expectNextMatches(r -> r.getStatus().equals("400"))
+                .expectComplete()
+                .verify(WAIT);
+
+        assertThat(scenario.getCount()).isZero();
+        assertThat(scenario.getErrors()).containsEntry("400", 3);
+    }
+
+    @Test
+    void runTimeout() {
+        scenarioProperties.setLimit(1L);
+        scenarioProperties.setTimeout(Duration.ofMillis(100L));
+        doReturn(Mono.never()).when(queryClient).query(eq(QueryType.CONTRACT_CALL), any());
+        var scenario = new QueryScenario(scenarioProperties);
+
+        StepVerifier.create(queryRunner.run(scenario))
+                .expectNextMatches(r -> r.getStatus().equals("TimeoutException")
+                        && r.getLatency().compareTo(Duration.ofMillis(100L)) >= 0)
+                .expectComplete()
+                .verify(WAIT);
+
+        assertThat(scenario.getErrors()).containsEntry("TimeoutException", 1);
+    }
+
+    @Test
+    void disabled() {
+        scenarioProperties.setEnabled(false);
+        StepVerifier.create(queryRunner.run()).expectComplete().verify(WAIT);
+    }
+
+    @Test
+    void noTps() {
+        scenarioProperties.setTps(0.0);
+        StepVerifier.create(queryRunner.run()).expectComplete().verify(WAIT);
+    }
+
+    @Test
+    void template() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("account", "0.0.1000");
+        properties.put("data", "0x70a08231000000000000000000000000{account.address}");
+        properties.put("id", "{account}");
+        properties.put("token", "1.2.3");
+        properties.put("to", "0x{token.address}");
+
+        assertThat(QueryRunner.template(properties))
+                .containsEntry("account", "0.0.1000")
+                .containsEntry("data", "0x70a08231" + "0".repeat(61) + "3e8")
+                .containsEntry("id", "0.0.1000")
+                .containsEntry("to", "0x00000001" + "0000000000000002" + "0000000000000003");
+    }
+
+    @Test
+    void templateInvalidAddress() {
+        var properties = Map.of("account", "alias", "data", "{account.address}");
+        assertThatThrownBy(() -> QueryRunner.template(properties)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
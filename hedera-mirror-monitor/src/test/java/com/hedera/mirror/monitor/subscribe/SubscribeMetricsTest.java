@@ -18,10 +18,12 @@ package com.hedera.mirror.monitor.subscribe;
 
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.METRIC_DURATION;
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.METRIC_E2E;
+import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.METRIC_LATENCY;
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.TAG_PROTOCOL;
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.TAG_SCENARIO;
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.TAG_SUBSCRIBER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import com.hedera.mirror.monitor.ScenarioStatus;
 import com.hedera.mirror.monitor.subscribe.grpc.GrpcSubscriberProperties;
@@ -100,6 +102,23 @@ class SubscribeMetricsTest {
                 .returns(String.valueOf(subscription.getId()), t -> t.getId().getTag(TAG_SUBSCRIBER));
     }
 
+    @Test
+    void recordLatency() {
+        TestScenario subscription = new TestScenario();
+        subscribeMetrics.onNext(response(subscription));
+        subscription.setCount(subscription.getCount() + 1);
+        subscribeMetrics.onNext(response(subscription));
+
+        assertThat(meterRegistry.find(METRIC_LATENCY).tag("percentile", "50.0").gauge())
+                .isNotNull()
+                .returns(subscription.getName(), g -> g.getId().getTag(TAG_SCENARIO))
+                .returns(String.valueOf(subscription.getId()), g -> g.getId().getTag(TAG_SUBSCRIBER))
+                .satisfies(g -> assertThat(g.value()).isCloseTo(2.0, within(0.01)));
+        assertThat(meterRegistry.find(METRIC_LATENCY).tag("percentile", "100.0").gauge())
+                .isNotNull()
+                .satisfies(g -> assertThat(g.value()).isCloseTo(4.0, within(0.01)));
+    }
+
     @Test
     void status(CapturedOutput logOutput) {
         TestScenario testSubscription1 = new TestScenario();
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void percentiles() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(Duration.ofMillis(i));
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1000L);
+        assertThat(histogram.getValueAtPercentile(50.0).toMillis()).isEqualTo(500L);
+        assertThat(histogram.getValueAtPercentile(99.0).toMillis()).isEqualTo(990L);
+        assertThat(histogram.getValueAtPercentile(100.0).toMillis()).isEqualTo(1000L);
+    }
+
+    @Test
+    void tail() {
+        // A single stall must show up in the tail instead of being averaged away
+        for (int i = 0; i < 999; i++) {
+            histogram.record(Duration.ofMillis(1L));
+        }
+        histogram.record(Duration.ofSeconds(10L));
+
+        assertThat(histogram.getValueAtPercentile(99.0).toMillis()).isEqualTo(1L);
+        assertThat(histogram.getValueAtPercentile(100.0).toSeconds()).isEqualTo(10L);
+    }
+
+    @Test
+    void clamp() {
+        histogram.record(Duration.ofMillis(-1L));
+        histogram.record(LatencyHistogram.MAX_LATENCY.plusHours(1L));
+
+        assertThat(histogram.getCount()).isEqualTo(2L);
+        assertThat(histogram.getValueAtPercentile(0.0)).isEqualTo(Duration.ZERO);
+        assertThat(histogram.getValueAtPercentile(100.0).toMinutes())
+                .isEqualTo(LatencyHistogram.MAX_LATENCY.toMinutes());
+    }
+
+    @Test
+    void register() {
+        var meterRegistry = new SimpleMeterRegistry();
+        histogram.register(meterRegistry, "test", "description", Tags.of("scenario", "test"));
+        histogram.record(Duration.ofSeconds(2L));
+
+        assertThat(meterRegistry.find("test").gauges())
+                .hasSameSizeAs(LatencyHistogram.PERCENTILES)
+                .allSatisfy(g -> assertThat(g.getId().getTag("scenario")).isEqualTo("test"))
+                .allSatisfy(g -> assertThat(g.value()).isCloseTo(2.0, within(0.01)));
+    }
+
+    @Test
+    void summary() {
+        assertThat(histogram.summary()).isEqualTo("p50=0.0ms, p90=0.0ms, p99=0.0ms, p99.9=0.0ms, max=0.0ms");
+        histogram.record(Duration.ofMillis(5L));
+        assertThat(histogram.summary()).startsWith("p50=5.0ms").endsWith("max=5.0ms");
+    }
+}
@@ -34,6 +34,9 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.rest-java")
 public class RestJavaProperties {
 
+    @NotNull
+    private QueryConfig query = new QueryConfig();
+
     @NotNull
     private ResponseConfig response = new ResponseConfig();
 
@@ -59,6 +62,15 @@ public class RestJavaProperties {
         }
     }
 
+    @Data
+    @Validated
+    public static class QueryConfig {
+        private boolean cacheEnabled = true;
+
+        @Min(0)
+        private int maxCachedShapes = 1024;
+    }
+
     @Data
     @Validated
     public static class ResponseConfig {
@@ -18,6 +18,7 @@ package com.hedera.mirror.restjava.common;
 
 import com.hedera.mirror.rest.model.Links;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -25,4 +26,13 @@ import org.springframework.data.domain.Pageable;
 
 public interface LinkFactory {
     <T> Links create(List<T> items, @Nonnull Pageable pageable, @Nonnull Function<T, Map<String, String>> extractor);
+
+    /**
+     * Creates the links for a page that was streamed rather than collected, given only its last item and its size.
+     */
+    <T> Links create(
+            @Nullable T lastItem,
+            int size,
+            @Nonnull Pageable pageable,
+            @Nonnull Function<T, Map<String, String>> extractor);
 }
@@ -19,6 +19,7 @@ package com.hedera.mirror.restjava.common;
 import com.google.common.collect.Iterables;
 import com.hedera.mirror.rest.model.Links;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Named;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.HashMap;
@@ -45,7 +46,20 @@ class LinkFactoryImpl implements LinkFactory {
     @Override
     public <T> Links create(
             List<T> items, @Nonnull Pageable pageable, @Nonnull Function<T, Map<String, String>> extractor) {
-        if (CollectionUtils.isEmpty(items) || pageable.getPageSize() > items.size()) {
+        if (CollectionUtils.isEmpty(items)) {
+            return DEFAULT_LINKS;
+        }
+
+        return create(CollectionUtils.lastElement(items), items.size(), pageable, extractor);
+    }
+
+    @Override
+    public <T> Links create(
+            @Nullable T lastItem,
+            int size,
+            @Nonnull Pageable pageable,
+            @Nonnull Function<T, Map<String, String>> extractor) {
+        if (lastItem == null || pageable.getPageSize() > size) {
             return DEFAULT_LINKS;
         }
 
@@ -55,7 +69,6 @@ class LinkFactoryImpl implements LinkFactory {
         }
 
         var request = servletRequestAttributes.getRequest();
-        var lastItem = CollectionUtils.lastElement(items);
         var nextLink = createNextLink(lastItem, pageable, extractor, request);
         return new Links().next(nextLink);
     }
@@ -23,24 +23,32 @@ import static com.hedera.mirror.restjava.common.Constants.TOKEN_ID;
 import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
 
 import com.google.common.collect.ImmutableSortedMap;
+import com.hedera.mirror.rest.model.Links;
 import com.hedera.mirror.rest.model.NftAllowance;
 import com.hedera.mirror.rest.model.NftAllowancesResponse;
 import com.hedera.mirror.restjava.common.EntityIdParameter;
 import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
 import com.hedera.mirror.restjava.common.LinkFactory;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import com.hedera.mirror.restjava.mapper.NftAllowanceMapper;
 import com.hedera.mirror.restjava.service.Bound;
 import com.hedera.mirror.restjava.service.NftAllowanceService;
+import com.hedera.mirror.restjava.writer.NftAllowanceRecordWriter;
+import com.hedera.mirror.restjava.writer.PageWriter;
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import java.io.IOException;
 import java.util.Map;
 import java.util.function.Function;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -66,15 +74,19 @@ public class AllowancesController {
     private final LinkFactory linkFactory;
     private final NftAllowanceService service;
     private final NftAllowanceMapper nftAllowanceMapper;
+    private final NftAllowanceRecordWriter nftAllowanceRecordWriter;
+    private final PageWriter pageWriter;
 
-    @GetMapping(value = "/nfts")
-    NftAllowancesResponse getNftAllowances(
+    @GetMapping(value = "/nfts", produces = MediaType.APPLICATION_JSON_VALUE)
+    void getNftAllowances(
             @PathVariable EntityIdParameter id,
             @RequestParam(name = ACCOUNT_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] accountIds,
             @RequestParam(defaultValue = DEFAULT_LIMIT) @Positive @Max(MAX_LIMIT) int limit,
             @RequestParam(defaultValue = "asc") Sort.Direction order,
             @RequestParam(defaultValue = "true") boolean owner,
-            @RequestParam(name = TOKEN_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] tokenIds) {
+            @RequestParam(name = TOKEN_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] tokenIds,
+            HttpServletResponse response)
+            throws IOException {
         var field = owner ? NFT_ALLOWANCE.SPENDER : NFT_ALLOWANCE.OWNER;
         var request = NftAllowanceRequest.builder()
                 .accountId(id)
@@ -85,13 +97,19 @@ public class AllowancesController {
                 .tokenIds(new Bound(tokenIds, false, TOKEN_ID, NFT_ALLOWANCE.TOKEN_ID))
                 .build();
 
-        var serviceResponse = service.getNftAllowances(request);
-        var allowances = nftAllowanceMapper.map(serviceResponse);
+        pageWriter.write(
+                response,
+                NftAllowancesResponse.JSON_PROPERTY_ALLOWANCES,
+                service.getNftAllowances(request),
+                nftAllowanceRecordWriter,
+                (last, count) -> getLinks(last, count, limit, order, owner));
+    }
 
+    private Links getLinks(
+            @Nullable NftAllowanceRecord last, int count, int limit, Sort.Direction order, boolean owner) {
+        var lastAllowance = last != null ? nftAllowanceMapper.map(last) : null;
         var sort = Sort.by(order, ACCOUNT_ID, TOKEN_ID);
         var pageable = PageRequest.of(0, limit, sort);
-        var links = linkFactory.create(allowances, pageable, EXTRACTORS.get(owner));
-
-        return new NftAllowancesResponse().allowances(allowances).links(links);
+        return linkFactory.create(lastAllowance, count, pageable, EXTRACTORS.get(owner));
     }
 }
@@ -28,6 +28,7 @@ import static com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestT
 import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_AIRDROP;
 
 import com.google.common.collect.ImmutableSortedMap;
+import com.hedera.mirror.rest.model.Links;
 import com.hedera.mirror.rest.model.TokenAirdrop;
 import com.hedera.mirror.rest.model.TokenAirdropsResponse;
 import com.hedera.mirror.restjava.common.EntityIdParameter;
@@ -36,19 +37,25 @@ import com.hedera.mirror.restjava.common.LinkFactory;
 import com.hedera.mirror.restjava.common.NumberRangeParameter;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestType;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
 import com.hedera.mirror.restjava.mapper.TokenAirdropMapper;
 import com.hedera.mirror.restjava.service.Bound;
 import com.hedera.mirror.restjava.service.TokenAirdropService;
+import com.hedera.mirror.restjava.writer.PageWriter;
+import com.hedera.mirror.restjava.writer.TokenAirdropRecordWriter;
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
 import java.util.function.Function;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -73,40 +80,48 @@ public class TokenAirdropsController {
     };
 
     private final LinkFactory linkFactory;
+    private final PageWriter pageWriter;
     private final TokenAirdropMapper tokenAirdropMapper;
+    private final TokenAirdropRecordWriter tokenAirdropRecordWriter;
     private final TokenAirdropService service;
 
-    @GetMapping(value = "/outstanding")
-    TokenAirdropsResponse getOutstandingAirdrops(
+    @GetMapping(value = "/outstanding", produces = MediaType.APPLICATION_JSON_VALUE)
+    void getOutstandingAirdrops(
             @PathVariable EntityIdParameter id,
             @RequestParam(defaultValue = DEFAULT_LIMIT) @Positive @Max(MAX_LIMIT) int limit,
             @RequestParam(defaultValue = "asc") Sort.Direction order,
             @RequestParam(name = RECEIVER_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] receiverIds,
             @RequestParam(name = SERIAL_NUMBER, required = false) @Size(max = 2) NumberRangeParameter[] serialNumbers,
-            @RequestParam(name = TOKEN_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] tokenIds) {
-        return processRequest(id, receiverIds, limit, order, serialNumbers, tokenIds, OUTSTANDING);
+            @RequestParam(name = TOKEN_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] tokenIds,
+            HttpServletResponse response)
+            throws IOException {
+        processRequest(id, receiverIds, limit, order, serialNumbers, tokenIds, OUTSTANDING, response);
     }
 
-    @GetMapping(value = "/pending")
-    TokenAirdropsResponse getPendingAirdrops(
+    @GetMapping(value = "/pending", produces = MediaType.APPLICATION_JSON_VALUE)
+    void getPendingAirdrops(
             @PathVariable EntityIdParameter id,
             @RequestParam(defaultValue = DEFAULT_LIMIT) @Positive @Max(MAX_LIMIT) int limit,
             @RequestParam(defaultValue = "asc") Sort.Direction order,
             @RequestParam(name = SENDER_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] senderIds,
             @RequestParam(name = SERIAL_NUMBER, required = false) @Size(max = 2) NumberRangeParameter[] serialNumbers,
-            @RequestParam(name = TOKEN_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] tokenIds) {
-        return processRequest(id, senderIds, limit, order, serialNumbers, tokenIds, PENDING);
+            @RequestParam(name = TOKEN_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] tokenIds,
+            HttpServletResponse response)
+            throws IOException {
+        processRequest(id, senderIds, limit, order, serialNumbers, tokenIds, PENDING, response);
     }
 
     @SuppressWarnings("java:S107")
-    private TokenAirdropsResponse processRequest(
+    private void processRequest(
             EntityIdParameter id,
             EntityIdRangeParameter[] entityIds,
             int limit,
             Sort.Direction order,
             NumberRangeParameter[] serialNumbers,
             EntityIdRangeParameter[] tokenIds,
-            AirdropRequestType type) {
+            AirdropRequestType type,
+            HttpServletResponse response)
+            throws IOException {
         var entityIdsBound = new Bound(entityIds, true, ACCOUNT_ID, type.getPrimaryField());
         var request = TokenAirdropRequest.builder()
                 .accountId(id)
@@ -118,17 +133,26 @@ public class TokenAirdropsController {
                 .type(type)
                 .build();
 
-        var response = service.getAirdrops(request);
-        var airdrops = tokenAirdropMapper.map(response);
-        var sort = getSort(airdrops, order, type.getParameter());
+        pageWriter.write(
+                response,
+                TokenAirdropsResponse.JSON_PROPERTY_AIRDROPS,
+                service.getAirdrops(request),
+                tokenAirdropRecordWriter,
+                (last, count) -> getLinks(last, count, limit, order, type.getParameter()));
+    }
+
+    private Links getLinks(
+            @Nullable TokenAirdropRecord last, int count, int limit, Sort.Direction order, String primarySortField) {
+        // Only the last row of the page is mapped to the API model, to build the next link from
+        var lastAirdrop = last != null ? tokenAirdropMapper.map(last) : null;
+        var sort = getSort(lastAirdrop, order, primarySortField);
         var pageable = PageRequest.of(0, limit, sort);
-        var links = linkFactory.create(airdrops, pageable, EXTRACTOR);
-        return new TokenAirdropsResponse().airdrops(airdrops).links(links);
+        return linkFactory.create(lastAirdrop, count, pageable, EXTRACTOR);
     }
 
-    private Sort getSort(List<TokenAirdrop> airdrops, Sort.Direction order, String primarySortField) {
-        if (!airdrops.isEmpty()) {
-            var lastSerial = airdrops.getLast().getSerialNumber();
+    private Sort getSort(@Nullable TokenAirdrop lastAirdrop, Sort.Direction order, String primarySortField) {
+        if (lastAirdrop != null) {
+            var lastSerial = lastAirdrop.getSerialNumber();
             if (lastSerial == null || lastSerial == DEFAULT_SERIAL_VALUE) {
                 // If no serial present, the next link should be based off of the token id
                 return Sort.by(order, primarySortField, TOKEN_ID);
@@ -16,8 +16,8 @@
 
 package com.hedera.mirror.restjava.jooq;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Converter;
@@ -27,6 +27,7 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.restjava.converter.LongRangeConverter;
 import com.hedera.mirror.restjava.exception.RecordMappingException;
 import jakarta.annotation.Nullable;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
@@ -34,13 +35,14 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.EnumType;
 import org.jooq.JSONB;
@@ -49,6 +51,14 @@ import org.jooq.RecordMapper;
 import org.jooq.RecordType;
 import org.jooq.postgres.extensions.types.LongRange;
 
+/**
+ * Maps jOOQ records to domain objects. The mapping plan is compiled once per record type and domain type: the default
+ * constructor and the setters are bound to generated lambda classes via {@link LambdaMetafactory} and the conversion
+ * of each column is resolved from the column's declared type. Columns of primitive long, int and boolean members and of
+ * byte[] members get setters of the matching type, so their values are unboxed once and never pass through a generic
+ * converter. Mapping a row is then a flat loop over the columns without any field name lookups, per-value type checks,
+ * or generic {@link MethodHandle} invocations.
+ */
 class DomainRecordMapper<R extends Record, E> implements RecordMapper<R, E> {
 
     private static final Converter<String, String> FORMAT_CONVERTER =
@@ -56,18 +66,14 @@ class DomainRecordMapper<R extends Record, E> implements RecordMapper<R, E> {
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
     private static final ObjectMapper OBJECT_MAPPER = ObjectToStringSerializer.OBJECT_MAPPER;
 
-    private final MethodHandle defaultConstructor;
-    private final org.jooq.Field<?>[] recordFields;
-    private final Map<String, Setter> setters;
+    private final Column[] columns;
+    private final Supplier<?> constructor;
 
     public DomainRecordMapper(RecordType<R> recordType, Class<? extends E> type) {
         try {
-            defaultConstructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
-            recordFields = recordType.fields();
-            var fieldNames =
-                    Arrays.stream(recordFields).map(org.jooq.Field::getName).collect(Collectors.toSet());
-            setters = getSetters(fieldNames, type);
-        } catch (Exception e) {
+            constructor = getConstructor(type);
+            columns = getColumns(recordType, type);
+        } catch (Throwable e) {
             throw new RecordMappingException(
                     String.format("Failed to create record mapper for entity type %s", type.getName()), e);
         }
@@ -77,50 +83,143 @@ class DomainRecordMapper<R extends Record, E> implements RecordMapper<R, E> {
     @SuppressWarnings("unchecked")
     public @Nullable E map(R source) {
         try {
-            var entity = (E) defaultConstructor.invoke();
-            for (int i = 0; i < recordFields.length; i++) {
-                var field = recordFields[i];
-                var setter = setters.get(field.getName());
-                var method = setter.methodHandle;
-                var value = convert(setter, source.get(i));
-                method.invoke(entity, value);
+            var entity = (E) constructor.get();
+            for (var column : columns) {
+                column.set(entity, source);
             }
 
             return entity;
-        } catch (Throwable e) {
+        } catch (Exception e) {
             throw new RecordMappingException("Failed to map record to entity", e);
         }
     }
 
+    private static Column[] getColumns(RecordType<?> recordType, Class<?> type) throws Throwable {
+        var members = getInstanceMembers(type);
+        var columns = new ArrayList<Column>();
+        var recordFields = recordType.fields();
+
+        for (int i = 0; i < recordFields.length; i++) {
+            var recordField = recordFields[i];
+            var member = members.get(recordField.getName());
+            if (member == null) {
+                continue;
+            }
+
+            var methodName = String.format("set%s", StringUtils.capitalize(member.getName()));
+            var methodType = MethodType.methodType(void.class, member.getType());
+            var methodHandle = LOOKUP.findVirtual(type, methodName, methodType);
+            columns.add(getColumn(i, recordField.getType(), member, methodHandle));
+        }
+
+        return columns.toArray(new Column[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Column getColumn(int index, Class<?> sourceType, Field member, MethodHandle methodHandle)
+            throws Throwable {
+        var targetType = member.getType();
+        boolean numeric = Number.class.isAssignableFrom(sourceType);
+
+        if (targetType == long.class && numeric) {
+            return new LongColumn(index, (ObjLongConsumer<Object>) getSetter(methodHandle, ObjLongConsumer.class));
+        } else if (targetType == int.class && numeric) {
+            return new IntColumn(index, (ObjIntConsumer<Object>) getSetter(methodHandle, ObjIntConsumer.class));
+        } else if (targetType == boolean.class && sourceType == Boolean.class) {
+            return new BooleanColumn(
+                    index, (ObjBooleanConsumer) getSetter(methodHandle, ObjBooleanConsumer.class));
+        } else if (targetType == byte[].class && sourceType == byte[].class) {
+            return new BytesColumn(index, (BiConsumer<Object, byte[]>) getSetter(methodHandle, BiConsumer.class));
+        }
+
+        var converter = getConverter(sourceType, member);
+        return new ObjectColumn(
+                index, converter, (BiConsumer<Object, Object>) getSetter(methodHandle, BiConsumer.class));
+    }
+
+    private static Supplier<?> getConstructor(Class<?> type) throws Throwable {
+        var methodHandle = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+        var callSite = LambdaMetafactory.metafactory(
+                LOOKUP,
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                methodHandle,
+                MethodType.methodType(type));
+        return (Supplier<?>) callSite.getTarget().invoke();
+    }
+
+    /*
+     * Resolves the conversion from the column's declared type to the member type once. Returns null if the value can be
+     * set as is.
+     */
     @SuppressWarnings({"java:S3776", "rawtypes", "unchecked"})
-    private static Object convert(Setter setter, Object source) throws JsonProcessingException {
-        if (source == null) {
-            return null;
+    private static ValueConverter getConverter(Class<?> sourceType, Field member) {
+        var targetType = member.getType();
+        var boxedTargetType = ClassUtils.primitiveToWrapper(targetType);
+
+        if (targetType.isEnum()) {
+            var constants = targetType.getEnumConstants();
+            if (EnumType.class.isAssignableFrom(sourceType) && sourceType.isEnum()) {
+                // Index the domain enum constants by the ordinal of the database enum constants
+                var sourceConstants = sourceType.getEnumConstants();
+                var mapped = new Object[sourceConstants.length];
+                for (int i = 0; i < sourceConstants.length; i++) {
+                    var literal = ((EnumType) sourceConstants[i]).getLiteral();
+                    mapped[i] = Enum.valueOf((Class<Enum>) targetType, literal);
+                }
+                return v -> mapped[((Enum<?>) v).ordinal()];
+            } else if (Number.class.isAssignableFrom(sourceType)) {
+                // TokenFreezeStatus and TokenKycStatus are stored as smallint instead of pg enum in the database
+                return v -> constants[((Number) v).shortValue()];
+            }
+        } else if (targetType == Range.class && sourceType == LongRange.class) {
+            return v -> LongRangeConverter.INSTANCE.convert((LongRange) v);
+        } else if (targetType == EntityId.class && sourceType == Long.class) {
+            return v -> EntityId.of((Long) v);
+        } else if (Collection.class.isAssignableFrom(targetType) && sourceType == JSONB.class) {
+            var reader = getCollectionReader(member);
+            return v -> reader.readValue(((JSONB) v).data());
+        } else if (boxedTargetType != sourceType
+                && Number.class.isAssignableFrom(sourceType)
+                && Number.class.isAssignableFrom(boxedTargetType)) {
+            if (boxedTargetType == Integer.class) {
+                return v -> ((Number) v).intValue();
+            } else if (boxedTargetType == Long.class) {
+                return v -> ((Number) v).longValue();
+            } else if (boxedTargetType == Short.class) {
+                return v -> ((Number) v).shortValue();
+            }
+        }
+
+        if (!boxedTargetType.isAssignableFrom(sourceType)) {
+            // The declared column type is too generic to resolve the conversion up front
+            var collectionReader = Collection.class.isAssignableFrom(targetType) ? getCollectionReader(member) : null;
+            return v -> convert(collectionReader, targetType, v);
         }
 
-        var collectionType = setter.collectionType;
-        var sourceType = source.getClass();
-        var targetType = setter.methodHandle.type().parameterType(1);
+        return null;
+    }
 
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Object convert(ObjectReader collectionReader, Class<?> targetType, Object source) throws Exception {
         if (targetType.isEnum()) {
             if (source instanceof EnumType enumValue) {
                 return Enum.valueOf((Class<Enum>) targetType, enumValue.getLiteral());
             } else if (source instanceof Number number) {
-                // TokenFreezeStatus and TokenKycStatus are stored as smallint instead of pg enum in the database
                 return targetType.getEnumConstants()[number.shortValue()];
             }
         } else if (targetType == Range.class && source instanceof LongRange longRange) {
             return LongRangeConverter.INSTANCE.convert(longRange);
         } else if (targetType == EntityId.class && source instanceof Long id) {
             return EntityId.of(id);
-        } else if (collectionType != null && source instanceof JSONB jsonb) {
-            return OBJECT_MAPPER.readValue(jsonb.data(), collectionType);
-        } else if (sourceType != targetType
-                && source instanceof Number number
-                && Number.class.isAssignableFrom(targetType)) {
-            if (targetType == Integer.class) {
+        } else if (collectionReader != null && source instanceof JSONB jsonb) {
+            return collectionReader.readValue(jsonb.data());
+        } else if (source instanceof Number number) {
+            var boxedTargetType = ClassUtils.primitiveToWrapper(targetType);
+            if (boxedTargetType == Integer.class) {
                 return number.intValue();
-            } else if (targetType == Long.class) {
+            } else if (boxedTargetType == Long.class) {
                 return number.longValue();
             }
         }
@@ -128,13 +227,23 @@ class DomainRecordMapper<R extends Record, E> implements RecordMapper<R, E> {
         return source;
     }
 
-    private static List<Field> getInstanceMembers(Class<?> type) {
-        var result = new ArrayList<Field>();
+    @SuppressWarnings("unchecked")
+    private static ObjectReader getCollectionReader(Field member) {
+        var parameterizedType = (ParameterizedType) member.getGenericType();
+        var typeFactory = OBJECT_MAPPER.getTypeFactory();
+        var parameterType = typeFactory.constructType(parameterizedType.getActualTypeArguments()[0]);
+        CollectionType collectionType = typeFactory.constructCollectionType(
+                (Class<? extends Collection<?>>) member.getType(), parameterType);
+        return OBJECT_MAPPER.readerFor(collectionType);
+    }
+
+    private static Map<String, Field> getInstanceMembers(Class<?> type) {
+        var result = new HashMap<String, Field>();
 
         do {
             for (var field : type.getDeclaredFields()) {
                 if ((field.getModifiers() & Modifier.STATIC) == 0) {
-                    result.add(field);
+                    result.putIfAbsent(FORMAT_CONVERTER.convert(field.getName()), field);
                 }
             }
 
@@ -144,36 +253,89 @@ class DomainRecordMapper<R extends Record, E> implements RecordMapper<R, E> {
         return result;
     }
 
-    @SuppressWarnings("unchecked")
-    private static Map<String, Setter> getSetters(Set<String> fieldNames, Class<?> type)
-            throws ReflectiveOperationException {
-        var setters = new HashMap<String, Setter>();
-        for (var member : getInstanceMembers(type)) {
-            var name = member.getName();
-            var key = FORMAT_CONVERTER.convert(name);
-            if (!fieldNames.contains(key)) {
-                continue;
-            }
+    /*
+     * Binds the setter to the functional interface. The primitive consumers take the primitive value as is, while the
+     * BiConsumer takes it boxed.
+     */
+    private static Object getSetter(MethodHandle methodHandle, Class<?> consumerType) throws Throwable {
+        var setterType = methodHandle.type();
+        var valueType = setterType.parameterType(1);
+        var samValueType = consumerType == BiConsumer.class ? Object.class : valueType;
+        var instantiatedType = consumerType == BiConsumer.class
+                ? setterType.changeParameterType(1, ClassUtils.primitiveToWrapper(valueType))
+                : setterType;
+        var callSite = LambdaMetafactory.metafactory(
+                LOOKUP,
+                "accept",
+                MethodType.methodType(consumerType),
+                MethodType.methodType(void.class, Object.class, samValueType),
+                methodHandle,
+                instantiatedType);
+        return callSite.getTarget().invoke();
+    }
+
+    @FunctionalInterface
+    private interface ValueConverter {
+        Object convert(Object value) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface ObjBooleanConsumer {
+        void accept(Object entity, boolean value);
+    }
 
-            CollectionType collectionType = null;
-            var memberType = member.getType();
-            if (Collection.class.isAssignableFrom(memberType)) {
-                var parameterizedType = (ParameterizedType) member.getGenericType();
-                var typeFactory = OBJECT_MAPPER.getTypeFactory();
-                var parameterType = typeFactory.constructType(parameterizedType.getActualTypeArguments()[0]);
-                collectionType =
-                        typeFactory.constructCollectionType((Class<? extends Collection<?>>) memberType, parameterType);
+    private interface Column {
+        void set(Object entity, Record source) throws Exception;
+    }
+
+    // A null value leaves the primitive member at its default
+    private record LongColumn(int index, ObjLongConsumer<Object> setter) implements Column {
+        @Override
+        public void set(Object entity, Record source) {
+            var value = (Number) source.get(index);
+            if (value != null) {
+                setter.accept(entity, value.longValue());
             }
+        }
+    }
 
-            var methodName = String.format("set%s", StringUtils.capitalize(name));
-            var methodHandle =
-                    LOOKUP.findVirtual(type, methodName, MethodType.methodType(void.class, member.getType()));
+    private record IntColumn(int index, ObjIntConsumer<Object> setter) implements Column {
+        @Override
+        public void set(Object entity, Record source) {
+            var value = (Number) source.get(index);
+            if (value != null) {
+                setter.accept(entity, value.intValue());
+            }
+        }
+    }
 
-            setters.put(key, new Setter(collectionType, methodHandle));
+    private record BooleanColumn(int index, ObjBooleanConsumer setter) implements Column {
+        @Override
+        public void set(Object entity, Record source) {
+            var value = (Boolean) source.get(index);
+            if (value != null) {
+                setter.accept(entity, value);
+            }
         }
+    }
 
-        return setters;
+    private record BytesColumn(int index, BiConsumer<Object, byte[]> setter) implements Column {
+        @Override
+        public void set(Object entity, Record source) {
+            setter.accept(entity, (byte[]) source.get(index));
+        }
     }
 
-    private record Setter(CollectionType collectionType, MethodHandle methodHandle) {}
+    private record ObjectColumn(int index, @Nullable ValueConverter converter, BiConsumer<Object, Object> setter)
+            implements Column {
+        @Override
+        public void set(Object entity, Record source) throws Exception {
+            var value = source.get(index);
+            if (value != null && converter != null) {
+                value = converter.convert(value);
+            }
+
+            setter.accept(entity, value);
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.restjava.mapper;
 
 import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -25,4 +26,8 @@ public interface NftAllowanceMapper extends CollectionMapper<NftAllowance, com.h
 
     @Mapping(source = "timestampRange", target = "timestamp")
     com.hedera.mirror.rest.model.NftAllowance map(NftAllowance source);
+
+    default com.hedera.mirror.rest.model.NftAllowance map(NftAllowanceRecord source) {
+        return map(source.into(NftAllowance.class));
+    }
 }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.restjava.mapper;
 
 import com.hedera.mirror.common.domain.token.TokenAirdrop;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -30,6 +31,10 @@ public interface TokenAirdropMapper extends CollectionMapper<TokenAirdrop, com.h
     @Mapping(source = "timestampRange", target = "timestamp")
     com.hedera.mirror.rest.model.TokenAirdrop map(TokenAirdrop source);
 
+    default com.hedera.mirror.rest.model.TokenAirdrop map(TokenAirdropRecord source) {
+        return map(source.into(TokenAirdrop.class));
+    }
+
     @Named("mapToNullIfZero")
     default Long mapToNullIfZero(long serialNumber) {
         if (serialNumber == 0L) {
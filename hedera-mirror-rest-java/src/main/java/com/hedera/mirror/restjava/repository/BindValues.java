@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static org.jooq.impl.DSL.noCondition;
+
+import com.hedera.mirror.restjava.common.RangeOperator;
+import java.util.ArrayList;
+import java.util.List;
+import org.jooq.Condition;
+import org.jooq.Field;
+
+/**
+ * Collects the bind values of a query in the order of their placeholders while its conditions are built. Depending on
+ * the mode, the conditions are built with the values, with distinct sentinel values that identify each placeholder, or
+ * not at all when only the values are needed to execute already rendered SQL.
+ */
+final class BindValues {
+
+    private final Mode mode;
+    private final List<Object> values = new ArrayList<>();
+
+    private BindValues(Mode mode) {
+        this.mode = mode;
+    }
+
+    static BindValues build() {
+        return new BindValues(Mode.BUILD);
+    }
+
+    static BindValues collect() {
+        return new BindValues(Mode.COLLECT);
+    }
+
+    static BindValues sentinel() {
+        return new BindValues(Mode.SENTINEL);
+    }
+
+    /**
+     * The sentinel of the placeholder at the index. Sentinels are negative so they can't be confused with entity ids
+     * or limits, and fit in an int so the limit can be bound to one.
+     */
+    static long sentinel(int index) {
+        return (long) Integer.MIN_VALUE + index;
+    }
+
+    Condition add(Field<Long> field, RangeOperator operator, long value) {
+        values.add(value);
+        return switch (mode) {
+            case BUILD -> operator.getFunction().apply(field, value);
+            case COLLECT -> noCondition();
+            case SENTINEL -> operator.getFunction().apply(field, sentinel(values.size() - 1));
+        };
+    }
+
+    /**
+     * Adds the limit, which must be the last placeholder, and returns the value to build the query with.
+     */
+    Number addLimit(int limit) {
+        values.add(limit);
+        return mode == Mode.SENTINEL ? sentinel(values.size() - 1) : limit;
+    }
+
+    List<Object> values() {
+        return values;
+    }
+
+    private enum Mode {
+        BUILD,
+        COLLECT,
+        SENTINEL
+    }
+}
@@ -24,6 +24,7 @@ import static org.jooq.impl.DSL.noCondition;
 import com.hedera.mirror.restjava.common.RangeOperator;
 import com.hedera.mirror.restjava.common.RangeParameter;
 import com.hedera.mirror.restjava.service.Bound;
+import jakarta.annotation.Nullable;
 import java.util.Arrays;
 import java.util.List;
 import org.jooq.Condition;
@@ -32,24 +33,43 @@ import org.jooq.Field;
 interface JooqRepository {
 
     default Condition getCondition(Field<Long> field, RangeOperator operator, Long value) {
+        return getCondition(field, operator, value, null);
+    }
+
+    /**
+     * Creates the condition and, if given, appends its value to the bind values. Conditions are always combined in the
+     * order they're created, so the bind values end up in the order of the placeholders in the SQL. The control flow
+     * must not depend on the created conditions, since they aren't built when only the bind values are collected.
+     */
+    default Condition getCondition(
+            Field<Long> field, RangeOperator operator, Long value, @Nullable BindValues bindValues) {
+        if (bindValues != null) {
+            return bindValues.add(field, operator, value);
+        }
+
         return operator.getFunction().apply(field, value);
     }
 
-    private Condition getCondition(RangeParameter<Long> param, Field<Long> field) {
+    private Condition getCondition(RangeParameter<Long> param, Field<Long> field, BindValues bindValues) {
         if (param == null || param.isEmpty()) {
             return noCondition();
         }
 
-        return getCondition(field, param.operator(), param.value());
+        return getCondition(field, param.operator(), param.value(), bindValues);
     }
 
-    private Condition getCondition(Bound bound) {
+    private Condition getCondition(Bound bound, BindValues bindValues) {
         var field = bound.getField();
-        return getCondition(bound.getLower(), field).and(getCondition(bound.getUpper(), field));
+        return getCondition(bound.getLower(), field, bindValues)
+                .and(getCondition(bound.getUpper(), field, bindValues));
     }
 
     default Condition getBoundConditions(List<Bound> bounds) {
-        return getBoundConditions(bounds, false, false);
+        return getBoundConditions(bounds, null);
+    }
+
+    default Condition getBoundConditions(List<Bound> bounds, @Nullable BindValues bindValues) {
+        return getBoundConditions(bounds, false, false, bindValues);
     }
 
     /**
@@ -78,14 +98,15 @@ interface JooqRepository {
      *       )
      *  )
      */
-    private Condition getBoundConditions(List<Bound> bounds, boolean lowerProcessed, boolean upperProcessed) {
+    private Condition getBoundConditions(
+            List<Bound> bounds, boolean lowerProcessed, boolean upperProcessed, BindValues bindValues) {
         if (bounds == null || bounds.isEmpty()) {
             return noCondition();
         }
 
         var primary = bounds.getFirst();
         if (bounds.size() == 1) {
-            return getCondition(primary);
+            return getCondition(primary, bindValues);
         }
 
         var secondaryBounds = bounds.subList(1, bounds.size());
@@ -98,9 +119,9 @@ interface JooqRepository {
 
         // Lower conditions need to be discovered before upper conditions because the methods involved update the
         // primary bound
-        var lowerCondition = getOuterCondition(primary, secondaryBounds, false, lowerProcessed);
-        var middleCondition = getMiddleCondition(primary, secondaryBounds);
-        var upperCondition = getOuterCondition(primary, secondaryBounds, true, upperProcessed);
+        var lowerCondition = getOuterCondition(primary, secondaryBounds, false, lowerProcessed, bindValues);
+        var middleCondition = getMiddleCondition(primary, secondaryBounds, bindValues);
+        var upperCondition = getOuterCondition(primary, secondaryBounds, true, upperProcessed, bindValues);
 
         return lowerCondition.or(middleCondition).or(upperCondition);
     }
@@ -131,14 +152,16 @@ interface JooqRepository {
      *  )
      */
     private Condition getOuterCondition(
-            Bound primary, List<Bound> secondaryBounds, boolean isUpper, boolean processed) {
-        var outerCondition = getPrimaryCondition(primary, isUpper);
-        if (outerCondition != noCondition()) {
-            var outerBounds = processed ? secondaryBounds : removeRanges(secondaryBounds, isUpper);
-            outerCondition = outerCondition.and(getBoundConditions(outerBounds, true, isUpper));
+            Bound primary, List<Bound> secondaryBounds, boolean isUpper, boolean processed, BindValues bindValues) {
+        var rangeParameter = isUpper ? primary.getUpper() : primary.adjustLowerRange();
+        if (rangeParameter == null || rangeParameter.isEmpty() || rangeParameter.operator() == EQ) {
+            return noCondition();
         }
 
-        return outerCondition;
+        long value = primary.getInclusiveRangeValue(isUpper);
+        var primaryCondition = getCondition(primary.getField(), EQ, value, bindValues);
+        var outerBounds = processed ? secondaryBounds : removeRanges(secondaryBounds, isUpper);
+        return primaryCondition.and(getBoundConditions(outerBounds, true, isUpper, bindValues));
     }
 
     // Returns a list of new bounds that have had their lower or upper ranges removed
@@ -146,16 +169,6 @@ interface JooqRepository {
         return bounds.stream().map(b -> isUpper ? b.toUpper() : b.toLower()).toList();
     }
 
-    private Condition getPrimaryCondition(Bound primary, boolean isUpper) {
-        var rangeParameter = isUpper ? primary.getUpper() : primary.adjustLowerRange();
-        if (rangeParameter == null || rangeParameter.isEmpty() || rangeParameter.operator() == EQ) {
-            return noCondition();
-        } else {
-            long value = primary.getInclusiveRangeValue(isUpper);
-            return getCondition(primary.getField(), EQ, value);
-        }
-    }
-
     /**
      * Produces the middle conditions by getting the primary condition and cumulating the secondary bounds if any
      * secondary bound.contains the EQ operator
@@ -177,17 +190,17 @@ interface JooqRepository {
      * ("receiver_account_id" > 2000 and "receiver_account_id" < 3000
      *   and "token_id" = 4000 and "serial_number" = 5)
      */
-    private Condition getMiddleCondition(Bound primaryBound, List<Bound> secondaryBounds) {
+    private Condition getMiddleCondition(Bound primaryBound, List<Bound> secondaryBounds, BindValues bindValues) {
         var primaryLower = primaryBound.getLower();
         var primaryUpper = primaryBound.getUpper();
         var field = primaryBound.getField();
-        var primaryLowerCondition = getPrimaryMiddleCondition(primaryLower, field, GT);
-        var primaryUpperCondition = getPrimaryMiddleCondition(primaryUpper, field, LT);
+        var primaryLowerCondition = getPrimaryMiddleCondition(primaryLower, field, GT, bindValues);
+        var primaryUpperCondition = getPrimaryMiddleCondition(primaryUpper, field, LT, bindValues);
 
         var secondaryCondition = noCondition();
         for (var secondaryBound : secondaryBounds) {
             if (containsEqOperator(primaryLower, primaryUpper, secondaryBound.getUpper(), secondaryBound.getLower())) {
-                secondaryCondition = secondaryCondition.and(getCondition(secondaryBound));
+                secondaryCondition = secondaryCondition.and(getCondition(secondaryBound, bindValues));
             }
         }
 
@@ -195,16 +208,19 @@ interface JooqRepository {
     }
 
     private Condition getPrimaryMiddleCondition(
-            RangeParameter<Long> rangeParameter, Field<Long> field, RangeOperator inclusiveOperator) {
+            RangeParameter<Long> rangeParameter,
+            Field<Long> field,
+            RangeOperator inclusiveOperator,
+            BindValues bindValues) {
         var condition = noCondition();
         if (rangeParameter != null && !rangeParameter.isEmpty()) {
             // When the primary param operator is EQ don't adjust the value for the primary param.
             if (rangeParameter.operator() == EQ) {
-                condition = getCondition(rangeParameter, field);
+                condition = getCondition(rangeParameter, field, bindValues);
             } else if (rangeParameter.operator().isInclusive()) {
-                condition = getCondition(field, inclusiveOperator, rangeParameter.value());
+                condition = getCondition(field, inclusiveOperator, rangeParameter.value(), bindValues);
             } else {
-                condition = getCondition(rangeParameter, field);
+                condition = getCondition(rangeParameter, field, bindValues);
             }
         }
 
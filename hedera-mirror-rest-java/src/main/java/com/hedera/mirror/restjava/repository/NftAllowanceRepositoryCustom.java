@@ -17,20 +17,21 @@
 package com.hedera.mirror.restjava.repository;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
-import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import jakarta.validation.constraints.NotNull;
-import java.util.Collection;
+import org.jooq.Result;
 
 public interface NftAllowanceRepositoryCustom extends JooqRepository {
 
     /**
-     * Find all NftAllowance matching the request parameters with the given limit, sort order, and byOwner flag
+     * Find all NftAllowance matching the request parameters with the given limit, sort order, and byOwner flag as
+     * records, fully fetched so the connection is released before the caller serializes them.
      *
      * @param request
      * @param id
-     * @return The matching nft allowances
+     * @return The matching nft allowance records
      */
     @NotNull
-    Collection<NftAllowance> findAll(NftAllowanceRequest request, EntityId id);
+    Result<NftAllowanceRecord> findAllRecords(NftAllowanceRequest request, EntityId id);
 }
@@ -18,18 +18,19 @@ package com.hedera.mirror.restjava.repository;
 
 import static com.hedera.mirror.restjava.common.RangeOperator.EQ;
 import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
+import static org.jooq.impl.DSL.inline;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
-import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import jakarta.inject.Named;
 import jakarta.validation.constraints.NotNull;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Result;
 import org.jooq.SortField;
 import org.springframework.data.domain.Sort.Direction;
 
@@ -37,7 +38,8 @@ import org.springframework.data.domain.Sort.Direction;
 @RequiredArgsConstructor
 class NftAllowanceRepositoryCustomImpl implements NftAllowanceRepositoryCustom {
 
-    private static final Condition APPROVAL_CONDITION = NFT_ALLOWANCE.APPROVED_FOR_ALL.isTrue();
+    // Inlined so that the constant condition doesn't add a bind value
+    private static final Condition APPROVAL_CONDITION = NFT_ALLOWANCE.APPROVED_FOR_ALL.eq(inline(true));
     private static final Map<OrderSpec, List<SortField<?>>> SORT_ORDERS = Map.of(
             new OrderSpec(true, Direction.ASC), List.of(NFT_ALLOWANCE.SPENDER.asc(), NFT_ALLOWANCE.TOKEN_ID.asc()),
             new OrderSpec(true, Direction.DESC), List.of(NFT_ALLOWANCE.SPENDER.desc(), NFT_ALLOWANCE.TOKEN_ID.desc()),
@@ -45,24 +47,30 @@ class NftAllowanceRepositoryCustomImpl implements NftAllowanceRepositoryCustom {
             new OrderSpec(false, Direction.DESC), List.of(NFT_ALLOWANCE.OWNER.desc(), NFT_ALLOWANCE.TOKEN_ID.desc()));
 
     private final DSLContext dslContext;
+    private final RenderedQueryCache renderedQueryCache;
 
     @NotNull
     @Override
-    public Collection<NftAllowance> findAll(NftAllowanceRequest request, EntityId accountId) {
+    public Result<NftAllowanceRecord> findAllRecords(NftAllowanceRequest request, EntityId accountId) {
         boolean byOwner = request.isOwner();
         var bounds = request.getBounds();
-        var condition = getBaseCondition(accountId, byOwner).and(getBoundConditions(bounds));
-        return dslContext
-                .selectFrom(NFT_ALLOWANCE)
-                .where(condition)
-                .orderBy(SORT_ORDERS.get(new OrderSpec(byOwner, request.getOrder())))
-                .limit(request.getLimit())
-                .fetchInto(NftAllowance.class);
+        var shape = QueryShape.of(getClass(), byOwner, request.getOrder(), bounds);
+        return renderedQueryCache.fetch(
+                shape,
+                NFT_ALLOWANCE,
+                request.getLimit(),
+                bindValues ->
+                        getBaseCondition(accountId, byOwner, bindValues).and(getBoundConditions(bounds, bindValues)),
+                (condition, limit) -> dslContext
+                        .selectFrom(NFT_ALLOWANCE)
+                        .where(condition)
+                        .orderBy(SORT_ORDERS.get(new OrderSpec(byOwner, request.getOrder())))
+                        .limit(limit));
     }
 
-    private Condition getBaseCondition(EntityId accountId, boolean byOwner) {
-        return getCondition(byOwner ? NFT_ALLOWANCE.OWNER : NFT_ALLOWANCE.SPENDER, EQ, accountId.getId())
-                .and(APPROVAL_CONDITION);
+    private Condition getBaseCondition(EntityId accountId, boolean byOwner, BindValues bindValues) {
+        var field = byOwner ? NFT_ALLOWANCE.OWNER : NFT_ALLOWANCE.SPENDER;
+        return getCondition(field, EQ, accountId.getId(), bindValues).and(APPROVAL_CONDITION);
     }
 
     private record OrderSpec(boolean byOwner, Direction direction) {}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import com.hedera.mirror.restjava.common.RangeOperator;
+import com.hedera.mirror.restjava.service.Bound;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * The parts of a request that determine the text of its SQL, as opposed to its bind values. Two requests with the same
+ * shape render the same SQL. It must be captured before the query is built since building the bound conditions
+ * rewrites the bounds.
+ *
+ * @param repository the repository building the query
+ * @param variant    the repository specific variant of the query, e.g. the airdrop type or whether it's by owner
+ * @param order      the sort order
+ * @param bounds     the shape of each bound in the order they're applied
+ */
+record QueryShape(Class<?> repository, Object variant, Direction order, List<BoundShape> bounds) {
+
+    static QueryShape of(Class<?> repository, Object variant, Direction order, @Nullable List<Bound> bounds) {
+        var boundShapes = new ArrayList<BoundShape>(bounds == null ? 0 : bounds.size());
+        if (bounds != null) {
+            for (var bound : bounds) {
+                boundShapes.add(BoundShape.of(bound));
+            }
+        }
+
+        return new QueryShape(repository, variant, order, boundShapes);
+    }
+
+    /**
+     * Whether the lower and upper bounds are equal decides if the primary bound is rewritten to an equality, so it's
+     * part of the shape even though it depends on the values.
+     */
+    record BoundShape(
+            @Nullable String field, @Nullable RangeOperator lower, @Nullable RangeOperator upper, boolean equalBounds) {
+
+        static BoundShape of(Bound bound) {
+            var field = bound.getField();
+            var lower = bound.getLower();
+            var upper = bound.getUpper();
+            return new BoundShape(
+                    field != null ? field.getName() : null,
+                    lower != null ? lower.operator() : null,
+                    upper != null ? upper.operator() : null,
+                    bound.hasEqualBounds());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import com.hedera.mirror.restjava.RestJavaProperties;
+import jakarta.inject.Named;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
+
+/**
+ * Caches the rendered SQL of the repository queries by their {@link QueryShape}. A query with a known shape only
+ * collects its bind values, without building its conditions or select, and executes the cached SQL as a prepared
+ * statement. The number of distinct shapes is small since it only depends on the endpoint, the order and which bounds
+ * and operators are present.
+ * <p>
+ * On every cache miss, the query is built with a distinct sentinel in place of each bind value and the bind values
+ * jOOQ extracts must be the sentinels in placeholder order, so a value collected out of order can't go unnoticed just
+ * because it happens to equal another one. A shape that fails the check is remembered and its queries are always
+ * built and rendered by jOOQ as before.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+class RenderedQueryCache {
+
+    private static final String UNCACHEABLE = "";
+
+    private final Map<QueryShape, String> cache = new ConcurrentHashMap<>();
+    private final DSLContext dslContext;
+    private final RestJavaProperties properties;
+
+    /**
+     * Fetches the records of the query with the given shape, executing the SQL cached for the shape if possible.
+     *
+     * @param shape      the shape of the query
+     * @param table      the table the query selects from
+     * @param limit      the limit of the query
+     * @param conditions builds the conditions of the query and adds their bind values in the order of their
+     *                   placeholders. It must not depend on the returned conditions, which aren't built when the SQL
+     *                   is cached.
+     * @param query      builds the query from its conditions and limit
+     * @return the fetched records
+     */
+    <R extends Record> Result<R> fetch(
+            QueryShape shape,
+            Table<R> table,
+            int limit,
+            Function<BindValues, Condition> conditions,
+            BiFunction<Condition, Number, ResultQuery<R>> query) {
+        if (!properties.getQuery().isCacheEnabled()) {
+            return build(limit, conditions, query).fetch();
+        }
+
+        var sql = cache.get(shape);
+        if (sql == null) {
+            return renderAndFetch(shape, table, limit, conditions, query);
+        } else if (sql.isEmpty()) {
+            return build(limit, conditions, query).fetch();
+        }
+
+        var bindValues = BindValues.collect();
+        conditions.apply(bindValues);
+        bindValues.addLimit(limit);
+        return execute(sql, table, bindValues.values());
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private <R extends Record> ResultQuery<R> build(
+            int limit,
+            Function<BindValues, Condition> conditions,
+            BiFunction<Condition, Number, ResultQuery<R>> query) {
+        var bindValues = BindValues.build();
+        var condition = conditions.apply(bindValues);
+        return query.apply(condition, bindValues.addLimit(limit));
+    }
+
+    private <R extends Record> Result<R> execute(String sql, Table<R> table, List<Object> bindValues) {
+        return dslContext.connectionResult(connection -> {
+            try (var statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < bindValues.size(); i++) {
+                    statement.setObject(i + 1, bindValues.get(i));
+                }
+
+                try (var resultSet = statement.executeQuery()) {
+                    return dslContext.fetch(resultSet, table.fields()).into(table);
+                }
+            }
+        });
+    }
+
+    private <R extends Record> Result<R> renderAndFetch(
+            QueryShape shape,
+            Table<R> table,
+            int limit,
+            Function<BindValues, Condition> conditions,
+            BiFunction<Condition, Number, ResultQuery<R>> query) {
+        // The bind values collected along with the sentinels are the actual ones
+        var bindValues = BindValues.sentinel();
+        var sentinelQuery = query.apply(conditions.apply(bindValues), bindValues.addLimit(limit));
+        var actual = sentinelQuery.getBindValues();
+        var sql = UNCACHEABLE;
+        if (isSentinels(actual, bindValues.values().size())) {
+            sql = dslContext.render(sentinelQuery);
+        } else {
+            log.warn("Not caching query shape {} with bind values {} out of placeholder order", shape, actual);
+        }
+
+        if (cache.size() < properties.getQuery().getMaxCachedShapes()) {
+            cache.putIfAbsent(shape, sql);
+        }
+
+        if (sql.isEmpty()) {
+            // Rewriting the bounds is idempotent, so the conditions can be built again with the actual values
+            return build(limit, conditions, query).fetch();
+        }
+
+        return execute(sql, table, bindValues.values());
+    }
+
+    private static boolean isSentinels(List<Object> bindValues, int count) {
+        if (bindValues.size() != count) {
+            return false;
+        }
+
+        for (int i = 0; i < count; i++) {
+            // The limit may be bound as either an int or a long
+            if (!(bindValues.get(i) instanceof Number value) || value.longValue() != BindValues.sentinel(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
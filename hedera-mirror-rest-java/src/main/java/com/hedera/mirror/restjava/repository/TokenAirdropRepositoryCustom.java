@@ -17,13 +17,17 @@
 package com.hedera.mirror.restjava.repository;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
-import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
 import jakarta.validation.constraints.NotNull;
-import java.util.Collection;
+import org.jooq.Result;
 
 public interface TokenAirdropRepositoryCustom extends JooqRepository {
 
+    /**
+     * Find all token airdrops matching the request parameters as records, for callers that serialize each row directly.
+     * The rows are fully fetched so the connection is released before serialization starts.
+     */
     @NotNull
-    Collection<TokenAirdrop> findAll(TokenAirdropRequest request, EntityId accountId);
+    Result<TokenAirdropRecord> findAllRecords(TokenAirdropRequest request, EntityId accountId);
 }
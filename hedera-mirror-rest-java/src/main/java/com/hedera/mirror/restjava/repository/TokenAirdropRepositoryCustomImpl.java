@@ -20,20 +20,21 @@ import static com.hedera.mirror.restjava.common.RangeOperator.EQ;
 import static com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestType.OUTSTANDING;
 import static com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestType.PENDING;
 import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_AIRDROP;
+import static org.jooq.impl.DSL.inline;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
-import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestType;
 import com.hedera.mirror.restjava.jooq.domain.enums.AirdropState;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
 import jakarta.inject.Named;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.Result;
 import org.jooq.SortField;
 import org.springframework.data.domain.Sort.Direction;
 
@@ -41,7 +42,11 @@ import org.springframework.data.domain.Sort.Direction;
 @RequiredArgsConstructor
 class TokenAirdropRepositoryCustomImpl implements TokenAirdropRepositoryCustom {
 
+    // Inlined so that the constant condition doesn't add a bind value
+    private static final Condition STATE_CONDITION = TOKEN_AIRDROP.STATE.eq(inline(AirdropState.PENDING));
+
     private final DSLContext dslContext;
+    private final RenderedQueryCache renderedQueryCache;
     private static final Map<AirdropRequestType, Map<Direction, List<SortField<?>>>> SORT_ORDERS = Map.of(
             OUTSTANDING,
                     Map.of(
@@ -69,23 +74,25 @@ class TokenAirdropRepositoryCustomImpl implements TokenAirdropRepositoryCustom {
                                             TOKEN_AIRDROP.SERIAL_NUMBER.desc())));
 
     @Override
-    public Collection<TokenAirdrop> findAll(TokenAirdropRequest request, EntityId accountId) {
+    public Result<TokenAirdropRecord> findAllRecords(TokenAirdropRequest request, EntityId accountId) {
         var type = request.getType();
         var bounds = request.getBounds();
-        var condition = getBaseCondition(accountId, type.getBaseField())
-                .and(getBoundConditions(bounds))
-                .and(TOKEN_AIRDROP.STATE.eq(AirdropState.PENDING));
-
-        var order = SORT_ORDERS.get(type).get(request.getOrder());
-        return dslContext
-                .selectFrom(TOKEN_AIRDROP)
-                .where(condition)
-                .orderBy(order)
-                .limit(request.getLimit())
-                .fetchInto(TokenAirdrop.class);
+        var shape = QueryShape.of(getClass(), type, request.getOrder(), bounds);
+        return renderedQueryCache.fetch(
+                shape,
+                TOKEN_AIRDROP,
+                request.getLimit(),
+                bindValues -> getBaseCondition(accountId, type.getBaseField(), bindValues)
+                        .and(getBoundConditions(bounds, bindValues))
+                        .and(STATE_CONDITION),
+                (condition, limit) -> dslContext
+                        .selectFrom(TOKEN_AIRDROP)
+                        .where(condition)
+                        .orderBy(SORT_ORDERS.get(type).get(request.getOrder()))
+                        .limit(limit));
     }
 
-    private Condition getBaseCondition(EntityId accountId, Field<Long> baseField) {
-        return getCondition(baseField, EQ, accountId.getId());
+    private Condition getBaseCondition(EntityId accountId, Field<Long> baseField, BindValues bindValues) {
+        return getCondition(baseField, EQ, accountId.getId(), bindValues);
     }
 }
@@ -16,11 +16,11 @@
 
 package com.hedera.mirror.restjava.service;
 
-import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
-import java.util.Collection;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
+import org.jooq.Result;
 
 public interface NftAllowanceService {
 
-    Collection<NftAllowance> getNftAllowances(NftAllowanceRequest request);
+    Result<NftAllowanceRecord> getNftAllowances(NftAllowanceRequest request);
 }
@@ -16,14 +16,14 @@
 
 package com.hedera.mirror.restjava.service;
 
-import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.restjava.common.Constants;
 import com.hedera.mirror.restjava.common.RangeOperator;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import com.hedera.mirror.restjava.repository.NftAllowanceRepository;
 import jakarta.inject.Named;
-import java.util.Collection;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Result;
 
 @Named
 @RequiredArgsConstructor
@@ -32,7 +32,7 @@ public class NftAllowanceServiceImpl implements NftAllowanceService {
     private final NftAllowanceRepository repository;
     private final EntityService entityService;
 
-    public Collection<NftAllowance> getNftAllowances(NftAllowanceRequest request) {
+    public Result<NftAllowanceRecord> getNftAllowances(NftAllowanceRequest request) {
 
         var ownerOrSpenderId = request.getOwnerOrSpenderIds();
         var token = request.getTokenIds();
@@ -41,7 +41,7 @@ public class NftAllowanceServiceImpl implements NftAllowanceService {
 
         var id = entityService.lookup(request.getAccountId());
 
-        return repository.findAll(request, id);
+        return repository.findAllRecords(request, id);
     }
 
     private static void checkOwnerSpenderParamValidity(Bound ownerOrSpenderParams, Bound tokenParams) {
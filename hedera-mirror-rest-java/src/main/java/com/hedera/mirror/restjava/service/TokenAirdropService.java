@@ -16,11 +16,11 @@
 
 package com.hedera.mirror.restjava.service;
 
-import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
-import java.util.Collection;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
+import org.jooq.Result;
 
 public interface TokenAirdropService {
 
-    Collection<TokenAirdrop> getAirdrops(TokenAirdropRequest request);
+    Result<TokenAirdropRecord> getAirdrops(TokenAirdropRequest request);
 }
@@ -16,12 +16,12 @@
 
 package com.hedera.mirror.restjava.service;
 
-import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
 import com.hedera.mirror.restjava.repository.TokenAirdropRepository;
 import jakarta.inject.Named;
-import java.util.Collection;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Result;
 
 @Named
 @RequiredArgsConstructor
@@ -30,8 +30,8 @@ public class TokenAirdropServiceImpl implements TokenAirdropService {
     private final EntityService entityService;
     private final TokenAirdropRepository repository;
 
-    public Collection<TokenAirdrop> getAirdrops(TokenAirdropRequest request) {
+    public Result<TokenAirdropRecord> getAirdrops(TokenAirdropRequest request) {
         var id = entityService.lookup(request.getAccountId());
-        return repository.findAll(request, id);
+        return repository.findAllRecords(request, id);
     }
 }
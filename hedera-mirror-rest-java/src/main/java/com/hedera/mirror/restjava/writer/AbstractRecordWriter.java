@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.writer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hedera.mirror.rest.model.TimestampRange;
+import com.hedera.mirror.restjava.mapper.CommonMapper;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Record;
+import org.jooq.postgres.extensions.types.LongRange;
+
+/**
+ * Formats the column values the same way {@link CommonMapper} formats them for the REST API models, including writing
+ * explicit nulls where the models serialize null properties.
+ */
+@RequiredArgsConstructor
+abstract class AbstractRecordWriter<R extends Record> implements RecordWriter<R> {
+
+    private final CommonMapper commonMapper;
+
+    protected final void writeEntityId(JsonGenerator generator, String name, Long id) throws IOException {
+        var entityId = commonMapper.mapEntityId(id);
+        if (entityId == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, entityId);
+        }
+    }
+
+    protected final void writeNumber(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value.longValue());
+        }
+    }
+
+    protected final void writeTimestampRange(JsonGenerator generator, String name, LongRange range)
+            throws IOException {
+        if (range == null) {
+            generator.writeNullField(name);
+            return;
+        }
+
+        generator.writeObjectFieldStart(name);
+        writeTimestamp(generator, TimestampRange.JSON_PROPERTY_FROM, range.lower());
+        writeTimestamp(generator, TimestampRange.JSON_PROPERTY_TO, range.upper());
+        generator.writeEndObject();
+    }
+
+    private void writeTimestamp(JsonGenerator generator, String name, Long timestamp) throws IOException {
+        if (timestamp == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, commonMapper.mapTimestamp(timestamp));
+        }
+    }
+}
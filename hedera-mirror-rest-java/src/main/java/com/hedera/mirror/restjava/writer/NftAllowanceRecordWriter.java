@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.writer;
+
+import static com.hedera.mirror.rest.model.NftAllowance.JSON_PROPERTY_APPROVED_FOR_ALL;
+import static com.hedera.mirror.rest.model.NftAllowance.JSON_PROPERTY_OWNER;
+import static com.hedera.mirror.rest.model.NftAllowance.JSON_PROPERTY_SPENDER;
+import static com.hedera.mirror.rest.model.NftAllowance.JSON_PROPERTY_TIMESTAMP;
+import static com.hedera.mirror.rest.model.NftAllowance.JSON_PROPERTY_TOKEN_ID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
+import com.hedera.mirror.restjava.mapper.CommonMapper;
+import jakarta.inject.Named;
+import java.io.IOException;
+
+/**
+ * The streaming counterpart of {@link com.hedera.mirror.restjava.mapper.NftAllowanceMapper}.
+ */
+@Named
+public class NftAllowanceRecordWriter extends AbstractRecordWriter<NftAllowanceRecord> {
+
+    public NftAllowanceRecordWriter(CommonMapper commonMapper) {
+        super(commonMapper);
+    }
+
+    @Override
+    public void write(NftAllowanceRecord record, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeBooleanField(JSON_PROPERTY_APPROVED_FOR_ALL, Boolean.TRUE.equals(record.getApprovedForAll()));
+        writeEntityId(generator, JSON_PROPERTY_OWNER, record.getOwner());
+        writeEntityId(generator, JSON_PROPERTY_SPENDER, record.getSpender());
+        writeTimestampRange(generator, JSON_PROPERTY_TIMESTAMP, record.getTimestampRange());
+        writeEntityId(generator, JSON_PROPERTY_TOKEN_ID, record.getTokenId());
+        generator.writeEndObject();
+    }
+}
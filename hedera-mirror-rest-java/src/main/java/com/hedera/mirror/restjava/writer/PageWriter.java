@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.writer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.rest.model.Links;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Named;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Record;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes a page of fetched jOOQ records straight to the response body without materializing the domain objects,
+ * the API models, or the response model. The bytes written are the same as serializing the response model with the
+ * application's {@link ObjectMapper}.
+ */
+@Named
+@RequiredArgsConstructor
+public class PageWriter {
+
+    private static final String LINKS = "links";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes a response of the form {"field": [...], "links": {...}}. The records should be fully fetched, e.g. a jOOQ
+     * {@link org.jooq.Result}, so no database connection is held while writing to a possibly slow client and database
+     * errors surface before anything is committed to the response.
+     *
+     * @param response the servlet response to write to
+     * @param field    the name of the array property holding the rows
+     * @param records  the rows
+     * @param writer   the writer of a single row
+     * @param links    creates the links from the last row written, if any, and the number of rows written
+     */
+    public <R extends Record> void write(
+            HttpServletResponse response,
+            String field,
+            Iterable<R> records,
+            RecordWriter<R> writer,
+            LinksProvider<R> links)
+            throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        var outputStream = StreamUtils.nonClosing(response.getOutputStream());
+
+        try (var generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            R last = null;
+            int count = 0;
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(field);
+            for (var record : records) {
+                writer.write(record, generator);
+                last = record;
+                count++;
+            }
+            generator.writeEndArray();
+
+            generator.writeFieldName(LINKS);
+            objectMapper.writeValue(generator, links.create(last, count));
+            generator.writeEndObject();
+        }
+    }
+
+    @FunctionalInterface
+    public interface LinksProvider<R extends Record> {
+        Links create(@Nullable R last, int count);
+    }
+}
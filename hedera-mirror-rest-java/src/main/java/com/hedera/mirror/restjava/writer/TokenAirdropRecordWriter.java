@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.writer;
+
+import static com.hedera.mirror.rest.model.TokenAirdrop.JSON_PROPERTY_AMOUNT;
+import static com.hedera.mirror.rest.model.TokenAirdrop.JSON_PROPERTY_RECEIVER_ID;
+import static com.hedera.mirror.rest.model.TokenAirdrop.JSON_PROPERTY_SENDER_ID;
+import static com.hedera.mirror.rest.model.TokenAirdrop.JSON_PROPERTY_SERIAL_NUMBER;
+import static com.hedera.mirror.rest.model.TokenAirdrop.JSON_PROPERTY_TIMESTAMP;
+import static com.hedera.mirror.rest.model.TokenAirdrop.JSON_PROPERTY_TOKEN_ID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
+import com.hedera.mirror.restjava.mapper.CommonMapper;
+import jakarta.inject.Named;
+import java.io.IOException;
+
+/**
+ * The streaming counterpart of {@link com.hedera.mirror.restjava.mapper.TokenAirdropMapper}.
+ */
+@Named
+public class TokenAirdropRecordWriter extends AbstractRecordWriter<TokenAirdropRecord> {
+
+    public TokenAirdropRecordWriter(CommonMapper commonMapper) {
+        super(commonMapper);
+    }
+
+    @Override
+    public void write(TokenAirdropRecord record, JsonGenerator generator) throws IOException {
+        var serialNumber = record.getSerialNumber();
+        var serialNumberOrNull = serialNumber == null || serialNumber == 0L ? null : serialNumber;
+
+        generator.writeStartObject();
+        writeNumber(generator, JSON_PROPERTY_AMOUNT, record.getAmount());
+        writeEntityId(generator, JSON_PROPERTY_RECEIVER_ID, record.getReceiverAccountId());
+        writeEntityId(generator, JSON_PROPERTY_SENDER_ID, record.getSenderAccountId());
+        writeNumber(generator, JSON_PROPERTY_SERIAL_NUMBER, serialNumberOrNull);
+        writeTimestampRange(generator, JSON_PROPERTY_TIMESTAMP, record.getTimestampRange());
+        writeEntityId(generator, JSON_PROPERTY_TOKEN_ID, record.getTokenId());
+        generator.writeEndObject();
+    }
+}
@@ -194,6 +194,23 @@ class LinkFactoryTest {
                 .returns(expectedLink, Links::getNext);
     }
 
+    @DisplayName("Get pagination links from the last item and size of a page")
+    @Test
+    void testLastItem() {
+        var params = new LinkedHashMap<String, String[]>();
+        params.put("limit", new String[] {"2"});
+        params.put("account.id", new String[] {"0.0.1000"});
+        when(request.getParameterMap()).thenReturn(params);
+        var sort = Sort.by(Direction.ASC, ACCOUNT_ID, TOKEN_ID);
+        var pageable = PageRequest.of(0, 2, sort);
+
+        assertThat(linkFactory.create(nftAllowance, 2, pageable, extractor))
+                .returns("/api?limit=2&account.id=0.0.1000&token.id=gt:0.0.6458", Links::getNext);
+        assertThat(linkFactory.create(nftAllowance, 1, pageable, extractor)).returns(null, Links::getNext);
+        assertThat(linkFactory.create((NftAllowance) null, 0, pageable, extractor))
+                .returns(null, Links::getNext);
+    }
+
     @Test
     void testNullRequestAttributes() {
         // given
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.jooq;
+
+import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_AIRDROP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.common.domain.token.TokenAirdrop;
+import com.hedera.mirror.common.domain.token.TokenTypeEnum;
+import com.hedera.mirror.common.util.Benchmark;
+import com.hedera.mirror.restjava.jooq.domain.enums.AirdropState;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.postgres.extensions.types.LongRange;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+
+/**
+ * Measures the throughput and the allocation rate of mapping a page of records to domain objects.
+ */
+@CustomLog
+@EnabledIf(expression = "${hedera.mirror.restjava.test.performance.enabled:false}")
+@Tag("performance")
+class DomainRecordMapperPerformanceTest {
+
+    private static final int ITERATIONS = 20_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 5_000;
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final DSLContext dslContext = DSL.using(
+            new DefaultConfiguration().set(SQLDialect.POSTGRES).set(new DomainRecordMapperProvider()));
+
+    @Test
+    void nftAllowance() throws Exception {
+        var expected = domainBuilder.nftAllowance().get();
+        var result = dslContext.newResult(NFT_ALLOWANCE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            var record = dslContext.newRecord(NFT_ALLOWANCE);
+            record.set(NFT_ALLOWANCE.APPROVED_FOR_ALL, expected.isApprovedForAll());
+            record.set(NFT_ALLOWANCE.OWNER, expected.getOwner());
+            record.set(NFT_ALLOWANCE.PAYER_ACCOUNT_ID, expected.getPayerAccountId().getId());
+            record.set(NFT_ALLOWANCE.SPENDER, expected.getSpender());
+            record.set(NFT_ALLOWANCE.TIMESTAMP_RANGE, toLongRange(expected.getTimestampRange()));
+            record.set(NFT_ALLOWANCE.TOKEN_ID, expected.getTokenId());
+            result.add(record);
+        }
+
+        var actual = benchmark("nftAllowance", () -> result.into(NftAllowance.class));
+        assertThat(actual).hasSize(PAGE_SIZE).containsOnly(expected);
+    }
+
+    @Test
+    void tokenAirdrop() throws Exception {
+        var expected = domainBuilder.tokenAirdrop(TokenTypeEnum.NON_FUNGIBLE_UNIQUE).get();
+        var result = dslContext.newResult(TOKEN_AIRDROP);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            var record = dslContext.newRecord(TOKEN_AIRDROP);
+            record.set(TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID, expected.getReceiverAccountId());
+            record.set(TOKEN_AIRDROP.SENDER_ACCOUNT_ID, expected.getSenderAccountId());
+            record.set(TOKEN_AIRDROP.SERIAL_NUMBER, expected.getSerialNumber());
+            record.set(TOKEN_AIRDROP.STATE, AirdropState.PENDING);
+            record.set(TOKEN_AIRDROP.TIMESTAMP_RANGE, toLongRange(expected.getTimestampRange()));
+            record.set(TOKEN_AIRDROP.TOKEN_ID, expected.getTokenId());
+            result.add(record);
+        }
+
+        var actual = benchmark("tokenAirdrop", () -> result.into(TokenAirdrop.class));
+        assertThat(actual).hasSize(PAGE_SIZE).containsOnly(expected);
+    }
+
+    private <T> List<T> benchmark(String name, Supplier<List<T>> mapper) throws Exception {
+        var result = new Benchmark(name, WARMUP_ITERATIONS, ITERATIONS).run(i -> mapper.get());
+        log.info(
+                "Mapped {} rows at {} CPU ns and {} allocated bytes per row",
+                name,
+                result.cpuNanos() / PAGE_SIZE,
+                result.allocatedBytes() / PAGE_SIZE);
+        return result.value();
+    }
+
+    private static LongRange toLongRange(Range<Long> range) {
+        var upper = range.hasUpperBound() ? range.upperEndpoint() : null;
+        return LongRange.longRange(range.lowerEndpoint(), true, upper, false);
+    }
+}
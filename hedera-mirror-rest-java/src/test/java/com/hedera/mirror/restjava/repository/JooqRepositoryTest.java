@@ -23,6 +23,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.RestJavaIntegrationTest;
 import com.hedera.mirror.restjava.common.EntityIdNumParameter;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
@@ -50,6 +51,6 @@ class JooqRepositoryTest extends RestJavaIntegrationTest {
         when(request.getOrder()).thenReturn(Direction.ASC);
         when(request.getType()).thenReturn(PENDING);
 
-        assertThat(repository.findAll(request, entityId)).contains(tokenAirdrop);
+        assertThat(repository.findAllRecords(request, entityId).into(TokenAirdrop.class)).contains(tokenAirdrop);
     }
 }
@@ -55,8 +55,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
     private List<Long> tokenIds;
 
     @Test
-    void findAll() {
-
+    void findAllRecords() {
         // given
         setupNftAllowances();
         populateTestSpecs();
@@ -71,7 +70,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
         setupNftAllowances();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(nftAllowanceRepository.findAllRecords(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(2) + 1)))
@@ -84,7 +83,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
                 .isEmpty();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(nftAllowanceRepository.findAllRecords(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(0))))
@@ -101,7 +100,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
                 .isEmpty();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(nftAllowanceRepository.findAllRecords(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(0))))
@@ -122,7 +121,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
                 .isEmpty();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(nftAllowanceRepository.findAllRecords(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(0))))
@@ -143,7 +142,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
                 .isEmpty();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(nftAllowanceRepository.findAllRecords(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(0))))
@@ -523,8 +522,9 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
             var request = testSpec.request();
             var expected = testSpec.expected().stream().map(nftAllowances::get).toList();
             softAssertion
-                    .assertThat(nftAllowanceRepository.findAll(
-                            request, ((EntityIdNumParameter) request.getAccountId()).id()))
+                    .assertThat(nftAllowanceRepository
+                            .findAllRecords(request, ((EntityIdNumParameter) request.getAccountId()).id())
+                            .into(NftAllowance.class))
                     .as(testSpec.description())
                     .containsExactlyElementsOf(expected);
         }
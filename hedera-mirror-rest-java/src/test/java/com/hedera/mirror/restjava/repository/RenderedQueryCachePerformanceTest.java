@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_AIRDROP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.util.Benchmark;
+import com.hedera.mirror.restjava.RestJavaProperties;
+import com.hedera.mirror.restjava.common.Constants;
+import com.hedera.mirror.restjava.common.EntityIdNumParameter;
+import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
+import com.hedera.mirror.restjava.common.RangeOperator;
+import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
+import com.hedera.mirror.restjava.jooq.DomainRecordMapperProvider;
+import com.hedera.mirror.restjava.service.Bound;
+import lombok.CustomLog;
+import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+
+/**
+ * Compares the CPU time and allocation per request of building and executing a token airdrop query against a mock
+ * connection with and without the {@link RenderedQueryCache}.
+ */
+@CustomLog
+@EnabledIf(expression = "${hedera.mirror.restjava.test.performance.enabled:false}")
+@Tag("performance")
+class RenderedQueryCachePerformanceTest {
+
+    private static final int ITERATIONS = 50_000;
+    private static final EntityId SENDER = EntityId.of(1000L);
+    private static final int WARMUP_ITERATIONS = 10_000;
+
+    private final DSLContext dslContext = DSL.using(new DefaultConfiguration()
+            .set(new MockConnection(ctx -> new MockResult[] {new MockResult(0, emptyResult())}))
+            .set(SQLDialect.POSTGRES)
+            .set(new DomainRecordMapperProvider())
+            .set(new Settings().withRenderSchema(false)));
+
+    @Test
+    void tokenAirdrops() throws Exception {
+        var uncachedProperties = new RestJavaProperties();
+        uncachedProperties.getQuery().setCacheEnabled(false);
+        var uncached = new TokenAirdropRepositoryCustomImpl(
+                dslContext, new RenderedQueryCache(dslContext, uncachedProperties));
+        var cache = new RenderedQueryCache(dslContext, new RestJavaProperties());
+        var cached = new TokenAirdropRepositoryCustomImpl(dslContext, cache);
+
+        var uncachedCpu = benchmark("uncached", uncached);
+        var cachedCpu = benchmark("cached", cached);
+
+        assertThat(cache.size()).isOne();
+        log.info("Cached queries used {}% of the CPU time of uncached queries", cachedCpu * 100 / uncachedCpu);
+    }
+
+    private long benchmark(String name, TokenAirdropRepositoryCustomImpl repository) throws Exception {
+        var benchmark = new Benchmark(name, WARMUP_ITERATIONS, ITERATIONS);
+        return benchmark.run(i -> repository.findAllRecords(request(i), SENDER)).cpuNanos();
+    }
+
+    private TokenAirdropRequest request(int i) {
+        var receivers = new EntityIdRangeParameter[] {
+            new EntityIdRangeParameter(RangeOperator.GTE, 2000L + i),
+            new EntityIdRangeParameter(RangeOperator.LTE, 3000L + i)
+        };
+        var tokens = new EntityIdRangeParameter[] {new EntityIdRangeParameter(RangeOperator.GT, 5000L + i)};
+        return TokenAirdropRequest.builder()
+                .accountId(new EntityIdNumParameter(SENDER))
+                .entityIds(new Bound(receivers, true, Constants.ACCOUNT_ID, TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID))
+                .order(Direction.ASC)
+                .tokenIds(new Bound(tokens, false, Constants.TOKEN_ID, TOKEN_AIRDROP.TOKEN_ID))
+                .build();
+    }
+
+    private Result<?> emptyResult() {
+        return DSL.using(SQLDialect.POSTGRES).newResult(TOKEN_AIRDROP);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static com.hedera.mirror.common.domain.token.TokenTypeEnum.FUNGIBLE_COMMON;
+import static com.hedera.mirror.restjava.common.RangeOperator.EQ;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_AIRDROP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.token.TokenAirdrop;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.RestJavaProperties;
+import com.hedera.mirror.restjava.common.Constants;
+import com.hedera.mirror.restjava.common.EntityIdNumParameter;
+import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
+import com.hedera.mirror.restjava.common.RangeOperator;
+import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
+import com.hedera.mirror.restjava.service.Bound;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+
+@RequiredArgsConstructor
+class RenderedQueryCacheTest extends RestJavaIntegrationTest {
+
+    private final DSLContext dslContext;
+    private final RestJavaProperties properties;
+    private final RenderedQueryCache renderedQueryCache;
+    private final TokenAirdropRepository repository;
+
+    @AfterEach
+    void teardown() {
+        properties.getQuery().setCacheEnabled(true);
+    }
+
+    @Test
+    void cachedPerShape() {
+        // given
+        var airdrop1 = domainBuilder.tokenAirdrop(FUNGIBLE_COMMON).persist();
+        var airdrop2 = domainBuilder
+                .tokenAirdrop(FUNGIBLE_COMMON)
+                .customize(a -> a.senderAccountId(airdrop1.getSenderAccountId()))
+                .persist();
+        var sender = EntityId.of(airdrop1.getSenderAccountId());
+
+        // when
+        var all = findAll(sender, RangeOperator.GTE, 0L);
+        int size = renderedQueryCache.size();
+        var first = findAll(sender, RangeOperator.LTE, airdrop1.getReceiverAccountId());
+        var second = findAll(sender, RangeOperator.GTE, airdrop2.getReceiverAccountId());
+
+        // then
+        assertThat(all).containsExactly(airdrop1, airdrop2);
+        assertThat(first).containsExactly(airdrop1);
+        assertThat(second).containsExactly(airdrop2);
+        assertThat(size).isPositive();
+        assertThat(renderedQueryCache.size()).isBetween(size, size + 1);
+    }
+
+    @Test
+    void disabled() {
+        // given
+        var airdrop = domainBuilder.tokenAirdrop(FUNGIBLE_COMMON).persist();
+        var sender = EntityId.of(airdrop.getSenderAccountId());
+        properties.getQuery().setCacheEnabled(false);
+        int size = renderedQueryCache.size();
+
+        // when
+        var result = findAll(sender, RangeOperator.GT, airdrop.getReceiverAccountId() - 1);
+
+        // then
+        assertThat(result).containsExactly(airdrop);
+        assertThat(renderedQueryCache.size()).isEqualTo(size);
+    }
+
+    @Test
+    void bindValuesOutOfOrder() {
+        // given
+        long id = domainBuilder.id();
+        var airdrop1 = domainBuilder
+                .tokenAirdrop(FUNGIBLE_COMMON)
+                .customize(a -> a.receiverAccountId(id).senderAccountId(id))
+                .persist();
+        var airdrop2 = domainBuilder.tokenAirdrop(FUNGIBLE_COMMON).persist();
+        var shape = QueryShape.of(getClass(), "outOfOrder", Direction.ASC, List.of());
+        int size = renderedQueryCache.size();
+
+        // when
+        var first = findOutOfOrder(shape, airdrop1);
+        var second = findOutOfOrder(shape, airdrop2);
+
+        // then the equal sender and receiver of the first query don't hide the order
+        assertThat(first).containsExactly(airdrop1);
+        assertThat(second).containsExactly(airdrop2);
+        assertThat(renderedQueryCache.size()).isEqualTo(size + 1);
+    }
+
+    private List<TokenAirdrop> findOutOfOrder(QueryShape shape, TokenAirdrop airdrop) {
+        Function<BindValues, Condition> conditions = bindValues -> {
+            // The sender is collected first but its placeholder comes second
+            var sender = bindValues.add(TOKEN_AIRDROP.SENDER_ACCOUNT_ID, EQ, airdrop.getSenderAccountId());
+            var receiver = bindValues.add(TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID, EQ, airdrop.getReceiverAccountId());
+            return receiver.and(sender);
+        };
+        return renderedQueryCache
+                .fetch(shape, TOKEN_AIRDROP, 10, conditions, (condition, limit) -> dslContext
+                        .selectFrom(TOKEN_AIRDROP)
+                        .where(condition)
+                        .limit(limit))
+                .into(TokenAirdrop.class);
+    }
+
+    private List<TokenAirdrop> findAll(EntityId sender, RangeOperator operator, long receiver) {
+        return repository.findAllRecords(request(sender, operator, receiver), sender).into(TokenAirdrop.class);
+    }
+
+    private TokenAirdropRequest request(EntityId sender, RangeOperator operator, long receiver) {
+        var receivers = paramToArray(new EntityIdRangeParameter(operator, receiver));
+        return TokenAirdropRequest.builder()
+                .accountId(new EntityIdNumParameter(sender))
+                .entityIds(new Bound(receivers, true, Constants.ACCOUNT_ID, TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID))
+                .order(Direction.ASC)
+                .build();
+    }
+}
@@ -77,7 +77,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
         var request = TokenAirdropRequest.builder()
                 .accountId(new EntityIdNumParameter(entityId))
                 .build();
-        assertThat(repository.findAll(request, entityId)).contains(tokenAirdrop);
+        assertThat(repository.findAllRecords(request, entityId).into(TokenAirdrop.class)).contains(tokenAirdrop);
     }
 
     @Test
@@ -88,7 +88,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .accountId(new EntityIdNumParameter(entityId))
                 .type(PENDING)
                 .build();
-        assertThat(repository.findAll(request, entityId)).contains(tokenAirdrop);
+        assertThat(repository.findAllRecords(request, entityId).into(TokenAirdrop.class)).contains(tokenAirdrop);
     }
 
     @Test
@@ -103,7 +103,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                         Constants.ACCOUNT_ID,
                         TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID))
                 .build();
-        assertThat(repository.findAll(request, entityId)).isEmpty();
+        assertThat(repository.findAllRecords(request, entityId)).isEmpty();
     }
 
     @ParameterizedTest
@@ -200,7 +200,8 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(repository.findAllRecords(request, accountEntityId).into(TokenAirdrop.class))
+                .containsExactlyElementsOf(expectedResult);
 
         // When receiver id condition for Outstanding Airdrops
         //   or sender id condition for Pending Airdrops
@@ -213,7 +214,8 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(repository.findAllRecords(request, accountEntityId).into(TokenAirdrop.class))
+                .containsExactlyElementsOf(expectedResult);
 
         // When token id and receiver or sender condition
         expectedResult =
@@ -226,7 +228,8 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(repository.findAllRecords(request, accountEntityId).into(TokenAirdrop.class))
+                .containsExactlyElementsOf(expectedResult);
 
         // When token id condition as primary sort field and with receiver id
         request = TokenAirdropRequest.builder()
@@ -237,7 +240,8 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(repository.findAllRecords(request, accountEntityId).into(TokenAirdrop.class))
+                .containsExactlyElementsOf(expectedResult);
 
         // When token id condition but no receiver id for outstanding airdrops nor receiver id for pending airdrops
         expectedResult = type == OUTSTANDING ? outstandingTokenSpecifiedAirdrops : pendingTokenSpecifiedAirdrops;
@@ -249,7 +253,8 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(repository.findAllRecords(request, accountEntityId).into(TokenAirdrop.class))
+                .containsExactlyElementsOf(expectedResult);
     }
 
     @Test
@@ -810,7 +815,9 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
             var request = testSpec.request();
             var expected = testSpec.expected().stream().map(airdrops::get).toList();
             softAssertion
-                    .assertThat(repository.findAll(request, ((EntityIdNumParameter) request.getAccountId()).id()))
+                    .assertThat(repository
+                            .findAllRecords(request, ((EntityIdNumParameter) request.getAccountId()).id())
+                            .into(TokenAirdrop.class))
                     .as(testSpec.description())
                     .containsExactlyElementsOf(expected);
         }
@@ -58,7 +58,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                 .tokenIds(new Bound(null, false, Constants.TOKEN_ID, NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = service.getNftAllowances(request).into(NftAllowance.class);
         assertThat(response).containsExactly(nftAllowance1, nftAllowance2);
     }
 
@@ -86,7 +86,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = service.getNftAllowances(request).into(NftAllowance.class);
         assertThat(response).containsExactlyInAnyOrder(nftAllowance1, nftAllowance2);
     }
 
@@ -114,7 +114,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = service.getNftAllowances(request).into(NftAllowance.class);
         assertThat(response).containsExactlyInAnyOrder(nftAllowance1, nftAllowance2);
     }
 
@@ -149,7 +149,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                 .order(Sort.Direction.DESC)
                 .build();
 
-        var response = service.getNftAllowances(request);
+        var response = service.getNftAllowances(request).into(NftAllowance.class);
 
         assertThat(response).containsExactly(nftAllowance1, nftAllowance2);
     }
@@ -185,7 +185,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                 .order(Sort.Direction.DESC)
                 .build();
 
-        var response = service.getNftAllowances(request);
+        var response = service.getNftAllowances(request).into(NftAllowance.class);
 
         assertThat(response).containsExactly(nftAllowance1, nftAllowance2);
     }
@@ -223,7 +223,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = service.getNftAllowances(request).into(NftAllowance.class);
         assertThat(response).containsExactly(nftAllowance1);
     }
 
@@ -258,7 +258,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = service.getNftAllowances(request).into(NftAllowance.class);
         assertThat(response).containsExactlyInAnyOrder(nftAllowance1);
     }
 
@@ -294,7 +294,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = service.getNftAllowances(request).into(NftAllowance.class);
         assertThat(response).containsExactly(nftAllowance1);
     }
 
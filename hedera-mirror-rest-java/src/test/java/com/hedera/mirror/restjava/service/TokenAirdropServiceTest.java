@@ -21,6 +21,7 @@ import static com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestT
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.RestJavaIntegrationTest;
 import com.hedera.mirror.restjava.common.EntityIdAliasParameter;
 import com.hedera.mirror.restjava.common.EntityIdEvmAddressParameter;
@@ -55,7 +56,7 @@ class TokenAirdropServiceTest extends RestJavaIntegrationTest {
                 .accountId(new EntityIdNumParameter(accountId))
                 .type(type)
                 .build();
-        var response = service.getAirdrops(request);
+        var response = service.getAirdrops(request).into(TokenAirdrop.class);
         assertThat(response).containsExactly(fungibleAirdrop);
     }
 
@@ -76,7 +77,7 @@ class TokenAirdropServiceTest extends RestJavaIntegrationTest {
                 .accountId(new EntityIdAliasParameter(entity.getShard(), entity.getRealm(), entity.getAlias()))
                 .type(type)
                 .build();
-        var response = service.getAirdrops(request);
+        var response = service.getAirdrops(request).into(TokenAirdrop.class);
         assertThat(response).containsExactly(tokenAirdrop);
     }
 
@@ -97,7 +98,7 @@ class TokenAirdropServiceTest extends RestJavaIntegrationTest {
                         new EntityIdEvmAddressParameter(entity.getShard(), entity.getRealm(), entity.getEvmAddress()))
                 .type(type)
                 .build();
-        var response = service.getAirdrops(request);
+        var response = service.getAirdrops(request).into(TokenAirdrop.class);
         assertThat(response).containsExactly(tokenAirdrop);
     }
 
@@ -108,7 +109,7 @@ class TokenAirdropServiceTest extends RestJavaIntegrationTest {
                 .accountId(new EntityIdNumParameter(EntityId.of(3000L)))
                 .type(type)
                 .build();
-        var response = service.getAirdrops(request);
+        var response = service.getAirdrops(request).into(TokenAirdrop.class);
         assertThat(response).isEmpty();
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.writer;
+
+import static com.hedera.mirror.restjava.common.Constants.MAX_LIMIT;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_AIRDROP;
+import static com.hedera.mirror.restjava.writer.PageWriterTest.toLongRange;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.token.TokenAirdrop;
+import com.hedera.mirror.common.domain.token.TokenTypeEnum;
+import com.hedera.mirror.common.util.Benchmark;
+import com.hedera.mirror.rest.model.Links;
+import com.hedera.mirror.rest.model.TokenAirdropsResponse;
+import com.hedera.mirror.restjava.jooq.DomainRecordMapperProvider;
+import com.hedera.mirror.restjava.jooq.domain.enums.AirdropState;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
+import com.hedera.mirror.restjava.mapper.CommonMapperImpl;
+import com.hedera.mirror.restjava.mapper.TokenAirdropMapper;
+import com.hedera.mirror.restjava.mapper.TokenAirdropMapperImpl;
+import com.hedera.mirror.restjava.writer.PageWriter.LinksProvider;
+import java.io.IOException;
+import lombok.CustomLog;
+import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Compares the allocation per request of a maximum size page rendered through the domain objects, the API models, and
+ * the response model with the same page streamed from the records by the {@link PageWriter}.
+ */
+@CustomLog
+@EnabledIf(expression = "${hedera.mirror.restjava.test.performance.enabled:false}")
+@Tag("performance")
+class PageWriterPerformanceTest {
+
+    private static final int ITERATIONS = 20_000;
+    private static final Links LINKS = new Links().next("/api/v1/accounts/0.0.1000/airdrops/outstanding?limit=100");
+    private static final int WARMUP_ITERATIONS = 5_000;
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final DSLContext dslContext = DSL.using(
+            new DefaultConfiguration().set(SQLDialect.POSTGRES).set(new DomainRecordMapperProvider()));
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final PageWriter pageWriter = new PageWriter(objectMapper);
+    private final CommonMapperImpl commonMapper = new CommonMapperImpl();
+    private final TokenAirdropMapper tokenAirdropMapper = new TokenAirdropMapperImpl(commonMapper);
+    private final TokenAirdropRecordWriter tokenAirdropRecordWriter = new TokenAirdropRecordWriter(commonMapper);
+
+    @Test
+    void tokenAirdrops() throws Exception {
+        var result = dslContext.newResult(TOKEN_AIRDROP);
+        for (int i = 0; i < MAX_LIMIT; i++) {
+            var tokenAirdrop = domainBuilder.tokenAirdrop(TokenTypeEnum.FUNGIBLE_COMMON).get();
+            var record = dslContext.newRecord(TOKEN_AIRDROP);
+            record.set(TOKEN_AIRDROP.AMOUNT, tokenAirdrop.getAmount());
+            record.set(TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID, tokenAirdrop.getReceiverAccountId());
+            record.set(TOKEN_AIRDROP.SENDER_ACCOUNT_ID, tokenAirdrop.getSenderAccountId());
+            record.set(TOKEN_AIRDROP.SERIAL_NUMBER, tokenAirdrop.getSerialNumber());
+            record.set(TOKEN_AIRDROP.STATE, AirdropState.PENDING);
+            record.set(TOKEN_AIRDROP.TIMESTAMP_RANGE, toLongRange(tokenAirdrop.getTimestampRange()));
+            record.set(TOKEN_AIRDROP.TOKEN_ID, tokenAirdrop.getTokenId());
+            result.add(record);
+        }
+
+        var mapped = benchmark("mapped", () -> writeMapped(result));
+        var streamed = benchmark("streamed", () -> writeStreamed(result));
+        assertThat(streamed).isEqualTo(mapped);
+    }
+
+    private MockHttpServletResponse writeMapped(Result<TokenAirdropRecord> result) throws IOException {
+        var response = new MockHttpServletResponse();
+        var airdrops = tokenAirdropMapper.map(result.into(TokenAirdrop.class));
+        objectMapper.writeValue(
+                response.getOutputStream(), new TokenAirdropsResponse().airdrops(airdrops).links(LINKS));
+        return response;
+    }
+
+    private MockHttpServletResponse writeStreamed(Result<TokenAirdropRecord> result) throws IOException {
+        var response = new MockHttpServletResponse();
+        LinksProvider<TokenAirdropRecord> links = (last, count) -> {
+            // Like the controller, map the last row to build the next link from
+            tokenAirdropMapper.map(last);
+            return LINKS;
+        };
+        pageWriter.write(
+                response, TokenAirdropsResponse.JSON_PROPERTY_AIRDROPS, result, tokenAirdropRecordWriter, links);
+        return response;
+    }
+
+    private byte[] benchmark(String name, Request request) throws Exception {
+        var result = new Benchmark(name, WARMUP_ITERATIONS, ITERATIONS).run(i -> request.execute());
+        var body = result.value().getContentAsByteArray();
+        log.info("{}: responses of {} rows and {} bytes", name, MAX_LIMIT, body.length);
+        return body;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        MockHttpServletResponse execute() throws IOException;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.writer;
+
+import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_AIRDROP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.common.domain.token.TokenAirdrop;
+import com.hedera.mirror.common.domain.token.TokenTypeEnum;
+import com.hedera.mirror.rest.model.Links;
+import com.hedera.mirror.rest.model.NftAllowancesResponse;
+import com.hedera.mirror.rest.model.TokenAirdropsResponse;
+import com.hedera.mirror.restjava.jooq.DomainRecordMapperProvider;
+import com.hedera.mirror.restjava.jooq.domain.enums.AirdropState;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
+import com.hedera.mirror.restjava.mapper.CommonMapperImpl;
+import com.hedera.mirror.restjava.mapper.NftAllowanceMapperImpl;
+import com.hedera.mirror.restjava.mapper.TokenAirdropMapperImpl;
+import com.hedera.mirror.restjava.writer.PageWriter.LinksProvider;
+import java.util.ArrayList;
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.postgres.extensions.types.LongRange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class PageWriterTest {
+
+    private static final Links LINKS = new Links().next("/api/v1/accounts/0.0.1000/airdrops/outstanding?limit=2");
+
+    private final CommonMapperImpl commonMapper = new CommonMapperImpl();
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final DSLContext dslContext = DSL.using(
+            new DefaultConfiguration().set(SQLDialect.POSTGRES).set(new DomainRecordMapperProvider()));
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final NftAllowanceMapperImpl nftAllowanceMapper = new NftAllowanceMapperImpl(commonMapper);
+    private final PageWriter pageWriter = new PageWriter(objectMapper);
+    private final TokenAirdropMapperImpl tokenAirdropMapper = new TokenAirdropMapperImpl(commonMapper);
+
+    @ParameterizedTest
+    @EnumSource(TokenTypeEnum.class)
+    void tokenAirdrops(TokenTypeEnum tokenType) throws Exception {
+        // given
+        var first = domainBuilder.tokenAirdrop(tokenType).get();
+        var second = domainBuilder
+                .tokenAirdrop(tokenType)
+                .customize(a -> a.timestampRange(Range.closedOpen(0L, domainBuilder.timestamp())))
+                .get();
+        var records = List.of(tokenAirdropRecord(first), tokenAirdropRecord(second));
+        var response = new MockHttpServletResponse();
+
+        // when
+        LinksProvider<TokenAirdropRecord> links = (last, count) -> {
+            assertThat(count).isEqualTo(2);
+            assertThat(last).isSameAs(records.getLast());
+            return LINKS;
+        };
+        pageWriter.write(response, TokenAirdropsResponse.JSON_PROPERTY_AIRDROPS, records, tokenAirdropWriter(), links);
+
+        // then
+        var expected = new TokenAirdropsResponse()
+                .airdrops(tokenAirdropMapper.map(List.of(first, second)))
+                .links(LINKS);
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(expected));
+    }
+
+    @Test
+    void tokenAirdropNulls() throws Exception {
+        // given
+        var record = dslContext.newRecord(TOKEN_AIRDROP);
+        record.set(TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID, 0L);
+        record.set(TOKEN_AIRDROP.SENDER_ACCOUNT_ID, 0L);
+        record.set(TOKEN_AIRDROP.SERIAL_NUMBER, 0L);
+        record.set(TOKEN_AIRDROP.TOKEN_ID, 0L);
+        var response = new MockHttpServletResponse();
+
+        // when
+        pageWriter.write(
+                response,
+                TokenAirdropsResponse.JSON_PROPERTY_AIRDROPS,
+                List.of(record),
+                tokenAirdropWriter(),
+                (last, count) -> new Links());
+
+        // then
+        var expected = new TokenAirdropsResponse()
+                .airdrops(tokenAirdropMapper.map(List.of(record.into(TokenAirdrop.class))))
+                .links(new Links());
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(expected));
+    }
+
+    @Test
+    void nftAllowances() throws Exception {
+        // given
+        var first = domainBuilder.nftAllowance().get();
+        var second = domainBuilder.nftAllowance().customize(a -> a.approvedForAll(false)).get();
+        var records = List.of(nftAllowanceRecord(first), nftAllowanceRecord(second));
+        var response = new MockHttpServletResponse();
+
+        // when
+        pageWriter.write(
+                response,
+                NftAllowancesResponse.JSON_PROPERTY_ALLOWANCES,
+                records,
+                new NftAllowanceRecordWriter(commonMapper),
+                (last, count) -> LINKS);
+
+        // then
+        var expected = new NftAllowancesResponse()
+                .allowances(nftAllowanceMapper.map(List.of(first, second)))
+                .links(LINKS);
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(expected));
+    }
+
+    @Test
+    void empty() throws Exception {
+        // given
+        var response = new MockHttpServletResponse();
+        var records = new ArrayList<TokenAirdropRecord>();
+
+        // when
+        LinksProvider<TokenAirdropRecord> links = (last, count) -> {
+            assertThat(last).isNull();
+            assertThat(count).isZero();
+            return new Links();
+        };
+        pageWriter.write(response, TokenAirdropsResponse.JSON_PROPERTY_AIRDROPS, records, tokenAirdropWriter(), links);
+
+        // then
+        var expected = new TokenAirdropsResponse().airdrops(List.of()).links(new Links());
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(expected));
+    }
+
+    private TokenAirdropRecordWriter tokenAirdropWriter() {
+        return new TokenAirdropRecordWriter(commonMapper);
+    }
+
+    private TokenAirdropRecord tokenAirdropRecord(TokenAirdrop tokenAirdrop) {
+        var record = dslContext.newRecord(TOKEN_AIRDROP);
+        record.set(TOKEN_AIRDROP.AMOUNT, tokenAirdrop.getAmount());
+        record.set(TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID, tokenAirdrop.getReceiverAccountId());
+        record.set(TOKEN_AIRDROP.SENDER_ACCOUNT_ID, tokenAirdrop.getSenderAccountId());
+        record.set(TOKEN_AIRDROP.SERIAL_NUMBER, tokenAirdrop.getSerialNumber());
+        record.set(TOKEN_AIRDROP.STATE, AirdropState.PENDING);
+        record.set(TOKEN_AIRDROP.TIMESTAMP_RANGE, toLongRange(tokenAirdrop.getTimestampRange()));
+        record.set(TOKEN_AIRDROP.TOKEN_ID, tokenAirdrop.getTokenId());
+        return record;
+    }
+
+    private NftAllowanceRecord nftAllowanceRecord(NftAllowance nftAllowance) {
+        var record = dslContext.newRecord(NFT_ALLOWANCE);
+        record.set(NFT_ALLOWANCE.APPROVED_FOR_ALL, nftAllowance.isApprovedForAll());
+        record.set(NFT_ALLOWANCE.OWNER, nftAllowance.getOwner());
+        record.set(NFT_ALLOWANCE.PAYER_ACCOUNT_ID, nftAllowance.getPayerAccountId().getId());
+        record.set(NFT_ALLOWANCE.SPENDER, nftAllowance.getSpender());
+        record.set(NFT_ALLOWANCE.TIMESTAMP_RANGE, toLongRange(nftAllowance.getTimestampRange()));
+        record.set(NFT_ALLOWANCE.TOKEN_ID, nftAllowance.getTokenId());
+        return record;
+    }
+
+    static LongRange toLongRange(Range<Long> range) {
+        var upper = range.hasUpperBound() ? range.upperEndpoint() : null;
+        return LongRange.longRange(range.lowerEndpoint(), true, upper, false);
+    }
+}
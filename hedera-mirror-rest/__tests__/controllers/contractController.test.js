@@ -185,6 +185,8 @@ describe('getContractByIdOrAddressContractEntityQuery', () => {
             from ${table} e
                    left join contract c
                              on e.id = c.id
+                   left join contract_bytecode cb
+                             on cb.hash = c.runtime_bytecode_hash
             where e.type = 'CONTRACT'
               and ${(extraConditions && extraConditions.join(' and ') + ' and ') || ''} e.${columnName} = $3`;
   };
@@ -45,6 +45,7 @@ const setup = async (testDataJson) => {
   await loadCryptoTransfers(testDataJson.cryptotransfers);
   await loadContracts(testDataJson.contracts);
   await loadContractActions(testDataJson.contractactions);
+  await loadContractBytecodes(testDataJson.contractBytecodes);
   await loadContractLogs(testDataJson.contractlogs);
   await loadContractResults(testDataJson.contractresults);
   await loadContractStateChanges(testDataJson.contractStateChanges);
@@ -208,6 +209,16 @@ const loadContractActions = async (contractActions) => {
   }
 };
 
+const loadContractBytecodes = async (contractBytecodes) => {
+  if (contractBytecodes == null) {
+    return;
+  }
+
+  for (const contractBytecode of contractBytecodes) {
+    await addContractBytecode(contractBytecode);
+  }
+};
+
 const loadContractStates = async (contractStates) => {
   if (contractStates == null) {
     return;
@@ -1000,6 +1011,7 @@ const contractDefaults = {
   id: null,
   initcode: null,
   runtime_bytecode: null,
+  runtime_bytecode_hash: null,
 };
 const addContract = async (custom) => {
   const entity = await addEntity(
@@ -1022,11 +1034,23 @@ const addContract = async (custom) => {
     ...custom,
   };
 
-  convertByteaFields(['initcode', 'runtime_bytecode'], contract);
+  convertByteaFields(['initcode', 'runtime_bytecode', 'runtime_bytecode_hash'], contract);
 
   await insertDomainObject('contract', Object.keys(contractDefaults), contract);
 };
 
+const addContractBytecode = async (contractBytecodeInput) => {
+  const contractBytecode = {
+    bytecode: null,
+    hash: null,
+    ...contractBytecodeInput,
+  };
+
+  convertByteaFields(['bytecode', 'hash'], contractBytecode);
+
+  await insertDomainObject('contract_bytecode', ['bytecode', 'hash'], contractBytecode);
+};
+
 const contractActionDefaults = {
   call_depth: 1,
   call_operation_type: 1,
@@ -1650,6 +1674,7 @@ export default {
   loadAddressBooks,
   loadBalances,
   loadContractActions,
+  loadContractBytecodes,
   loadContractLogs,
   loadContractResults,
   loadContractStateChanges,
@@ -1863,6 +1863,20 @@ describe('stripHexPrefix', () => {
   });
 });
 
+describe('expandEvmWords', () => {
+  test.each([
+    [null, null],
+    [undefined, undefined],
+    ['00', ''],
+    ['0210110001ab', `1011${'00'.repeat(32)}${'00'.repeat(31)}ab`],
+    [`0020${'ff'.repeat(32)}`, 'ff'.repeat(32)],
+  ])('%s expect %s', (input, expected) => {
+    const compact = _.isNil(input) ? input : Buffer.from(input, 'hex');
+    const actual = utils.expandEvmWords(compact);
+    expect(_.isNil(actual) ? actual : actual.toString('hex')).toEqual(expected);
+  });
+});
+
 describe('toUint256', () => {
   test('Verify null value', () => {
     expect(utils.toUint256(null)).toEqual(null);
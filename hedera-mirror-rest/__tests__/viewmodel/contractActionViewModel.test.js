@@ -105,4 +105,19 @@ describe('ContractActionViewModel', () => {
       to: null,
     });
   });
+
+  test('compact', () => {
+    expect(
+      new ContractActionViewModel({
+        ...defaultContractAction,
+        compact: true,
+        input: Buffer.from('041011121301050000', 'hex'),
+        resultData: Buffer.from('000220ff', 'hex'),
+      })
+    ).toEqual({
+      ...defaultExpected,
+      input: `0x10111213${'00'.repeat(31)}05${'00'.repeat(64)}`,
+      result_data: `0x${'00'.repeat(30)}20ff`,
+    });
+  });
 });
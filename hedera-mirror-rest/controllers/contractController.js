@@ -31,6 +31,7 @@ import EntityId from '../entityId';
 import {InvalidArgumentError, NotFoundError} from '../errors';
 import {
   Contract,
+  ContractBytecode,
   ContractLog,
   ContractResult,
   ContractState,
@@ -75,7 +76,8 @@ contractSelectFields.push(Contract.getFullName(Contract.FILE_ID));
 const contractWithBytecodeSelectFields = [
   ...contractSelectFields,
   Contract.getFullName(Contract.INITCODE),
-  Contract.getFullName(Contract.RUNTIME_BYTECODE),
+  // The runtime bytecode is either stored inline or deduplicated by its hash in contract_bytecode
+  `coalesce(${Contract.getFullName(Contract.RUNTIME_BYTECODE)}, ${ContractBytecode.getFullName(ContractBytecode.BYTECODE)}) as ${Contract.RUNTIME_BYTECODE}`,
 ];
 const {default: defaultLimit} = getResponseLimit();
 
@@ -178,6 +180,8 @@ const getContractByIdOrAddressQueryForTable = (table, conditions) => {
     `from ${table} ${Entity.tableAlias}`,
     `left join ${Contract.tableName} ${Contract.tableAlias}`,
     `on ${Entity.getFullName(Entity.ID)} = ${Contract.getFullName(Contract.ID)}`,
+    `left join ${ContractBytecode.tableName} ${ContractBytecode.tableAlias}`,
+    `on ${ContractBytecode.getFullName(ContractBytecode.HASH)} = ${Contract.getFullName(Contract.RUNTIME_BYTECODE_HASH)}`,
     `where e.type = 'CONTRACT' and ${conditions.join(' and ')}`,
   ].join('\n');
 };
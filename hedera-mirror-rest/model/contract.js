@@ -24,6 +24,7 @@ class Contract {
   static ID = 'id';
   static INITCODE = 'initcode';
   static RUNTIME_BYTECODE = 'runtime_bytecode';
+  static RUNTIME_BYTECODE_HASH = 'runtime_bytecode_hash';
 
   /**
    * Parses contract table columns into object
@@ -25,6 +25,7 @@ class ContractAction {
   static CALL_TYPE = 'call_type';
   static CALLER = 'caller';
   static CALLER_TYPE = 'caller_type';
+  static COMPACT = 'compact';
   static CONSENSUS_TIMESTAMP = 'consensus_timestamp';
   static GAS = 'gas';
   static GAS_USED = 'gas_used';
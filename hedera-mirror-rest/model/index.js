@@ -23,6 +23,7 @@ import CachedToken from './cachedToken';
 import Contract from './contract';
 import CryptoAllowance from './cryptoAllowance';
 import ContractAction from './contractAction';
+import ContractBytecode from './contractBytecode';
 import ContractLog from './contractLog';
 import ContractResult from './contractResult';
 import ContractStateChange from './contractStateChange';
@@ -70,6 +71,7 @@ export {
   Contract,
   CryptoAllowance,
   ContractAction,
+  ContractBytecode,
   ContractLog,
   ContractResult,
   ContractStateChange,
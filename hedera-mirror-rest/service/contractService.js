@@ -164,6 +164,7 @@ class ContractService extends BaseService {
            ${ContractAction.CALL_OPERATION_TYPE},
            ${ContractAction.CALL_TYPE},
            ${ContractAction.CALLER_TYPE},
+           ${ContractAction.COMPACT},
            ${ContractAction.CONSENSUS_TIMESTAMP},
            ${ContractAction.GAS},
            ${ContractAction.GAS_USED},
@@ -961,6 +961,31 @@ const addHexPrefix = (hexData) => {
   return hexString.substring(0, 2) === hexPrefix ? hexString : `${hexPrefix}${hexString}`;
 };
 
+const EVM_WORD_SIZE = 32;
+
+/**
+ * Restores data stored by the importer with the leading zeros of each 32-byte word stripped. The compact form is a one
+ * byte prefix length, the prefix itself, then for each word a one byte count of its significant bytes followed by them.
+ * @param {Buffer|null} compact
+ * @returns {Buffer|null}
+ */
+const expandEvmWords = (compact) => {
+  if (_.isNil(compact)) {
+    return compact;
+  }
+
+  const prefixLength = compact[0];
+  const words = [compact.subarray(1, 1 + prefixLength)];
+  for (let position = 1 + prefixLength; position < compact.length; position += 1 + compact[position]) {
+    const word = Buffer.alloc(EVM_WORD_SIZE);
+    const significant = compact.subarray(position + 1, position + 1 + compact[position]);
+    significant.copy(word, EVM_WORD_SIZE - significant.length);
+    words.push(word);
+  }
+
+  return Buffer.concat(words);
+};
+
 /**
  * Pads all non-null arrays to 0x-prefixed 64 characters hex string and pass the null values as null
  * @param val
@@ -1737,6 +1762,7 @@ export {
   encodeBinary,
   encodeKey,
   encodeUtf8,
+  expandEvmWords,
   extractTimestampRangeConditionFilters,
   filterDependencyCheck,
   filterValidityChecks,
@@ -53,6 +53,10 @@ class ContractActionViewModel {
     const recipientId = contractAction.recipientAccount || contractAction.recipientContract;
     const recipient = EntityId.parse(recipientId, {isNullable: true});
     const recipientIsAccount = !!contractAction.recipientAccount;
+    const input = contractAction.compact ? utils.expandEvmWords(contractAction.input) : contractAction.input;
+    const resultData = contractAction.compact
+      ? utils.expandEvmWords(contractAction.resultData)
+      : contractAction.resultData;
 
     this.call_depth = contractAction.callDepth;
     this.call_operation_type = ContractActionViewModel.callOperationTypes[callOperationType];
@@ -63,10 +67,10 @@ class ContractActionViewModel {
     this.gas = contractAction.gas;
     this.gas_used = contractAction.gasUsed;
     this.index = contractAction.index;
-    this.input = utils.toHexStringNonQuantity(contractAction.input);
+    this.input = utils.toHexStringNonQuantity(input);
     this.recipient = recipient.toString();
     this.recipient_type = recipientId && (recipientIsAccount ? entityTypes.ACCOUNT : entityTypes.CONTRACT);
-    this.result_data = utils.toHexStringNonQuantity(contractAction.resultData);
+    this.result_data = utils.toHexStringNonQuantity(resultData);
     this.result_data_type = ContractActionViewModel.resultDataTypes[contractAction.resultDataType];
     this.timestamp = utils.nsToSecNs(contractAction.consensusTimestamp);
     this.to = contractAction.recipientAddress
@@ -41,6 +41,7 @@ dependencies {
     implementation("javax.inject:javax.inject:1")
     implementation("net.java.dev.jna:jna")
     implementation("org.bouncycastle:bcprov-jdk18on")
+    implementation("org.postgresql:postgresql")
     implementation("org.springframework:spring-context-support")
     implementation("org.springframework.boot:spring-boot-actuator-autoconfigure")
     implementation("org.springframework.boot:spring-boot-configuration-processor")
@@ -48,7 +49,6 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.cloud:spring-cloud-starter-bootstrap")
     implementation("org.springframework.cloud:spring-cloud-starter-kubernetes-fabric8-config")
-    runtimeOnly("org.postgresql:postgresql")
     testImplementation(project(path = ":common", configuration = "testClasses"))
     testImplementation("io.vertx:vertx-core")
     testImplementation("org.flywaydb:flyway-database-postgresql")
@@ -85,6 +85,14 @@ public class ContractCallContext {
 
     public void reset() {
         recordFile = null;
+        resetStack();
+    }
+
+    /**
+     * Discards the writes of the previous execution by chopping the stack back to its base, while keeping the state
+     * already read from the database in the R/O cache frame.
+     */
+    public void resetStack() {
         stack = stackBase;
     }
 
@@ -23,11 +23,15 @@ import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallTyp
 
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.exception.InvalidParametersException;
+import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
 import com.hedera.mirror.web3.exception.RateLimitException;
 import com.hedera.mirror.web3.service.ContractExecutionService;
 import com.hedera.mirror.web3.service.model.ContractExecutionParameters;
+import com.hedera.mirror.web3.viewmodel.ContractCallBatchRequest;
+import com.hedera.mirror.web3.viewmodel.ContractCallBatchResponse;
 import com.hedera.mirror.web3.viewmodel.ContractCallRequest;
 import com.hedera.mirror.web3.viewmodel.ContractCallResponse;
+import com.hedera.mirror.web3.viewmodel.GenericErrorResponse;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import io.github.bucket4j.Bucket;
 import jakarta.validation.Valid;
@@ -81,6 +85,59 @@ class ContractController {
         }
     }
 
+    /**
+     * Executes the calls in order against a single block, sharing the state read from the database between them. The
+     * batch counts as one request towards the rate limit and the gas of all calls is throttled together. The result or
+     * error of each call is returned in the order of the calls.
+     */
+    @PostMapping(value = "/call/batch")
+    ContractCallBatchResponse callBatch(@RequestBody @Valid ContractCallBatchRequest request) {
+        final var calls = request.getCalls();
+
+        if (calls.size() > evmProperties.getMaxCallBatchSize()) {
+            throw new InvalidParametersException(
+                    "calls field must have at most %d calls".formatted(evmProperties.getMaxCallBatchSize()));
+        }
+
+        final var gas = calls.stream().mapToLong(ContractCallRequest::getGas).sum();
+        if (!rateLimitBucket.tryConsume(1) || !gasLimitBucket.tryConsume(gas)) {
+            throw new RateLimitException("Rate limit exceeded.");
+        }
+
+        try {
+            final var params = calls.stream()
+                    .map(call -> {
+                        if (call.isEstimate()) {
+                            throw new InvalidParametersException("estimate is not supported in a batch");
+                        }
+
+                        validateContractData(call);
+                        validateContractMaxGasLimit(call);
+                        call.setBlock(request.getBlock());
+                        return constructServiceParameters(call);
+                    })
+                    .toList();
+
+            final var results = contractExecutionService.processCalls(request.getBlock(), params).stream()
+                    .map(result -> result.getError() != null
+                            ? new ContractCallBatchResponse.Result(null, toErrorResponse(result.getError()))
+                            : new ContractCallBatchResponse.Result(result.getOutput(), null))
+                    .toList();
+            return new ContractCallBatchResponse(results);
+        } catch (QueryTimeoutException e) {
+            log.error("Query timed out: {} request: {}", e.getMessage(), request);
+            throw e;
+        } catch (InvalidParametersException e) {
+            // The validation failed but no processing was made - restore the consumed gas back to the bucket.
+            gasLimitBucket.addTokens(gas);
+            throw e;
+        }
+    }
+
+    private GenericErrorResponse toErrorResponse(MirrorEvmTransactionException e) {
+        return new GenericErrorResponse(e.getMessage(), e.getDetail(), e.getData());
+    }
+
     private ContractExecutionParameters constructServiceParameters(ContractCallRequest request) {
         final var fromAddress = request.getFrom() != null ? Address.fromHexString(request.getFrom()) : Address.ZERO;
         final var sender = new HederaEvmAccount(fromAddress);
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.config;
+
+import java.util.Set;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * A cache manager for entities that indexes the caches keyed by something other than the entity id by entity id.
+ */
+public class EntityCacheManager extends CaffeineCacheManager {
+
+    private final Set<String> indexedCacheNames;
+    private final String specification;
+
+    public EntityCacheManager(String specification, Set<String> indexedCacheNames, Set<String> cacheNames) {
+        this.indexedCacheNames = indexedCacheNames;
+        this.specification = specification;
+        setCacheSpecification(specification);
+        setCacheNames(cacheNames);
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        if (indexedCacheNames.contains(name)) {
+            return new EntityIdIndexedCache(name, cache, specification, isAllowNullValues());
+        }
+
+        return super.adaptCaffeineCache(name, cache);
+    }
+}
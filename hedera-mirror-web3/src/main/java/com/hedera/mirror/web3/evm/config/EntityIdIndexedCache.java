@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.common.domain.entity.Entity;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.Nullable;
+
+/**
+ * Caches entities by a key other than their id, e.g. their alias or evm address, and indexes the keys by entity id so
+ * the entries of a changed entity can be evicted without scanning the cache. The index is built with the same
+ * specification as the cache, so it's bounded the same way.
+ */
+public class EntityIdIndexedCache extends CaffeineCache {
+
+    private final Cache<Long, Set<Object>> keys;
+
+    public EntityIdIndexedCache(
+            String name, Cache<Object, Object> cache, String specification, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+        this.keys = Caffeine.from(specification).build();
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        super.put(key, value);
+        index(key, value);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        var existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            index(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        keys.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        keys.invalidateAll();
+        return super.invalidate();
+    }
+
+    /**
+     * Evicts the entries that cache the entity with the given id.
+     */
+    public void evictEntity(long id) {
+        var entityKeys = keys.asMap().remove(id);
+        if (entityKeys != null) {
+            entityKeys.forEach(this::evict);
+        }
+    }
+
+    private void index(Object key, @Nullable Object value) {
+        if (value instanceof Entity entity && entity.getId() != null) {
+            keys.get(entity.getId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+}
@@ -87,6 +87,7 @@ import org.springframework.context.annotation.Primary;
 public class EvmConfiguration {
 
     public static final String CACHE_MANAGER_CONTRACT = "contract";
+    public static final String CACHE_MANAGER_CONTRACT_CALL = "contractCall";
     public static final String CACHE_MANAGER_CONTRACT_STATE = "contractState";
     public static final String CACHE_MANAGER_ENTITY = "entity";
     public static final String CACHE_MANAGER_RECORD_FILE_LATEST = "recordFileLatest";
@@ -98,6 +99,8 @@ public class EvmConfiguration {
     public static final String CACHE_MANAGER_TOKEN_TYPE = "tokenType";
     public static final String CACHE_NAME = "default";
     public static final String CACHE_NAME_CONTRACT = "contract";
+    public static final String CACHE_NAME_CONTRACT_BYTECODE = "contractBytecode";
+    public static final String CACHE_NAME_CONTRACT_BYTECODE_HASH = "contractBytecodeHash";
     public static final String CACHE_NAME_EVM_ADDRESS = "evmAddress";
     public static final String CACHE_NAME_ALIAS = "alias";
     public static final String CACHE_NAME_EXCHANGE_RATE = "exchangeRate";
@@ -131,11 +134,20 @@ public class EvmConfiguration {
     @Bean(CACHE_MANAGER_CONTRACT)
     CacheManager cacheManagerContract() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME_CONTRACT));
+        caffeineCacheManager.setCacheNames(
+                Set.of(CACHE_NAME_CONTRACT, CACHE_NAME_CONTRACT_BYTECODE, CACHE_NAME_CONTRACT_BYTECODE_HASH));
         caffeineCacheManager.setCacheSpecification(cacheProperties.getContract());
         return caffeineCacheManager;
     }
 
+    @Bean(CACHE_MANAGER_CONTRACT_CALL)
+    CacheManager cacheManagerContractCall() {
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getContractCallResult());
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_CONTRACT_STATE)
     CacheManager cacheManagerState() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -146,10 +158,10 @@ public class EvmConfiguration {
 
     @Bean(CACHE_MANAGER_ENTITY)
     CacheManager cacheManagerEntity() {
-        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME, CACHE_NAME_EVM_ADDRESS, CACHE_NAME_ALIAS));
-        caffeineCacheManager.setCacheSpecification(cacheProperties.getEntity());
-        return caffeineCacheManager;
+        return new EntityCacheManager(
+                cacheProperties.getEntity(),
+                Set.of(CACHE_NAME_EVM_ADDRESS, CACHE_NAME_ALIAS),
+                Set.of(CACHE_NAME, CACHE_NAME_EVM_ADDRESS, CACHE_NAME_ALIAS));
     }
 
     @Bean(CACHE_MANAGER_TOKEN)
@@ -22,9 +22,11 @@ import com.hedera.mirror.web3.evm.pricing.RatesAndFeesLoader;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.evm.store.Store;
 import com.hedera.mirror.web3.evm.store.contract.EntityAddressSequencer;
+import com.hedera.mirror.web3.evm.store.contract.MirrorCodeCache;
 import com.hedera.mirror.web3.evm.store.contract.MirrorEntityAccess;
 import com.hedera.mirror.web3.evm.token.TokenAccessorImpl;
 import com.hedera.mirror.web3.repository.RecordFileRepository;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
 import com.hedera.node.app.service.evm.accounts.HederaEvmContractAliases;
 import com.hedera.node.app.service.evm.contracts.execution.EvmProperties;
 import com.hedera.node.app.service.evm.contracts.operations.HederaExtCodeHashOperation;
@@ -118,6 +120,7 @@ import com.hedera.services.txns.validation.ContextOptionValidator;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.accessors.AccessorFactory;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Base64;
 import java.util.EnumMap;
 import java.util.List;
@@ -270,9 +273,16 @@ public class ServicesConfiguration {
 
     @Bean
     AbstractCodeCache abstractCodeCache(
-            final MirrorNodeEvmProperties evmProperties, final MirrorEntityAccess mirrorEntityAccess) {
-        return new AbstractCodeCache(
-                (int) evmProperties.getExpirationCacheTime().toSeconds(), mirrorEntityAccess);
+            final CacheProperties cacheProperties,
+            final MirrorNodeEvmProperties evmProperties,
+            final MirrorEntityAccess mirrorEntityAccess,
+            final MeterRegistry meterRegistry) {
+        return new MirrorCodeCache(
+                (int) evmProperties.getExpirationCacheTime().toSeconds(),
+                mirrorEntityAccess,
+                cacheProperties.getContractCode(),
+                cacheProperties.getContractCodeHash(),
+                meterRegistry);
     }
 
     @Bean
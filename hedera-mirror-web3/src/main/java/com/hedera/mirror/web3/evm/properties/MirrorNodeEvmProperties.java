@@ -71,6 +71,10 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Positive
     private double estimateGasIterationThresholdPercent = 0.10d;
 
+    // share the result of identical eth_call requests that are executing concurrently
+    @Getter
+    private boolean callCoalescing = true;
+
     private boolean directTokenCall = true;
 
     private boolean dynamicEvmVersion = true;
@@ -116,6 +120,11 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Min(1)
     private int maxBatchSizeWipe = 10;
 
+    // maximum number of calls in a single request to the batch call endpoint
+    @Getter
+    @Min(1)
+    private int maxCallBatchSize = 50;
+
     @Getter
     @NotNull
     @DataSizeUnit(DataUnit.KILOBYTES)
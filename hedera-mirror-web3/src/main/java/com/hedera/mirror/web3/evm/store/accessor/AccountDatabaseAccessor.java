@@ -37,6 +37,7 @@ import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
+import com.hedera.mirror.web3.repository.projections.AccountTokenCount;
 import com.hedera.mirror.web3.repository.projections.TokenAccountAssociationsCount;
 import com.hedera.mirror.web3.utils.Suppliers;
 import com.hedera.services.jproto.JContractIDKey;
@@ -93,7 +94,9 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
             throw new WrongTypeException("Trying to map an account/contract from a different type");
         }
 
-        var tokenAccountBalances = getNumberOfAllAndPositiveBalanceTokenAssociations(entity.getId(), timestamp);
+        var tokenCount = getTokenCount(entity.getId(), timestamp);
+        var tokenAccountBalances =
+                getNumberOfAllAndPositiveBalanceTokenAssociations(entity.getId(), timestamp, tokenCount);
 
         return new Account(
                 entity.getEvmAddress() != null && entity.getEvmAddress().length > 0
@@ -104,7 +107,7 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
                 TimeUnit.SECONDS.convert(entity.getEffectiveExpiration(), TimeUnit.NANOSECONDS),
                 getAccountBalance(entity, timestamp),
                 Optional.ofNullable(entity.getDeleted()).orElse(false),
-                getOwnedNfts(entity.getId(), timestamp),
+                getOwnedNfts(entity.getId(), timestamp, tokenCount),
                 Optional.ofNullable(entity.getAutoRenewPeriod()).orElse(DEFAULT_AUTO_RENEW_PERIOD),
                 idFromEntityId(entity.getProxyAccountId()),
                 Optional.ofNullable(entity.getMaxAutomaticTokenAssociations()).orElse(0),
@@ -123,10 +126,24 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
                 0);
     }
 
-    private Supplier<Long> getOwnedNfts(Long accountId, final Optional<Long> timestamp) {
+    /**
+     * Gets the token counts maintained by the importer, which are empty if they haven't been computed for the account
+     * at the timestamp yet. In that case the counts are aggregated from the token associations and nfts instead.
+     */
+    private Supplier<Optional<AccountTokenCount>> getTokenCount(long accountId, final Optional<Long> timestamp) {
         return Suppliers.memoize(() -> timestamp
-                .map(t -> nftRepository.countByAccountIdAndTimestampNotDeleted(accountId, t))
-                .orElseGet(() -> nftRepository.countByAccountIdNotDeleted(accountId)));
+                .map(t -> tokenAccountRepository.findTokenCountByAccountIdAndTimestamp(accountId, t))
+                .orElseGet(() -> tokenAccountRepository.findTokenCountByAccountId(accountId)));
+    }
+
+    private Supplier<Long> getOwnedNfts(
+            Long accountId, final Optional<Long> timestamp, Supplier<Optional<AccountTokenCount>> tokenCount) {
+        return Suppliers.memoize(() -> tokenCount
+                .get()
+                .map(AccountTokenCount::getNftCount)
+                .orElseGet(() -> timestamp
+                        .map(t -> nftRepository.countByAccountIdAndTimestampNotDeleted(accountId, t))
+                        .orElseGet(() -> nftRepository.countByAccountIdNotDeleted(accountId))));
     }
 
     /**
@@ -195,7 +212,14 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
     }
 
     private Supplier<TokenAccountBalances> getNumberOfAllAndPositiveBalanceTokenAssociations(
-            long accountId, final Optional<Long> timestamp) {
+            long accountId, final Optional<Long> timestamp, Supplier<Optional<AccountTokenCount>> tokenCount) {
+        return Suppliers.memoize(() -> tokenCount
+                .get()
+                .map(c -> new TokenAccountBalances(c.getAssociatedCount(), c.getPositiveBalanceCount()))
+                .orElseGet(() -> aggregateTokenAccountBalances(accountId, timestamp)));
+    }
+
+    private TokenAccountBalances aggregateTokenAccountBalances(long accountId, final Optional<Long> timestamp) {
         var counts = timestamp
                 .map(t -> tokenAccountRepository.countByAccountIdAndTimestampAndAssociatedGroupedByBalanceIsPositive(
                         accountId, t))
@@ -211,10 +235,7 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
             all += count.getTokenCount();
         }
 
-        final var allAggregated = all;
-        final var positiveAggregated = positive;
-
-        return Suppliers.memoize(() -> new TokenAccountBalances(allAggregated, positiveAggregated));
+        return new TokenAccountBalances(all, positive);
     }
 
     private JKey parseJkey(Entity entity) {
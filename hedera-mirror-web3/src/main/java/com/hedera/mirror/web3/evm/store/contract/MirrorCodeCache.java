@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store.contract;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.node.app.service.evm.store.contracts.AbstractCodeCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.code.CodeFactory;
+
+/**
+ * A process wide cache of analysed contract code. Clones and proxies often share identical bytecode, so the analysed
+ * {@link Code} is cached by its code hash and only constructed once per distinct bytecode, with the cache bounded by
+ * the total size of the cached bytecode. Addresses are first resolved to their entity id at the block timestamp of the
+ * call, so historical calls never see code deployed to the same address later, and the entity id is then mapped to
+ * its code hash, as stored with the contract or computed from its bytecode.
+ */
+public class MirrorCodeCache extends AbstractCodeCache {
+
+    static final String CACHE_NAME_CODE = "contractCode";
+    static final String CACHE_NAME_CODE_HASH = "contractCodeHash";
+    static final String CODE_BYTES_METRIC = "hedera.mirror.web3.cache.code.bytes";
+
+    private final Cache<Hash, Code> codeCache;
+    private final Cache<Long, Hash> codeHashCache;
+    private final MirrorEntityAccess mirrorEntityAccess;
+
+    public MirrorCodeCache(
+            final int expirationCacheTime,
+            final MirrorEntityAccess mirrorEntityAccess,
+            final String codeCacheSpec,
+            final String codeHashCacheSpec,
+            final MeterRegistry meterRegistry) {
+        super(expirationCacheTime, mirrorEntityAccess);
+        this.codeCache = Caffeine.from(codeCacheSpec)
+                .weigher((Hash hash, Code code) -> code.getSize())
+                .build();
+        this.codeHashCache = Caffeine.from(codeHashCacheSpec).build();
+        this.mirrorEntityAccess = mirrorEntityAccess;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, codeCache, CACHE_NAME_CODE);
+        CaffeineCacheMetrics.monitor(meterRegistry, codeHashCache, CACHE_NAME_CODE_HASH);
+        Gauge.builder(CODE_BYTES_METRIC, codeCache, c -> c.policy()
+                        .eviction()
+                        .map(e -> e.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .description("The total size of the bytecode in the contract code cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Code getIfPresent(final Address address) {
+        final long entityId = mirrorEntityAccess.fetchEntityId(address);
+        if (entityId == 0L) {
+            return null;
+        }
+
+        // The code hash stored with the contract lets clones and proxies share the cached code without fetching it
+        final var codeHash = codeHashCache.get(entityId, mirrorEntityAccess::fetchCodeHash);
+        if (codeHash != null) {
+            final var code = codeCache.getIfPresent(codeHash);
+            if (code != null) {
+                return code;
+            }
+        }
+
+        final var bytecode = mirrorEntityAccess.fetchCode(entityId);
+        if (bytecode == null) {
+            // Don't cache the absence of code since the contract may be created later
+            return null;
+        }
+
+        final var hash = codeHash != null ? codeHash : Hash.hash(bytecode);
+        codeHashCache.put(entityId, hash);
+        return codeCache.get(hash, h -> CodeFactory.createCode(bytecode, 0, false));
+    }
+}
@@ -28,7 +28,9 @@ import com.hedera.node.app.service.evm.store.contracts.HederaEvmEntityAccess;
 import jakarta.inject.Named;
 import lombok.RequiredArgsConstructor;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
 
 @RequiredArgsConstructor
 @Named
@@ -134,11 +136,37 @@ public class MirrorEntityAccess implements HederaEvmEntityAccess {
             return null;
         }
 
-        final var runtimeCode = contractRepository.findRuntimeBytecode(entityId);
+        return fetchCode(entityId);
+    }
+
+    /**
+     * Fetches the runtime bytecode of a contract. The bytecode of a contract never changes once it's created, so the
+     * result is the same regardless of the block a call is pinned to.
+     */
+    Bytes fetchCode(final long entityId) {
+        final var runtimeCode = contractRepository
+                .findRuntimeBytecodeHash(entityId)
+                .flatMap(contractRepository::findRuntimeBytecodeByHash)
+                .or(() -> contractRepository.findRuntimeBytecode(entityId));
         return runtimeCode.map(Bytes::wrap).orElse(null);
     }
 
-    private Long fetchEntityId(final Address address) {
+    /**
+     * Fetches the keccak256 hash of the runtime bytecode of a contract, or null if it's unknown since the contract
+     * doesn't exist or its bytecode is still stored inline.
+     */
+    Hash fetchCodeHash(final long entityId) {
+        return contractRepository
+                .findRuntimeBytecodeHash(entityId)
+                .map(hash -> Hash.wrap(Bytes32.wrap(hash)))
+                .orElse(null);
+    }
+
+    /**
+     * Resolves the address to the id of the entity it refers to at the block timestamp of the current call, or 0 if
+     * there is no such entity.
+     */
+    Long fetchEntityId(final Address address) {
         if (isMirror(address.toArrayUnsafe())) {
             return entityIdNumFromEvmAddress(address);
         }
@@ -18,6 +18,8 @@ package com.hedera.mirror.web3.repository;
 
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_BYTECODE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_BYTECODE_HASH;
 
 import com.hedera.mirror.common.domain.contract.Contract;
 import java.util.Optional;
@@ -27,7 +29,32 @@ import org.springframework.data.repository.CrudRepository;
 
 public interface ContractRepository extends CrudRepository<Contract, Long> {
 
+    /**
+     * Finds the inline runtime bytecode of a contract whose bytecode hasn't been moved to contract_bytecode yet.
+     */
     @Cacheable(cacheNames = CACHE_NAME_CONTRACT, cacheManager = CACHE_MANAGER_CONTRACT, unless = "#result == null")
     @Query(value = "select runtime_bytecode from contract where id = :contractId", nativeQuery = true)
     Optional<byte[]> findRuntimeBytecode(final Long contractId);
+
+    /**
+     * Finds the runtime bytecode by its keccak256 hash. The bytecode is cached by hash, so the identical bytecode of
+     * many contracts is only cached once.
+     */
+    @Cacheable(
+            cacheNames = CACHE_NAME_CONTRACT_BYTECODE,
+            cacheManager = CACHE_MANAGER_CONTRACT,
+            key = "T(java.nio.ByteBuffer).wrap(#hash)",
+            unless = "#result == null")
+    @Query(value = "select bytecode from contract_bytecode where hash = :hash", nativeQuery = true)
+    Optional<byte[]> findRuntimeBytecodeByHash(final byte[] hash);
+
+    /**
+     * Finds the keccak256 hash of the runtime bytecode of a contract, or empty if its bytecode is still stored inline.
+     */
+    @Cacheable(
+            cacheNames = CACHE_NAME_CONTRACT_BYTECODE_HASH,
+            cacheManager = CACHE_MANAGER_CONTRACT,
+            unless = "#result == null")
+    @Query(value = "select runtime_bytecode_hash from contract where id = :contractId", nativeQuery = true)
+    Optional<byte[]> findRuntimeBytecodeHash(final Long contractId);
 }
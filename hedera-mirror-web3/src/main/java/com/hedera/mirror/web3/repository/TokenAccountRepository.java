@@ -22,6 +22,7 @@ import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKE
 
 import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
 import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.web3.repository.projections.AccountTokenCount;
 import com.hedera.mirror.web3.repository.projections.TokenAccountAssociationsCount;
 import java.util.List;
 import java.util.Optional;
@@ -99,6 +100,56 @@ public interface TokenAccountRepository extends CrudRepository<TokenAccount, Abs
     List<TokenAccountAssociationsCount> countByAccountIdAndTimestampAndAssociatedGroupedByBalanceIsPositive(
             long accountId, long blockTimestamp);
 
+    /**
+     * Retrieves the token counts of the account maintained by the importer.
+     *
+     * @param accountId the ID of the account
+     * @return the token counts or empty if they haven't been computed for the account yet
+     */
+    @Query(
+            value =
+                    """
+                    select associated_count as associatedCount, nft_count as nftCount,
+                      positive_balance_count as positiveBalanceCount
+                    from account_token_count
+                    where account_id = ?1
+                    """,
+            nativeQuery = true)
+    Optional<AccountTokenCount> findTokenCountByAccountId(long accountId);
+
+    /**
+     * Retrieves the token counts of the account maintained by the importer that were valid at the given block
+     * timestamp.
+     *
+     * @param accountId the ID of the account
+     * @param blockTimestamp  the block timestamp used to filter the results.
+     * @return the token counts or empty if they weren't computed for the account at the block timestamp
+     */
+    @Query(
+            value =
+                    """
+                    select associated_count as associatedCount, nft_count as nftCount,
+                      positive_balance_count as positiveBalanceCount
+                    from (
+                        (
+                            select *
+                            from account_token_count
+                            where account_id = :accountId
+                                and lower(timestamp_range) <= :blockTimestamp
+                        )
+                        union all
+                        (
+                            select *
+                            from account_token_count_history
+                            where account_id = :accountId
+                                and timestamp_range @> :blockTimestamp
+                        )
+                    ) as atc
+                    limit 1
+                    """,
+            nativeQuery = true)
+    Optional<AccountTokenCount> findTokenCountByAccountIdAndTimestamp(long accountId, long blockTimestamp);
+
     /**
      * Retrieves the most recent state of a token account by its ID up to a given block timestamp.
      * The method considers both the current state of the token account and its historical states
@@ -34,6 +34,21 @@ public class CacheProperties {
     @NotBlank
     private String contract = "expireAfterAccess=1h,maximumSize=1000,recordStats";
 
+    /**
+     * Analysed contract code by code hash, weighed by the size of the bytecode so must use maximumWeight
+     */
+    @NotBlank
+    private String contractCode = "expireAfterAccess=1h,maximumWeight=100000000,recordStats";
+
+    /**
+     * Results of eth_call requests against historical blocks, which can't change once the block is imported
+     */
+    @NotBlank
+    private String contractCallResult = "expireAfterWrite=5s,maximumSize=10000,recordStats";
+
+    @NotBlank
+    private String contractCodeHash = "expireAfterAccess=1h,maximumSize=100000,recordStats";
+
     @NotBlank
     private String contractState = ENTITY_CACHE_CONFIG;
 
@@ -43,6 +58,12 @@ public class CacheProperties {
     @NotBlank
     private String entity = ENTITY_CACHE_CONFIG;
 
+    /**
+     * Whether to evict the current state changed by each record file once the importer notifies it was committed, so
+     * the current state caches can use a longer expiry without serving stale state
+     */
+    private boolean invalidation = false;
+
     @NotBlank
     private String token = ENTITY_CACHE_CONFIG;
 
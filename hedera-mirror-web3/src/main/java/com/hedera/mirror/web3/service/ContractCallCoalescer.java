@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_CALL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.service.model.CallServiceParameters;
+import com.hedera.mirror.web3.service.model.CallServiceParameters.CallType;
+import com.hedera.mirror.web3.viewmodel.BlockType;
+import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Shares the execution of identical eth_call requests. A request with the same parameters as one that is executing
+ * against the same block waits for its result instead of executing the call again. Calls against the latest block are
+ * keyed by the hash of the latest record file, so they're only shared while the state they read is unchanged. The
+ * results of calls against historical blocks can't change, so they're also cached for a short time after the call
+ * completes. Failures are propagated to the waiting requests but never cached.
+ */
+@Named
+public class ContractCallCoalescer {
+
+    static final String METRIC_REQUESTS = "hedera.mirror.web3.call.coalescing.requests";
+    static final String TAG_RESULT = "result";
+
+    private final Counter cached;
+    private final Counter coalesced;
+    private final MirrorNodeEvmProperties evmProperties;
+    private final Counter executed;
+    private final Map<Key, CompletableFuture<HederaEvmTransactionProcessingResult>> inFlight =
+            new ConcurrentHashMap<>();
+    private final RecordFileService recordFileService;
+    private final Cache results;
+
+    public ContractCallCoalescer(
+            @Qualifier(CACHE_MANAGER_CONTRACT_CALL) CacheManager cacheManager,
+            MirrorNodeEvmProperties evmProperties,
+            MeterRegistry meterRegistry,
+            RecordFileService recordFileService) {
+        this.evmProperties = evmProperties;
+        this.recordFileService = recordFileService;
+        this.results = cacheManager.getCache(CACHE_NAME);
+
+        cached = requestCounter(meterRegistry, "cached");
+        coalesced = requestCounter(meterRegistry, "coalesced");
+        executed = requestCounter(meterRegistry, "executed");
+    }
+
+    /**
+     * Executes the call, or returns the result of an identical call that is in flight or was recently executed
+     * against the same historical block. Only eth_call requests are shared since gas estimation and tracing depend on
+     * more than the call parameters.
+     *
+     * @param params   the call parameters
+     * @param call     executes the call
+     * @param onShared invoked with the result when it was executed by another request
+     * @return the result of the call
+     */
+    public HederaEvmTransactionProcessingResult execute(
+            CallServiceParameters params,
+            Supplier<HederaEvmTransactionProcessingResult> call,
+            Consumer<HederaEvmTransactionProcessingResult> onShared) {
+        if (!evmProperties.isCallCoalescing() || params.isEstimate() || params.getCallType() != CallType.ETH_CALL) {
+            return call.get();
+        }
+
+        final var key = key(params);
+        if (key == null) {
+            return call.get();
+        }
+
+        final boolean historical = params.getBlock() != BlockType.LATEST;
+        if (historical) {
+            final var result = results.get(key, HederaEvmTransactionProcessingResult.class);
+            if (result != null) {
+                cached.increment();
+                onShared.accept(result);
+                return result;
+            }
+        }
+
+        final var future = new CompletableFuture<HederaEvmTransactionProcessingResult>();
+        final var existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            coalesced.increment();
+            final var result = join(existing);
+            onShared.accept(result);
+            return result;
+        }
+
+        try {
+            executed.increment();
+            final var result = call.get();
+
+            if (historical) {
+                results.put(key, result);
+            }
+
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Removed after the result is cached so an identical request always finds one or the other
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Key key(CallServiceParameters params) {
+        final var block = params.getBlock();
+        final String blockKey;
+
+        if (block == BlockType.LATEST) {
+            final var hash = recordFileService
+                    .findByBlockType(BlockType.LATEST)
+                    .map(RecordFile::getHash)
+                    .orElse(null);
+            if (hash == null) {
+                return null;
+            }
+            blockKey = hash;
+        } else if (block == BlockType.EARLIEST) {
+            blockKey = block.name();
+        } else {
+            blockKey = Long.toString(block.number());
+        }
+
+        final var sender = params.getSender();
+        return new Key(
+                blockKey,
+                params.getCallData(),
+                params.getGas(),
+                params.getReceiver(),
+                sender != null ? sender.canonicalAddress() : null,
+                params.getValue(),
+                params.isStatic());
+    }
+
+    private HederaEvmTransactionProcessingResult join(CompletableFuture<HederaEvmTransactionProcessingResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_REQUESTS)
+                .description("The number of eth_call requests by whether they executed or shared another's result")
+                .tag(TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+    record Key(
+            String block,
+            Bytes callData,
+            long gas,
+            Address receiver,
+            Address sender,
+            long value,
+            boolean isStatic) {}
+}
@@ -91,15 +91,22 @@ public abstract class ContractCallService {
      */
     protected HederaEvmTransactionProcessingResult callContract(CallServiceParameters params, ContractCallContext ctx)
             throws MirrorEvmTransactionException {
+        initializeContext(params.getBlock(), ctx);
+        return doProcessCall(params, params.getGas(), true);
+    }
+
+    /**
+     * Sets the record file of the block in the context if the call is historical and initializes the stack frames with
+     * the current or historical state.
+     */
+    protected void initializeContext(BlockType block, ContractCallContext ctx) {
         // if we have historical call, then set the corresponding record file in the context
-        if (params.getBlock() != BlockType.LATEST) {
-            ctx.setRecordFile(recordFileService
-                    .findByBlockType(params.getBlock())
-                    .orElseThrow(BlockNumberNotFoundException::new));
+        if (block != BlockType.LATEST) {
+            ctx.setRecordFile(
+                    recordFileService.findByBlockType(block).orElseThrow(BlockNumberNotFoundException::new));
         }
         // initializes the stack frame with the current state or historical state (if the call is historical)
         ctx.initializeStackFrames(store.getStackedStateFrames());
-        return doProcessCall(params, params.getGas(), true);
     }
 
     protected HederaEvmTransactionProcessingResult doProcessCall(
@@ -118,7 +125,7 @@ public abstract class ContractCallService {
         }
     }
 
-    private void restoreGasToBucket(HederaEvmTransactionProcessingResult result, long gasLimit) {
+    protected void restoreGasToBucket(HederaEvmTransactionProcessingResult result, long gasLimit) {
         // If the transaction fails, gasUsed is equal to gasLimit, so restore the configured refund percent
         // of the gasLimit value back in the bucket.
         final var gasLimitToRestoreBaseline = (long) (gasLimit * throttleProperties.getGasLimitRefundPercent() / 100f);
@@ -19,6 +19,7 @@ package com.hedera.mirror.web3.service;
 import static com.hedera.mirror.web3.evm.exception.ResponseCodeUtil.getStatusOrDefault;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType;
 
+import com.hedera.mirror.common.domain.contract.ContractAction;
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import com.hedera.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
@@ -60,8 +61,10 @@ public class ContractDebugService extends ContractCallService {
         return ContractCallContext.run(ctx -> {
             ctx.setTimestamp(Optional.of(params.getConsensusTimestamp() - 1));
             ctx.setOpcodeTracerOptions(opcodeTracerOptions);
-            ctx.setContractActions(contractActionRepository.findFailedSystemActionsByConsensusTimestamp(
-                    params.getConsensusTimestamp()));
+            var contractActions = contractActionRepository.findFailedSystemActionsByConsensusTimestamp(
+                    params.getConsensusTimestamp());
+            contractActions.forEach(ContractAction::expand);
+            ctx.setContractActions(contractActions);
             final var ethCallTxnResult = callContract(params, ctx);
             validateResult(ethCallTxnResult, params.getCallType());
             return new OpcodesProcessingResult(ethCallTxnResult, ctx.getOpcodes());
@@ -19,16 +19,23 @@ package com.hedera.mirror.web3.service;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.datasource.ReplicaContext;
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import com.hedera.mirror.web3.evm.store.Store;
+import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
+import com.hedera.mirror.web3.service.model.ContractCallResult;
 import com.hedera.mirror.web3.service.model.ContractExecutionParameters;
 import com.hedera.mirror.web3.service.utils.BinaryGasEstimator;
 import com.hedera.mirror.web3.throttle.ThrottleProperties;
+import com.hedera.mirror.web3.viewmodel.BlockType;
 import io.github.bucket4j.Bucket;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.CustomLog;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -37,21 +44,29 @@ import org.apache.tuweni.bytes.Bytes;
 public class ContractExecutionService extends ContractCallService {
 
     private final BinaryGasEstimator binaryGasEstimator;
+    private final ContractCallCoalescer contractCallCoalescer;
+    private final StateChangeListener stateChangeListener;
 
     public ContractExecutionService(
             MeterRegistry meterRegistry,
             BinaryGasEstimator binaryGasEstimator,
+            ContractCallCoalescer contractCallCoalescer,
             Store store,
             MirrorEvmTxProcessor mirrorEvmTxProcessor,
             RecordFileService recordFileService,
+            StateChangeListener stateChangeListener,
             ThrottleProperties throttleProperties,
             Bucket gasLimitBucket) {
         super(mirrorEvmTxProcessor, gasLimitBucket, throttleProperties, meterRegistry, recordFileService, store);
         this.binaryGasEstimator = binaryGasEstimator;
+        this.contractCallCoalescer = contractCallCoalescer;
+        this.stateChangeListener = stateChangeListener;
     }
 
     public String processCall(final ContractExecutionParameters params) {
-        return ContractCallContext.run(ctx -> {
+        // eth_estimateGas always executes against the current state
+        final var block = params.isEstimate() ? BlockType.LATEST : params.getBlock();
+        return withReplica(block, () -> ContractCallContext.run(ctx -> {
             var stopwatch = Stopwatch.createStarted();
             var stringResult = "";
 
@@ -64,7 +79,11 @@ public class ContractExecutionService extends ContractCallService {
                     ctx.initializeStackFrames(store.getStackedStateFrames());
                     result = estimateGas(params);
                 } else {
-                    final var ethCallTxnResult = callContract(params, ctx);
+                    // a shared result restores the gas to the throttle bucket as if this request executed it
+                    final var ethCallTxnResult = contractCallCoalescer.execute(
+                            params,
+                            () -> callContract(params, ctx),
+                            shared -> restoreGasToBucket(shared, params.getGas()));
 
                     validateResult(ethCallTxnResult, params.getCallType());
 
@@ -77,7 +96,54 @@ public class ContractExecutionService extends ContractCallService {
             }
 
             return stringResult;
-        });
+        }));
+    }
+
+    /**
+     * Executes the calls in order against the same block, resolving the block and initializing the state once. The
+     * calls share a read-only cache of the state read from the database, while the writes of each call are discarded
+     * before the next one. A failed call doesn't affect the others, so its error is returned in place of its result.
+     *
+     * @param block the block to execute all calls against
+     * @param calls the parameters of the calls
+     * @return the result of each call in the order of the calls
+     */
+    public List<ContractCallResult> processCalls(final BlockType block, final List<ContractExecutionParameters> calls) {
+        return withReplica(block, () -> ContractCallContext.run(ctx -> {
+            var stopwatch = Stopwatch.createStarted();
+            initializeContext(block, ctx);
+            final List<ContractCallResult> results = new ArrayList<>(calls.size());
+
+            for (final var params : calls) {
+                ctx.resetStack();
+
+                try {
+                    updateGasLimitMetric(params.getCallType(), params.getGas());
+                    final var ethCallTxnResult = doProcessCall(params, params.getGas(), true);
+                    validateResult(ethCallTxnResult, params.getCallType());
+                    final var output = Objects.requireNonNullElse(ethCallTxnResult.getOutput(), Bytes.EMPTY);
+                    results.add(ContractCallResult.success(output.toHexString()));
+                } catch (MirrorEvmTransactionException e) {
+                    results.add(ContractCallResult.failure(e));
+                }
+            }
+
+            log.debug("Processed {} calls against block {} in {}", calls.size(), block, stopwatch);
+            return results;
+        }));
+    }
+
+    /**
+     * Executes calls against the current state on a replica that caught up with the primary and that has imported at
+     * least the state last evicted from the caches, so the state loaded on a cache miss is never older than the state
+     * it replaces. Historical calls read the state as of their block, so any replica can serve them.
+     */
+    private <T> T withReplica(final BlockType block, final Supplier<T> supplier) {
+        if (block != BlockType.LATEST) {
+            return supplier.get();
+        }
+
+        return ReplicaContext.atLeast(stateChangeListener.getConsensusEnd(), () -> ReplicaContext.latest(supplier));
     }
 
     /**
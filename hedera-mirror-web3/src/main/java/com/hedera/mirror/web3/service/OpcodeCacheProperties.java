@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "hedera.mirror.web3.opcode.tracer.cache")
+public class OpcodeCacheProperties {
+
+    /**
+     * An optional directory to persist compressed traces to so they survive restarts and can exceed the memory bound
+     */
+    @Nullable
+    private Path directory;
+
+    private boolean enabled = true;
+
+    @DurationMin(seconds = 1)
+    @NotNull
+    private Duration expireAfterAccess = Duration.ofHours(1L);
+
+    @NotNull
+    private DataSize maxDiskSize = DataSize.ofGigabytes(1L);
+
+    @NotNull
+    private DataSize maxSize = DataSize.ofMegabytes(256L);
+}
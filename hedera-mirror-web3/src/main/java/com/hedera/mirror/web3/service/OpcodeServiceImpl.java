@@ -68,13 +68,16 @@ public class OpcodeServiceImpl implements OpcodeService {
     private final TransactionRepository transactionRepository;
     private final ContractResultRepository contractResultRepository;
     private final EntityDatabaseAccessor entityDatabaseAccessor;
+    private final OpcodeTraceCache opcodeTraceCache;
 
     @Override
     public OpcodesResponse processOpcodeCall(
             @NonNull TransactionIdOrHashParameter transactionIdOrHashParameter, @NonNull OpcodeTracerOptions options) {
         final ContractDebugParameters params = buildCallServiceParameters(transactionIdOrHashParameter);
-        final OpcodesProcessingResult result = contractDebugService.processOpcodeCall(params, options);
-        return buildOpcodesResponse(result);
+        return opcodeTraceCache.get(params.getConsensusTimestamp(), options, () -> {
+            final OpcodesProcessingResult result = contractDebugService.processOpcodeCall(params, options);
+            return buildOpcodesResponse(result);
+        });
     }
 
     private ContractDebugParameters buildCallServiceParameters(
@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.rest.model.OpcodesResponse;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.CustomLog;
+
+/**
+ * Caches the serialized result of historical opcode traces. A trace is immutable once its transaction has been
+ * ingested, so it's keyed by the transaction's consensus timestamp and the tracer options. Traces are stored as
+ * compressed JSON in memory, bounded by their compressed size, and optionally in a size bounded directory so they
+ * survive restarts. Concurrent requests for the same trace wait for the first one to finish instead of re-executing
+ * the transaction themselves.
+ */
+@CustomLog
+@Named
+public class OpcodeTraceCache {
+
+    static final String METRIC_BYTES = "hedera.mirror.web3.opcode.cache.bytes";
+    static final String METRIC_REQUESTS = "hedera.mirror.web3.opcode.cache.requests";
+    static final String METRIC_SAVED = "hedera.mirror.web3.opcode.cache.saved";
+    static final String TAG_RESULT = "result";
+
+    private final AsyncCache<Key, byte[]> cache;
+    private final Counter coalesced;
+    private final DiskStore diskStore;
+    private final Counter diskHits;
+    private final Counter hits;
+    private final Counter misses;
+    private final ObjectMapper objectMapper;
+    private final OpcodeCacheProperties properties;
+    private final Counter savedBytes;
+
+    public OpcodeTraceCache(
+            MeterRegistry meterRegistry, ObjectMapper objectMapper, OpcodeCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((Key key, byte[] value) -> value.length)
+                .buildAsync();
+        this.diskStore = properties.isEnabled() && properties.getDirectory() != null
+                ? new DiskStore(properties.getDirectory(), properties.getMaxDiskSize().toBytes())
+                : null;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        coalesced = requestCounter(meterRegistry, "coalesced");
+        diskHits = requestCounter(meterRegistry, "disk");
+        hits = requestCounter(meterRegistry, "hit");
+        misses = requestCounter(meterRegistry, "miss");
+        savedBytes = Counter.builder(METRIC_SAVED)
+                .baseUnit("bytes")
+                .description("The uncompressed size of the opcode traces served from the cache instead of re-executed")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_BYTES, cache, c -> c.synchronous()
+                        .policy()
+                        .eviction()
+                        .map(e -> e.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .baseUnit("bytes")
+                .description("The compressed size of the opcode traces in the memory cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached trace of the transaction with the given consensus timestamp and options, or invokes the tracer
+     * and caches its result. If the same trace is already being computed, waits for it instead.
+     */
+    public OpcodesResponse get(long consensusTimestamp, OpcodeTracerOptions options, Supplier<OpcodesResponse> tracer) {
+        if (!properties.isEnabled()) {
+            return tracer.get();
+        }
+
+        final var key = new Key(consensusTimestamp, options);
+        final var future = new CompletableFuture<byte[]>();
+        final var existing = cache.asMap().putIfAbsent(key, future);
+
+        if (existing != null) {
+            (existing.isDone() ? hits : coalesced).increment();
+            return deserialize(join(existing));
+        }
+
+        try {
+            var compressed = diskStore != null ? diskStore.read(key) : null;
+
+            if (compressed != null) {
+                diskHits.increment();
+                future.complete(compressed);
+                return deserialize(compressed);
+            }
+
+            misses.increment();
+            final var response = tracer.get();
+            compressed = serialize(response);
+            future.complete(compressed);
+
+            if (diskStore != null) {
+                diskStore.write(key, compressed);
+            }
+
+            return response;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private byte[] join(CompletableFuture<byte[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private byte[] serialize(OpcodesResponse response) {
+        try (var bytes = new ByteArrayOutputStream()) {
+            try (var gzip = new GZIPOutputStream(bytes)) {
+                objectMapper.writeValue(gzip, response);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private OpcodesResponse deserialize(byte[] compressed) {
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            final var json = gzip.readAllBytes();
+            savedBytes.increment(json.length);
+            return objectMapper.readValue(json, OpcodesResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_REQUESTS)
+                .description("The number of opcode trace requests by whether they were served from the cache")
+                .tag(TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+    record Key(long consensusTimestamp, OpcodeTracerOptions options) {
+
+        String toFileName() {
+            return String.format(
+                    "%d-%d%d%d.json.gz",
+                    consensusTimestamp,
+                    options.isStack() ? 1 : 0,
+                    options.isMemory() ? 1 : 0,
+                    options.isStorage() ? 1 : 0);
+        }
+    }
+
+    /**
+     * Stores compressed traces as files in a directory, evicting the least recently used files once their total size
+     * exceeds the maximum. The index is rebuilt from the directory on startup.
+     */
+    static class DiskStore {
+
+        private static final String SUFFIX = ".json.gz";
+
+        private final Path directory;
+        private final Map<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maxSize;
+        private long size;
+
+        DiskStore(Path directory, long maxSize) {
+            this.directory = directory;
+            this.maxSize = maxSize;
+
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to create opcode trace cache directory " + directory, e);
+            }
+
+            try (Stream<Path> paths = Files.list(directory)) {
+                paths.filter(p -> p.getFileName().toString().endsWith(SUFFIX))
+                        .sorted(Comparator.comparing(DiskStore::lastModified))
+                        .forEach(p -> index(p.getFileName().toString(), p.toFile().length()));
+                log.info("Loaded {} cached opcode traces totaling {} bytes from {}", files.size(), size, directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to list opcode trace cache directory " + directory, e);
+            }
+
+            delete(evict());
+        }
+
+        byte[] read(Key key) {
+            final var name = key.toFileName();
+
+            synchronized (this) {
+                if (files.get(name) == null) {
+                    return null;
+                }
+            }
+
+            try {
+                return Files.readAllBytes(directory.resolve(name));
+            } catch (IOException e) {
+                log.warn("Unable to read cached opcode trace {}: {}", name, e.getMessage());
+                return null;
+            }
+        }
+
+        void write(Key key, byte[] data) {
+            final var name = key.toFileName();
+
+            try {
+                final var temp = Files.createTempFile(directory, name, ".tmp");
+                Files.write(temp, data);
+                Files.move(temp, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("Unable to write cached opcode trace {}: {}", name, e.getMessage());
+                return;
+            }
+
+            List<String> evicted;
+            synchronized (this) {
+                index(name, data.length);
+                evicted = evict();
+            }
+
+            delete(evicted);
+        }
+
+        synchronized long getSize() {
+            return size;
+        }
+
+        private void index(String name, long length) {
+            final var previous = files.put(name, length);
+            size += length - (previous != null ? previous : 0L);
+        }
+
+        private synchronized List<String> evict() {
+            List<String> evicted = new ArrayList<>();
+            final var iterator = files.entrySet().iterator();
+
+            while (size > maxSize && iterator.hasNext()) {
+                final var eldest = iterator.next();
+                size -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+
+            return evicted;
+        }
+
+        private void delete(List<String> names) {
+            for (var name : names) {
+                try {
+                    Files.deleteIfExists(directory.resolve(name));
+                } catch (IOException e) {
+                    log.warn("Unable to delete cached opcode trace {}: {}", name, e.getMessage());
+                }
+            }
+        }
+
+        private static long lastModified(Path path) {
+            return path.toFile().lastModified();
+        }
+    }
+}
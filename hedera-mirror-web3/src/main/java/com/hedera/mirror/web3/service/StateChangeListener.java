@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_ENTITY;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_RECORD_FILE_LATEST;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_TOKEN;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ALIAS;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_BYTECODE_HASH;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_EVM_ADDRESS;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_NFT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_NFT_ALLOWANCE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT_COUNT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_AIRDROP;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ALLOWANCE;
+
+import com.hedera.mirror.common.datasource.ReplicaContext;
+import com.hedera.mirror.common.domain.StateChanges;
+import com.hedera.mirror.common.domain.token.AbstractNft;
+import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
+import com.hedera.mirror.web3.evm.config.EntityIdIndexedCache;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * Listens for the current state changed by each record file committed by the importer and evicts exactly the cached
+ * state that changed, so the current state caches aren't stale for longer than the notification latency. All the
+ * cached current state is evicted whenever notifications may have been missed, i.e. on every (re)connection and when
+ * the importer had to truncate the changes. Expiry still bounds staleness if a notification is lost, or if a read
+ * that started before the commit caches the old state after it was evicted.
+ */
+@CustomLog
+@Named
+public class StateChangeListener {
+
+    static final String CHANNEL = "state_change";
+    static final String METRIC_EVICTIONS = "hedera.mirror.web3.cache.invalidation.evictions";
+    static final String METRIC_LAG = "hedera.mirror.web3.cache.invalidation.lag";
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1L);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5L);
+
+    private final CacheProperties cacheProperties;
+    private final DataSource dataSource;
+    private final Counter evictions;
+    private final Timer lag;
+    private final Cache alias;
+    private final Cache contract;
+    private final Cache contractBytecodeHash;
+    private final Cache contractState;
+    private final Cache entity;
+    private final Cache evmAddress;
+    private final Cache nft;
+    private final Cache nftAllowance;
+    private final List<Cache> recordFileLatest;
+    private final Cache token;
+    private final Cache tokenAccount;
+    private final Cache tokenAccountCount;
+    private final Cache tokenAirdrop;
+    private final Cache tokenAllowance;
+    private volatile long consensusEnd;
+    private volatile boolean running;
+
+    @SuppressWarnings("java:S107")
+    public StateChangeListener(
+            CacheProperties cacheProperties,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Qualifier(CACHE_MANAGER_CONTRACT) CacheManager contractCacheManager,
+            @Qualifier(CACHE_MANAGER_CONTRACT_STATE) CacheManager contractStateCacheManager,
+            @Qualifier(CACHE_MANAGER_ENTITY) CacheManager entityCacheManager,
+            @Qualifier(CACHE_MANAGER_RECORD_FILE_LATEST) CacheManager recordFileLatestCacheManager,
+            @Qualifier(CACHE_MANAGER_TOKEN) CacheManager tokenCacheManager) {
+        this.cacheProperties = cacheProperties;
+        this.dataSource = dataSource;
+        this.evictions = Counter.builder(METRIC_EVICTIONS)
+                .description("The number of cached keys evicted since the importer notified they changed")
+                .register(meterRegistry);
+        this.lag = Timer.builder(METRIC_LAG)
+                .description("The time from the end of a record file to the eviction of the state it changed")
+                .register(meterRegistry);
+
+        alias = entityCacheManager.getCache(CACHE_NAME_ALIAS);
+        contract = contractCacheManager.getCache(CACHE_NAME_CONTRACT);
+        contractBytecodeHash = contractCacheManager.getCache(CACHE_NAME_CONTRACT_BYTECODE_HASH);
+        contractState = contractStateCacheManager.getCache(CACHE_NAME);
+        entity = entityCacheManager.getCache(CACHE_NAME);
+        evmAddress = entityCacheManager.getCache(CACHE_NAME_EVM_ADDRESS);
+        nft = tokenCacheManager.getCache(CACHE_NAME_NFT);
+        nftAllowance = tokenCacheManager.getCache(CACHE_NAME_NFT_ALLOWANCE);
+        recordFileLatest = recordFileLatestCacheManager.getCacheNames().stream()
+                .map(recordFileLatestCacheManager::getCache)
+                .toList();
+        token = tokenCacheManager.getCache(CACHE_NAME_TOKEN);
+        tokenAccount = tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT);
+        tokenAccountCount = tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT_COUNT);
+        tokenAirdrop = tokenCacheManager.getCache(CACHE_NAME_TOKEN_AIRDROP);
+        tokenAllowance = tokenCacheManager.getCache(CACHE_NAME_TOKEN_ALLOWANCE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (cacheProperties.isInvalidation() && !running) {
+            running = true;
+            Thread.ofPlatform().daemon().name(CHANNEL + "-listener").start(this::listen);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * The consensus end of the last record file whose changed state was evicted. Reads that can populate the caches
+     * must see at least this state, or a lagging replica could cache the state that was just evicted again.
+     */
+    public long getConsensusEnd() {
+        return consensusEnd;
+    }
+
+    /**
+     * Evicts the cached state changed by a record file.
+     */
+    public void onStateChanges(StateChanges stateChanges) {
+        recordFileLatest.forEach(Cache::clear);
+
+        if (stateChanges.truncated()) {
+            evictAll();
+        } else {
+            stateChanges.contracts().forEach(contract::evict);
+            // Bytecode cached by hash never changes, only the hash a contract references does
+            stateChanges.contracts().forEach(contractBytecodeHash::evict);
+            stateChanges.entities().forEach(entity::evict);
+            evictEntities(alias, stateChanges.entities());
+            evictEntities(evmAddress, stateChanges.entities());
+            stateChanges.nfts().forEach(n -> nft.evict(new AbstractNft.Id(n.serialNumber(), n.tokenId())));
+            stateChanges.slots().forEach(s -> contractState.evict(new SimpleKey(s.contractId(), s.slot())));
+            stateChanges.tokenAccounts().forEach(t -> {
+                var id = new AbstractTokenAccount.Id();
+                id.setAccountId(t.accountId());
+                id.setTokenId(t.tokenId());
+                tokenAccount.evict(id);
+                tokenAccountCount.evict(t.accountId());
+            });
+            stateChanges.tokens().forEach(token::evict);
+
+            if (stateChanges.airdrops()) {
+                tokenAirdrop.clear();
+            }
+
+            if (stateChanges.allowances()) {
+                nftAllowance.clear();
+                tokenAllowance.clear();
+            }
+
+            evictions.increment(stateChanges.size());
+        }
+
+        consensusEnd = stateChanges.consensusEnd();
+        lag.record(Duration.between(Instant.ofEpochSecond(0L, consensusEnd), Instant.now()));
+    }
+
+    private void listen() {
+        while (running) {
+            // Notifications aren't replicated so always listen on the primary
+            try (var connection = ReplicaContext.primary(() -> DataSourceUtils.getConnection(dataSource))) {
+                var pgConnection = connection.unwrap(PGConnection.class);
+
+                try (var statement = connection.createStatement()) {
+                    statement.execute("listen " + CHANNEL);
+                }
+
+                // Changes committed while not listening were missed
+                evictAll();
+                log.info("Listening for state changes to evict from the caches");
+
+                while (running) {
+                    var notifications = pgConnection.getNotifications((int) POLL_TIMEOUT.toMillis());
+                    if (notifications == null) {
+                        continue;
+                    }
+
+                    for (var notification : notifications) {
+                        onStateChanges(OBJECT_MAPPER.readValue(notification.getParameter(), StateChanges.class));
+                    }
+                }
+            } catch (Exception e) {
+                if (running) {
+                    log.warn("Error listening for state changes, retrying in {}: {}", RETRY_DELAY, e.getMessage());
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void evictAll() {
+        List.of(
+                        alias,
+                        contract,
+                        contractBytecodeHash,
+                        contractState,
+                        entity,
+                        evmAddress,
+                        nft,
+                        nftAllowance,
+                        token,
+                        tokenAccount,
+                        tokenAccountCount,
+                        tokenAirdrop,
+                        tokenAllowance)
+                .forEach(Cache::clear);
+    }
+
+    /**
+     * The entities cached by alias or evm address are found by their id with the index of the cache.
+     */
+    private void evictEntities(Cache cache, Set<Long> ids) {
+        if (cache instanceof EntityIdIndexedCache indexedCache) {
+            ids.forEach(indexedCache::evictEntity);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(RETRY_DELAY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
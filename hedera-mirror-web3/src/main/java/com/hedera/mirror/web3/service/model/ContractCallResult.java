@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service.model;
+
+import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
+import lombok.Value;
+
+/**
+ * The outcome of a single call in a batch: either its hex encoded output or the error that caused it to fail.
+ */
+@Value
+public class ContractCallResult {
+    private final MirrorEvmTransactionException error;
+    private final String output;
+
+    public static ContractCallResult failure(MirrorEvmTransactionException error) {
+        return new ContractCallResult(error, null);
+    }
+
+    public static ContractCallResult success(String output) {
+        return new ContractCallResult(null, output);
+    }
+}
@@ -52,7 +52,9 @@ public class ContractBytecodeReadableKVState extends ReadableKVStateBase<Contrac
         final var entityId = toEntityId(contractID);
 
         return contractRepository
-                .findRuntimeBytecode(entityId.getId())
+                .findRuntimeBytecodeHash(entityId.getId())
+                .flatMap(contractRepository::findRuntimeBytecodeByHash)
+                .or(() -> contractRepository.findRuntimeBytecode(entityId.getId()))
                 .map(Bytes::wrap)
                 .map(Bytecode::new)
                 .orElse(null);
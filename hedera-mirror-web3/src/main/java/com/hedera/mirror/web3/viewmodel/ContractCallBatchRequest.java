@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.viewmodel;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.hedera.mirror.web3.convert.BlockTypeDeserializer;
+import com.hedera.mirror.web3.convert.BlockTypeSerializer;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class ContractCallBatchRequest {
+
+    // The block all calls are executed against, overriding the block of the individual calls
+    @JsonSerialize(using = BlockTypeSerializer.class)
+    @JsonDeserialize(using = BlockTypeDeserializer.class)
+    private BlockType block = BlockType.LATEST;
+
+    @NotEmpty
+    private List<@Valid ContractCallRequest> calls = new ArrayList<>();
+}
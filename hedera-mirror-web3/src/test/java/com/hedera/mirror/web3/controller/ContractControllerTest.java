@@ -20,7 +20,10 @@ import static com.hedera.mirror.web3.validation.HexValidator.MESSAGE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_REVERT_EXECUTED;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -42,13 +45,18 @@ import com.hedera.mirror.web3.exception.EntityNotFoundException;
 import com.hedera.mirror.web3.exception.InvalidParametersException;
 import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
 import com.hedera.mirror.web3.service.ContractExecutionService;
+import com.hedera.mirror.web3.service.model.ContractCallResult;
 import com.hedera.mirror.web3.viewmodel.BlockType;
+import com.hedera.mirror.web3.viewmodel.ContractCallBatchRequest;
+import com.hedera.mirror.web3.viewmodel.ContractCallBatchResponse;
 import com.hedera.mirror.web3.viewmodel.ContractCallRequest;
 import com.hedera.mirror.web3.viewmodel.GenericErrorResponse;
 import io.github.bucket4j.Bucket;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.Resource;
+import java.util.Arrays;
+import java.util.List;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.core.StringContains;
@@ -502,6 +510,81 @@ class ContractControllerTest {
         assertThat(capturedOutput.getOut()).contains(expected);
     }
 
+    @Test
+    void callBatch() throws Exception {
+        final var block = BlockType.of("0x10");
+        final var error = new MirrorEvmTransactionException(CONTRACT_REVERT_EXECUTED, "detail", "0x01");
+        given(gasLimitBucket.tryConsume(THROTTLE_GAS_LIMIT * 2)).willReturn(true);
+        given(service.processCalls(eq(block), any()))
+                .willReturn(List.of(ContractCallResult.success("0x02"), ContractCallResult.failure(error)));
+
+        final var expected = new ContractCallBatchResponse(List.of(
+                new ContractCallBatchResponse.Result("0x02", null),
+                new ContractCallBatchResponse.Result(
+                        null, new GenericErrorResponse(CONTRACT_REVERT_EXECUTED.name(), "detail", "0x01"))));
+        contractCallBatch(batchRequest(block, request(), request()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(convert(expected)));
+
+        verify(rateLimitBucket).tryConsume(1);
+        verify(gasLimitBucket).tryConsume(THROTTLE_GAS_LIMIT * 2);
+    }
+
+    @Test
+    void callBatchEmpty() throws Exception {
+        contractCallBatch(batchRequest(BlockType.LATEST)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void callBatchExceedsMaxSize() throws Exception {
+        final var calls = new ContractCallRequest[evmProperties.getMaxCallBatchSize() + 1];
+        Arrays.setAll(calls, i -> request());
+        contractCallBatch(batchRequest(BlockType.LATEST, calls))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(new StringContains("calls field must have at most")));
+        verify(gasLimitBucket, never()).tryConsume(anyLong());
+    }
+
+    @Test
+    void callBatchEstimate() throws Exception {
+        final var request = request();
+        request.setEstimate(true);
+        contractCallBatch(batchRequest(BlockType.LATEST, request))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(new StringContains("estimate is not supported in a batch")));
+        verify(gasLimitBucket).addTokens(THROTTLE_GAS_LIMIT);
+    }
+
+    @Test
+    void callBatchInvalidCall() throws Exception {
+        final var request = request();
+        request.setTo("0x01");
+        contractCallBatch(batchRequest(BlockType.LATEST, request(), request))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(new StringContains("to field")));
+    }
+
+    @Test
+    void callBatchExceedingRateLimit() throws Exception {
+        given(rateLimitBucket.tryConsume(1)).willReturn(false);
+        contractCallBatch(batchRequest(BlockType.LATEST, request())).andExpect(status().isTooManyRequests());
+    }
+
+    private ContractCallBatchRequest batchRequest(BlockType block, ContractCallRequest... calls) {
+        final var request = new ContractCallBatchRequest();
+        request.setBlock(block);
+        request.setCalls(List.of(calls));
+        return request;
+    }
+
+    @SneakyThrows
+    private ResultActions contractCallBatch(ContractCallBatchRequest request) {
+        return mockMvc.perform(post(CALL_URI + "/batch")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(convert(request)));
+    }
+
     private ContractCallRequest request() {
         final var request = new ContractCallRequest();
         request.setBlock(BlockType.LATEST);
@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.entity.AbstractEntity;
@@ -38,6 +39,7 @@ import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
+import com.hedera.mirror.web3.repository.projections.AccountTokenCount;
 import com.hedera.mirror.web3.repository.projections.TokenAccountAssociationsCount;
 import com.hedera.services.store.models.Account;
 import com.hedera.services.store.models.FcTokenAllowanceId;
@@ -460,4 +462,72 @@ class AccountDatabaseAccessorTest {
         verify(tokenAccountRepository, times(1))
                 .countByAccountIdAndAssociatedGroupedByBalanceIsPositive(entity.getId());
     }
+
+    @Test
+    void tokenCountsMatchValuesFromCounter() {
+        when(entityDatabaseAccessor.get(ADDRESS, Optional.empty())).thenReturn(Optional.ofNullable(entity));
+        when(tokenAccountRepository.findTokenCountByAccountId(entity.getId()))
+                .thenReturn(Optional.of(accountTokenCount(3L)));
+
+        assertThat(accountAccessor.get(ADDRESS, Optional.empty())).hasValueSatisfying(account -> assertThat(account)
+                .returns(POSITIVE_BALANCES + NEGATIVE_BALANCES, Account::getNumAssociations)
+                .returns(POSITIVE_BALANCES, Account::getNumPositiveBalances)
+                .returns(3L, Account::getOwnedNfts));
+
+        verify(tokenAccountRepository, times(1)).findTokenCountByAccountId(entity.getId());
+        verify(tokenAccountRepository, never()).countByAccountIdAndAssociatedGroupedByBalanceIsPositive(anyLong());
+        verifyNoInteractions(nftRepository);
+    }
+
+    @Test
+    void tokenCountsMatchValuesFromCounterHistorical() {
+        when(entityDatabaseAccessor.get(ADDRESS, timestamp)).thenReturn(Optional.ofNullable(entity));
+        when(tokenAccountRepository.findTokenCountByAccountIdAndTimestamp(entity.getId(), timestamp.get()))
+                .thenReturn(Optional.of(accountTokenCount(3L)));
+
+        assertThat(accountAccessor.get(ADDRESS, timestamp)).hasValueSatisfying(account -> assertThat(account)
+                .returns(POSITIVE_BALANCES + NEGATIVE_BALANCES, Account::getNumAssociations)
+                .returns(POSITIVE_BALANCES, Account::getNumPositiveBalances)
+                .returns(3L, Account::getOwnedNfts));
+
+        verify(tokenAccountRepository, never())
+                .countByAccountIdAndTimestampAndAssociatedGroupedByBalanceIsPositive(anyLong(), anyLong());
+        verifyNoInteractions(nftRepository);
+    }
+
+    @Test
+    void tokenCountsFallbackWhenCounterMissingHistorical() {
+        when(entityDatabaseAccessor.get(ADDRESS, timestamp)).thenReturn(Optional.ofNullable(entity));
+        when(tokenAccountRepository.findTokenCountByAccountIdAndTimestamp(entity.getId(), timestamp.get()))
+                .thenReturn(Optional.empty());
+        when(tokenAccountRepository.countByAccountIdAndTimestampAndAssociatedGroupedByBalanceIsPositive(
+                        entity.getId(), timestamp.get()))
+                .thenReturn(associationsCount);
+        when(nftRepository.countByAccountIdAndTimestampNotDeleted(entity.getId(), timestamp.get()))
+                .thenReturn(3L);
+
+        assertThat(accountAccessor.get(ADDRESS, timestamp)).hasValueSatisfying(account -> assertThat(account)
+                .returns(POSITIVE_BALANCES + NEGATIVE_BALANCES, Account::getNumAssociations)
+                .returns(POSITIVE_BALANCES, Account::getNumPositiveBalances)
+                .returns(3L, Account::getOwnedNfts));
+    }
+
+    private AccountTokenCount accountTokenCount(long nftCount) {
+        return new AccountTokenCount() {
+            @Override
+            public int getAssociatedCount() {
+                return POSITIVE_BALANCES + NEGATIVE_BALANCES;
+            }
+
+            @Override
+            public long getNftCount() {
+                return nftCount;
+            }
+
+            @Override
+            public int getPositiveBalanceCount() {
+                return POSITIVE_BALANCES;
+            }
+        };
+    }
 }
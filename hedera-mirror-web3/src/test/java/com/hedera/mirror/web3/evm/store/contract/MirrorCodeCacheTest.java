@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store.contract;
+
+import static com.hedera.mirror.web3.evm.store.contract.MirrorCodeCache.CODE_BYTES_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.web3.evm.store.Store;
+import com.hedera.mirror.web3.evm.store.Store.OnMissing;
+import com.hedera.mirror.web3.repository.ContractRepository;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.services.store.models.Account;
+import com.hedera.services.store.models.Token;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MirrorCodeCacheTest {
+
+    private static final Address ADDRESS1 = Address.fromHexString("0x00000000000000000000000000000000000004e4");
+    private static final Address ADDRESS2 = Address.fromHexString("0x00000000000000000000000000000000000004e5");
+    private static final byte[] BYTECODE = Bytes.fromHexString("0x6080604052").toArrayUnsafe();
+    private static final String CODE_CACHE_SPEC = "expireAfterAccess=1h,maximumWeight=1000,recordStats";
+    private static final String CODE_HASH_CACHE_SPEC = "expireAfterAccess=1h,maximumSize=1000,recordStats";
+    private static final long ENTITY_ID1 = 1252L;
+    private static final long ENTITY_ID2 = 1253L;
+    private static final Address NON_MIRROR_ADDRESS =
+            Address.fromHexString("0x23f5e49569a835d7bf9aefd30e4f60cdd570f225");
+
+    @Mock
+    private Account account;
+
+    @Mock
+    private ContractRepository contractRepository;
+
+    @Mock
+    private ContractStateRepository contractStateRepository;
+
+    @Mock
+    private Store store;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MirrorCodeCache mirrorCodeCache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        var mirrorEntityAccess = new MirrorEntityAccess(contractStateRepository, contractRepository, store);
+        mirrorCodeCache =
+                new MirrorCodeCache(10, mirrorEntityAccess, CODE_CACHE_SPEC, CODE_HASH_CACHE_SPEC, meterRegistry);
+    }
+
+    @Test
+    void getIfPresent() {
+        when(contractRepository.findRuntimeBytecode(ENTITY_ID1)).thenReturn(Optional.of(BYTECODE));
+
+        var code = mirrorCodeCache.getIfPresent(ADDRESS1);
+
+        assertThat(code).isNotNull().isSameAs(mirrorCodeCache.getIfPresent(ADDRESS1));
+        assertThat(code.getBytes()).isEqualTo(Bytes.wrap(BYTECODE));
+        assertThat(code.getCodeHash()).isEqualTo(Hash.hash(Bytes.wrap(BYTECODE)));
+        verify(contractRepository, times(1)).findRuntimeBytecode(ENTITY_ID1);
+        assertThat(meterRegistry.get(CODE_BYTES_METRIC).gauge().value()).isEqualTo(BYTECODE.length);
+    }
+
+    @Test
+    void getIfPresentSharedCode() {
+        when(contractRepository.findRuntimeBytecode(ENTITY_ID1)).thenReturn(Optional.of(BYTECODE));
+        when(contractRepository.findRuntimeBytecode(ENTITY_ID2)).thenReturn(Optional.of(BYTECODE.clone()));
+
+        var code = mirrorCodeCache.getIfPresent(ADDRESS1);
+
+        assertThat(mirrorCodeCache.getIfPresent(ADDRESS2)).isSameAs(code);
+        assertThat(meterRegistry.get(CODE_BYTES_METRIC).gauge().value()).isEqualTo(BYTECODE.length);
+    }
+
+    @Test
+    void getIfPresentStoredCodeHash() {
+        var hash = Hash.hash(Bytes.wrap(BYTECODE)).toArrayUnsafe();
+        when(contractRepository.findRuntimeBytecodeHash(ENTITY_ID1)).thenReturn(Optional.of(hash));
+        when(contractRepository.findRuntimeBytecodeHash(ENTITY_ID2)).thenReturn(Optional.of(hash));
+        when(contractRepository.findRuntimeBytecodeByHash(hash)).thenReturn(Optional.of(BYTECODE));
+
+        var code = mirrorCodeCache.getIfPresent(ADDRESS1);
+
+        // The second contract shares the code hash so its bytecode is never fetched
+        assertThat(mirrorCodeCache.getIfPresent(ADDRESS2)).isSameAs(code);
+        assertThat(code.getCodeHash()).isEqualTo(Hash.wrap(Bytes32.wrap(hash)));
+        verify(contractRepository, times(1)).findRuntimeBytecodeByHash(hash);
+        verify(contractRepository, never()).findRuntimeBytecode(anyLong());
+    }
+
+    @Test
+    void getIfPresentMissing() {
+        when(contractRepository.findRuntimeBytecode(ENTITY_ID1)).thenReturn(Optional.empty());
+
+        assertThat(mirrorCodeCache.getIfPresent(ADDRESS1)).isNull();
+        assertThat(mirrorCodeCache.getIfPresent(ADDRESS1)).isNull();
+        verify(contractRepository, times(2)).findRuntimeBytecode(ENTITY_ID1);
+    }
+
+    @Test
+    void getIfPresentNonMirrorAddress() {
+        var otherBytecode = Bytes.fromHexString("0x60806040").toArrayUnsafe();
+        when(store.getAccount(NON_MIRROR_ADDRESS, OnMissing.DONT_THROW)).thenReturn(account);
+        when(account.getEntityId()).thenReturn(ENTITY_ID1, ENTITY_ID2);
+        when(contractRepository.findRuntimeBytecode(ENTITY_ID1)).thenReturn(Optional.of(BYTECODE));
+        when(contractRepository.findRuntimeBytecode(ENTITY_ID2)).thenReturn(Optional.of(otherBytecode));
+
+        // The address resolves to a different contract depending on the block the call is pinned to
+        assertThat(mirrorCodeCache.getIfPresent(NON_MIRROR_ADDRESS).getBytes()).isEqualTo(Bytes.wrap(BYTECODE));
+        assertThat(mirrorCodeCache.getIfPresent(NON_MIRROR_ADDRESS).getBytes())
+                .isEqualTo(Bytes.wrap(otherBytecode));
+    }
+
+    @Test
+    void getIfPresentNoEntity() {
+        when(store.getAccount(NON_MIRROR_ADDRESS, OnMissing.DONT_THROW)).thenReturn(Account.getEmptyAccount());
+        when(store.getToken(NON_MIRROR_ADDRESS, OnMissing.DONT_THROW)).thenReturn(Token.getEmptyToken());
+
+        assertThat(mirrorCodeCache.getIfPresent(NON_MIRROR_ADDRESS)).isNull();
+    }
+}
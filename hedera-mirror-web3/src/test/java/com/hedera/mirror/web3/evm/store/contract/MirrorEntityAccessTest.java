@@ -20,6 +20,8 @@ import static com.google.protobuf.ByteString.EMPTY;
 import static com.hedera.mirror.common.domain.entity.AbstractEntity.DEFAULT_EXPIRY_TIMESTAMP;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hyperledger.besu.datatypes.Address.ZERO;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.protobuf.ByteString;
@@ -273,6 +275,16 @@ class MirrorEntityAccessTest {
         assertThat(result).isEqualTo(BYTES);
     }
 
+    @Test
+    void fetchCodeIfPresentByHash() {
+        final var hash = new byte[32];
+        when(contractRepository.findRuntimeBytecodeHash(ENTITY_ID)).thenReturn(Optional.of(hash));
+        when(contractRepository.findRuntimeBytecodeByHash(hash)).thenReturn(Optional.of(DATA));
+        final var result = mirrorEntityAccess.fetchCodeIfPresent(ADDRESS);
+        assertThat(result).isEqualTo(BYTES);
+        verify(contractRepository, never()).findRuntimeBytecode(ENTITY_ID);
+    }
+
     @Test
     void fetchCodeIfPresentReturnsNull() {
         when(contractRepository.findRuntimeBytecode(ENTITY_ID)).thenReturn(Optional.empty());
@@ -44,6 +44,34 @@ class ContractRepositoryTest extends Web3IntegrationTest {
         assertThat(contractRepository.findRuntimeBytecode(contract2.getId())).isEmpty();
     }
 
+    @Test
+    void findRuntimeBytecodeByHash() {
+        var contractBytecode = domainBuilder.contractBytecode().persist();
+        var hash = contractBytecode.getHash();
+        var bytecode = contractRepository.findRuntimeBytecodeByHash(hash);
+        assertThat(bytecode).get().isEqualTo(contractBytecode.getBytecode());
+
+        // Cached by the content of the hash
+        assertThat(contractRepository.findRuntimeBytecodeByHash(hash.clone()))
+                .get()
+                .isSameAs(bytecode.get());
+        assertThat(contractRepository.findRuntimeBytecodeByHash(domainBuilder.bytes(32))).isEmpty();
+    }
+
+    @Test
+    void findRuntimeBytecodeHash() {
+        var hash = domainBuilder.bytes(32);
+        var contract = domainBuilder
+                .contract()
+                .customize(c -> c.runtimeBytecode(null).runtimeBytecodeHash(hash))
+                .persist();
+        var inline = domainBuilder.contract().persist();
+
+        assertThat(contractRepository.findRuntimeBytecodeHash(contract.getId())).get().isEqualTo(hash);
+        assertThat(contractRepository.findRuntimeBytecodeHash(inline.getId())).isEmpty();
+        assertThat(contractRepository.findRuntimeBytecode(contract.getId())).isEmpty();
+    }
+
     @Test
     void findRuntimeBytecodeFailCall() {
         Contract contract = domainBuilder.contract().persist();
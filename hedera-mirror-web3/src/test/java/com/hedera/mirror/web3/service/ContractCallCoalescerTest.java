@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static com.hedera.mirror.web3.service.ContractCallCoalescer.METRIC_REQUESTS;
+import static com.hedera.mirror.web3.service.ContractCallCoalescer.TAG_RESULT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.service.model.CallServiceParameters.CallType;
+import com.hedera.mirror.web3.service.model.ContractExecutionParameters;
+import com.hedera.mirror.web3.viewmodel.BlockType;
+import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class ContractCallCoalescerTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final List<HederaEvmTransactionProcessingResult> shared = new ArrayList<>();
+
+    private CaffeineCacheManager cacheManager;
+    private ContractCallCoalescer contractCallCoalescer;
+    private MirrorNodeEvmProperties evmProperties;
+    private MeterRegistry meterRegistry;
+
+    @Mock
+    private RecordFileService recordFileService;
+
+    @BeforeEach
+    void setup() {
+        cacheManager = new CaffeineCacheManager(CACHE_NAME);
+        evmProperties = new MirrorNodeEvmProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        contractCallCoalescer =
+                new ContractCallCoalescer(cacheManager, evmProperties, meterRegistry, recordFileService);
+    }
+
+    @Test
+    @SneakyThrows
+    void coalesced() {
+        latest("0x01");
+        var params = params(BlockType.LATEST, CallType.ETH_CALL);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Supplier<HederaEvmTransactionProcessingResult> slow = () -> {
+            started.countDown();
+            awaitLatch(release);
+            return call(1L).get();
+        };
+
+        var first = CompletableFuture.supplyAsync(() -> execute(params, slow));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var second = CompletableFuture.supplyAsync(() -> execute(params, call(2L)));
+        for (int i = 0; i < 500 && count("coalesced") < 1.0; i++) {
+            Thread.sleep(10L);
+        }
+        assertThat(count("coalesced")).isOne();
+
+        release.countDown();
+        var result = first.get(5, TimeUnit.SECONDS);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        assertThat(executions).hasValue(1);
+        assertThat(count("executed")).isOne();
+        assertThat(shared).containsExactly(result);
+    }
+
+    @Test
+    void latestNotCached() {
+        latest("0x01");
+        var params = params(BlockType.LATEST, CallType.ETH_CALL);
+        execute(params, call(1L));
+        execute(params, call(1L));
+        assertThat(executions).hasValue(2);
+        assertThat(count("cached")).isZero();
+        assertThat(shared).isEmpty();
+    }
+
+    @Test
+    void latestWithoutRecordFile() {
+        when(recordFileService.findByBlockType(BlockType.LATEST)).thenReturn(Optional.empty());
+        execute(params(BlockType.LATEST, CallType.ETH_CALL), call(1L));
+        assertThat(executions).hasValue(1);
+        assertThat(count("executed")).isZero();
+    }
+
+    @Test
+    void historicalCached() {
+        var params = params(BlockType.of("10"), CallType.ETH_CALL);
+        var result = execute(params, call(1L));
+        assertThat(execute(params, call(2L))).isSameAs(result);
+        assertThat(execute(params(BlockType.of("0xa"), CallType.ETH_CALL), call(3L))).isSameAs(result);
+        assertThat(execute(params(BlockType.of("11"), CallType.ETH_CALL), call(4L))).isNotSameAs(result);
+        assertThat(execute(params(BlockType.EARLIEST, CallType.ETH_CALL), call(5L))).isNotSameAs(result);
+        assertThat(executions).hasValue(3);
+        assertThat(count("cached")).isEqualTo(2.0);
+        assertThat(shared).containsExactly(result, result);
+    }
+
+    @Test
+    void differentParameters() {
+        var block = BlockType.of("10");
+        execute(params(block, CallType.ETH_CALL), call(1L));
+        execute(builder(block, CallType.ETH_CALL).gas(20_000L).build(), call(2L));
+        execute(builder(block, CallType.ETH_CALL).callData(Bytes.of(2)).build(), call(3L));
+        execute(builder(block, CallType.ETH_CALL).isStatic(true).build(), call(4L));
+        execute(builder(block, CallType.ETH_CALL).receiver(Address.fromHexString("0x01")).build(), call(5L));
+        execute(builder(block, CallType.ETH_CALL).value(1L).build(), call(6L));
+        assertThat(executions).hasValue(6);
+    }
+
+    @Test
+    void estimateNotShared() {
+        var params = params(BlockType.of("10"), CallType.ETH_ESTIMATE_GAS);
+        execute(params, call(1L));
+        execute(params, call(1L));
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void disabled() {
+        evmProperties.setCallCoalescing(false);
+        var params = params(BlockType.of("10"), CallType.ETH_CALL);
+        execute(params, call(1L));
+        execute(params, call(1L));
+        assertThat(executions).hasValue(2);
+        assertThat(count("executed")).isZero();
+    }
+
+    @Test
+    void failureNotCached() {
+        var params = params(BlockType.of("10"), CallType.ETH_CALL);
+        Supplier<HederaEvmTransactionProcessingResult> failing = () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("failed");
+        };
+
+        assertThatThrownBy(() -> execute(params, failing)).isInstanceOf(IllegalStateException.class);
+        assertThat(execute(params, call(1L)).getGasUsed()).isOne();
+        assertThat(executions).hasValue(2);
+        assertThat(shared).isEmpty();
+    }
+
+    private HederaEvmTransactionProcessingResult execute(
+            ContractExecutionParameters params, Supplier<HederaEvmTransactionProcessingResult> call) {
+        return contractCallCoalescer.execute(params, call, result -> {
+            synchronized (shared) {
+                shared.add(result);
+            }
+        });
+    }
+
+    private Supplier<HederaEvmTransactionProcessingResult> call(long gasUsed) {
+        return () -> {
+            executions.incrementAndGet();
+            return HederaEvmTransactionProcessingResult.successful(null, gasUsed, 0, 0, Bytes.EMPTY, Address.ZERO);
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get(METRIC_REQUESTS)
+                .tag(TAG_RESULT, result)
+                .counter()
+                .count();
+    }
+
+    private void latest(String hash) {
+        var recordFile = new RecordFile();
+        recordFile.setHash(hash);
+        when(recordFileService.findByBlockType(BlockType.LATEST)).thenReturn(Optional.of(recordFile));
+    }
+
+    private ContractExecutionParameters params(BlockType block, CallType callType) {
+        return builder(block, callType).build();
+    }
+
+    private ContractExecutionParameters.ContractExecutionParametersBuilder builder(BlockType block, CallType callType) {
+        return ContractExecutionParameters.builder()
+                .block(block)
+                .callData(Bytes.of(1))
+                .callType(callType)
+                .gas(15_000L)
+                .isEstimate(callType == CallType.ETH_ESTIMATE_GAS)
+                .receiver(Address.ZERO)
+                .sender(new HederaEvmAccount(Address.ZERO));
+    }
+
+    @SneakyThrows
+    private void awaitLatch(CountDownLatch latch) {
+        latch.await(5, TimeUnit.SECONDS);
+    }
+}
@@ -89,6 +89,9 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
     @Autowired
     private BinaryGasEstimator binaryGasEstimator;
 
+    @Autowired
+    private ContractCallCoalescer contractCallCoalescer;
+
     @Autowired
     private Store store;
 
@@ -98,6 +101,9 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
     @Autowired
     private RecordFileService recordFileService;
 
+    @Autowired
+    private StateChangeListener stateChangeListener;
+
     @Autowired
     private ThrottleProperties throttleProperties;
 
@@ -427,6 +433,32 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
         assertGasLimit(ETH_CALL, TRANSACTION_GAS_LIMIT);
     }
 
+    @Test
+    void processCallsIsolatesFailures() {
+        // Given
+        final var contract = testWeb3jService.deploy(EthCall::deploy);
+        meterRegistry.clear();
+        final var receiver = Address.fromHexString(contract.getContractAddress());
+        final var callData = Bytes.fromHexString(contract.call_multiplySimpleNumbers().encodeFunctionCall());
+        final var calls = List.of(
+                getContractExecutionParameters(callData, receiver),
+                getContractExecutionParameters(Bytes.fromHexString("0x12345678"), receiver),
+                getContractExecutionParameters(callData, receiver));
+
+        // When
+        final var results = contractExecutionService.processCalls(BlockType.LATEST, calls);
+
+        // Then
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getError()).isNull();
+        assertThat(results.get(0).getOutput()).isEqualTo(results.get(2).getOutput());
+        assertThat(longValueOf.applyAsLong(results.get(0).getOutput())).isEqualTo(4L);
+        assertThat(results.get(1).getError())
+                .isInstanceOf(MirrorEvmTransactionException.class)
+                .hasMessage(CONTRACT_REVERT_EXECUTED.name());
+        assertThat(results.get(2).getError()).isNull();
+    }
+
     @Test
     void nonExistingFunctionCallWithFallback() {
         // Given
@@ -711,9 +743,11 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
         final var contractCallServiceWithMockedGasLimitBucket = new ContractExecutionService(
                 meterRegistry,
                 binaryGasEstimator,
+                contractCallCoalescer,
                 store,
                 mirrorEvmTxProcessor,
                 recordFileService,
+                stateChangeListener,
                 throttleProperties,
                 gasLimitBucket);
 
@@ -744,9 +778,11 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
         final var contractCallServiceWithMockedGasLimitBucket = new ContractExecutionService(
                 meterRegistry,
                 binaryGasEstimator,
+                contractCallCoalescer,
                 store,
                 mirrorEvmTxProcessor,
                 recordFileService,
+                stateChangeListener,
                 throttleProperties,
                 gasLimitBucket);
 
@@ -778,9 +814,11 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
         final var contractCallServiceWithMockedGasLimitBucket = new ContractExecutionService(
                 meterRegistry,
                 binaryGasEstimator,
+                contractCallCoalescer,
                 store,
                 mirrorEvmTxProcessor,
                 recordFileService,
+                stateChangeListener,
                 throttleProperties,
                 gasLimitBucket);
 
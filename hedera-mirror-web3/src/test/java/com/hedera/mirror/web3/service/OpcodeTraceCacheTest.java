@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static com.hedera.mirror.web3.service.OpcodeTraceCache.METRIC_REQUESTS;
+import static com.hedera.mirror.web3.service.OpcodeTraceCache.METRIC_SAVED;
+import static com.hedera.mirror.web3.service.OpcodeTraceCache.TAG_RESULT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.rest.model.Opcode;
+import com.hedera.mirror.rest.model.OpcodesResponse;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class OpcodeTraceCacheTest {
+
+    private static final OpcodeTracerOptions OPTIONS = new OpcodeTracerOptions();
+
+    private final AtomicInteger traces = new AtomicInteger();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    private MeterRegistry meterRegistry;
+    private OpcodeCacheProperties properties;
+    private OpcodeTraceCache opcodeTraceCache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new OpcodeCacheProperties();
+        opcodeTraceCache = new OpcodeTraceCache(meterRegistry, objectMapper, properties);
+    }
+
+    @Test
+    void hit() {
+        var response = opcodeTraceCache.get(1L, OPTIONS, tracer(1L));
+        assertThat(opcodeTraceCache.get(1L, OPTIONS, tracer(1L))).isEqualTo(response);
+        assertThat(traces).hasValue(1);
+        assertThat(count("miss")).isOne();
+        assertThat(count("hit")).isOne();
+        assertThat(meterRegistry.get(METRIC_SAVED).counter().count()).isPositive();
+    }
+
+    @Test
+    void differentOptions() {
+        var all = new OpcodeTracerOptions(true, true, true);
+        var response = opcodeTraceCache.get(1L, OPTIONS, tracer(1L));
+        assertThat(opcodeTraceCache.get(1L, all, tracer(2L))).isNotEqualTo(response);
+        assertThat(opcodeTraceCache.get(2L, OPTIONS, tracer(3L)).getGas()).isEqualTo(3L);
+        assertThat(traces).hasValue(3);
+    }
+
+    @Test
+    void disabled() {
+        properties.setEnabled(false);
+        opcodeTraceCache.get(1L, OPTIONS, tracer(1L));
+        opcodeTraceCache.get(1L, OPTIONS, tracer(1L));
+        assertThat(traces).hasValue(2);
+        assertThat(count("miss")).isZero();
+    }
+
+    @Test
+    void failureNotCached() {
+        Supplier<OpcodesResponse> failing = () -> {
+            traces.incrementAndGet();
+            throw new IllegalStateException("failed");
+        };
+
+        assertThatThrownBy(() -> opcodeTraceCache.get(1L, OPTIONS, failing)).isInstanceOf(IllegalStateException.class);
+        assertThat(opcodeTraceCache.get(1L, OPTIONS, tracer(1L)).getGas()).isOne();
+        assertThat(traces).hasValue(2);
+    }
+
+    @Test
+    @SneakyThrows
+    void coalesced() {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Supplier<OpcodesResponse> slow = () -> {
+            started.countDown();
+            await(release);
+            return tracer(1L).get();
+        };
+
+        var first = CompletableFuture.supplyAsync(() -> opcodeTraceCache.get(1L, OPTIONS, slow));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var second = CompletableFuture.supplyAsync(() -> opcodeTraceCache.get(1L, OPTIONS, tracer(2L)));
+
+        release.countDown();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+        assertThat(traces).hasValue(1);
+        assertThat(count("coalesced") + count("hit")).isOne();
+    }
+
+    @Test
+    void disk() {
+        properties.setDirectory(directory);
+        opcodeTraceCache = new OpcodeTraceCache(meterRegistry, objectMapper, properties);
+        var response = opcodeTraceCache.get(1L, OPTIONS, tracer(1L));
+        assertThat(directory.resolve("1-100.json.gz")).exists();
+
+        // A new instance simulates a restart
+        meterRegistry = new SimpleMeterRegistry();
+        opcodeTraceCache = new OpcodeTraceCache(meterRegistry, objectMapper, properties);
+        assertThat(opcodeTraceCache.get(1L, OPTIONS, tracer(2L))).isEqualTo(response);
+        assertThat(traces).hasValue(1);
+        assertThat(count("disk")).isOne();
+    }
+
+    @Test
+    @SneakyThrows
+    void diskEviction() {
+        properties.setDirectory(directory);
+        properties.setMaxDiskSize(DataSize.ofBytes(1L));
+        opcodeTraceCache = new OpcodeTraceCache(meterRegistry, objectMapper, properties);
+
+        opcodeTraceCache.get(1L, OPTIONS, tracer(1L));
+        opcodeTraceCache.get(2L, OPTIONS, tracer(2L));
+
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(METRIC_REQUESTS).tag(TAG_RESULT, result).counter().count();
+    }
+
+    private Supplier<OpcodesResponse> tracer(long gas) {
+        return () -> {
+            traces.incrementAndGet();
+            return new OpcodesResponse()
+                    .address("0x0000000000000000000000000000000000000001")
+                    .failed(false)
+                    .gas(gas)
+                    .opcodes(List.of(new Opcode()
+                            .depth(1)
+                            .gas(gas)
+                            .gasCost(3L)
+                            .op("PUSH1")
+                            .pc(0)
+                            .stack(List.of("0x01"))
+                            .memory(List.of())
+                            .storage(Map.of("0x00", "0x01"))))
+                    .returnValue("0x");
+        };
+    }
+
+    @SneakyThrows
+    private void await(CountDownLatch latch) {
+        latch.await(5, TimeUnit.SECONDS);
+    }
+}
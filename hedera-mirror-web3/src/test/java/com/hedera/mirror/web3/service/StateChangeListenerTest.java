@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ALIAS;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_BYTECODE_HASH;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_EVM_ADDRESS;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_NFT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_NFT_ALLOWANCE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_RECORD_FILE_LATEST;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_RECORD_FILE_LATEST_INDEX;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT_COUNT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_AIRDROP;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ALLOWANCE;
+import static com.hedera.mirror.web3.service.StateChangeListener.METRIC_EVICTIONS;
+import static com.hedera.mirror.web3.service.StateChangeListener.METRIC_LAG;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.StateChanges;
+import com.hedera.mirror.common.domain.StateChanges.NftKey;
+import com.hedera.mirror.common.domain.StateChanges.SlotKey;
+import com.hedera.mirror.common.domain.StateChanges.TokenAccountKey;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.AbstractNft;
+import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
+import com.hedera.mirror.web3.evm.config.EntityCacheManager;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+@ExtendWith(MockitoExtension.class)
+class StateChangeListenerTest {
+
+    private static final byte[] SLOT = new byte[32];
+
+    private final CacheManager contractCacheManager =
+            new CaffeineCacheManager(CACHE_NAME_CONTRACT, CACHE_NAME_CONTRACT_BYTECODE_HASH);
+    private final CacheManager contractStateCacheManager = new CaffeineCacheManager(CACHE_NAME);
+    private final CacheManager entityCacheManager = new EntityCacheManager(
+            new CacheProperties().getEntity(),
+            Set.of(CACHE_NAME_ALIAS, CACHE_NAME_EVM_ADDRESS),
+            Set.of(CACHE_NAME, CACHE_NAME_ALIAS, CACHE_NAME_EVM_ADDRESS));
+    private final CacheManager recordFileLatestCacheManager =
+            new CaffeineCacheManager(CACHE_NAME_RECORD_FILE_LATEST, CACHE_NAME_RECORD_FILE_LATEST_INDEX);
+    private final CacheManager tokenCacheManager = new CaffeineCacheManager(
+            CACHE_NAME_NFT,
+            CACHE_NAME_NFT_ALLOWANCE,
+            CACHE_NAME_TOKEN,
+            CACHE_NAME_TOKEN_ACCOUNT,
+            CACHE_NAME_TOKEN_ACCOUNT_COUNT,
+            CACHE_NAME_TOKEN_AIRDROP,
+            CACHE_NAME_TOKEN_ALLOWANCE);
+
+    @Mock
+    private DataSource dataSource;
+
+    private MeterRegistry meterRegistry;
+    private StateChangeListener stateChangeListener;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        stateChangeListener = new StateChangeListener(
+                new CacheProperties(),
+                dataSource,
+                meterRegistry,
+                contractCacheManager,
+                contractStateCacheManager,
+                entityCacheManager,
+                recordFileLatestCacheManager,
+                tokenCacheManager);
+        populate();
+    }
+
+    @Test
+    void onStateChanges() {
+        var nftId = new AbstractNft.Id(4L, 3L);
+        var tokenAccountId = new AbstractTokenAccount.Id();
+        tokenAccountId.setAccountId(7L);
+        tokenAccountId.setTokenId(6L);
+
+        stateChangeListener.onStateChanges(new StateChanges(
+                false,
+                false,
+                timestamp(),
+                Set.of(1L),
+                Set.of(2L),
+                Set.of(new NftKey(3L, 4L)),
+                Set.of(new SlotKey(5L, SLOT.clone())),
+                Set.of(new TokenAccountKey(7L, 6L)),
+                Set.of(6L),
+                false));
+
+        assertThat(contractCacheManager.getCache(CACHE_NAME_CONTRACT).get(1L)).isNull();
+        assertThat(contractCacheManager.getCache(CACHE_NAME_CONTRACT).get(2L)).isNotNull();
+        assertThat(contractCacheManager.getCache(CACHE_NAME_CONTRACT_BYTECODE_HASH).get(1L)).isNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME).get(2L)).isNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME).get(1L)).isNotNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME_ALIAS).get(20)).isNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME_ALIAS).get(10)).isNotNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME_EVM_ADDRESS).get(20)).isNull();
+        assertThat(contractStateCacheManager.getCache(CACHE_NAME).get(new SimpleKey(5L, SLOT))).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_NFT).get(nftId)).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN).get(6L)).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT).get(tokenAccountId)).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT_COUNT).get(7L)).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN_AIRDROP).get(1L)).isNotNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN_ALLOWANCE).get(1L)).isNotNull();
+        assertThat(recordFileLatestCacheManager.getCache(CACHE_NAME_RECORD_FILE_LATEST).get(1L)).isNull();
+        assertThat(meterRegistry.get(METRIC_EVICTIONS).counter().count()).isEqualTo(6.0);
+        assertThat(meterRegistry.get(METRIC_LAG).timer().count()).isOne();
+    }
+
+    @Test
+    void onStateChangesFlags() {
+        stateChangeListener.onStateChanges(
+                new StateChanges(true, true, timestamp(), null, null, null, null, null, null, false));
+
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN_AIRDROP).get(1L)).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_NFT_ALLOWANCE).get(1L)).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN_ALLOWANCE).get(1L)).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN).get(6L)).isNotNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME).get(1L)).isNotNull();
+    }
+
+    @Test
+    void onStateChangesTruncated() {
+        var consensusEnd = timestamp();
+        stateChangeListener.onStateChanges(StateChanges.truncated(consensusEnd));
+
+        assertThat(stateChangeListener.getConsensusEnd()).isEqualTo(consensusEnd);
+        assertThat(contractCacheManager.getCache(CACHE_NAME_CONTRACT).get(2L)).isNull();
+        assertThat(contractStateCacheManager.getCache(CACHE_NAME).get(new SimpleKey(5L, SLOT))).isNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME).get(1L)).isNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME_ALIAS).get(10)).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN).get(6L)).isNull();
+        assertThat(recordFileLatestCacheManager.getCache(CACHE_NAME_RECORD_FILE_LATEST_INDEX).get(1L)).isNull();
+    }
+
+    private long timestamp() {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+
+    private void populate() {
+        var entity1 = Entity.builder().id(1L).build();
+        var entity2 = Entity.builder().id(2L).build();
+        var tokenAccountId = new AbstractTokenAccount.Id();
+        tokenAccountId.setAccountId(7L);
+        tokenAccountId.setTokenId(6L);
+
+        contractCacheManager.getCache(CACHE_NAME_CONTRACT).put(1L, new byte[] {1});
+        contractCacheManager.getCache(CACHE_NAME_CONTRACT).put(2L, new byte[] {2});
+        contractCacheManager.getCache(CACHE_NAME_CONTRACT_BYTECODE_HASH).put(1L, new byte[] {3});
+        contractStateCacheManager.getCache(CACHE_NAME).put(new SimpleKey(5L, SLOT), new byte[] {1});
+        entityCacheManager.getCache(CACHE_NAME).put(1L, entity1);
+        entityCacheManager.getCache(CACHE_NAME).put(2L, entity2);
+        entityCacheManager.getCache(CACHE_NAME_ALIAS).put(10, entity1);
+        entityCacheManager.getCache(CACHE_NAME_ALIAS).put(20, entity2);
+        entityCacheManager.getCache(CACHE_NAME_EVM_ADDRESS).put(20, entity2);
+        recordFileLatestCacheManager.getCache(CACHE_NAME_RECORD_FILE_LATEST).put(1L, 1L);
+        recordFileLatestCacheManager.getCache(CACHE_NAME_RECORD_FILE_LATEST_INDEX).put(1L, 1L);
+        tokenCacheManager.getCache(CACHE_NAME_NFT).put(new AbstractNft.Id(4L, 3L), 1L);
+        tokenCacheManager.getCache(CACHE_NAME_NFT_ALLOWANCE).put(1L, 1L);
+        tokenCacheManager.getCache(CACHE_NAME_TOKEN).put(6L, 1L);
+        tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT).put(tokenAccountId, 1L);
+        tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT_COUNT).put(7L, 1L);
+        tokenCacheManager.getCache(CACHE_NAME_TOKEN_AIRDROP).put(1L, 1L);
+        tokenCacheManager.getCache(CACHE_NAME_TOKEN_ALLOWANCE).put(1L, 1L);
+    }
+}